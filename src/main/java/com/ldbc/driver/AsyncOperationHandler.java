@@ -0,0 +1,46 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Operation handler for asynchronous database clients.
+ * <p>
+ * Rather than blocking until the database responds, executeOperationAsync() issues the request and returns a
+ * CompletionStage. The handler must report the result (via ResultReporter) before completing that stage, or complete
+ * it exceptionally. Latency is measured, and completion time & metrics are submitted, in the thread that completes
+ * the stage, child operations are then executed by the executor, so a single driver thread can keep many requests
+ * outstanding without the threads that complete them (e.g., of the database client) blocking on driver work.
+ * <p>
+ * Executors that do not support asynchronous execution (and validation) fall back to executeOperation(),
+ * which blocks until the stage completes.
+ */
+public abstract class AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends
+        DbConnectionState> implements OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    public abstract CompletionStage<?> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    public final void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsync( operation, dbConnectionState, resultReporter ).toCompletableFuture().get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( format( "Interrupted while waiting for operation to complete\n%s", operation ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new DbException( format( "Error executing operation\n%s", operation ), e.getCause() );
+        }
+    }
+}
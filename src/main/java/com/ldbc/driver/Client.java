@@ -2,6 +2,7 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
+import com.ldbc.driver.client.CompileWorkloadMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
 import com.ldbc.driver.client.PrintHelpMode;
@@ -123,6 +124,29 @@ public class Client
             }
             return new ValidateDatabaseMode( controlService );
         }
+        else if ( controlService.configuration().compileWorkload() )
+        {
+            // Compile Workload
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( 0 == configuration.operationCount() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+            }
+            if ( null == configuration.workloadScheduleFilePath() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new CompileWorkloadMode( controlService, RANDOM_SEED );
+        }
         else if ( controlService.configuration().calculateWorkloadStatistics() )
         {
             // Calculate Statistics
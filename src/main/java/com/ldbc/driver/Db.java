@@ -33,7 +33,7 @@ public abstract class Db implements Closeable
         }
         onInit( params, loggingService );
         dbConnectionState = getConnectionState();
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
+        operationHandlerRunnableContextFactory = new FreeListOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
         operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
@@ -77,7 +77,7 @@ public abstract class Db implements Closeable
         {
             throw new DbException( "Error shutting down operation handler runnable factory", e );
         }
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
+        operationHandlerRunnableContextFactory = new FreeListOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
     }
@@ -0,0 +1,139 @@
+package com.ldbc.driver;
+
+import stormpot.Poolable;
+import stormpot.Slot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Recycles runnable contexts through free lists of the threads that claim them, so claiming a context never blocks,
+ * never times out and, once every claiming thread has allocated the contexts it has in flight, never allocates.
+ * <p>
+ * Each context belongs to the free list of the thread that claimed it. Contexts released by that thread are pushed
+ * onto its local stack, contexts released by any other thread are pushed onto its return stack, which the owner
+ * drains when its local stack is empty. Both stacks link contexts through the contexts themselves, no nodes are
+ * allocated.
+ * <p>
+ * Note, free lists are per claiming thread, not per worker. Contexts are usually claimed by the thread that dispatches
+ * operations to the executor and released by the workers that executed them, so in practice there is one free list,
+ * of the dispatching thread, and every release goes through its (compare-and-set) return stack. Local stacks are only
+ * used for child operations, when they are released by the same worker that claimed them.
+ */
+public class FreeListOperationHandlerRunnerFactory implements OperationHandlerRunnerFactory
+{
+    private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private final AtomicLong allocationCount = new AtomicLong( 0 );
+    private final ThreadLocal<FreeList> freeLists = new ThreadLocal<FreeList>()
+    {
+        @Override
+        protected FreeList initialValue()
+        {
+            return new FreeList( Thread.currentThread() );
+        }
+    };
+
+    public FreeListOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
+    {
+        this.innerOperationHandlerRunnerFactory = operationHandlerRunnerFactory;
+    }
+
+    @Override
+    public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
+    {
+        FreeList freeList = freeLists.get();
+        OperationHandlerRunnableContext operationHandlerRunner = freeList.claim();
+        if ( null == operationHandlerRunner )
+        {
+            operationHandlerRunner = innerOperationHandlerRunnerFactory.newOperationHandlerRunner();
+            allocationCount.incrementAndGet();
+        }
+        operationHandlerRunner.setSlot( freeList );
+        return operationHandlerRunner;
+    }
+
+    /**
+     * @return number of contexts allocated by inner factory, i.e., the number of claims that could not be recycled
+     */
+    public long allocationCount()
+    {
+        return allocationCount.get();
+    }
+
+    @Override
+    public void shutdown() throws OperationException
+    {
+        innerOperationHandlerRunnerFactory.shutdown();
+    }
+
+    @Override
+    public String toString()
+    {
+        return FreeListOperationHandlerRunnerFactory.class.getSimpleName() + "{" +
+               innerOperationHandlerRunnerFactory.toString() + "}";
+    }
+
+    private static class FreeList implements Slot
+    {
+        private final Thread owner;
+        // accessed by owner only
+        private OperationHandlerRunnableContext localHead = null;
+        // contexts released by threads other than owner
+        private final AtomicReference<OperationHandlerRunnableContext> returnedHead = new AtomicReference<>( null );
+
+        private FreeList( Thread owner )
+        {
+            this.owner = owner;
+        }
+
+        // called by owner only
+        private OperationHandlerRunnableContext claim()
+        {
+            if ( null == localHead )
+            {
+                localHead = returnedHead.getAndSet( null );
+                if ( null == localHead )
+                {
+                    return null;
+                }
+            }
+            OperationHandlerRunnableContext operationHandlerRunner = localHead;
+            localHead = operationHandlerRunner.nextFree;
+            operationHandlerRunner.nextFree = null;
+            return operationHandlerRunner;
+        }
+
+        @Override
+        public void release( Poolable poolable )
+        {
+            OperationHandlerRunnableContext operationHandlerRunner = (OperationHandlerRunnableContext) poolable;
+            if ( Thread.currentThread() == owner )
+            {
+                operationHandlerRunner.nextFree = localHead;
+                localHead = operationHandlerRunner;
+            }
+            else
+            {
+                OperationHandlerRunnableContext head;
+                do
+                {
+                    head = returnedHead.get();
+                    operationHandlerRunner.nextFree = head;
+                }
+                while ( !returnedHead.compareAndSet( head, operationHandlerRunner ) );
+            }
+        }
+
+        @Override
+        public void expire( Poolable poolable )
+        {
+            // contexts never expire, nothing to do
+        }
+
+        @Override
+        public String toString()
+        {
+            return FreeList.class.getSimpleName() + "{owner=" + owner.getName() + "}";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ldbc.driver;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Binary encoding of the parameters of one operation type. Where operations are encoded & decoded in bulk, e.g., by
+ * compiled workload schedules, codecs replace Workload.serializeOperation() & Workload.marshalOperation(), which
+ * go through JSON and must first find the operation type from the serialized operation.
+ * <p>
+ * Codecs hold no state, so a codec may be used by any number of threads at once.
+ */
+public abstract class OperationCodec<OPERATION_TYPE extends Operation>
+{
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * Write parameters of operation, throws java.nio.BufferOverflowException if target has too few bytes remaining
+     */
+    public abstract void encode( OPERATION_TYPE operation, ByteBuffer target );
+
+    /**
+     * Read parameters written by encode() & create operation from them, source is positioned after the parameters
+     */
+    public abstract OPERATION_TYPE decode( ByteBuffer source );
+
+    protected static void putString( String value, ByteBuffer target )
+    {
+        if ( null == value )
+        {
+            target.putInt( NULL_LENGTH );
+            return;
+        }
+        byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+        target.putInt( bytes.length );
+        target.put( bytes );
+    }
+
+    protected static String getString( ByteBuffer source )
+    {
+        int length = source.getInt();
+        if ( NULL_LENGTH == length )
+        {
+            return null;
+        }
+        if ( source.hasArray() )
+        {
+            String value = new String( source.array(), source.arrayOffset() + source.position(), length,
+                    StandardCharsets.UTF_8 );
+            source.position( source.position() + length );
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        source.get( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    protected static void putDate( Date value, ByteBuffer target )
+    {
+        target.putLong( value.getTime() );
+    }
+
+    protected static Date getDate( ByteBuffer source )
+    {
+        return new Date( source.getLong() );
+    }
+
+    protected static void putStrings( List<String> values, ByteBuffer target )
+    {
+        target.putInt( values.size() );
+        for ( int i = 0; i < values.size(); i++ )
+        {
+            putString( values.get( i ), target );
+        }
+    }
+
+    protected static List<String> getStrings( ByteBuffer source )
+    {
+        int size = source.getInt();
+        List<String> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( getString( source ) );
+        }
+        return values;
+    }
+
+    protected static void putLongs( List<Long> values, ByteBuffer target )
+    {
+        target.putInt( values.size() );
+        for ( int i = 0; i < values.size(); i++ )
+        {
+            target.putLong( values.get( i ) );
+        }
+    }
+
+    protected static List<Long> getLongs( ByteBuffer source )
+    {
+        int size = source.getInt();
+        List<Long> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( source.getLong() );
+        }
+        return values;
+    }
+}
@@ -7,15 +7,22 @@ import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.runtime.scheduling.SpinnerCheck;
 import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.Function1;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
 {
     // set by OperationHandlerRunnerFactory
     private Slot slot = null;
+    // set by FreeListOperationHandlerRunnerFactory, links free contexts
+    OperationHandlerRunnableContext nextFree = null;
 
     // set by Db
     private DbConnectionState dbConnectionState = null;
@@ -36,6 +43,13 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
 
     private ResultReporter.SimpleResultReporter resultReporter = null;
 
+    // set by executor, invoked once handler has completed, possibly asynchronously, see setCompletionCallback()
+    private Function1<OperationHandlerRunnableContext,?,RuntimeException> completionCallback = null;
+    private Executor completionExecutor = null;
+    private final AsyncCompletionFun asyncCompletionFun = new AsyncCompletionFun();
+    private long startOfLatencyMeasurementAsNano = -1;
+    private boolean completedAsynchronously = false;
+
     final void setSlot( Slot slot )
     {
         this.slot = slot;
@@ -73,6 +87,9 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operation = operation;
         this.completionTimeWriter = completionTimeWriter;
         this.beforeExecuteCheck = Spinner.TRUE_CHECK;
+        this.completionCallback = null;
+        this.completionExecutor = null;
+        this.completedAsynchronously = false;
         this.initialized = true;
     }
 
@@ -91,6 +108,35 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         beforeExecuteCheck = check;
     }
 
+    /**
+     * When set, the callback is invoked exactly once, after the handler has completed and its results have been
+     * submitted. It is what allows asynchronous handlers to be executed asynchronously, without a callback
+     * run() blocks until they complete. As the context may be released by the callback, it must not be accessed by
+     * the caller of run() once run() has been called.
+     * <p>
+     * Results of asynchronous handlers are submitted, and the callback invoked, in the thread that completed them.
+     */
+    public final void setCompletionCallback(
+            Function1<OperationHandlerRunnableContext,?,RuntimeException> completionCallback )
+    {
+        setCompletionCallback( completionCallback, null );
+    }
+
+    /**
+     * As {@link #setCompletionCallback(Function1)}, but once an asynchronous handler has completed the callback is
+     * invoked by the completion executor, so the thread that completed the handler, e.g., of a database client, is
+     * not held up by follow up work of the driver, such as child operations. Results are still submitted by the
+     * completing thread, as other operations may be waiting for its completion time.
+     * The completion executor must never block.
+     */
+    public final void setCompletionCallback(
+            Function1<OperationHandlerRunnableContext,?,RuntimeException> completionCallback,
+            Executor completionExecutor )
+    {
+        this.completionCallback = completionCallback;
+        this.completionExecutor = completionExecutor;
+    }
+
     public final Operation operation()
     {
         return operation;
@@ -111,25 +157,38 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         return resultReporter;
     }
 
+    /**
+     * @return true if the handler completed asynchronously, i.e., the completion callback was invoked once the
+     * CompletionStage of an AsyncOperationHandler completed, through the completion executor if one was set
+     */
+    public final boolean completedAsynchronously()
+    {
+        return completedAsynchronously;
+    }
+
     /**
      * Internally calls the method executeOperation(operation)
      * and returns the associated OperationResultReport if execution was successful.
      * If execution is successful OperationResultReport metrics are also written to ConcurrentMetricsService.
      * If execution is unsuccessful the result is null, an error is written to ConcurrentErrorReporter,
      * and no metrics are written.
+     * <p>
+     * If a completion callback is set and the handler is an AsyncOperationHandler, run() returns as soon as the
+     * operation has been issued, and results are submitted when the returned CompletionStage completes.
      *
      * @return an OperationResultReport if Operation execution was successful, otherwise null
      */
     @Override
     public void run()
     {
-        if ( !initialized )
-        {
-            errorReporter.reportError( this, "Handler was executed before being initialized" );
-            return;
-        }
+        boolean completesAsynchronously = false;
         try
         {
+            if ( !initialized )
+            {
+                errorReporter.reportError( this, "Handler was executed before being initialized" );
+                return;
+            }
             if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
                 // TODO something more elaborate here? see comments in Spinner
@@ -138,26 +197,20 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                 return;
             }
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
-            long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            if ( null != completionCallback && operationHandler instanceof AsyncOperationHandler )
+            {
+                CompletionStage<?> completionStage = ((AsyncOperationHandler) operationHandler)
+                        .executeOperationAsync( operation, dbConnectionState, resultReporter );
+                completesAsynchronously = true;
+                // --- may complete in this thread, if completion stage has already completed ---
+                completionStage.whenComplete( asyncCompletionFun );
+                return;
+            }
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
-            {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
-            }
-            else
-            {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
-            }
+            submitResult();
         }
         catch ( Throwable e )
         {
@@ -166,8 +219,98 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                     ConcurrentErrorReporter.stackTraceToString( e ) );
             errorReporter.reportError( this, errMsg );
         }
+        finally
+        {
+            if ( !completesAsynchronously )
+            {
+                complete();
+            }
+        }
     }
 
+    private void submitResult() throws Exception
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
+
+    private void complete()
+    {
+        if ( null != completionCallback )
+        {
+            completionCallback.apply( this );
+        }
+    }
+
+    // results are submitted in the thread that completes the stage, the callback is invoked by the completion executor
+    private class AsyncCompletionFun implements BiConsumer<Object,Throwable>, Runnable
+    {
+        @Override
+        public void accept( Object ignore, Throwable throwable )
+        {
+            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+            completedAsynchronously = true;
+            try
+            {
+                if ( null != throwable )
+                {
+                    String errMsg = format( "Error encountered\n%s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( throwable ) );
+                    errorReporter.reportError( OperationHandlerRunnableContext.this, errMsg );
+                }
+                else
+                {
+                    submitResult();
+                }
+            }
+            catch ( Throwable e )
+            {
+                String errMsg = format( "Error encountered\n%s\n%s",
+                        operation,
+                        ConcurrentErrorReporter.stackTraceToString( e ) );
+                errorReporter.reportError( OperationHandlerRunnableContext.this, errMsg );
+            }
+            if ( null == completionExecutor )
+            {
+                complete();
+                return;
+            }
+            try
+            {
+                completionExecutor.execute( this );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( OperationHandlerRunnableContext.this,
+                        format( "Error handing off completion\n%s\n%s",
+                                operation,
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                complete();
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            complete();
+        }
+    }
 
     @Override
     public String toString()
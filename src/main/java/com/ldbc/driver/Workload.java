@@ -5,6 +5,7 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -80,6 +81,38 @@ public abstract class Workload implements Closeable
     protected abstract WorkloadStreams getStreams( GeneratorFactory generators, boolean hasDbConnected )
             throws WorkloadException;
 
+    /**
+     * Generator of child operations of the asynchronous stream, the same generator getStreams() attaches to it.
+     * Used when operations are replayed from a compiled workload schedule, so must not open any stream input.
+     */
+    public final ChildOperationGenerator asynchronousChildOperationGenerator( boolean hasDbConnected )
+            throws WorkloadException
+    {
+        if ( false == isInitialized )
+        { throw new WorkloadException( "Workload has not been initialized" ); }
+        return getAsynchronousChildOperationGenerator( hasDbConnected );
+    }
+
+    /**
+     * None by default, workloads whose asynchronous stream has a child operation generator must override this
+     */
+    protected ChildOperationGenerator getAsynchronousChildOperationGenerator( boolean hasDbConnected )
+            throws WorkloadException
+    {
+        return null;
+    }
+
+    /**
+     * Files the operation streams of this workload are read from, if the streams are fully determined by these files
+     * and by workload parameters. Stream positions calculated during one run can then be reused by later runs, until
+     * one of the files changes.
+     * Empty by default, meaning stream positions are always calculated from scratch.
+     */
+    public List<File> streamInputFiles()
+    {
+        return new ArrayList<>();
+    }
+
     public DbValidationParametersFilter dbValidationParametersFilter( final Integer requiredValidationParameterCount )
     {
         return new DbValidationParametersFilter()
@@ -126,6 +159,16 @@ public abstract class Workload implements Closeable
 
     public abstract Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException;
 
+    /**
+     * Binary codecs of operations, by operation type. Operations of types without a codec are encoded with
+     * serializeOperation() instead.
+     * Empty by default.
+     */
+    public Map<Integer,OperationCodec> operationCodecs()
+    {
+        return new HashMap<>();
+    }
+
     public abstract boolean resultsEqual( Operation operation, Object result1, Object result2 )
             throws WorkloadException;
 
@@ -0,0 +1,393 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.generator.Generator;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ldbc.driver.WorkloadScheduleWriter.ENCODING_CODEC;
+import static com.ldbc.driver.WorkloadScheduleWriter.MAGIC;
+import static com.ldbc.driver.WorkloadScheduleWriter.PHASE_HEADER_LENGTH;
+import static com.ldbc.driver.WorkloadScheduleWriter.RECORD_HEADER_LENGTH;
+import static com.ldbc.driver.WorkloadScheduleWriter.STREAM_HEADER_LENGTH;
+import static com.ldbc.driver.WorkloadScheduleWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Replays a workload schedule compiled by {@link WorkloadScheduleWriter}.
+ * <p>
+ * Opening a schedule only reads the phase, stream definition & stream headers. Streams are memory mapped in windows
+ * of at most MAP_WINDOW_SIZE bytes, and operations are decoded lazily, as the workload runner retrieves them, by the
+ * OperationCodec of their operation type.
+ * <p>
+ * Mapped windows stay valid after the reader is closed, but streams can not map further windows, so the reader
+ * must only be closed once its streams have been consumed.
+ */
+public class WorkloadScheduleReader implements Closeable
+{
+    static final int MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final File scheduleFile;
+    private final FileChannel channel;
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * @param key key of the configuration the schedule is replayed with, see WorkloadScheduleWriter.keyFor()
+     */
+    public WorkloadScheduleReader( File scheduleFile, String key )
+            throws IOException, WorkloadException
+    {
+        this.scheduleFile = scheduleFile;
+        this.channel = new RandomAccessFile( scheduleFile, "r" ).getChannel();
+        try
+        {
+            ByteBuffer header = ByteBuffer.allocate( 4 + 1 + 2 );
+            readFully( header, 0 );
+            if ( MAGIC != header.getInt() || VERSION != header.get() )
+            {
+                throw new WorkloadException(
+                        format( "Not a workload schedule, or written by another driver version: %s",
+                                scheduleFile.getAbsolutePath() ) );
+            }
+            ByteBuffer scheduleKey = ByteBuffer.allocate( header.getShort() );
+            readFully( scheduleKey, header.capacity() );
+            if ( false == key.equals( new String( scheduleKey.array(), StandardCharsets.UTF_8 ) ) )
+            {
+                throw new WorkloadException(
+                        format( "Workload schedule was compiled with a different workload configuration: %s",
+                                scheduleFile.getAbsolutePath() ) );
+            }
+            readPhases( header.capacity() + scheduleKey.capacity() );
+        }
+        catch ( IOException | WorkloadException e )
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readPhases( long position ) throws IOException
+    {
+        ByteBuffer phaseHeader = ByteBuffer.allocate( PHASE_HEADER_LENGTH );
+        ByteBuffer streamHeader = ByteBuffer.allocate( STREAM_HEADER_LENGTH );
+        while ( position < channel.size() )
+        {
+            readFully( phaseHeader, position );
+            position += PHASE_HEADER_LENGTH;
+            Phase phase = new Phase();
+            phase.warmup = 1 == phaseHeader.get();
+            phase.offset = phaseHeader.getLong();
+            phase.limit = phaseHeader.getLong();
+            phase.minimumTimeStamp = phaseHeader.getLong();
+            int definitionCount = phaseHeader.getInt();
+            phase.dependentOperationTypes = new int[definitionCount][];
+            phase.dependencyOperationTypes = new int[definitionCount][];
+            phase.streamStarts = new long[definitionCount * 2];
+            phase.streamLengths = new long[definitionCount * 2];
+            phase.streamOperationCounts = new long[definitionCount * 2];
+            for ( int i = 0; i < definitionCount; i++ )
+            {
+                phase.dependentOperationTypes[i] = readOperationTypes( position );
+                position += 4 + 4 * phase.dependentOperationTypes[i].length;
+                phase.dependencyOperationTypes[i] = readOperationTypes( position );
+                position += 4 + 4 * phase.dependencyOperationTypes[i].length;
+                for ( int stream = i * 2; stream < i * 2 + 2; stream++ )
+                {
+                    readFully( streamHeader, position );
+                    position += STREAM_HEADER_LENGTH;
+                    phase.streamOperationCounts[stream] = streamHeader.getLong();
+                    phase.streamLengths[stream] = streamHeader.getLong();
+                    phase.streamStarts[stream] = position;
+                    position += phase.streamLengths[stream];
+                }
+            }
+            phases.add( phase );
+        }
+    }
+
+    private int[] readOperationTypes( long position ) throws IOException
+    {
+        ByteBuffer countBuffer = ByteBuffer.allocate( 4 );
+        readFully( countBuffer, position );
+        ByteBuffer typesBuffer = ByteBuffer.allocate( 4 * countBuffer.getInt() );
+        readFully( typesBuffer, position + 4 );
+        int[] operationTypes = new int[typesBuffer.capacity() / 4];
+        for ( int i = 0; i < operationTypes.length; i++ )
+        {
+            operationTypes[i] = typesBuffer.getInt();
+        }
+        return operationTypes;
+    }
+
+    /**
+     * Creates workload streams that replay the operations of a compiled phase. Operation types of the streams are
+     * taken from the schedule, the child operation generator of the asynchronous stream from the workload, so no
+     * stream of the workload is opened. Blocking streams are replayed without child operation generators.
+     *
+     * @return (workload_streams, minimum_timestamp)
+     */
+    public Tuple2<WorkloadStreams,Long> workloadStreams(
+            boolean warmup,
+            long offset,
+            long limit,
+            Workload workload,
+            boolean hasDbConnected,
+            long workloadStartTimeAsMilli ) throws WorkloadException
+    {
+        Phase phase = null;
+        for ( Phase candidate : phases )
+        {
+            if ( candidate.warmup == warmup && candidate.offset == offset && candidate.limit == limit )
+            {
+                phase = candidate;
+            }
+        }
+        if ( null == phase )
+        {
+            throw new WorkloadException(
+                    format( "Workload schedule has no %s phase with offset %s & limit %s: %s",
+                            (warmup) ? "warmup" : "run", offset, limit, scheduleFile.getAbsolutePath() ) );
+        }
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = workload.operationTypeToClassMapping();
+        Map<Integer,OperationCodec> codecs = workload.operationCodecs();
+
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                operationClasses( phase.dependentOperationTypes[0], operationTypeToClassMapping ),
+                operationClasses( phase.dependencyOperationTypes[0], operationTypeToClassMapping ),
+                stream( phase, 0, workload, codecs, workloadStartTimeAsMilli ),
+                stream( phase, 1, workload, codecs, workloadStartTimeAsMilli ),
+                workload.asynchronousChildOperationGenerator( hasDbConnected )
+        );
+        for ( int i = 1; i < phase.dependentOperationTypes.length; i++ )
+        {
+            workloadStreams.addBlockingStream(
+                    operationClasses( phase.dependentOperationTypes[i], operationTypeToClassMapping ),
+                    operationClasses( phase.dependencyOperationTypes[i], operationTypeToClassMapping ),
+                    stream( phase, i * 2, workload, codecs, workloadStartTimeAsMilli ),
+                    stream( phase, i * 2 + 1, workload, codecs, workloadStartTimeAsMilli ),
+                    null
+            );
+        }
+        return Tuple.tuple2( workloadStreams, phase.minimumTimeStamp );
+    }
+
+    private Set<Class<? extends Operation>> operationClasses(
+            int[] operationTypes,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping ) throws WorkloadException
+    {
+        Set<Class<? extends Operation>> operationClasses = new HashSet<>();
+        for ( int operationType : operationTypes )
+        {
+            Class<? extends Operation> operationClass = operationTypeToClassMapping.get( operationType );
+            if ( null == operationClass )
+            {
+                throw new WorkloadException( format( "Workload has no operation type %s, used by workload schedule: %s",
+                        operationType, scheduleFile.getAbsolutePath() ) );
+            }
+            operationClasses.add( operationClass );
+        }
+        return operationClasses;
+    }
+
+    private Iterator<Operation> stream(
+            Phase phase,
+            int stream,
+            Workload workload,
+            Map<Integer,OperationCodec> codecs,
+            long workloadStartTimeAsMilli )
+    {
+        return new MappedOperationGenerator(
+                channel,
+                phase.streamStarts[stream],
+                phase.streamStarts[stream] + phase.streamLengths[stream],
+                phase.streamOperationCounts[stream],
+                workload,
+                codecs,
+                workloadStartTimeAsMilli
+        );
+    }
+
+    private void readFully( ByteBuffer target, long position ) throws IOException
+    {
+        target.clear();
+        while ( target.hasRemaining() )
+        {
+            int read = channel.read( target, position );
+            if ( -1 == read )
+            {
+                throw new IOException(
+                        format( "Workload schedule is truncated: %s", scheduleFile.getAbsolutePath() ) );
+            }
+            position += read;
+        }
+        target.flip();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        channel.close();
+    }
+
+    private static class Phase
+    {
+        private boolean warmup;
+        private long offset;
+        private long limit;
+        private long minimumTimeStamp;
+        private int[][] dependentOperationTypes;
+        private int[][] dependencyOperationTypes;
+        private long[] streamStarts;
+        private long[] streamLengths;
+        private long[] streamOperationCounts;
+    }
+
+    private static class MappedOperationGenerator extends Generator<Operation>
+    {
+        private final FileChannel channel;
+        private final long end;
+        private final Workload workload;
+        private final Map<Integer,OperationCodec> codecs;
+        private final long workloadStartTimeAsMilli;
+        private long remainingOperations;
+        private MappedByteBuffer window = null;
+        private long windowStart;
+        private byte[] parameters = new byte[256];
+
+        private MappedOperationGenerator(
+                FileChannel channel,
+                long start,
+                long end,
+                long operationCount,
+                Workload workload,
+                Map<Integer,OperationCodec> codecs,
+                long workloadStartTimeAsMilli )
+        {
+            this.channel = channel;
+            this.windowStart = start;
+            this.end = end;
+            this.remainingOperations = operationCount;
+            this.workload = workload;
+            this.codecs = codecs;
+            this.workloadStartTimeAsMilli = workloadStartTimeAsMilli;
+        }
+
+        @Override
+        protected Operation doNext() throws GeneratorException
+        {
+            if ( 0 == remainingOperations )
+            {
+                return null;
+            }
+            ensureMapped( RECORD_HEADER_LENGTH );
+            int type = window.getInt();
+            byte encoding = window.get();
+            long scheduledStartTimeAsMilli = window.getLong();
+            long timeStamp = window.getLong();
+            long dependencyTimeStamp = window.getLong();
+            int parametersLength = window.getInt();
+            ensureMapped( parametersLength );
+            remainingOperations--;
+
+            Operation operation = (ENCODING_CODEC == encoding)
+                                  ? decodeParameters( type, parametersLength )
+                                  : marshalParameters( parametersLength );
+            if ( operation.type() != type )
+            {
+                throw new GeneratorException( format( "Decoded operation has type %s, workload schedule has type %s",
+                        operation.type(), type ) );
+            }
+            operation.setScheduledStartTimeAsMilli( workloadStartTimeAsMilli + scheduledStartTimeAsMilli );
+            operation.setTimeStamp( timeStamp );
+            operation.setDependencyTimeStamp( dependencyTimeStamp );
+            return operation;
+        }
+
+        private Operation decodeParameters( int type, int parametersLength )
+        {
+            OperationCodec codec = codecs.get( type );
+            if ( null == codec )
+            {
+                throw new GeneratorException( format( "Workload has no codec for operation type: %s", type ) );
+            }
+            // codec may not read past the parameters of this operation
+            int parametersEnd = window.position() + parametersLength;
+            window.limit( parametersEnd );
+            Operation operation;
+            try
+            {
+                operation = codec.decode( window );
+            }
+            catch ( BufferUnderflowException e )
+            {
+                throw new GeneratorException( "Error decoding operation from workload schedule", e );
+            }
+            if ( window.position() != parametersEnd )
+            {
+                throw new GeneratorException( format( "Codec of operation type %s decoded %s of %s parameter bytes",
+                        type, window.position() - parametersEnd + parametersLength, parametersLength ) );
+            }
+            window.limit( window.capacity() );
+            return operation;
+        }
+
+        private Operation marshalParameters( int parametersLength )
+        {
+            if ( parameters.length < parametersLength )
+            {
+                parameters = new byte[Math.max( parametersLength, parameters.length * 2 )];
+            }
+            window.get( parameters, 0, parametersLength );
+            try
+            {
+                return workload.marshalOperation(
+                        new String( parameters, 0, parametersLength, StandardCharsets.UTF_8 ) );
+            }
+            catch ( SerializingMarshallingException e )
+            {
+                throw new GeneratorException( "Error decoding operation from workload schedule", e );
+            }
+        }
+
+        // maps a new window starting at the current position, if the current window has fewer than length bytes left
+        private void ensureMapped( int length )
+        {
+            if ( null != window && window.remaining() >= length )
+            {
+                return;
+            }
+            long position = (null == window) ? windowStart : windowStart + window.position();
+            if ( end - position < length )
+            {
+                throw new GeneratorException( "Workload schedule stream is truncated" );
+            }
+            long size = Math.min( Math.max( MAP_WINDOW_SIZE, length ), end - position );
+            try
+            {
+                window = channel.map( FileChannel.MapMode.READ_ONLY, position, size );
+            }
+            catch ( IOException e )
+            {
+                throw new GeneratorException( "Error mapping workload schedule", e );
+            }
+            windowStart = position;
+        }
+    }
+}
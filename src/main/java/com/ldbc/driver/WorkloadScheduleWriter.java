@@ -0,0 +1,344 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.Tuple3;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * Writes a compiled workload schedule: the operations of the warmup & run phases of a workload, already limited to
+ * skip, warmup & operation counts, with start times assigned and time compression applied. Runs replay the schedule
+ * with {@link WorkloadScheduleReader}, rather than parsing workload input files, scanning streams to calculate their
+ * limits, and generating operations again.
+ * <p>
+ * File layout:
+ * <pre>
+ * header     : magic (int), version (byte), key length (short), key (UTF-8 bytes)
+ * phase*     : warmup (byte), offset (long), limit (long), minimum time stamp (long), definition count (int),
+ *              definition*
+ * definition : dependent type count (int), type* (int), dependency type count (int), type* (int),
+ *              dependency operations stream, non dependency operations stream
+ * stream     : operation count (long), length (long), record*
+ * record     : operation type (int), encoding (byte), scheduled start time (long), time stamp (long),
+ *              dependency time stamp (long), parameters length (int), parameters (bytes)
+ * </pre>
+ * Stream definitions are in the order of WorkloadStreams: the asynchronous stream, then each blocking stream, so
+ * replay needs no stream of the workload itself. Scheduled start times are relative to a workload start time of 0,
+ * replay adds the actual workload start time. Parameters are encoded by the OperationCodec of the operation type,
+ * if the workload has one, otherwise as UTF-8 text by Workload.serializeOperation(). Child operations are not part of
+ * the schedule, they depend on results of the run.
+ */
+public class WorkloadScheduleWriter implements Closeable
+{
+    static final int MAGIC = 0x4C445753;
+    static final byte VERSION = 2;
+    static final int PHASE_HEADER_LENGTH = 1 + 8 + 8 + 8 + 4;
+    static final int STREAM_HEADER_LENGTH = 8 + 8;
+    static final int RECORD_HEADER_LENGTH = 4 + 1 + 8 + 8 + 8 + 4;
+    static final byte ENCODING_SERIALIZED = 0;
+    static final byte ENCODING_CODEC = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect( BUFFER_SIZE );
+    private final ByteBuffer sectionHeader = ByteBuffer.allocate( PHASE_HEADER_LENGTH );
+    private ByteBuffer encodedParameters = ByteBuffer.allocate( 4096 );
+
+    /**
+     * Compiles warmup (if any) and run phases of the configured workload, each phase with its own generator factory
+     * seeded with randomSeed, exactly as when the workload is executed
+     *
+     * @return count of operations written, over all phases
+     */
+    public static long compile(
+            DriverConfiguration configuration,
+            File scheduleFile,
+            long randomSeed,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
+    {
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadScheduleWriter.class.getSimpleName() );
+        long operationCount = 0;
+        List<Boolean> phases = new ArrayList<>();
+        if ( configuration.warmupCount() > 0 )
+        {
+            phases.add( true );
+        }
+        phases.add( false );
+        try ( WorkloadScheduleWriter writer = new WorkloadScheduleWriter( scheduleFile, keyFor( configuration ) ) )
+        {
+            for ( boolean warmup : phases )
+            {
+                long offset = (warmup)
+                              ? configuration.skipCount()
+                              : configuration.skipCount() + configuration.warmupCount();
+                long limit = (warmup)
+                             ? configuration.warmupCount()
+                             : configuration.operationCount();
+                GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
+                boolean returnStreamsWithDbConnector = false;
+                Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
+                        WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                                configuration,
+                                gf,
+                                returnStreamsWithDbConnector,
+                                offset,
+                                limit,
+                                loggingServiceFactory
+                        );
+                try ( Workload workload = streamsAndWorkloadAndMinimumTimeStamp._2() )
+                {
+                    WorkloadStreams timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                            streamsAndWorkloadAndMinimumTimeStamp._1(),
+                            0,
+                            configuration.timeCompressionRatio(),
+                            gf
+                    );
+                    long phaseOperationCount = writer.writePhase(
+                            warmup,
+                            offset,
+                            limit,
+                            streamsAndWorkloadAndMinimumTimeStamp._3(),
+                            timeMappedWorkloadStreams,
+                            workload
+                    );
+                    loggingService.info( format( "Compiled %s phase: %s operations",
+                            (warmup) ? "warmup" : "run", phaseOperationCount ) );
+                    operationCount += phaseOperationCount;
+                }
+            }
+        }
+        return operationCount;
+    }
+
+    /**
+     * Schedule contents are determined by workload, workload parameters, and time compression ratio, i.e., by the
+     * same parameters that determine stream positions.
+     * Workload & database initialization may add derived parameters to the configuration, so the key must be taken
+     * from the configuration as it was given, before either is initialized.
+     */
+    public static String keyFor( DriverConfiguration configuration )
+    {
+        String key = new TreeMap<>( WorkloadStreamsIndex.keyFor( configuration ) ).toString();
+        return Hashing.md5().hashString( key, Charsets.UTF_8 ).toString();
+    }
+
+    public WorkloadScheduleWriter( File scheduleFile, String key ) throws IOException
+    {
+        scheduleFile.createNewFile();
+        this.channel = new RandomAccessFile( scheduleFile, "rw" ).getChannel();
+        this.channel.truncate( 0 );
+        byte[] keyBytes = key.getBytes( StandardCharsets.UTF_8 );
+        buffer.putInt( MAGIC );
+        buffer.put( VERSION );
+        buffer.putShort( (short) keyBytes.length );
+        buffer.put( keyBytes );
+        flushBuffer();
+    }
+
+    /**
+     * @return count of operations written
+     */
+    public long writePhase(
+            boolean warmup,
+            long offset,
+            long limit,
+            long minimumTimeStamp,
+            WorkloadStreams timeMappedWorkloadStreams,
+            Workload workload ) throws WorkloadException, IOException
+    {
+        List<WorkloadStreamDefinition> definitions = new ArrayList<>();
+        definitions.add( timeMappedWorkloadStreams.asynchronousStream() );
+        definitions.addAll( timeMappedWorkloadStreams.blockingStreamDefinitions() );
+
+        sectionHeader.clear();
+        sectionHeader.put( (byte) (warmup ? 1 : 0) );
+        sectionHeader.putLong( offset );
+        sectionHeader.putLong( limit );
+        sectionHeader.putLong( minimumTimeStamp );
+        sectionHeader.putInt( definitions.size() );
+        sectionHeader.flip();
+        writeFully( sectionHeader, channel.position() );
+        channel.position( channel.position() + PHASE_HEADER_LENGTH );
+
+        Map<Class<? extends Operation>,Integer> operationClassToTypeMapping = new HashMap<>();
+        for ( Map.Entry<Integer,Class<? extends Operation>> entry : workload.operationTypeToClassMapping().entrySet() )
+        {
+            operationClassToTypeMapping.put( entry.getValue(), entry.getKey() );
+        }
+        Map<Integer,OperationCodec> codecs = workload.operationCodecs();
+        long operationCount = 0;
+        for ( WorkloadStreamDefinition definition : definitions )
+        {
+            writeOperationTypes( definition.dependentOperationTypes(), operationClassToTypeMapping );
+            writeOperationTypes( definition.dependencyOperationTypes(), operationClassToTypeMapping );
+            operationCount += writeStream( definition.dependencyOperations(), workload, codecs );
+            operationCount += writeStream( definition.nonDependencyOperations(), workload, codecs );
+        }
+        return operationCount;
+    }
+
+    private void writeOperationTypes(
+            Set<Class<? extends Operation>> operationClasses,
+            Map<Class<? extends Operation>,Integer> operationClassToTypeMapping ) throws WorkloadException, IOException
+    {
+        List<Integer> operationTypes = new ArrayList<>();
+        for ( Class<? extends Operation> operationClass : operationClasses )
+        {
+            Integer operationType = operationClassToTypeMapping.get( operationClass );
+            if ( null == operationType )
+            {
+                throw new WorkloadException(
+                        format( "Workload has no operation type for: %s", operationClass.getSimpleName() ) );
+            }
+            operationTypes.add( operationType );
+        }
+        Collections.sort( operationTypes );
+        ByteBuffer typesBuffer = ByteBuffer.allocate( 4 + 4 * operationTypes.size() );
+        typesBuffer.putInt( operationTypes.size() );
+        for ( int operationType : operationTypes )
+        {
+            typesBuffer.putInt( operationType );
+        }
+        typesBuffer.flip();
+        writeFully( typesBuffer, channel.position() );
+        channel.position( channel.position() + typesBuffer.capacity() );
+    }
+
+    // stream header is written after the stream, when its operation count and length are known
+    private long writeStream(
+            Iterator<Operation> stream,
+            Workload workload,
+            Map<Integer,OperationCodec> codecs ) throws WorkloadException, IOException
+    {
+        long streamHeaderPosition = channel.position();
+        channel.position( streamHeaderPosition + STREAM_HEADER_LENGTH );
+        long operationCount = 0;
+        while ( stream.hasNext() )
+        {
+            Operation operation = stream.next();
+            OperationCodec codec = codecs.get( operation.type() );
+            ByteBuffer parameters = (null == codec)
+                                    ? serializeParameters( operation, workload )
+                                    : encodeParameters( operation, codec );
+            int recordLength = RECORD_HEADER_LENGTH + parameters.remaining();
+            if ( buffer.remaining() < recordLength )
+            {
+                flushBuffer();
+            }
+            ByteBuffer target = (buffer.remaining() < recordLength) ? ByteBuffer.allocate( recordLength ) : buffer;
+            target.putInt( operation.type() );
+            target.put( (null == codec) ? ENCODING_SERIALIZED : ENCODING_CODEC );
+            target.putLong( operation.scheduledStartTimeAsMilli() );
+            target.putLong( operation.timeStamp() );
+            target.putLong( operation.dependencyTimeStamp() );
+            target.putInt( parameters.remaining() );
+            target.put( parameters );
+            if ( target != buffer )
+            {
+                // record longer than buffer
+                target.flip();
+                writeFully( target, channel.position() );
+                channel.position( channel.position() + recordLength );
+            }
+            operationCount++;
+        }
+        flushBuffer();
+        long streamEndPosition = channel.position();
+
+        sectionHeader.clear();
+        sectionHeader.putLong( operationCount );
+        sectionHeader.putLong( streamEndPosition - streamHeaderPosition - STREAM_HEADER_LENGTH );
+        sectionHeader.flip();
+        writeFully( sectionHeader, streamHeaderPosition );
+        return operationCount;
+    }
+
+    private ByteBuffer serializeParameters( Operation operation, Workload workload ) throws WorkloadException
+    {
+        String serializedOperation;
+        try
+        {
+            serializedOperation = workload.serializeOperation( operation );
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new WorkloadException( format( "Error serializing operation: %s", operation ), e );
+        }
+        if ( null == serializedOperation )
+        {
+            throw new WorkloadException( format( "%s does not serialize operations of type: %s",
+                    workload.getClass().getSimpleName(), operation.getClass().getSimpleName() ) );
+        }
+        return ByteBuffer.wrap( serializedOperation.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    // encodes into a buffer that grows until it fits the largest operation encoded so far
+    private ByteBuffer encodeParameters( Operation operation, OperationCodec codec )
+    {
+        while ( true )
+        {
+            encodedParameters.clear();
+            try
+            {
+                codec.encode( operation, encodedParameters );
+                encodedParameters.flip();
+                return encodedParameters;
+            }
+            catch ( BufferOverflowException e )
+            {
+                encodedParameters = ByteBuffer.allocate( encodedParameters.capacity() * 2 );
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException
+    {
+        buffer.flip();
+        long position = channel.position();
+        int length = buffer.remaining();
+        writeFully( buffer, position );
+        channel.position( position + length );
+        buffer.clear();
+    }
+
+    private void writeFully( ByteBuffer source, long position ) throws IOException
+    {
+        while ( source.hasRemaining() )
+        {
+            position += channel.write( source, position );
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        flushBuffer();
+        channel.force( false );
+        channel.close();
+    }
+}
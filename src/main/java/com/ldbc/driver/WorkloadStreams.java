@@ -6,6 +6,8 @@ import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.LongKeyedMinHeap;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
@@ -254,56 +256,56 @@ public class WorkloadStreams
         // get workload
         Workload workload = workloadFactory.createWorkload();
         workload.init( configuration );
-        // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
-        List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
 
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        WorkloadStreamsIndex streamsIndex = null;
+        if ( configuration.streamIndex() )
         {
-            streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-
-            streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
+            streamsIndex = WorkloadStreamsIndex.load( workload, configuration, loggingServiceFactory );
         }
-
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
         Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
+                (null == streamsIndex) ? null : streamsIndex.streamPositions( offset, limit );
+        if ( null == limitsAndMinimumsForStream )
+        {
+            limitsAndMinimumsForStream = calculateLimitsAndMinimumsForStreams(
+                    workload,
+                    // with an index, scanning must not change the random state of the streams that are executed,
+                    // otherwise runs that use previously indexed positions would execute different operations
+                    (null == streamsIndex) ? gf : new GeneratorFactory(
+                            new RandomDataGeneratorFactory( WorkloadStreamsIndex.SCAN_RANDOM_SEED ) ),
+                    offset,
+                    limit,
+                    streamsIndex,
+                    loggingServiceFactory
+            );
+            workload.close();
+            // reinitialize workload, so it can be streamed through from the beginning
+            workload = workloadFactory.createWorkload();
+            workload.init( configuration );
+        }
+        else
+        {
+            loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() ).info(
+                    format( "Stream positions for offset %s & limit %s retrieved from stream index: %s",
+                            offset, limit, streamsIndex.indexFile().getAbsolutePath() ) );
+        }
         long[] startForStream = limitsAndMinimumsForStream._1();
         long[] limitForStream = limitsAndMinimumsForStream._2();
         long minimumTimeStamp = limitsAndMinimumsForStream._3();
 
-        workload.close();
-
         // ================================
         // ====== Create Limited Streams ==
         // ================================
 
         WorkloadStreams workloadStreams = new WorkloadStreams();
 
-        // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-
         // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
+        if ( startForStream.length != unlimitedBlockingStreams.size() * 2 + 2 )
+        {
+            throw new WorkloadException( format( "Workload has %s streams, stream positions are for %s streams",
+                    unlimitedBlockingStreams.size() * 2 + 2, startForStream.length ) );
+        }
 
         // advance to offsets
         gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
@@ -340,6 +342,80 @@ public class WorkloadStreams
         );
     }
 
+    // returns (start_per_stream, end_per_stream, minimum_timestamp)
+    private static Tuple3<long[],long[],Long> calculateLimitsAndMinimumsForStreams(
+            Workload workload,
+            GeneratorFactory gf,
+            long offset,
+            long limit,
+            WorkloadStreamsIndex streamsIndex,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException
+    {
+        // retrieve unbounded streams
+        boolean hasDbConnected = false;
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+
+        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
+        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
+        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
+
+            streams.add( stream.nonDependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
+        }
+
+        if ( null == streamsIndex )
+        {
+            // stream through streams once, to calculate how many operations are needed from each,
+            // to get operation_count in total
+            return WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                    streams,
+                    offset,
+                    limit,
+                    childOperationGenerators,
+                    loggingServiceFactory
+            );
+        }
+
+        // resume from the nearest checkpoint before offset, rather than from the beginning of the streams
+        WorkloadStreamsIndex.Checkpoint checkpoint = streamsIndex.checkpointAtOrBefore( offset, streams.size() );
+        if ( null == checkpoint )
+        {
+            checkpoint = new WorkloadStreamsIndex.Checkpoint( 0, new long[streams.size()] );
+        }
+        else
+        {
+            loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() ).info(
+                    format( "Resuming stream scan from stream index checkpoint at %s operations",
+                            checkpoint.operationCount() ) );
+        }
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            gf.consume( streams.get( i ), checkpoint.streamOperationCounts()[i] );
+        }
+        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
+                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                        streams,
+                        offset,
+                        limit,
+                        childOperationGenerators,
+                        loggingServiceFactory,
+                        checkpoint,
+                        streamsIndex
+                );
+        streamsIndex.addStreamPositions( offset, limit, limitsAndMinimumsForStream );
+        streamsIndex.save();
+        return limitsAndMinimumsForStream;
+    }
+
     // returns (start_per_stream, end_per_stream, minimum_timestamp)
     public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
             List<Iterator<Operation>> streams,
@@ -347,6 +423,31 @@ public class WorkloadStreams
             long limit,
             List<ChildOperationGenerator> childOperationGenerators,
             LoggingServiceFactory loggingServiceFactory ) throws WorkloadException
+    {
+        return fromAmongAllRetrieveTopCountFromOffset(
+                streams,
+                offset,
+                limit,
+                childOperationGenerators,
+                loggingServiceFactory,
+                new WorkloadStreamsIndex.Checkpoint( 0, new long[streams.size()] ),
+                null
+        );
+    }
+
+    /**
+     * As above, but streams have already been advanced to the given checkpoint, and (if index is not null) a
+     * checkpoint is added to the index every checkpoint interval operations
+     */
+    // returns (start_per_stream, end_per_stream, minimum_timestamp)
+    public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
+            List<Iterator<Operation>> streams,
+            long offset,
+            long limit,
+            List<ChildOperationGenerator> childOperationGenerators,
+            LoggingServiceFactory loggingServiceFactory,
+            WorkloadStreamsIndex.Checkpoint from,
+            WorkloadStreamsIndex streamsIndex ) throws WorkloadException
     {
         LoggingService loggingService =
                 loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
@@ -355,11 +456,7 @@ public class WorkloadStreams
         Operation operation;
         ChildOperationGenerator childOperationGenerator;
         // last operation retrieved (which has not yet been counted) from each stream
-        Operation[] streamHeads = new Operation[streams.size()];
-        for ( int i = 0; i < streams.size(); i++ )
-        {
-            streamHeads[i] = null;
-        }
+        MergingStreamHeads streamHeads = new MergingStreamHeads( streams );
 
         // ================================================
         // ===== advance to start point of each stream =====
@@ -369,44 +466,15 @@ public class WorkloadStreams
         long[] kForStreamOffset = new long[streams.size()];
         for ( int i = 0; i < streams.size(); i++ )
         {
-            kForStreamOffset[i] = 0;
+            kForStreamOffset[i] = from.streamOperationCounts()[i];
         }
-        long kSoFarOffset = 0;
+        long kSoFarOffset = from.operationCount();
+        long checkpointInterval = (null == streamsIndex) ? Long.MAX_VALUE : streamsIndex.checkpointInterval();
+        long nextCheckpoint = (kSoFarOffset / checkpointInterval + 1) * checkpointInterval;
 
         while ( kSoFarOffset < offset )
         {
-            long minAsMilli = Long.MAX_VALUE;
-            int indexOfMin = -1;
-            for ( int i = 0; i < streams.size(); i++ )
-            {
-                if ( null != streamHeads[i] || streams.get( i ).hasNext() )
-                {
-                    if ( null == streamHeads[i] )
-                    {
-                        streamHeads[i] = streams.get( i ).next();
-                    }
-
-                    long streamHeadTimeStampAsMilli = streamHeads[i].timeStamp();
-
-                    if ( -1 == streamHeadTimeStampAsMilli )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have time stamp\n%s", streamHeads[i] ) );
-                    }
-
-                    if ( -1 == streamHeads[i].dependencyTimeStamp() )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
-                    }
-
-                    if ( null != streamHeads[i] && streamHeadTimeStampAsMilli < minAsMilli )
-                    {
-                        minAsMilli = streamHeadTimeStampAsMilli;
-                        indexOfMin = i;
-                    }
-                }
-            }
+            int indexOfMin = streamHeads.indexOfMin();
             if ( -1 == indexOfMin )
             {
                 // iterators are empty, nothing left to retrieve
@@ -415,7 +483,7 @@ public class WorkloadStreams
             kForStreamOffset[indexOfMin] = kForStreamOffset[indexOfMin] + 1;
             kSoFarOffset = kSoFarOffset + 1;
 
-            operation = streamHeads[indexOfMin];
+            operation = streamHeads.head( indexOfMin );
             childOperationGenerator = childOperationGenerators.get( indexOfMin );
             if ( null != childOperationGenerator )
             {
@@ -428,7 +496,13 @@ public class WorkloadStreams
                 }
             }
 
-            streamHeads[indexOfMin] = null;
+            streamHeads.consume( indexOfMin );
+
+            if ( kSoFarOffset >= nextCheckpoint )
+            {
+                streamsIndex.addCheckpoint( kSoFarOffset, kForStreamOffset );
+                nextCheckpoint = (kSoFarOffset / checkpointInterval + 1) * checkpointInterval;
+            }
 
             if ( kSoFarOffset % 1000000 == 0 )
             {
@@ -464,53 +538,22 @@ public class WorkloadStreams
 
         while ( kSoFarRun < limit )
         {
-            long minAsMilli = Long.MAX_VALUE;
-            int indexOfMin = -1;
-            for ( int i = 0; i < streams.size(); i++ )
-            {
-                if ( null != streamHeads[i] || streams.get( i ).hasNext() )
-                {
-                    if ( null == streamHeads[i] )
-                    {
-                        streamHeads[i] = streams.get( i ).next();
-                    }
-
-                    long streamHeadTimeStampAsMilli = streamHeads[i].timeStamp();
-                    long streamHeadDependencyTimeStampAsMilli = streamHeads[i].dependencyTimeStamp();
-
-                    if ( -1 == streamHeadTimeStampAsMilli )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have time stamp\n%s", streamHeads[i] ) );
-                    }
-
-                    if ( -1 == streamHeadDependencyTimeStampAsMilli )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
-                    }
-
-                    if ( streamHeadTimeStampAsMilli < minimumTimeStamp )
-                    {
-                        minimumTimeStamp = streamHeadTimeStampAsMilli;
-                    }
-
-                    if ( null != streamHeads[i] && streamHeadTimeStampAsMilli < minAsMilli )
-                    {
-                        minAsMilli = streamHeadTimeStampAsMilli;
-                        indexOfMin = i;
-                    }
-                }
-            }
+            int indexOfMin = streamHeads.indexOfMin();
             if ( -1 == indexOfMin )
             {
                 // iterators are empty, nothing left to retrieve
                 break;
             }
+            // every retrieved head is in the heap at least once while checking its top, and the top is the earliest
+            // head in the heap, so this finds the earliest of all retrieved heads
+            if ( streamHeads.head( indexOfMin ).timeStamp() < minimumTimeStamp )
+            {
+                minimumTimeStamp = streamHeads.head( indexOfMin ).timeStamp();
+            }
             kForStreamRun[indexOfMin] = kForStreamRun[indexOfMin] + 1;
             kSoFarRun = kSoFarRun + 1;
 
-            operation = streamHeads[indexOfMin];
+            operation = streamHeads.head( indexOfMin );
             childOperationGenerator = childOperationGenerators.get( indexOfMin );
             if ( null != childOperationGenerator )
             {
@@ -523,7 +566,18 @@ public class WorkloadStreams
                 }
             }
 
-            streamHeads[indexOfMin] = null;
+            streamHeads.consume( indexOfMin );
+
+            if ( kSoFarOffset + kSoFarRun >= nextCheckpoint )
+            {
+                long[] kForStream = new long[streams.size()];
+                for ( int i = 0; i < streams.size(); i++ )
+                {
+                    kForStream[i] = kForStreamOffset[i] + kForStreamRun[i];
+                }
+                streamsIndex.addCheckpoint( kSoFarOffset + kSoFarRun, kForStream );
+                nextCheckpoint = ((kSoFarOffset + kSoFarRun) / checkpointInterval + 1) * checkpointInterval;
+            }
 
             if ( kSoFarRun % 1000000 == 0 )
             {
@@ -669,4 +723,86 @@ public class WorkloadStreams
             return childOperationGenerator;
         }
     }
+
+    /**
+     * Heads of streams being merged, in a min heap keyed on time stamp, so finding the stream with the earliest head
+     * costs O(log k) rather than a linear scan over all k stream heads. Of equal time stamps, the stream with the
+     * lowest index is first.
+     * <p>
+     * As with a linear scan, the next head of a stream is retrieved only when the head of any stream is next needed,
+     * after the previous head of that stream has been consumed.
+     */
+    private static class MergingStreamHeads
+    {
+        private final List<Iterator<Operation>> streams;
+        private final Operation[] heads;
+        private final LongKeyedMinHeap streamsByHeadTimeStamp;
+        private boolean headsRetrieved = false;
+        private int consumedStream = -1;
+
+        private MergingStreamHeads( List<Iterator<Operation>> streams )
+        {
+            this.streams = streams;
+            this.heads = new Operation[streams.size()];
+            this.streamsByHeadTimeStamp = new LongKeyedMinHeap( streams.size() );
+        }
+
+        /**
+         * @return index of stream with earliest head, -1 if all streams are empty
+         */
+        private int indexOfMin() throws WorkloadException
+        {
+            if ( false == headsRetrieved )
+            {
+                for ( int i = 0; i < streams.size(); i++ )
+                {
+                    if ( streams.get( i ).hasNext() )
+                    {
+                        streamsByHeadTimeStamp.add( i, retrieveHead( i ) );
+                    }
+                }
+                headsRetrieved = true;
+            }
+            else if ( -1 != consumedStream )
+            {
+                // consumed stream is still at the top of the heap
+                if ( streams.get( consumedStream ).hasNext() )
+                {
+                    streamsByHeadTimeStamp.replaceTopKey( retrieveHead( consumedStream ) );
+                }
+                else
+                {
+                    streamsByHeadTimeStamp.removeTop();
+                }
+                consumedStream = -1;
+            }
+            return (streamsByHeadTimeStamp.isEmpty()) ? -1 : streamsByHeadTimeStamp.peekValue();
+        }
+
+        private Operation head( int stream )
+        {
+            return heads[stream];
+        }
+
+        private void consume( int stream )
+        {
+            heads[stream] = null;
+            consumedStream = stream;
+        }
+
+        private long retrieveHead( int stream ) throws WorkloadException
+        {
+            Operation head = streams.get( stream ).next();
+            if ( -1 == head.timeStamp() )
+            {
+                throw new WorkloadException( format( "Operation must have time stamp\n%s", head ) );
+            }
+            if ( -1 == head.dependencyTimeStamp() )
+            {
+                throw new WorkloadException( format( "Operation must have dependency time stamp\n%s", head ) );
+            }
+            heads[stream] = head;
+            return head.timeStamp();
+        }
+    }
 }
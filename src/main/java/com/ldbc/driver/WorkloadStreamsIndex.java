@@ -0,0 +1,356 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * Persistent index of workload stream positions, stored next to the files the workload streams are read from.
+ * <p>
+ * Calculating how many operations to take from each stream, for a given offset (skip + warmup) and limit (operation
+ * count), requires merging all streams from their beginning. The index records the result of each such calculation,
+ * and checkpoints of per stream operation counts taken every checkpointInterval merged operations, so later runs
+ * either reuse a previous result directly or resume merging from the nearest checkpoint before their offset.
+ * <p>
+ * The index is only used while the input files have the same length & modification time as when it was written,
+ * and while workload parameters are unchanged.
+ */
+public class WorkloadStreamsIndex
+{
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 100000;
+    // seeds the random state used while scanning streams, which is then independent of the random state of the run
+    static final long SCAN_RANDOM_SEED = 42;
+    private static final String INDEX_FILENAME_PREFIX = ".ldbc_driver_stream_index-";
+    private static final String INDEX_FILENAME_SUFFIX = ".json";
+
+    private final File indexFile;
+    private final IndexContents contents;
+    private final LoggingService loggingService;
+
+    /**
+     * @return index of the workload streams, or null if workload does not declare the files its streams are read from
+     */
+    public static WorkloadStreamsIndex load(
+            Workload workload,
+            DriverConfiguration configuration,
+            LoggingServiceFactory loggingServiceFactory )
+    {
+        return load(
+                workload.streamInputFiles(),
+                keyFor( configuration ),
+                DEFAULT_CHECKPOINT_INTERVAL,
+                loggingServiceFactory
+        );
+    }
+
+    public static WorkloadStreamsIndex load(
+            List<File> inputFiles,
+            Map<String,String> key,
+            long checkpointInterval,
+            LoggingServiceFactory loggingServiceFactory )
+    {
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadStreamsIndex.class.getSimpleName() );
+        if ( inputFiles.isEmpty() )
+        {
+            loggingService.info( "Workload does not declare stream input files, stream index will not be used" );
+            return null;
+        }
+        List<InputFile> currentInputFiles = new ArrayList<>();
+        for ( File inputFile : inputFiles )
+        {
+            currentInputFiles.add( new InputFile( inputFile ) );
+        }
+        Map<String,String> sortedKey = new TreeMap<>( key );
+        String keyHash = Hashing.md5().hashString( sortedKey.toString(), Charsets.UTF_8 ).toString();
+        File indexFile = new File(
+                inputFiles.get( 0 ).getAbsoluteFile().getParentFile(),
+                INDEX_FILENAME_PREFIX + keyHash + INDEX_FILENAME_SUFFIX
+        );
+
+        IndexContents contents = null;
+        if ( indexFile.exists() )
+        {
+            try
+            {
+                contents = new ObjectMapper().readValue( indexFile, IndexContents.class );
+            }
+            catch ( IOException e )
+            {
+                loggingService.info( format( "Ignoring unreadable stream index: %s\n%s",
+                        indexFile.getAbsolutePath(), e.getMessage() ) );
+            }
+            if ( null != contents && (false == sortedKey.equals( contents.key ) ||
+                                      false == currentInputFiles.equals( contents.inputFiles ) ||
+                                      checkpointInterval != contents.checkpointInterval) )
+            {
+                loggingService.info( format( "Ignoring stale stream index, workload inputs have changed: %s",
+                        indexFile.getAbsolutePath() ) );
+                contents = null;
+            }
+        }
+        if ( null == contents )
+        {
+            contents = new IndexContents();
+            contents.key = sortedKey;
+            contents.inputFiles = currentInputFiles;
+            contents.checkpointInterval = checkpointInterval;
+            contents.checkpoints = new ArrayList<>();
+            contents.streamPositions = new TreeMap<>();
+        }
+        return new WorkloadStreamsIndex( indexFile, contents, loggingService );
+    }
+
+    /**
+     * Stream contents are determined by workload, workload parameters, and time compression ratio
+     */
+    static Map<String,String> keyFor( DriverConfiguration configuration )
+    {
+        Map<String,String> key = MapUtils.copyExcludingKeys(
+                configuration.asMap(),
+                ConsoleAndFileDriverConfiguration.coreConfigurationParameterKeys()
+        );
+        key.put( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG, configuration.workloadClassName() );
+        key.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                Double.toString( configuration.timeCompressionRatio() ) );
+        return key;
+    }
+
+    private WorkloadStreamsIndex( File indexFile, IndexContents contents, LoggingService loggingService )
+    {
+        this.indexFile = indexFile;
+        this.contents = contents;
+        this.loggingService = loggingService;
+    }
+
+    public File indexFile()
+    {
+        return indexFile;
+    }
+
+    public long checkpointInterval()
+    {
+        return contents.checkpointInterval;
+    }
+
+    /**
+     * @return (start_per_stream, limit_per_stream, minimum_timestamp) previously recorded for offset and limit, or
+     * null if none was recorded
+     */
+    public Tuple3<long[],long[],Long> streamPositions( long offset, long limit )
+    {
+        StreamPositions positions = contents.streamPositions.get( streamPositionsKey( offset, limit ) );
+        return (null == positions)
+               ? null
+               : Tuple.tuple3( positions.startPerStream.clone(), positions.limitPerStream.clone(),
+                       positions.minimumTimeStamp );
+    }
+
+    public void addStreamPositions( long offset, long limit, Tuple3<long[],long[],Long> positions )
+    {
+        StreamPositions streamPositions = new StreamPositions();
+        streamPositions.startPerStream = positions._1().clone();
+        streamPositions.limitPerStream = positions._2().clone();
+        streamPositions.minimumTimeStamp = positions._3();
+        contents.streamPositions.put( streamPositionsKey( offset, limit ), streamPositions );
+    }
+
+    /**
+     * @return checkpoint with the highest operation count not greater than operationCount, or null if there is none
+     */
+    public Checkpoint checkpointAtOrBefore( long operationCount, int streamCount )
+    {
+        Checkpoint best = null;
+        for ( Checkpoint checkpoint : contents.checkpoints )
+        {
+            if ( checkpoint.streamOperationCounts.length == streamCount &&
+                 checkpoint.operationCount <= operationCount &&
+                 (null == best || checkpoint.operationCount > best.operationCount) )
+            {
+                best = checkpoint;
+            }
+        }
+        return best;
+    }
+
+    public void addCheckpoint( long operationCount, long[] streamOperationCounts )
+    {
+        for ( Checkpoint checkpoint : contents.checkpoints )
+        {
+            if ( checkpoint.operationCount == operationCount )
+            {
+                return;
+            }
+        }
+        contents.checkpoints.add( new Checkpoint( operationCount, streamOperationCounts.clone() ) );
+    }
+
+    /**
+     * Writes index to a temporary file first, so a concurrently starting driver never reads a partial index.
+     * Failure to write the index, e.g., because input directory is read only, is logged and otherwise ignored.
+     */
+    public void save()
+    {
+        File tempFile = null;
+        try
+        {
+            tempFile = File.createTempFile( INDEX_FILENAME_PREFIX, ".tmp", indexFile.getParentFile() );
+            new ObjectMapper().writeValue( tempFile, contents );
+            Files.move( tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( IOException e )
+        {
+            loggingService.info( format( "Could not write stream index: %s\n%s",
+                    indexFile.getAbsolutePath(), e.getMessage() ) );
+            if ( null != tempFile )
+            {
+                tempFile.delete();
+            }
+        }
+    }
+
+    private static String streamPositionsKey( long offset, long limit )
+    {
+        return offset + ":" + limit;
+    }
+
+    public static class Checkpoint
+    {
+        @JsonProperty( value = "operation_count" )
+        private long operationCount;
+
+        @JsonProperty( value = "stream_operation_counts" )
+        private long[] streamOperationCounts;
+
+        private Checkpoint()
+        {
+        }
+
+        public Checkpoint( long operationCount, long[] streamOperationCounts )
+        {
+            this.operationCount = operationCount;
+            this.streamOperationCounts = streamOperationCounts;
+        }
+
+        /**
+         * @return count of operations, including child operations, merged from all streams up to this checkpoint
+         */
+        public long operationCount()
+        {
+            return operationCount;
+        }
+
+        /**
+         * @return count of operations taken from each stream up to this checkpoint
+         */
+        public long[] streamOperationCounts()
+        {
+            return streamOperationCounts;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Checkpoint{" +
+                   "operationCount=" + operationCount +
+                   ", streamOperationCounts=" + Arrays.toString( streamOperationCounts ) +
+                   '}';
+        }
+    }
+
+    private static class InputFile
+    {
+        @JsonProperty( value = "path" )
+        private String path;
+
+        @JsonProperty( value = "length" )
+        private long length;
+
+        @JsonProperty( value = "last_modified" )
+        private long lastModified;
+
+        private InputFile()
+        {
+        }
+
+        private InputFile( File file )
+        {
+            this.path = file.getAbsolutePath();
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( this == o )
+            { return true; }
+            if ( o == null || getClass() != o.getClass() )
+            { return false; }
+            InputFile inputFile = (InputFile) o;
+            return length == inputFile.length && lastModified == inputFile.lastModified &&
+                   (path != null ? path.equals( inputFile.path ) : inputFile.path == null);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = path != null ? path.hashCode() : 0;
+            result = 31 * result + (int) (length ^ (length >>> 32));
+            result = 31 * result + (int) (lastModified ^ (lastModified >>> 32));
+            return result;
+        }
+    }
+
+    private static class StreamPositions
+    {
+        @JsonProperty( value = "start_per_stream" )
+        private long[] startPerStream;
+
+        @JsonProperty( value = "limit_per_stream" )
+        private long[] limitPerStream;
+
+        @JsonProperty( value = "minimum_time_stamp" )
+        private long minimumTimeStamp;
+    }
+
+    private static class IndexContents
+    {
+        @JsonProperty( value = "key" )
+        private Map<String,String> key;
+
+        @JsonProperty( value = "input_files" )
+        private List<InputFile> inputFiles;
+
+        @JsonProperty( value = "checkpoint_interval" )
+        private long checkpointInterval;
+
+        @JsonProperty( value = "checkpoints" )
+        private List<Checkpoint> checkpoints;
+
+        // keyed by offset:limit
+        @JsonProperty( value = "stream_positions" )
+        private Map<String,StreamPositions> streamPositions;
+    }
+}
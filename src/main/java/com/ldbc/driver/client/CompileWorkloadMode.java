@@ -0,0 +1,57 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.WorkloadScheduleWriter;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+
+import java.io.File;
+
+import static java.lang.String.format;
+
+public class CompileWorkloadMode implements ClientMode<Object>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    public CompileWorkloadMode( ControlService controlService, long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        File scheduleFile = new File( controlService.configuration().workloadScheduleFilePath() );
+        loggingService.info( format( "Compiling workload schedule to: %s", scheduleFile.getAbsolutePath() ) );
+        long startTimeAsMilli = System.currentTimeMillis();
+        long operationCount;
+        try
+        {
+            operationCount = WorkloadScheduleWriter.compile(
+                    controlService.configuration(),
+                    scheduleFile,
+                    randomSeed,
+                    controlService.loggingServiceFactory()
+            );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error compiling workload schedule for workload: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        loggingService.info( format( "Compiled %s operations (%s bytes) in %s ms",
+                operationCount, scheduleFile.length(), System.currentTimeMillis() - startTimeAsMilli ) );
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ldbc.driver.client;
 
+import com.google.common.collect.Iterables;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
@@ -14,14 +15,16 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.Tuple3;
-import com.ldbc.driver.validation.ValidationParam;
-import com.ldbc.driver.validation.ValidationParamsGenerator;
+import com.ldbc.driver.validation.ParallelValidationParamsGenerator;
 import com.ldbc.driver.validation.ValidationParamsToCsvRows;
 
 import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import static java.lang.String.format;
 
@@ -34,6 +37,8 @@ public class CreateValidationParamsMode implements ClientMode<Object>
     private Workload workload = null;
     private Db database = null;
     private Iterator<Operation> timeMappedOperations = null;
+    // e.g., writes, executed in order with respect to all other operations
+    private Set<Class<? extends Operation>> orderedOperationTypes = null;
 
     public CreateValidationParamsMode( ControlService controlService, long randomSeed ) throws ClientException
     {
@@ -91,6 +96,14 @@ public class CreateValidationParamsMode implements ClientMode<Object>
                     );
             workload = streamsAndWorkload._2();
             WorkloadStreams workloadStreams = streamsAndWorkload._1();
+            orderedOperationTypes = new HashSet<>();
+            for ( WorkloadStreams.WorkloadStreamDefinition streamDefinition : Iterables.concat(
+                    Collections.singletonList( workloadStreams.asynchronousStream() ),
+                    workloadStreams.blockingStreamDefinitions() ) )
+            {
+                orderedOperationTypes.addAll( streamDefinition.dependencyOperationTypes() );
+                orderedOperationTypes.addAll( streamDefinition.dependentOperationTypes() );
+            }
             timeMappedOperations =
                     WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators( gf, workloadStreams );
         }
@@ -120,10 +133,12 @@ public class CreateValidationParamsMode implements ClientMode<Object>
             loggingService.info(
                     format( "Generating database validation file: %s", validationFileToGenerate.getAbsolutePath() ) );
 
-            Iterator<ValidationParam> validationParamsGenerator = new ValidationParamsGenerator(
+            ParallelValidationParamsGenerator validationParamsGenerator = new ParallelValidationParamsGenerator(
                     db,
                     w.dbValidationParametersFilter( validationSetSize ),
-                    timeMappedOperations );
+                    timeMappedOperations,
+                    orderedOperationTypes,
+                    controlService.configuration().threadCount() );
 
             Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
                     validationParamsGenerator,
@@ -157,9 +172,12 @@ public class CreateValidationParamsMode implements ClientMode<Object>
             {
                 throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
             }
+            finally
+            {
+                validationParamsGenerator.close();
+            }
 
-            int validationParametersGenerated =
-                    ((ValidationParamsGenerator) validationParamsGenerator).entriesWrittenSoFar();
+            int validationParametersGenerated = validationParamsGenerator.entriesWrittenSoFar();
 
             loggingService.info( format( "Successfully generated %s database validation parameters",
                     validationParametersGenerated ) );
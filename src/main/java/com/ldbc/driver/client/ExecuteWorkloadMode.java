@@ -6,6 +6,8 @@ import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadScheduleReader;
+import com.ldbc.driver.WorkloadScheduleWriter;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.LoggingService;
@@ -18,24 +20,28 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
-import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
-import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.ClassLoaderHelper;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.ResultsLogValidationResult;
 import com.ldbc.driver.validation.ResultsLogValidationSummary;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 import com.ldbc.driver.validation.ResultsLogValidator;
+import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -57,10 +63,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
 
     private Workload workload = null;
     private Db database = null;
-    private MetricsService metricsService = null;
+    private DisruptorSbeMetricsService metricsService = null;
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private ScheduleLagRecorder scheduleLagRecorder = null;
+    private ChildOperationChainRecorder childOperationChainRecorder = null;
+    private final String workloadScheduleKey;
+    private WorkloadScheduleReader workloadScheduleReader = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -73,6 +83,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         this.randomSeed = randomSeed;
         this.temporalUtil = new TemporalUtil();
         this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+        // taken before workload & database initialization, which may add parameters to configuration
+        this.workloadScheduleKey = WorkloadScheduleWriter.keyFor( controlService.configuration() );
     }
 
     /*
@@ -148,15 +160,17 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
         try
         {
             resultsLogWriter = (null == resultsLog)
                                ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
+                               : controlService.configuration().resultsLogFormat().newWriter(
+                                       resultsLog,
+                                       controlService.configuration().timeUnit() );
         }
         catch ( IOException e )
         {
@@ -167,8 +181,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         //  ==================
         //  ===  Workload  ===
         //  ==================
-        loggingService.info( "Scanning workload streams to calculate their limits..." );
-
         long offset = (warmup)
                       ? controlService.configuration().skipCount()
                       : controlService.configuration().skipCount() + controlService.configuration().warmupCount();
@@ -176,47 +188,12 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                      ? controlService.configuration().warmupCount()
                      : controlService.configuration().operationCount();
 
-        WorkloadStreams workloadStreams;
-        long minimumTimeStamp;
-        try
-        {
-            boolean returnStreamsWithDbConnector = true;
-            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
-                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
-                            controlService.configuration(),
-                            gf,
-                            returnStreamsWithDbConnector,
-                            offset,
-                            limit,
-                            controlService.loggingServiceFactory()
-                    );
-            workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
-            workload = streamsAndWorkloadAndMinimumTimeStamp._2();
-            minimumTimeStamp = streamsAndWorkloadAndMinimumTimeStamp._3();
-        }
-        catch ( Exception e )
-        {
-            throw new ClientException( format( "Error loading workload class: %s",
-                    controlService.configuration().workloadClassName() ), e );
-        }
-        loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
-
-        loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
-        controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
-        WorkloadStreams timeMappedWorkloadStreams;
-        try
-        {
-            timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
-                    workloadStreams,
-                    controlService.workloadStartTimeAsMilli(),
-                    controlService.configuration().timeCompressionRatio(),
-                    gf
-            );
-        }
-        catch ( WorkloadException e )
-        {
-            throw new ClientException( "Error while retrieving operation stream for workload", e );
-        }
+        Tuple2<WorkloadStreams,Long> timeMappedWorkloadStreamsAndMinimumTimeStamp =
+                (null == controlService.configuration().workloadScheduleFilePath())
+                ? generateWorkloadStreams( gf, offset, limit )
+                : replayWorkloadStreams( warmup, offset, limit );
+        WorkloadStreams timeMappedWorkloadStreams = timeMappedWorkloadStreamsAndMinimumTimeStamp._1();
+        long minimumTimeStamp = timeMappedWorkloadStreamsAndMinimumTimeStamp._2();
 
         //  ================
         //  =====  DB  =====
@@ -253,7 +230,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                     resultsLogWriter,
                     workload.operationTypeToClassMapping(),
-                    controlService.loggingServiceFactory()
+                    controlService.loggingServiceFactory(),
+                    controlService.configuration().metricsRingBufferSize(),
+                    controlService.configuration().metricsWaitStrategy(),
+                    controlService.configuration().metricsRecordingMode()
             );
         }
         catch ( MetricsCollectionException e )
@@ -268,9 +248,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+                    completionTimeServiceAssistant.newCompletionTimeService(
+                            controlService.configuration().completionTimeServiceType(),
                             timeSource,
-                            errorReporter
+                            errorReporter,
+                            controlService.configuration().completionTimeTrackerType()
                     );
         }
         catch ( CompletionTimeException e )
@@ -285,6 +267,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+            scheduleLagRecorder = new ScheduleLagRecorder( controlService.configuration().threadCount() );
+            childOperationChainRecorder = new ChildOperationChainRecorder();
             workloadRunner = new WorkloadRunner(
                     timeSource,
                     database,
@@ -294,8 +278,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     completionTimeService,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().childOperationMode(),
+                    controlService.configuration().blockingStreamThreadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    scheduleLagRecorder,
+                    childOperationChainRecorder,
                     controlService.configuration().ignoreScheduledStartTimes(),
                     operationHandlerExecutorsBoundedQueueSize );
         }
@@ -363,6 +353,98 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
     }
 
+    // returns (time_mapped_workload_streams, minimum_timestamp)
+    private Tuple2<WorkloadStreams,Long> generateWorkloadStreams( GeneratorFactory gf, long offset, long limit )
+            throws ClientException
+    {
+        loggingService.info( "Scanning workload streams to calculate their limits..." );
+
+        WorkloadStreams workloadStreams;
+        long minimumTimeStamp;
+        try
+        {
+            boolean returnStreamsWithDbConnector = true;
+            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
+                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                            controlService.configuration(),
+                            gf,
+                            returnStreamsWithDbConnector,
+                            offset,
+                            limit,
+                            controlService.loggingServiceFactory()
+                    );
+            workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
+            workload = streamsAndWorkloadAndMinimumTimeStamp._2();
+            minimumTimeStamp = streamsAndWorkloadAndMinimumTimeStamp._3();
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
+
+        loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
+        controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
+        WorkloadStreams timeMappedWorkloadStreams;
+        try
+        {
+            timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                    workloadStreams,
+                    controlService.workloadStartTimeAsMilli(),
+                    controlService.configuration().timeCompressionRatio(),
+                    gf
+            );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException( "Error while retrieving operation stream for workload", e );
+        }
+        return Tuple.tuple2( timeMappedWorkloadStreams, minimumTimeStamp );
+    }
+
+    // returns (time_mapped_workload_streams, minimum_timestamp)
+    private Tuple2<WorkloadStreams,Long> replayWorkloadStreams(
+            boolean warmup,
+            long offset,
+            long limit ) throws ClientException
+    {
+        File scheduleFile = new File( controlService.configuration().workloadScheduleFilePath() );
+        try
+        {
+            workload = new ClassNameWorkloadFactory( controlService.configuration().workloadClassName() )
+                    .createWorkload();
+            workload.init( controlService.configuration() );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException( format( "Error loading workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
+
+        loggingService.info( format( "Replaying workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+        controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
+        try
+        {
+            workloadScheduleReader = new WorkloadScheduleReader( scheduleFile, workloadScheduleKey );
+            boolean hasDbConnected = true;
+            return workloadScheduleReader.workloadStreams(
+                    warmup,
+                    offset,
+                    limit,
+                    workload,
+                    hasDbConnected,
+                    controlService.workloadStartTimeAsMilli()
+            );
+        }
+        catch ( IOException | WorkloadException e )
+        {
+            throw new ClientException(
+                    format( "Error replaying workload schedule: %s", scheduleFile.getAbsolutePath() ), e );
+        }
+    }
+
     private void doExecute( boolean warmup ) throws ClientException
     {
         try
@@ -370,6 +452,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
             loggingService.info( "Shutting down workload..." );
             workload.close();
+            if ( null != workloadScheduleReader )
+            {
+                workloadScheduleReader.close();
+                workloadScheduleReader = null;
+            }
             if ( errorReporter.errorEncountered() )
             {
                 throw new ClientException( "Error running workload\n" + errorReporter.toString() );
@@ -396,6 +483,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             workloadResults = metricsService.getWriter().results();
             metricsService.shutdown();
+            loggingService.info( format( "Metrics ring buffer was full for %s operation results",
+                    metricsService.ringBufferFullStallCount() ) );
         }
         catch ( MetricsCollectionException e )
         {
@@ -429,8 +518,28 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
+                if ( ChildOperationMode.ASYNCHRONOUS == controlService.configuration().childOperationMode() )
+                {
+                    File childOperationChainsFile = resultsDirectory.getOrCreateChildOperationChainsFile( warmup );
+                    loggingService.info(
+                            format( "Exporting child operation chains to: %s",
+                                    childOperationChainsFile.getAbsolutePath() )
+                    );
+                    Files.write(
+                            childOperationChainsFile.toPath(),
+                            childOperationChainRecorder.toJson().getBytes( StandardCharsets.UTF_8 )
+                    );
+                }
                 if ( !controlService.configuration().ignoreScheduledStartTimes() )
                 {
+                    File scheduleLagFile = resultsDirectory.getOrCreateScheduleLagFile( warmup );
+                    loggingService.info(
+                            format( "Exporting schedule lag to: %s", scheduleLagFile.getAbsolutePath() )
+                    );
+                    Files.write(
+                            scheduleLagFile.toPath(),
+                            scheduleLagRecorder.toJson().getBytes( StandardCharsets.UTF_8 )
+                    );
                     loggingService.info( "Validating workload results..." );
                     // TODO make this feature accessible directly
                     ResultsLogValidator resultsLogValidator = new ResultsLogValidator();
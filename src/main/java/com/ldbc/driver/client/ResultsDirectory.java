@@ -7,6 +7,9 @@ import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.util.MapUtils;
 import org.apache.commons.io.FileUtils;
 
@@ -26,10 +29,13 @@ public class ResultsDirectory
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
     public static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    public static final String BINARY_RESULTS_LOG_FILENAME_SUFFIX = "-results_log.bin";
     public static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     public static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     public static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
+    public static final String RESULTS_SCHEDULE_LAG_FILENAME_SUFFIX = "-schedule_lag.json";
+    public static final String RESULTS_CHILD_OPERATION_CHAINS_FILENAME_SUFFIX = "-child_operation_chains.json";
 
     private final DriverConfiguration configuration;
     private final File resultsDir;
@@ -127,6 +133,10 @@ public class ResultsDirectory
 
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
+        if ( configuration.resultsLogFormat().isBinary() )
+        {
+            return getBinaryResultsLogFileLength( warmup );
+        }
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
                 getResultsLogFile( warmup ),
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING
@@ -236,6 +246,69 @@ public class ResultsDirectory
         }
     }
 
+    public File getOrCreateScheduleLagFile( boolean warmup ) throws ClientException
+    {
+        File scheduleLagFile = getScheduleLagFile( warmup );
+        if ( !scheduleLagFile.exists() )
+        {
+            try
+            {
+                com.ldbc.driver.util.FileUtils.createOrFail( scheduleLagFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating schedule lag file: %s", scheduleLagFile.getAbsolutePath() ), e
+                );
+            }
+        }
+        return scheduleLagFile;
+    }
+
+    public File getScheduleLagFile( boolean warmup ) throws ClientException
+    {
+        if ( null == resultsDir )
+        {
+            throw new ClientException( "Results directory is null" );
+        }
+        else
+        {
+            return new File( resultsDir, scheduleLagFilename( warmup ) );
+        }
+    }
+
+    public File getOrCreateChildOperationChainsFile( boolean warmup ) throws ClientException
+    {
+        File childOperationChainsFile = getChildOperationChainsFile( warmup );
+        if ( !childOperationChainsFile.exists() )
+        {
+            try
+            {
+                com.ldbc.driver.util.FileUtils.createOrFail( childOperationChainsFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating child operation chains file: %s",
+                                childOperationChainsFile.getAbsolutePath() ), e
+                );
+            }
+        }
+        return childOperationChainsFile;
+    }
+
+    public File getChildOperationChainsFile( boolean warmup ) throws ClientException
+    {
+        if ( null == resultsDir )
+        {
+            throw new ClientException( "Results directory is null" );
+        }
+        else
+        {
+            return new File( resultsDir, childOperationChainsFilename( warmup ) );
+        }
+    }
+
     public Set<File> files() throws ClientException
     {
         if ( null == resultsDir )
@@ -262,6 +335,11 @@ public class ResultsDirectory
                 if ( !configuration.ignoreScheduledStartTimes() )
                 {
                     expectedFiles.add( getResultsValidationFile( true ) );
+                    expectedFiles.add( getScheduleLagFile( true ) );
+                }
+                if ( ChildOperationMode.ASYNCHRONOUS == configuration.childOperationMode() )
+                {
+                    expectedFiles.add( getChildOperationChainsFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
@@ -270,6 +348,11 @@ public class ResultsDirectory
             if ( !configuration.ignoreScheduledStartTimes() )
             {
                 expectedFiles.add( getResultsValidationFile( false ) );
+                expectedFiles.add( getScheduleLagFile( false ) );
+            }
+            if ( ChildOperationMode.ASYNCHRONOUS == configuration.childOperationMode() )
+            {
+                expectedFiles.add( getChildOperationChainsFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
@@ -284,11 +367,44 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_VALIDATION_FILENAME_SUFFIX;
     }
 
+    private String scheduleLagFilename( boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_SCHEDULE_LAG_FILENAME_SUFFIX
+                        : configuration.name() + RESULTS_SCHEDULE_LAG_FILENAME_SUFFIX;
+    }
+
+    private long getBinaryResultsLogFileLength( boolean warmup ) throws ClientException
+    {
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( getResultsLogFile( warmup ) ) )
+        {
+            long length = 0;
+            while ( reader.next() )
+            {
+                length++;
+            }
+            return length;
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException(
+                    format( "Error calculating length of %s", getResultsLogFile( warmup ).getAbsolutePath() ), e
+            );
+        }
+    }
+
+    private String childOperationChainsFilename( boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_CHILD_OPERATION_CHAINS_FILENAME_SUFFIX
+                        : configuration.name() + RESULTS_CHILD_OPERATION_CHAINS_FILENAME_SUFFIX;
+    }
+
     private String resultsLogFilename( boolean warmup )
     {
-        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER +
-                          RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = (configuration.resultsLogFormat().isBinary())
+                        ? BINARY_RESULTS_LOG_FILENAME_SUFFIX
+                        : RESULTS_LOG_FILENAME_SUFFIX;
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + suffix
+                        : configuration.name() + suffix;
     }
 
     private String resultsSummaryFilename( boolean warmup )
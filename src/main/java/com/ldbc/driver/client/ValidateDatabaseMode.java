@@ -1,7 +1,5 @@
 package com.ldbc.driver.client;
 
-import com.google.common.base.Charsets;
-import com.google.common.collect.Iterators;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
@@ -11,6 +9,7 @@ import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.util.ClassLoaderHelper;
+import com.ldbc.driver.validation.DbValidationFailuresJsonWriter;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.DbValidator;
 import com.ldbc.driver.validation.ValidationParam;
@@ -18,10 +17,7 @@ import com.ldbc.driver.validation.ValidationParamsFromCsvRows;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.util.Iterator;
 
 import static java.lang.String.format;
@@ -86,24 +82,37 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                     format( "Validating database against expected results\n * Db: %s\n * Validation Params File: %s",
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
-            int validationParamsCount;
             SimpleCsvFileReader validationParamsReader;
             try
             {
                 validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
                         SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-                validationParamsCount = Iterators.size( validationParamsReader );
-                validationParamsReader.close();
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
             }
             catch ( IOException e )
             {
                 throw new ClientException( "Error encountered trying to create CSV file reader", e );
             }
 
+            File failedValidationOperationsFile = new File( validationParamsFile.getParentFile(),
+                    removeExtension( validationParamsFile.getName() ) + "-failed-actual.json" );
+            File expectedResultsForFailedValidationOperationsFile = new File( validationParamsFile.getParentFile(),
+                    removeExtension( validationParamsFile.getName() ) + "-failed-expected.json" );
+            for ( File file : new File[]{failedValidationOperationsFile,
+                    expectedResultsForFailedValidationOperationsFile} )
+            {
+                if ( file.exists() )
+                {
+                    FileUtils.forceDelete( file );
+                }
+                file.createNewFile();
+            }
+
             DbValidationResult databaseValidationResult;
-            try
+            // failed results are written as they are found, rather than held in memory until validation completes
+            try ( DbValidationFailuresJsonWriter failuresWriter = new DbValidationFailuresJsonWriter(
+                    w,
+                    failedValidationOperationsFile,
+                    expectedResultsForFailedValidationOperationsFile ) )
             {
                 Iterator<ValidationParam> validationParams =
                         new ValidationParamsFromCsvRows( validationParamsReader, w );
@@ -111,61 +120,20 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                 databaseValidationResult = dbValidator.validate(
                         validationParams,
                         db,
-                        validationParamsCount,
-                        w
+                        DbValidator.UNKNOWN_VALIDATION_PARAMS_COUNT,
+                        w,
+                        controlService.configuration().threadCount(),
+                        failuresWriter
                 );
             }
             catch ( WorkloadException e )
             {
-                throw new ClientException( format( "Error reading validation parameters file\nFile: %s",
+                throw new ClientException( format( "Error validating database\nValidation Params File: %s",
                         validationParamsFile.getAbsolutePath() ), e );
             }
-            validationParamsReader.close();
-
-            File failedValidationOperationsFile = new File( validationParamsFile.getParentFile(),
-                    removeExtension( validationParamsFile.getName() ) + "-failed-actual.json" );
-            if ( failedValidationOperationsFile.exists() )
-            {
-                FileUtils.forceDelete( failedValidationOperationsFile );
-            }
-            failedValidationOperationsFile.createNewFile();
-            try ( Writer writer = new OutputStreamWriter( new FileOutputStream( failedValidationOperationsFile ),
-                    Charsets.UTF_8 ) )
-            {
-                writer.write( databaseValidationResult.actualResultsForFailedOperationsAsJsonString( w ) );
-                writer.flush();
-                writer.close();
-            }
-            catch ( Exception e )
+            finally
             {
-                throw new ClientException(
-                        format( "Encountered error while writing to file\nFile: %s",
-                                failedValidationOperationsFile.getAbsolutePath() ),
-                        e
-                );
-            }
-
-            File expectedResultsForFailedValidationOperationsFile = new File( validationParamsFile.getParentFile(),
-                    removeExtension( validationParamsFile.getName() ) + "-failed-expected.json" );
-            if ( expectedResultsForFailedValidationOperationsFile.exists() )
-            {
-                FileUtils.forceDelete( expectedResultsForFailedValidationOperationsFile );
-            }
-            expectedResultsForFailedValidationOperationsFile.createNewFile();
-            try ( Writer writer = new OutputStreamWriter(
-                    new FileOutputStream( expectedResultsForFailedValidationOperationsFile ), Charsets.UTF_8 ) )
-            {
-                writer.write( databaseValidationResult.expectedResultsForFailedOperationsAsJsonString( w ) );
-                writer.flush();
-                writer.close();
-            }
-            catch ( Exception e )
-            {
-                throw new ClientException(
-                        format( "Encountered error while writing to file\nFile: %s",
-                                failedValidationOperationsFile.getAbsolutePath() ),
-                        e
-                );
+                validationParamsReader.close();
             }
 
             loggingService.info( databaseValidationResult.resultMessage() );
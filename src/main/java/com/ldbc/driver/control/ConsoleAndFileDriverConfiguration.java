@@ -3,6 +3,15 @@ package com.ldbc.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsRecordingMode;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategy;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategy;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
@@ -150,6 +159,116 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String SPINNER_SLEEP_DURATION_DESCRIPTION =
             "sleep duration (ms) injected into busy wait loops (to reduce CPU consumption)";
 
+    public static final String SPINNER_WAIT_STRATEGY_ARG = "sws";
+    private static final String SPINNER_WAIT_STRATEGY_ARG_LONG = "spinner_wait_strategy";
+    public static final SpinnerWaitStrategy SPINNER_WAIT_STRATEGY_DEFAULT = SpinnerWaitStrategy.SLEEP;
+    public static final String SPINNER_WAIT_STRATEGY_DEFAULT_STRING = SPINNER_WAIT_STRATEGY_DEFAULT.name();
+    private static final String SPINNER_WAIT_STRATEGY_DESCRIPTION = format(
+            "strategy used to wait for operation scheduled start times. default:%s, valid:%s",
+            SPINNER_WAIT_STRATEGY_DEFAULT_STRING, Arrays.toString( SpinnerWaitStrategy.values() ) );
+
+    public static final String OPERATION_EXECUTOR_ARG = "ex";
+    private static final String OPERATION_EXECUTOR_ARG_LONG = "executor";
+    public static final OperationExecutorType OPERATION_EXECUTOR_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String OPERATION_EXECUTOR_DEFAULT_STRING = OPERATION_EXECUTOR_DEFAULT.name();
+    private static final String OPERATION_EXECUTOR_DESCRIPTION = format(
+            "executor used to run operations of asynchronous streams. default:%s, valid:%s",
+            OPERATION_EXECUTOR_DEFAULT_STRING, Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String CHILD_OPERATION_MODE_ARG = "com";
+    private static final String CHILD_OPERATION_MODE_ARG_LONG = "child_operation_mode";
+    public static final ChildOperationMode CHILD_OPERATION_MODE_DEFAULT = ChildOperationMode.INLINE;
+    public static final String CHILD_OPERATION_MODE_DEFAULT_STRING = CHILD_OPERATION_MODE_DEFAULT.name();
+    private static final String CHILD_OPERATION_MODE_DESCRIPTION = format(
+            "how child operations (e.g., short read chains) are executed. default:%s, valid:%s",
+            CHILD_OPERATION_MODE_DEFAULT_STRING, Arrays.toString( ChildOperationMode.values() ) );
+
+    public static final String BLOCKING_STREAM_THREADS_ARG = "bst";
+    private static final String BLOCKING_STREAM_THREADS_ARG_LONG = "blocking_stream_threads";
+    public static final int BLOCKING_STREAM_THREADS_DEFAULT = 0;
+    public static final String BLOCKING_STREAM_THREADS_DEFAULT_STRING =
+            Integer.toString( BLOCKING_STREAM_THREADS_DEFAULT );
+    private static final String BLOCKING_STREAM_THREADS_DESCRIPTION = format(
+            "number of threads shared by all blocking streams, 0 for one thread per stream. default:%s",
+            BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+
+    public static final String COMPLETION_TIME_TRACKER_ARG = "ctt";
+    private static final String COMPLETION_TIME_TRACKER_ARG_LONG = "completion_time_tracker";
+    public static final CompletionTimeTrackerType COMPLETION_TIME_TRACKER_DEFAULT =
+            CompletionTimeTrackerType.TREE_MULTISET;
+    public static final String COMPLETION_TIME_TRACKER_DEFAULT_STRING = COMPLETION_TIME_TRACKER_DEFAULT.name();
+    private static final String COMPLETION_TIME_TRACKER_DESCRIPTION = format(
+            "data structures used to track initiated & completed times. default:%s, valid:%s",
+            COMPLETION_TIME_TRACKER_DEFAULT_STRING, Arrays.toString( CompletionTimeTrackerType.values() ) );
+
+    public static final String COMPLETION_TIME_SERVICE_ARG = "cts";
+    private static final String COMPLETION_TIME_SERVICE_ARG_LONG = "completion_time_service";
+    public static final CompletionTimeServiceType COMPLETION_TIME_SERVICE_DEFAULT =
+            CompletionTimeServiceType.THREADED_QUEUED;
+    public static final String COMPLETION_TIME_SERVICE_DEFAULT_STRING = COMPLETION_TIME_SERVICE_DEFAULT.name();
+    private static final String COMPLETION_TIME_SERVICE_DESCRIPTION = format(
+            "service that computes global completion time from all writers. default:%s, valid:%s",
+            COMPLETION_TIME_SERVICE_DEFAULT_STRING, Arrays.toString( CompletionTimeServiceType.values() ) );
+
+    public static final String METRICS_RING_BUFFER_SIZE_ARG = "mrbs";
+    private static final String METRICS_RING_BUFFER_SIZE_ARG_LONG = "metrics_ring_buffer_size";
+    public static final int METRICS_RING_BUFFER_SIZE_DEFAULT = DisruptorSbeMetricsService.DEFAULT_RING_BUFFER_SIZE;
+    public static final String METRICS_RING_BUFFER_SIZE_DEFAULT_STRING =
+            Integer.toString( METRICS_RING_BUFFER_SIZE_DEFAULT );
+    private static final String METRICS_RING_BUFFER_SIZE_DESCRIPTION = format(
+            "number of slots in the ring buffer operation results are published to, must be power of 2. default:%s",
+            METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    private static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final MetricsWaitStrategy METRICS_WAIT_STRATEGY_DEFAULT =
+            DisruptorSbeMetricsService.DEFAULT_WAIT_STRATEGY;
+    public static final String METRICS_WAIT_STRATEGY_DEFAULT_STRING = METRICS_WAIT_STRATEGY_DEFAULT.name();
+    private static final String METRICS_WAIT_STRATEGY_DESCRIPTION = format(
+            "strategy metrics collection uses to wait for operation results. default:%s, valid:%s",
+            METRICS_WAIT_STRATEGY_DEFAULT_STRING, Arrays.toString( MetricsWaitStrategy.values() ) );
+
+    public static final String METRICS_RECORDING_MODE_ARG = "mrm";
+    private static final String METRICS_RECORDING_MODE_ARG_LONG = "metrics_recording_mode";
+    public static final MetricsRecordingMode METRICS_RECORDING_MODE_DEFAULT =
+            DisruptorSbeMetricsService.DEFAULT_RECORDING_MODE;
+    public static final String METRICS_RECORDING_MODE_DEFAULT_STRING = METRICS_RECORDING_MODE_DEFAULT.name();
+    private static final String METRICS_RECORDING_MODE_DESCRIPTION = format(
+            "which threads record operation results into histograms. default:%s, valid:%s",
+            METRICS_RECORDING_MODE_DEFAULT_STRING, Arrays.toString( MetricsRecordingMode.values() ) );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final ResultsLogFormat RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.CSV;
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT.name();
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION = format(
+            "format of the results log, binary formats are smaller & cheaper to write. default:%s, valid:%s",
+            RESULTS_LOG_FORMAT_DEFAULT_STRING, Arrays.toString( ResultsLogFormat.values() ) );
+
+    public static final String STREAM_INDEX_ARG = "si";
+    private static final String STREAM_INDEX_ARG_LONG = "stream_index";
+    public static final boolean STREAM_INDEX_DEFAULT = false;
+    public static final String STREAM_INDEX_DEFAULT_STRING = Boolean.toString( STREAM_INDEX_DEFAULT );
+    private static final String STREAM_INDEX_DESCRIPTION =
+            "persist an index of workload stream positions next to the workload input files, so later runs with " +
+            "skip/warmup/operation counts start without scanning the streams from their beginning";
+
+    public static final String COMPILE_WORKLOAD_ARG = "cw";
+    private static final String COMPILE_WORKLOAD_ARG_LONG = "compile_workload";
+    public static final boolean COMPILE_WORKLOAD_DEFAULT = false;
+    public static final String COMPILE_WORKLOAD_DEFAULT_STRING = Boolean.toString( COMPILE_WORKLOAD_DEFAULT );
+    private static final String COMPILE_WORKLOAD_DESCRIPTION =
+            "write the scheduled operations of warmup & run phases to the workload schedule file, instead of " +
+            "executing them";
+
+    public static final String WORKLOAD_SCHEDULE_ARG = "ws";
+    private static final String WORKLOAD_SCHEDULE_ARG_LONG = "workload_schedule";
+    public static final String WORKLOAD_SCHEDULE_DEFAULT = null;
+    public static final String WORKLOAD_SCHEDULE_DEFAULT_STRING = WORKLOAD_SCHEDULE_DEFAULT;
+    private static final String WORKLOAD_SCHEDULE_DESCRIPTION =
+            "binary workload schedule file, written when compiling workload, otherwise operations are replayed " +
+            "from it rather than generated from workload";
+
     public static final String SKIP_COUNT_ARG = "sk";
     private static final String SKIP_COUNT_ARG_LONG = "skip";
     public static final long SKIP_COUNT_DEFAULT = 0;
@@ -205,6 +324,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( TIME_UNIT_ARG, TIME_UNIT_DEFAULT_STRING );
         defaultParamsMap.put( TIME_COMPRESSION_RATIO_ARG, TIME_COMPRESSION_RATIO_DEFAULT_STRING );
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        defaultParamsMap.put( SPINNER_WAIT_STRATEGY_ARG, SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( OPERATION_EXECUTOR_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+        defaultParamsMap.put( CHILD_OPERATION_MODE_ARG, CHILD_OPERATION_MODE_DEFAULT_STRING );
+        defaultParamsMap.put( BLOCKING_STREAM_THREADS_ARG, BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_TRACKER_ARG, COMPLETION_TIME_TRACKER_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_ARG, COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RING_BUFFER_SIZE_ARG, METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_WAIT_STRATEGY_ARG, METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RECORDING_MODE_ARG, METRICS_RECORDING_MODE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        defaultParamsMap.put( STREAM_INDEX_ARG, STREAM_INDEX_DEFAULT_STRING );
+        defaultParamsMap.put( COMPILE_WORKLOAD_ARG, COMPILE_WORKLOAD_DEFAULT_STRING );
+        if ( null != WORKLOAD_SCHEDULE_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( WORKLOAD_SCHEDULE_ARG, WORKLOAD_SCHEDULE_DEFAULT_STRING );
+        }
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
         return defaultParamsMap;
@@ -275,6 +410,27 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean calculateWorkloadStatistics =
                     Boolean.parseBoolean( paramsMap.get( CALCULATE_WORKLOAD_STATISTICS_ARG ) );
             long spinnerSleepDurationAsMilli = Long.parseLong( paramsMap.get( SPINNER_SLEEP_DURATION_ARG ) );
+            SpinnerWaitStrategy spinnerWaitStrategy =
+                    parseEnum( SpinnerWaitStrategy.class, paramsMap.get( SPINNER_WAIT_STRATEGY_ARG ) );
+            OperationExecutorType operationExecutorType =
+                    parseEnum( OperationExecutorType.class, paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            ChildOperationMode childOperationMode =
+                    parseEnum( ChildOperationMode.class, paramsMap.get( CHILD_OPERATION_MODE_ARG ) );
+            int blockingStreamThreadCount = Integer.parseInt( paramsMap.get( BLOCKING_STREAM_THREADS_ARG ) );
+            CompletionTimeTrackerType completionTimeTrackerType =
+                    parseEnum( CompletionTimeTrackerType.class, paramsMap.get( COMPLETION_TIME_TRACKER_ARG ) );
+            CompletionTimeServiceType completionTimeServiceType =
+                    parseEnum( CompletionTimeServiceType.class, paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            int metricsRingBufferSize = Integer.parseInt( paramsMap.get( METRICS_RING_BUFFER_SIZE_ARG ) );
+            MetricsWaitStrategy metricsWaitStrategy =
+                    parseEnum( MetricsWaitStrategy.class, paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            MetricsRecordingMode metricsRecordingMode =
+                    parseEnum( MetricsRecordingMode.class, paramsMap.get( METRICS_RECORDING_MODE_ARG ) );
+            ResultsLogFormat resultsLogFormat =
+                    parseEnum( ResultsLogFormat.class, paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            boolean streamIndex = Boolean.parseBoolean( paramsMap.get( STREAM_INDEX_ARG ) );
+            boolean compileWorkload = Boolean.parseBoolean( paramsMap.get( COMPILE_WORKLOAD_ARG ) );
+            String workloadScheduleFilePath = paramsMap.get( WORKLOAD_SCHEDULE_ARG );
             long skipCount = Long.parseLong( paramsMap.get( SKIP_COUNT_ARG ) );
             long warmupCount = Long.parseLong( paramsMap.get( WARMUP_COUNT_ARG ) );
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
@@ -298,7 +454,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    metricsRingBufferSize,
+                    metricsWaitStrategy,
+                    metricsRecordingMode,
+                    resultsLogFormat,
+                    streamIndex,
+                    compileWorkload,
+                    workloadScheduleFilePath,
+                    childOperationMode,
+                    blockingStreamThreadCount
             );
         }
         catch ( DriverConfigurationException e )
@@ -326,6 +495,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    private static <E extends Enum<E>> E parseEnum( Class<E> enumType, String enumString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            return Enum.valueOf( enumType, enumString );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s, valid: %s", enumType.getSimpleName(), enumString,
+                            Arrays.toString( enumType.getEnumConstants() ) ) );
+        }
+    }
+
     private static Map<String,String> parseArgs( String[] args, Options options )
             throws ParseException, DriverConfigurationException
     {
@@ -407,6 +591,71 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SPINNER_SLEEP_DURATION_ARG, cmd.getOptionValue( SPINNER_SLEEP_DURATION_ARG ) );
         }
 
+        if ( cmd.hasOption( SPINNER_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( SPINNER_WAIT_STRATEGY_ARG, cmd.getOptionValue( SPINNER_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( OPERATION_EXECUTOR_ARG ) )
+        {
+            cmdParams.put( OPERATION_EXECUTOR_ARG, cmd.getOptionValue( OPERATION_EXECUTOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( CHILD_OPERATION_MODE_ARG ) )
+        {
+            cmdParams.put( CHILD_OPERATION_MODE_ARG, cmd.getOptionValue( CHILD_OPERATION_MODE_ARG ) );
+        }
+
+        if ( cmd.hasOption( BLOCKING_STREAM_THREADS_ARG ) )
+        {
+            cmdParams.put( BLOCKING_STREAM_THREADS_ARG, cmd.getOptionValue( BLOCKING_STREAM_THREADS_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_TRACKER_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_TRACKER_ARG, cmd.getOptionValue( COMPLETION_TIME_TRACKER_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_BUFFER_SIZE_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_BUFFER_SIZE_ARG, cmd.getOptionValue( METRICS_RING_BUFFER_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue( METRICS_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RECORDING_MODE_ARG ) )
+        {
+            cmdParams.put( METRICS_RECORDING_MODE_ARG, cmd.getOptionValue( METRICS_RECORDING_MODE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( STREAM_INDEX_ARG ) )
+        {
+            cmdParams.put( STREAM_INDEX_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( COMPILE_WORKLOAD_ARG ) )
+        {
+            cmdParams.put( COMPILE_WORKLOAD_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( WORKLOAD_SCHEDULE_ARG ) )
+        {
+            cmdParams.put( WORKLOAD_SCHEDULE_ARG, cmd.getOptionValue( WORKLOAD_SCHEDULE_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             cmdParams.put( CREATE_VALIDATION_PARAMS_ARG, cmd.getOptionValue( CREATE_VALIDATION_PARAMS_ARG ) );
@@ -495,6 +744,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, DB_VALIDATION_FILE_PATH_ARG_LONG, DB_VALIDATION_FILE_PATH_ARG );
         paramsMap = replaceKey( paramsMap, CALCULATE_WORKLOAD_STATISTICS_ARG_LONG, CALCULATE_WORKLOAD_STATISTICS_ARG );
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
+        paramsMap = replaceKey( paramsMap, SPINNER_WAIT_STRATEGY_ARG_LONG, SPINNER_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_EXECUTOR_ARG_LONG, OPERATION_EXECUTOR_ARG );
+        paramsMap = replaceKey( paramsMap, CHILD_OPERATION_MODE_ARG_LONG, CHILD_OPERATION_MODE_ARG );
+        paramsMap = replaceKey( paramsMap, BLOCKING_STREAM_THREADS_ARG_LONG, BLOCKING_STREAM_THREADS_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_TRACKER_ARG_LONG, COMPLETION_TIME_TRACKER_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_ARG_LONG, COMPLETION_TIME_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RING_BUFFER_SIZE_ARG_LONG, METRICS_RING_BUFFER_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RECORDING_MODE_ARG_LONG, METRICS_RECORDING_MODE_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, STREAM_INDEX_ARG_LONG, STREAM_INDEX_ARG );
+        paramsMap = replaceKey( paramsMap, COMPILE_WORKLOAD_ARG_LONG, COMPILE_WORKLOAD_ARG );
+        paramsMap = replaceKey( paramsMap, WORKLOAD_SCHEDULE_ARG_LONG, WORKLOAD_SCHEDULE_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
         return paramsMap;
@@ -592,6 +854,69 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         SPINNER_SLEEP_DURATION_ARG_LONG ).create( SPINNER_SLEEP_DURATION_ARG );
         options.addOption( spinnerSleepDurationOption );
 
+        Option spinnerWaitStrategyOption = OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                .withDescription( SPINNER_WAIT_STRATEGY_DESCRIPTION ).withLongOpt(
+                        SPINNER_WAIT_STRATEGY_ARG_LONG ).create( SPINNER_WAIT_STRATEGY_ARG );
+        options.addOption( spinnerWaitStrategyOption );
+
+        Option operationExecutorOption = OptionBuilder.hasArgs( 1 ).withArgName( "executor" )
+                .withDescription( OPERATION_EXECUTOR_DESCRIPTION ).withLongOpt(
+                        OPERATION_EXECUTOR_ARG_LONG ).create( OPERATION_EXECUTOR_ARG );
+        options.addOption( operationExecutorOption );
+
+        Option childOperationModeOption = OptionBuilder.hasArgs( 1 ).withArgName( "mode" )
+                .withDescription( CHILD_OPERATION_MODE_DESCRIPTION ).withLongOpt(
+                        CHILD_OPERATION_MODE_ARG_LONG ).create( CHILD_OPERATION_MODE_ARG );
+        options.addOption( childOperationModeOption );
+
+        Option blockingStreamThreadsOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( BLOCKING_STREAM_THREADS_DESCRIPTION ).withLongOpt(
+                        BLOCKING_STREAM_THREADS_ARG_LONG ).create( BLOCKING_STREAM_THREADS_ARG );
+        options.addOption( blockingStreamThreadsOption );
+
+        Option completionTimeTrackerOption = OptionBuilder.hasArgs( 1 ).withArgName( "tracker" )
+                .withDescription( COMPLETION_TIME_TRACKER_DESCRIPTION ).withLongOpt(
+                        COMPLETION_TIME_TRACKER_ARG_LONG ).create( COMPLETION_TIME_TRACKER_ARG );
+        options.addOption( completionTimeTrackerOption );
+
+        Option completionTimeServiceOption = OptionBuilder.hasArgs( 1 ).withArgName( "service" )
+                .withDescription( COMPLETION_TIME_SERVICE_DESCRIPTION ).withLongOpt(
+                        COMPLETION_TIME_SERVICE_ARG_LONG ).create( COMPLETION_TIME_SERVICE_ARG );
+        options.addOption( completionTimeServiceOption );
+
+        Option metricsRingBufferSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "size" )
+                .withDescription( METRICS_RING_BUFFER_SIZE_DESCRIPTION ).withLongOpt(
+                        METRICS_RING_BUFFER_SIZE_ARG_LONG ).create( METRICS_RING_BUFFER_SIZE_ARG );
+        options.addOption( metricsRingBufferSizeOption );
+
+        Option metricsWaitStrategyOption = OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                .withDescription( METRICS_WAIT_STRATEGY_DESCRIPTION ).withLongOpt(
+                        METRICS_WAIT_STRATEGY_ARG_LONG ).create( METRICS_WAIT_STRATEGY_ARG );
+        options.addOption( metricsWaitStrategyOption );
+
+        Option metricsRecordingModeOption = OptionBuilder.hasArgs( 1 ).withArgName( "mode" )
+                .withDescription( METRICS_RECORDING_MODE_DESCRIPTION ).withLongOpt(
+                        METRICS_RECORDING_MODE_ARG_LONG ).create( METRICS_RECORDING_MODE_ARG );
+        options.addOption( metricsRecordingModeOption );
+
+        Option resultsLogFormatOption = OptionBuilder.hasArgs( 1 ).withArgName( "format" )
+                .withDescription( RESULTS_LOG_FORMAT_DESCRIPTION ).withLongOpt(
+                        RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option streamIndexOption = OptionBuilder.withDescription( STREAM_INDEX_DESCRIPTION )
+                .withLongOpt( STREAM_INDEX_ARG_LONG ).create( STREAM_INDEX_ARG );
+        options.addOption( streamIndexOption );
+
+        Option compileWorkloadOption = OptionBuilder.withDescription( COMPILE_WORKLOAD_DESCRIPTION )
+                .withLongOpt( COMPILE_WORKLOAD_ARG_LONG ).create( COMPILE_WORKLOAD_ARG );
+        options.addOption( compileWorkloadOption );
+
+        Option workloadScheduleOption = OptionBuilder.hasArgs( 1 ).withArgName( "path" )
+                .withDescription( WORKLOAD_SCHEDULE_DESCRIPTION ).withLongOpt( WORKLOAD_SCHEDULE_ARG_LONG )
+                .create( WORKLOAD_SCHEDULE_ARG );
+        options.addOption( workloadScheduleOption );
+
         Option warmupCountOption =
                 OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( WARMUP_COUNT_DESCRIPTION )
                         .withLongOpt( WARMUP_COUNT_ARG_LONG ).create( WARMUP_COUNT_ARG );
@@ -623,7 +948,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return options;
     }
 
-    private static Set<String> coreConfigurationParameterKeys()
+    public static Set<String> coreConfigurationParameterKeys()
     {
         return Sets.newHashSet(
                 NAME_ARG,
@@ -639,6 +964,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 DB_VALIDATION_FILE_PATH_ARG,
                 CALCULATE_WORKLOAD_STATISTICS_ARG,
                 SPINNER_SLEEP_DURATION_ARG,
+                SPINNER_WAIT_STRATEGY_ARG,
+                OPERATION_EXECUTOR_ARG,
+                CHILD_OPERATION_MODE_ARG,
+                BLOCKING_STREAM_THREADS_ARG,
+                COMPLETION_TIME_TRACKER_ARG,
+                COMPLETION_TIME_SERVICE_ARG,
+                METRICS_RING_BUFFER_SIZE_ARG,
+                METRICS_WAIT_STRATEGY_ARG,
+                METRICS_RECORDING_MODE_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                STREAM_INDEX_ARG,
+                COMPILE_WORKLOAD_ARG,
+                WORKLOAD_SCHEDULE_ARG,
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
@@ -680,6 +1018,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final String databaseValidationFilePath;
     private final boolean calculateWorkloadStatistics;
     private final long spinnerSleepDurationAsMilli;
+    private final SpinnerWaitStrategy spinnerWaitStrategy;
+    private final OperationExecutorType operationExecutorType;
+    private final ChildOperationMode childOperationMode;
+    private final int blockingStreamThreadCount;
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+    private final CompletionTimeServiceType completionTimeServiceType;
+    private final int metricsRingBufferSize;
+    private final MetricsWaitStrategy metricsWaitStrategy;
+    private final MetricsRecordingMode metricsRecordingMode;
+    private final ResultsLogFormat resultsLogFormat;
+    private final boolean streamIndex;
+    private final boolean compileWorkload;
+    private final String workloadScheduleFilePath;
     private final boolean printHelp;
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
@@ -702,7 +1053,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            SpinnerWaitStrategy spinnerWaitStrategy,
+            OperationExecutorType operationExecutorType,
+            CompletionTimeTrackerType completionTimeTrackerType,
+            CompletionTimeServiceType completionTimeServiceType,
+            int metricsRingBufferSize,
+            MetricsWaitStrategy metricsWaitStrategy,
+            MetricsRecordingMode metricsRecordingMode,
+            ResultsLogFormat resultsLogFormat,
+            boolean streamIndex,
+            boolean compileWorkload,
+            String workloadScheduleFilePath,
+            ChildOperationMode childOperationMode,
+            int blockingStreamThreadCount )
     {
         if ( null == paramsMap )
         {
@@ -722,6 +1086,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.databaseValidationFilePath = databaseValidationFilePath;
         this.calculateWorkloadStatistics = calculateWorkloadStatistics;
         this.spinnerSleepDurationAsMilli = spinnerSleepDurationAsMilli;
+        this.spinnerWaitStrategy = spinnerWaitStrategy;
+        this.operationExecutorType = operationExecutorType;
+        this.childOperationMode = childOperationMode;
+        this.blockingStreamThreadCount = blockingStreamThreadCount;
+        this.completionTimeTrackerType = completionTimeTrackerType;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.metricsRingBufferSize = metricsRingBufferSize;
+        this.metricsWaitStrategy = metricsWaitStrategy;
+        this.metricsRecordingMode = metricsRecordingMode;
+        this.resultsLogFormat = resultsLogFormat;
+        this.streamIndex = streamIndex;
+        this.compileWorkload = compileWorkload;
+        this.workloadScheduleFilePath = workloadScheduleFilePath;
         this.printHelp = printHelp;
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
@@ -758,6 +1135,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         paramsMap.put( CALCULATE_WORKLOAD_STATISTICS_ARG, Boolean.toString( calculateWorkloadStatistics ) );
         paramsMap.put( SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) );
+        paramsMap.put( SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategy.name() );
+        paramsMap.put( OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+        paramsMap.put( CHILD_OPERATION_MODE_ARG, childOperationMode.name() );
+        paramsMap.put( BLOCKING_STREAM_THREADS_ARG, Integer.toString( blockingStreamThreadCount ) );
+        paramsMap.put( COMPLETION_TIME_TRACKER_ARG, completionTimeTrackerType.name() );
+        paramsMap.put( COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() );
+        paramsMap.put( METRICS_RING_BUFFER_SIZE_ARG, Integer.toString( metricsRingBufferSize ) );
+        paramsMap.put( METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() );
+        paramsMap.put( METRICS_RECORDING_MODE_ARG, metricsRecordingMode.name() );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() );
+        paramsMap.put( STREAM_INDEX_ARG, Boolean.toString( streamIndex ) );
+        paramsMap.put( COMPILE_WORKLOAD_ARG, Boolean.toString( compileWorkload ) );
+        if ( null != workloadScheduleFilePath )
+        {
+            paramsMap.put( WORKLOAD_SCHEDULE_ARG, workloadScheduleFilePath );
+        }
         paramsMap.put( HELP_ARG, Boolean.toString( printHelp ) );
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
@@ -849,6 +1242,84 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return spinnerSleepDurationAsMilli;
     }
 
+    @Override
+    public SpinnerWaitStrategy spinnerWaitStrategy()
+    {
+        return spinnerWaitStrategy;
+    }
+
+    @Override
+    public OperationExecutorType operationExecutorType()
+    {
+        return operationExecutorType;
+    }
+
+    @Override
+    public ChildOperationMode childOperationMode()
+    {
+        return childOperationMode;
+    }
+
+    @Override
+    public int blockingStreamThreadCount()
+    {
+        return blockingStreamThreadCount;
+    }
+
+    @Override
+    public CompletionTimeTrackerType completionTimeTrackerType()
+    {
+        return completionTimeTrackerType;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public int metricsRingBufferSize()
+    {
+        return metricsRingBufferSize;
+    }
+
+    @Override
+    public MetricsWaitStrategy metricsWaitStrategy()
+    {
+        return metricsWaitStrategy;
+    }
+
+    @Override
+    public MetricsRecordingMode metricsRecordingMode()
+    {
+        return metricsRecordingMode;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public boolean streamIndex()
+    {
+        return streamIndex;
+    }
+
+    @Override
+    public boolean compileWorkload()
+    {
+        return compileWorkload;
+    }
+
+    @Override
+    public String workloadScheduleFilePath()
+    {
+        return workloadScheduleFilePath;
+    }
+
     @Override
     public boolean shouldPrintHelpString()
     {
@@ -982,6 +1453,60 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                                               Long.parseLong(
                                                       (newParamsMapWithShortKeys.get( SPINNER_SLEEP_DURATION_ARG )) ) :
                                               spinnerSleepDurationAsMilli;
+        SpinnerWaitStrategy newSpinnerWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( SPINNER_WAIT_STRATEGY_ARG )) ?
+                parseEnum( SpinnerWaitStrategy.class, newParamsMapWithShortKeys.get( SPINNER_WAIT_STRATEGY_ARG ) ) :
+                spinnerWaitStrategy;
+        OperationExecutorType newOperationExecutorType =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_EXECUTOR_ARG )) ?
+                parseEnum( OperationExecutorType.class, newParamsMapWithShortKeys.get( OPERATION_EXECUTOR_ARG ) ) :
+                operationExecutorType;
+        ChildOperationMode newChildOperationMode =
+                (newParamsMapWithShortKeys.containsKey( CHILD_OPERATION_MODE_ARG )) ?
+                parseEnum( ChildOperationMode.class, newParamsMapWithShortKeys.get( CHILD_OPERATION_MODE_ARG ) ) :
+                childOperationMode;
+        int newBlockingStreamThreadCount =
+                (newParamsMapWithShortKeys.containsKey( BLOCKING_STREAM_THREADS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( BLOCKING_STREAM_THREADS_ARG ) ) :
+                blockingStreamThreadCount;
+        CompletionTimeTrackerType newCompletionTimeTrackerType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_TRACKER_ARG )) ?
+                parseEnum( CompletionTimeTrackerType.class,
+                        newParamsMapWithShortKeys.get( COMPLETION_TIME_TRACKER_ARG ) ) :
+                completionTimeTrackerType;
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_ARG )) ?
+                parseEnum( CompletionTimeServiceType.class,
+                        newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_ARG ) ) :
+                completionTimeServiceType;
+        int newMetricsRingBufferSize =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RING_BUFFER_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_RING_BUFFER_SIZE_ARG ) ) :
+                metricsRingBufferSize;
+        MetricsWaitStrategy newMetricsWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( METRICS_WAIT_STRATEGY_ARG )) ?
+                parseEnum( MetricsWaitStrategy.class, newParamsMapWithShortKeys.get( METRICS_WAIT_STRATEGY_ARG ) ) :
+                metricsWaitStrategy;
+        MetricsRecordingMode newMetricsRecordingMode =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RECORDING_MODE_ARG )) ?
+                parseEnum( MetricsRecordingMode.class, newParamsMapWithShortKeys.get( METRICS_RECORDING_MODE_ARG ) ) :
+                metricsRecordingMode;
+        ResultsLogFormat newResultsLogFormat =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                parseEnum( ResultsLogFormat.class, newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ) :
+                resultsLogFormat;
+        boolean newStreamIndex =
+                (newParamsMapWithShortKeys.containsKey( STREAM_INDEX_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( STREAM_INDEX_ARG ) ) :
+                streamIndex;
+        boolean newCompileWorkload =
+                (newParamsMapWithShortKeys.containsKey( COMPILE_WORKLOAD_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( COMPILE_WORKLOAD_ARG ) ) :
+                compileWorkload;
+        String newWorkloadScheduleFilePath =
+                (newParamsMapWithShortKeys.containsKey( WORKLOAD_SCHEDULE_ARG )) ?
+                newParamsMapWithShortKeys.get( WORKLOAD_SCHEDULE_ARG ) :
+                workloadScheduleFilePath;
         boolean newPrintHelp = (newParamsMapWithShortKeys.containsKey( HELP_ARG )) ?
                                Boolean.parseBoolean( newParamsMapWithShortKeys.get( HELP_ARG ) ) :
                                printHelp;
@@ -1014,7 +1539,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newSpinnerWaitStrategy,
+                newOperationExecutorType,
+                newCompletionTimeTrackerType,
+                newCompletionTimeServiceType,
+                newMetricsRingBufferSize,
+                newMetricsWaitStrategy,
+                newMetricsRecordingMode,
+                newResultsLogFormat,
+                newStreamIndex,
+                newCompileWorkload,
+                newWorkloadScheduleFilePath,
+                newChildOperationMode,
+                newBlockingStreamThreadCount
         );
     }
 
@@ -1062,6 +1600,30 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         argsList.addAll(
                 Lists.newArrayList( "-" + SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategy.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + OPERATION_EXECUTOR_ARG, operationExecutorType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + CHILD_OPERATION_MODE_ARG, childOperationMode.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + BLOCKING_STREAM_THREADS_ARG,
+                Integer.toString( blockingStreamThreadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_TRACKER_ARG, completionTimeTrackerType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_RING_BUFFER_SIZE_ARG, Integer.toString( metricsRingBufferSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_RECORDING_MODE_ARG, metricsRecordingMode.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() ) );
+        if ( streamIndex )
+        {
+            argsList.add( "-" + STREAM_INDEX_ARG );
+        if ( compileWorkload )
+        {
+            argsList.add( "-" + COMPILE_WORKLOAD_ARG );
+        if ( null != workloadScheduleFilePath )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + WORKLOAD_SCHEDULE_ARG, workloadScheduleFilePath ) );
+        }
+        }
+        }
         if ( printHelp )
         {
             argsList.add( "-" + HELP_ARG );
@@ -1206,6 +1768,129 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "\n" );
         sb.append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "=" ).append( spinnerSleepDurationAsMilli ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# strategy used to wait for operation scheduled start times\n" );
+        sb.append( "# SLEEP: poll millisecond clock, sleeping for spinner_wait_duration between polls\n" );
+        sb.append(
+                "# HYBRID: park, then yield, then busy spin on nanosecond clock, parking for at most " +
+                "spinner_wait_duration\n" );
+        sb.append( "# ENUM ([SLEEP, HYBRID])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SPINNER_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( spinnerWaitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# executor used to run operations of asynchronous streams\n" );
+        sb.append( "# THREAD_POOL: worker threads wait for scheduled start times of the operations they are given\n" );
+        sb.append( "# TIMING_WHEEL: operations are held in a timing wheel until due, then handed to worker threads\n" );
+        sb.append( "# VIRTUAL_THREAD: one virtual thread per operation, at most thread_count operations in flight\n" );
+        sb.append( "# ENUM ([THREAD_POOL, TIMING_WHEEL, VIRTUAL_THREAD])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_EXECUTOR_ARG ).append( "/--" )
+                .append( OPERATION_EXECUTOR_ARG_LONG ).append( "\n" );
+        sb.append( OPERATION_EXECUTOR_ARG_LONG ).append( "=" ).append( operationExecutorType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# how child operations (e.g., short read chains) of asynchronous streams are executed\n" );
+        sb.append( "# INLINE: by the thread that completed the parent operation, one after the other\n" );
+        sb.append( "# ASYNCHRONOUS: each as a task of its own, only with THREAD_POOL & TIMING_WHEEL executors\n" );
+        sb.append( "# ENUM ([INLINE, ASYNCHRONOUS])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( CHILD_OPERATION_MODE_ARG ).append( "/--" )
+                .append( CHILD_OPERATION_MODE_ARG_LONG ).append( "\n" );
+        sb.append( CHILD_OPERATION_MODE_ARG_LONG ).append( "=" ).append( childOperationMode ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# threads executing operations of blocking streams (e.g., partitioned update streams)\n" );
+        sb.append( "# each stream still executes its operations one at a time, in order\n" );
+        sb.append( "# 0: one dedicated thread per stream\n" );
+        sb.append( "# INT\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( BLOCKING_STREAM_THREADS_ARG ).append( "/--" )
+                .append( BLOCKING_STREAM_THREADS_ARG_LONG ).append( "\n" );
+        sb.append( BLOCKING_STREAM_THREADS_ARG_LONG ).append( "=" ).append( blockingStreamThreadCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# data structures used by completion time service to track initiated & completed times\n" );
+        sb.append( "# TREE_MULTISET: boxed times in sorted multisets\n" );
+        sb.append( "# PRIMITIVE: primitive ring buffer (initiated) and heap (completed), allocation free\n" );
+        sb.append( "# ENUM ([TREE_MULTISET, PRIMITIVE])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_TRACKER_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_TRACKER_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_TRACKER_ARG_LONG ).append( "=" ).append( completionTimeTrackerType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# service that computes global completion time from the completion times of all writers\n" );
+        sb.append( "# SYNCHRONIZED: times from all writers are applied while holding one lock\n" );
+        sb.append( "# THREADED_QUEUED: times from all writers are queued to, and applied by, one thread\n" );
+        sb.append( "# SHARDED: writers track their own completion times, global one is computed when read\n" );
+        sb.append( "# ENUM ([SYNCHRONIZED, THREADED_QUEUED, SHARDED])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "=" ).append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of slots in the ring buffer that executor threads publish operation results to\n" );
+        sb.append( "# when it is full executor threads stall, until metrics collection catches up\n" );
+        sb.append( "# must be a power of 2\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_BUFFER_SIZE_ARG ).append( "/--" )
+                .append( METRICS_RING_BUFFER_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RING_BUFFER_SIZE_ARG_LONG ).append( "=" ).append( metricsRingBufferSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# strategy metrics collection uses to wait for operation results\n" );
+        sb.append( "# BLOCKING: lock & condition, executor threads signal on every result\n" );
+        sb.append(
+                "# LITE_BLOCKING: as BLOCKING, but executor threads only signal when metrics collection is waiting\n" );
+        sb.append( "# SLEEPING: spin, then yield, then sleep\n" );
+        sb.append( "# YIELDING: spin, then yield, occupies one core\n" );
+        sb.append( "# BUSY_SPIN: spin, occupies one core\n" );
+        sb.append( "# PHASED_BACKOFF: spin, then yield, then LITE_BLOCKING\n" );
+        sb.append( "# ENUM ([BLOCKING, LITE_BLOCKING, SLEEPING, YIELDING, BUSY_SPIN, PHASED_BACKOFF])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# which threads record operation results into histograms\n" );
+        sb.append( "# EVENT_HANDLER: the one thread that consumes the metrics ring buffer\n" );
+        sb.append( "# WRITER_THREADS: the threads that execute operations, into per thread histograms\n" );
+        sb.append( "# per thread histograms are merged when results are requested\n" );
+        sb.append( "# WRITER_THREADS uses a few MB of memory per thread & operation type\n" );
+        sb.append( "# ENUM ([EVENT_HANDLER, WRITER_THREADS])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RECORDING_MODE_ARG ).append( "/--" )
+                .append( METRICS_RECORDING_MODE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RECORDING_MODE_ARG_LONG ).append( "=" ).append( metricsRecordingMode ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format of the results log\n" );
+        sb.append( "# CSV: human readable, one row per operation result (-results_log.csv)\n" );
+        sb.append( "# BINARY: fixed width binary records (-results_log.bin)\n" );
+        sb.append( "# BINARY_COMPRESSED: as BINARY, with blocks of records compressed (-results_log.bin)\n" );
+        sb.append( "# ENUM ([CSV, BINARY, BINARY_COMPRESSED])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# persist an index of workload stream positions next to the workload input files\n" );
+        sb.append( "# later runs with skip/warmup/operation count use it instead of scanning the streams\n" );
+        sb.append( "# index is validated against size & modification time of the input files\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( STREAM_INDEX_ARG ).append( "/--" )
+                .append( STREAM_INDEX_ARG_LONG ).append( "\n" );
+        sb.append( STREAM_INDEX_ARG_LONG ).append( "=" ).append( streamIndex ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# write operations of warmup & run phases to workload schedule, instead of executing them\n" );
+        sb.append( "# requires workload_schedule\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPILE_WORKLOAD_ARG ).append( "/--" )
+                .append( COMPILE_WORKLOAD_ARG_LONG ).append( "\n" );
+        sb.append( COMPILE_WORKLOAD_ARG_LONG ).append( "=" ).append( compileWorkload ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# binary workload schedule file\n" );
+        sb.append( "# written when compiling workload, otherwise operations are replayed from it\n" );
+        sb.append( "# schedule must have been compiled with the same workload configuration\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( WORKLOAD_SCHEDULE_ARG ).append( "/--" )
+                .append( WORKLOAD_SCHEDULE_ARG_LONG ).append( "\n" );
+        if ( null == workloadScheduleFilePath )
+        {
+            sb.append( "# " ).append( WORKLOAD_SCHEDULE_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( WORKLOAD_SCHEDULE_ARG_LONG ).append( "=" ).append( workloadScheduleFilePath )
+                    .append( "\n" );
+        }
+        sb.append( "\n" );
         sb.append( "# print help string - usage instructions\n" );
         sb.append( "# BOOLEAN\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( HELP_ARG ).append( "\n" );
@@ -1324,6 +2009,32 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Sleep Duration:" ) )
                 .append( TEMPORAL_UTIL.milliDurationToString( spinnerSleepDurationAsMilli ) ).append( " / " )
                 .append( spinnerSleepDurationAsMilli ).append( " (ms)\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Wait Strategy:" ) )
+                .append( spinnerWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Executor:" ) )
+                .append( operationExecutorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Child Operation Mode:" ) )
+                .append( childOperationMode ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Blocking Stream Threads:" ) )
+                .append( blockingStreamThreadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Tracker:" ) )
+                .append( completionTimeTrackerType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Buffer Size:" ) )
+                .append( metricsRingBufferSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Wait Strategy:" ) )
+                .append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Recording Mode:" ) )
+                .append( metricsRecordingMode ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Stream Index:" ) )
+                .append( streamIndex ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Compile Workload:" ) )
+                .append( compileWorkload ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Workload Schedule:" ) )
+                .append( workloadScheduleFilePath ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Print Help:" ) ).append( printHelp )
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
@@ -1409,6 +2120,59 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( spinnerWaitStrategy != that.spinnerWaitStrategy )
+        {
+            return false;
+        }
+        if ( operationExecutorType != that.operationExecutorType )
+        {
+            return false;
+        }
+        if ( completionTimeTrackerType != that.completionTimeTrackerType )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != that.completionTimeServiceType )
+        {
+            return false;
+        }
+        if ( metricsRingBufferSize != that.metricsRingBufferSize )
+        {
+            return false;
+        }
+        if ( metricsWaitStrategy != that.metricsWaitStrategy )
+        {
+            return false;
+        }
+        if ( metricsRecordingMode != that.metricsRecordingMode )
+        {
+            return false;
+        }
+        if ( resultsLogFormat != that.resultsLogFormat )
+        {
+            return false;
+        }
+        if ( streamIndex != that.streamIndex )
+        {
+            return false;
+        }
+        if ( compileWorkload != that.compileWorkload )
+        {
+            return false;
+        }
+        if ( workloadScheduleFilePath != null ? !workloadScheduleFilePath.equals( that.workloadScheduleFilePath )
+                                             : that.workloadScheduleFilePath != null )
+        {
+            return false;
+        }
+        if ( childOperationMode != that.childOperationMode )
+        {
+            return false;
+        }
+        if ( blockingStreamThreadCount != that.blockingStreamThreadCount )
+        {
+            return false;
+        }
         if ( statusDisplayIntervalAsSeconds != that.statusDisplayIntervalAsSeconds )
         {
             return false;
@@ -1454,6 +2218,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
+        result = 31 * result + (spinnerWaitStrategy != null ? spinnerWaitStrategy.hashCode() : 0);
+        result = 31 * result + (operationExecutorType != null ? operationExecutorType.hashCode() : 0);
+        result = 31 * result + (completionTimeTrackerType != null ? completionTimeTrackerType.hashCode() : 0);
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
+        result = 31 * result + metricsRingBufferSize;
+        result = 31 * result + (metricsWaitStrategy != null ? metricsWaitStrategy.hashCode() : 0);
+        result = 31 * result + (metricsRecordingMode != null ? metricsRecordingMode.hashCode() : 0);
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + (streamIndex ? 1 : 0);
+        result = 31 * result + (compileWorkload ? 1 : 0);
+        result = 31 * result + (workloadScheduleFilePath != null ? workloadScheduleFilePath.hashCode() : 0);
+        result = 31 * result + (childOperationMode != null ? childOperationMode.hashCode() : 0);
+        result = 31 * result + blockingStreamThreadCount;
         return result;
     }
 
@@ -1,5 +1,15 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsRecordingMode;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategy;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategy;
+
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +41,32 @@ public interface DriverConfiguration
 
     long spinnerSleepDurationAsMilli();
 
+    SpinnerWaitStrategy spinnerWaitStrategy();
+
+    OperationExecutorType operationExecutorType();
+
+    ChildOperationMode childOperationMode();
+
+    int blockingStreamThreadCount();
+
+    CompletionTimeTrackerType completionTimeTrackerType();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
+    int metricsRingBufferSize();
+
+    MetricsWaitStrategy metricsWaitStrategy();
+
+    MetricsRecordingMode metricsRecordingMode();
+
+    ResultsLogFormat resultsLogFormat();
+
+    boolean streamIndex();
+
+    boolean compileWorkload();
+
+    String workloadScheduleFilePath();
+
     boolean shouldPrintHelpString();
 
     String helpString();
@@ -40,6 +40,12 @@ public class Log4jLoggingService implements LoggingService
         logger.info( message );
     }
 
+    @Override
+    public void warn( String message )
+    {
+        logger.warn( message );
+    }
+
     @Override
     public void status(
             WorkloadStatusSnapshot status,
@@ -7,6 +7,8 @@ public interface LoggingService
 {
     void info( String message );
 
+    void warn( String message );
+
     void status( WorkloadStatusSnapshot workloadStatusSnapshot,
             RecentThroughputAndDuration recentThroughputAndDuration,
             long completionTimeAsMilli );
@@ -11,6 +11,12 @@ public class NullLoggingService implements LoggingService
         // do nothing
     }
 
+    @Override
+    public void warn( String message )
+    {
+        // do nothing
+    }
+
     @Override
     public void status(
             WorkloadStatusSnapshot workloadStatusSnapshot,
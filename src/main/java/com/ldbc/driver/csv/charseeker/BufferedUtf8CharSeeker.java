@@ -0,0 +1,262 @@
+package com.ldbc.driver.csv.charseeker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Same seeking semantics as {@link BufferedCharSeeker}, but scans UTF-8 encoded bytes, read in chunks from a
+ * {@link ReadableByteChannel} (f.ex. a {@link java.nio.channels.FileChannel}), instead of decoded characters.
+ * <p/>
+ * Delimiters, quotes and line breaks are all ASCII, and bytes of multi-byte UTF-8 sequences are never in the ASCII
+ * range, so values can be found without decoding. Extraction is then done from bytes, see
+ * {@link Extractor#extract(byte[], int, int)}, meaning characters are only ever decoded for extractors that ask for
+ * them, f.ex. strings. Positions of {@link Mark marks} are byte, not character, positions.
+ * <p/>
+ * Delimiters and quote character must be ASCII.
+ */
+public class BufferedUtf8CharSeeker implements CharSeeker {
+    private static final int EOL_CHAR = '\n';
+    private static final int EOL_CHAR_2 = '\r';
+    private static final int EOF_CHAR = -1;
+    private static final int BACK_SLASH = '\\';
+    private static final int MAX_ASCII = 0x7F;
+    private static final int NO_END_OF_DATA = Integer.MAX_VALUE;
+
+    private final ReadableByteChannel channel;
+    private final byte[] buffer;
+
+    // Wraps the byte[] buffer and is only used during reading more data, using f.ex. compact()
+    private final ByteBuffer byteBuffer;
+
+    private int bufferPos;
+    private long lineStartPos;
+    private int seekStartPos;
+    // position in buffer directly after the last byte of the channel, once the channel is exhausted, everything
+    // from there on reads as EOF
+    private int endOfDataPos = NO_END_OF_DATA;
+    private int lineNumber = 1;
+    private boolean eof;
+    private final int quoteChar;
+    private int[] checkedDelimiters;
+
+    public BufferedUtf8CharSeeker(ReadableByteChannel channel) {
+        this(channel, BufferedCharSeeker.DEFAULT_BUFFER_SIZE, BufferedCharSeeker.DEFAULT_QUOTE_CHAR);
+    }
+
+    public BufferedUtf8CharSeeker(ReadableByteChannel channel, int bufferSize) {
+        this(channel, bufferSize, BufferedCharSeeker.DEFAULT_QUOTE_CHAR);
+    }
+
+    public BufferedUtf8CharSeeker(ReadableByteChannel channel, int bufferSize, char quoteChar) {
+        if (quoteChar > MAX_ASCII) {
+            throw new IllegalArgumentException("Quote character must be ASCII, was '" + quoteChar + "'");
+        }
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.byteBuffer = ByteBuffer.wrap(buffer);
+        this.bufferPos = bufferSize;
+        this.quoteChar = quoteChar;
+    }
+
+    @Override
+    public boolean seek(Mark mark, int[] untilOneOfChars) throws IOException {
+        if (untilOneOfChars != checkedDelimiters) {
+            checkAscii(untilOneOfChars);
+        }
+        if (eof) {   // We're at the end
+            return eof(mark);
+        }
+
+        // Keep a start position in case we need to further fill the buffer in nextChar, a value can at maximum be the
+        // whole buffer, so max one fill per value is supported.
+        seekStartPos = bufferPos; // seekStartPos updated in nextChar if buffer flips over, that's why it's a member
+        if (scanUnquotedValue(mark, untilOneOfChars)) {
+            return true;
+        }
+        int ch;
+        int endOffset = 1;
+        int skippedChars = 0;
+        int quoteDepth = 0;
+        while (!eof) {
+            ch = nextChar(skippedChars);
+            if (quoteDepth == 0) {   // In normal mode, i.e. not within quotes
+                if (ch == quoteChar && seekStartPos == bufferPos - 1/* -1 since we just advanced one */) {   // We found a quote, which was the first of the value, skip it and switch mode
+                    quoteDepth++;
+                    seekStartPos++;
+                    continue;
+                } else if (isNewLine(ch)) {   // Encountered newline, done for now
+                    break;
+                } else {
+                    for (int i = 0; i < untilOneOfChars.length; i++) {
+                        if (ch == untilOneOfChars[i]) {   // We found a delimiter, set marker and return true
+                            mark.set(lineNumber, seekStartPos, valueEnd(bufferPos - 1 - skippedChars, endOffset), ch);
+                            return true;
+                        }
+                    }
+                }
+            } else {   // In quoted mode, i.e. within quotes
+                if (ch == quoteChar) {   // Found a quote within a quote, peek at next char
+                    int nextCh = peekChar();
+
+                    if (nextCh == quoteChar) {   // Found a double quote, skip it and we're going down one more quote depth (quote-in-quote)
+                        repositionChar(bufferPos++, ++skippedChars);
+                        quoteDepth = quoteDepth == 1 ? 2 : 1; // toggle between quote and quote-in-quote
+                    } else {   // Found an ending quote, skip it and switch mode
+                        endOffset++;
+                        quoteDepth--;
+                    }
+                } else if ((ch == EOL_CHAR || ch == EOL_CHAR_2)) {   // Found a new line, just keep going
+                    nextChar(skippedChars);
+                } else if (ch == BACK_SLASH) {   // Legacy concern, support java style quote encoding
+                    int nextCh = peekChar();
+                    if (nextCh == quoteChar) {   // Found a slash encoded quote
+                        repositionChar(bufferPos++, ++skippedChars);
+                    }
+                }
+            }
+        }
+
+        int valueLength = bufferPos - seekStartPos - 1;
+        if (eof && valueLength == 0 && seekStartPos == lineStartPos) {   // We didn't find any of the characters sought for
+            return eof(mark);
+        }
+
+        // We found the last value of the line or stream
+        skippedChars += skipEolChars();
+        mark.set(lineNumber, seekStartPos, valueEnd(bufferPos - 1 - skippedChars, endOffset),
+                Mark.END_OF_LINE_CHARACTER);
+        lineNumber++;
+        lineStartPos = bufferPos;
+        return true;
+    }
+
+    // Fast path for the common case, unquoted values within the buffered data. Stops, without consuming it, at the
+    // first newline or at the end of buffered data, for the remainder of the value to be seeked as usual.
+    private boolean scanUnquotedValue(Mark mark, int[] untilOneOfChars) {
+        int limit = Math.min(buffer.length, endOfDataPos);
+        if (bufferPos >= limit || buffer[bufferPos] == quoteChar) {
+            return false;
+        }
+        while (bufferPos < limit) {
+            int ch = buffer[bufferPos] & 0xFF;
+            if (isNewLine(ch)) {
+                return false;
+            }
+            bufferPos++;
+            for (int i = 0; i < untilOneOfChars.length; i++) {
+                if (ch == untilOneOfChars[i]) {
+                    mark.set(lineNumber, seekStartPos, bufferPos - 1, ch);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Steps back over the endOffset - 1 characters that BufferedCharSeeker excludes from the end of quoted values.
+    // Normally that's only the closing quote, but in malformed data, where more follows it, it can be multi-byte.
+    private int valueEnd(int end, int endOffset) {
+        for (int i = 1; i < endOffset; i++) {
+            end--;
+            while (end > seekStartPos && (buffer[end] & 0xC0) == 0x80) {   // UTF-8 continuation byte
+                end--;
+            }
+        }
+        return end;
+    }
+
+    private void checkAscii(int[] untilOneOfChars) {
+        for (int i = 0; i < untilOneOfChars.length; i++) {
+            if (untilOneOfChars[i] < 0 || untilOneOfChars[i] > MAX_ASCII) {
+                throw new IllegalArgumentException(
+                        "Delimiters must be ASCII, was '" + (char) untilOneOfChars[i] + "'");
+            }
+        }
+        checkedDelimiters = untilOneOfChars;
+    }
+
+    private void repositionChar(int offset, int stepsBack) {
+        // Same as BufferedCharSeeker, skipped (escape) quotes are ASCII so this never splits a multi-byte character
+        buffer[offset - stepsBack] = buffer[offset];
+    }
+
+    private boolean isNewLine(int ch) {
+        return ch == EOL_CHAR || ch == EOL_CHAR_2;
+    }
+
+    private int peekChar() throws IOException {
+        fillBufferIfWeHaveExhaustedIt();
+        return charAt(bufferPos);
+    }
+
+    // unsigned, so bytes of multi-byte characters (0x80-0xFF) never equal EOF_CHAR or any ASCII character
+    private int charAt(int position) {
+        return position >= endOfDataPos ? EOF_CHAR : buffer[position] & 0xFF;
+    }
+
+    private boolean eof(Mark mark) {
+        mark.set(lineNumber, -1, -1, Mark.END_OF_LINE_CHARACTER);
+        return false;
+    }
+
+    @Override
+    public <EXTRACTOR extends Extractor<?>> EXTRACTOR extract(Mark mark, EXTRACTOR extractor) {
+        long from = mark.startPosition();
+        long to = mark.position();
+        extractor.extract(buffer, (int) (from), (int) (to - from));
+        return extractor;
+    }
+
+    private int skipEolChars() throws IOException {
+        int skipped = 0;
+        while (isNewLine(nextChar(0/*doesn't matter since we ignore the chars anyway*/))) {   // Just loop through, skipping them
+            skipped++;
+        }
+        bufferPos--; // since nextChar advances one step
+        return skipped;
+    }
+
+    private int nextChar(int skippedChars) throws IOException {
+        fillBufferIfWeHaveExhaustedIt();
+        int ch = charAt(bufferPos++);
+        if (ch == EOF_CHAR) {
+            eof = true;
+        } else if (skippedChars > 0) {
+            repositionChar(bufferPos - 1, skippedChars);
+        }
+        return ch;
+    }
+
+    private void fillBufferIfWeHaveExhaustedIt() throws IOException {
+        if (bufferPos >= buffer.length && endOfDataPos == NO_END_OF_DATA) {
+            if (seekStartPos == 0) {
+                throw new IllegalStateException("Tried to read in a value larger than buffer size " + buffer.length);
+            }
+            byteBuffer.clear();
+            byteBuffer.position(seekStartPos);
+            byteBuffer.compact();
+            int dataStartPos = byteBuffer.position();
+            // channels may return less than requested before the end, e.g. pipes, keep reading to not mistake for EOF
+            while (byteBuffer.hasRemaining()) {
+                if (channel.read(byteBuffer) == -1) {
+                    endOfDataPos = byteBuffer.position();
+                    break;
+                }
+            }
+            bufferPos = dataStartPos;
+            seekStartPos = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[buffer:" + byteBuffer +
+                ", seekPos:" + seekStartPos + ", line:" + lineNumber + "]";
+    }
+}
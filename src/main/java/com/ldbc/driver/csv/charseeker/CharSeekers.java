@@ -21,6 +21,8 @@ package com.ldbc.driver.csv.charseeker;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 
 import static com.ldbc.driver.csv.charseeker.BufferedCharSeeker.DEFAULT_BUFFER_SIZE;
 
@@ -57,4 +59,16 @@ public class CharSeekers {
     public static CharSeeker charSeeker(CharReadable reader, char quotationCharacter) throws FileNotFoundException {
         return charSeeker(reader, DEFAULT_BUFFER_SIZE, true, quotationCharacter);
     }
-}
\ No newline at end of file
+
+    /**
+     * Instantiates a {@link BufferedUtf8CharSeeker}, which seeks in UTF-8 encoded data without decoding it.
+     *
+     * @param channel            the source of data, f.ex. a {@link FileChannel}, read in chunks of {@code bufferSize}.
+     * @param bufferSize         buffer size of the seeker.
+     * @param quotationCharacter character to interpret quotation character, must be ASCII.
+     * @return a {@link CharSeeker} reading and parsing UTF-8 encoded data from {@code channel}.
+     */
+    public static CharSeeker utf8CharSeeker(ReadableByteChannel channel, int bufferSize, char quotationCharacter) {
+        return new BufferedUtf8CharSeeker(channel, bufferSize, quotationCharacter);
+    }
+}
@@ -19,6 +19,10 @@
  */
 package com.ldbc.driver.csv.charseeker;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Extracts a value from a part of a {@code char[]} into any type of value, f.ex. a {@link Extractors#string()}  string},
  * {@link Extractors#long_()}  long} or {@link Extractors#intArray()}.
@@ -35,6 +39,16 @@ package com.ldbc.driver.csv.charseeker;
 public interface Extractor<T> {
     void extract(char[] data, int offset, int length);
 
+    /**
+     * Extracts from UTF-8 encoded bytes, as provided by f.ex. {@link BufferedUtf8CharSeeker}. By default the bytes
+     * are decoded and extracted using {@link #extract(char[], int, int)}, extractors that can work on the bytes
+     * directly, f.ex. to parse numbers, should override this to avoid decoding.
+     */
+    default void extract(byte[] data, int offset, int length) {
+        CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(data, offset, length));
+        extract(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+    }
+
     T value();
 
     /**
@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -59,6 +60,9 @@ import static java.lang.reflect.Modifier.isStatic;
  * <p/>
  * ... even {@link Extractors#add(Extractor) added} to an {@link Extractors} instance, where its
  * {@link Extractor#toString() toString} value is used as key for lookup in {@link #valueOf(String)}.
+ * <p/>
+ * All extractors here also extract from UTF-8 bytes without decoding them to characters, other than for strings.
+ * Array and tuple delimiters must then be ASCII.
  */
 public class Extractors {
     private final Map<String, Extractor<?>> instances = new HashMap<>();
@@ -231,6 +235,11 @@ public class Extractors {
             value = length > 0 ? new String(data, offset, length) : null;
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = length > 0 ? new String(data, offset, length, StandardCharsets.UTF_8) : null;
+        }
+
         @Override
         public String value() {
             return value;
@@ -249,6 +258,11 @@ public class Extractors {
             value = extractLong(data, offset, length);
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = extractLong(data, offset, length);
+        }
+
         @Override
         public Long value() {
             return Long.valueOf(value);
@@ -276,6 +290,11 @@ public class Extractors {
             value = safeCastLongToInt(extractLong(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = safeCastLongToInt(extractLong(data, offset, length));
+        }
+
         @Override
         public Integer value() {
             return Integer.valueOf(value);
@@ -303,6 +322,11 @@ public class Extractors {
             value = safeCastLongToShort(extractLong(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = safeCastLongToShort(extractLong(data, offset, length));
+        }
+
         @Override
         public Short value() {
             return Short.valueOf(value);
@@ -330,6 +354,11 @@ public class Extractors {
             value = safeCastLongToByte(extractLong(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = safeCastLongToByte(extractLong(data, offset, length));
+        }
+
         @Override
         public Byte value() {
             return Byte.valueOf(value);
@@ -364,6 +393,11 @@ public class Extractors {
             value = extractBoolean(data, offset, length);
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = extractBoolean(data, offset, length);
+        }
+
         @Override
         public Boolean value() {
             return Boolean.valueOf(value);
@@ -389,6 +423,16 @@ public class Extractors {
             value = data[offset];
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            if (length == 1 && data[offset] >= 0) {   // ASCII
+                value = (char) data[offset];
+            } else {
+                char[] chars = new String(data, offset, length, StandardCharsets.UTF_8).toCharArray();
+                extract(chars, 0, chars.length);
+            }
+        }
+
         @Override
         public Character value() {
             return Character.valueOf(value);
@@ -412,6 +456,11 @@ public class Extractors {
             value = Float.parseFloat(String.valueOf(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = Float.parseFloat(asciiString(data, offset, length));
+        }
+
         @Override
         public Float value() {
             return Float.valueOf(value);
@@ -435,6 +484,11 @@ public class Extractors {
             value = Double.parseDouble(String.valueOf(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = Double.parseDouble(asciiString(data, offset, length));
+        }
+
         @Override
         public Double value() {
             return Double.valueOf(value);
@@ -478,6 +532,25 @@ public class Extractors {
             return count;
         }
 
+        protected int bytesToNextDelimiter(byte[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == arrayDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int numberOfValues(byte[] data, int offset, int length) {
+            int count = length > 0 ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == arrayDelimiter) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         @Override
         public int hashCode() {
             return getClass().hashCode();
@@ -506,6 +579,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new String[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = new String(data, offset + byteIndex, numberOfBytes, StandardCharsets.UTF_8);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class ByteArrayExtractor extends ArrayExtractor<byte[]> {
@@ -525,6 +609,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new byte[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = safeCastLongToByte(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class ShortArrayExtractor extends ArrayExtractor<short[]> {
@@ -544,6 +639,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new short[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = safeCastLongToShort(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class IntArrayExtractor extends ArrayExtractor<int[]> {
@@ -563,6 +669,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new int[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = safeCastLongToInt(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class LongArrayExtractor extends ArrayExtractor<long[]> {
@@ -582,6 +699,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new long[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = extractLong(data, offset + byteIndex, numberOfBytes);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class IntTupleArrayExtractor extends AbstractExtractor<int[][]> {
@@ -635,6 +763,34 @@ public class Extractors {
             return count;
         }
 
+        protected int bytesToNextOuterArrayDelimiter(byte[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == outerArrayDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int bytesToNextInnerTupleDelimiter(byte[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == innerTupleDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int numberOfValues(byte[] data, int offset, int length) {
+            int count = length > 0 ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == outerArrayDelimiter) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         @Override
         public int hashCode() {
             return getClass().hashCode();
@@ -664,6 +820,25 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new int[numberOfValues][innerTupleLength] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextOuterArrayDelimiter(data, offset + byteIndex, length - byteIndex);
+                extractInnerTuple(data, offset + byteIndex, numberOfBytes, arrayIndex);
+                byteIndex += numberOfBytes;
+            }
+        }
+
+        private void extractInnerTuple(byte[] data, int offset, int length, int outerArrayIndex) {
+            for (int innerTupleIndex = 0, byteIndex = 0; innerTupleIndex < innerTupleLength; innerTupleIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextInnerTupleDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[outerArrayIndex][innerTupleIndex] = safeCastLongToInt(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class FloatArrayExtractor extends ArrayExtractor<float[]> {
@@ -684,6 +859,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new float[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = Float.parseFloat(asciiString(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class DoubleArrayExtractor extends ArrayExtractor<double[]> {
@@ -704,6 +890,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new double[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = Double.parseDouble(asciiString(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class BooleanArrayExtractor extends ArrayExtractor<boolean[]> {
@@ -723,6 +920,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new boolean[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = extractBoolean(data, offset + byteIndex, numberOfBytes);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static long extractLong(char[] data, int offset, int length) {
@@ -743,6 +951,37 @@ public class Extractors {
         return negate ? -result : result;
     }
 
+    private static long extractLong(byte[] data, int offset, int length) {
+        if (length == 0) {
+            throw new NumberFormatException("For input string \"\"");
+        }
+
+        long result = 0;
+        int i = 0;
+        boolean negate = false;
+        if (data[offset] == '-') {
+            negate = true;
+            i++;
+        }
+        for (; i < length; i++) {
+            result = result * 10 + digit(data[offset + i]);
+        }
+        return negate ? -result : result;
+    }
+
+    private static int digit(byte b) {
+        int digit = b - '0';
+        if ((digit < 0) || (digit > 9)) {
+            throw new NumberFormatException("Invalid digit byte " + digit + " where the original byte was " + b);
+        }
+        return digit;
+    }
+
+    // numbers are ASCII, any other byte becomes a replacement character, which parsing then rejects
+    private static String asciiString(byte[] data, int offset, int length) {
+        return new String(data, offset, length, StandardCharsets.US_ASCII);
+    }
+
     private static int digit(char ch) {
         int digit = ch - '0';
         if ((digit < 0) || (digit > 9)) {
@@ -771,6 +1010,18 @@ public class Extractors {
         return true;
     }
 
+    private static boolean extractBoolean(byte[] data, int offset, int length) {
+        if (BOOLEAN_TRUE_CHARACTERS.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (data[offset + i] != BOOLEAN_TRUE_CHARACTERS[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static int safeCastLongToInt(long value) {
         if (value > Integer.MAX_VALUE) {
             throw new UnsupportedOperationException("Not supported a.t.m");
@@ -20,6 +20,14 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -79,6 +87,79 @@ public class Readables {
         };
     }
 
+    /**
+     * Decodes characters directly from {@code bytes}, f.ex. a memory mapped region of a file, reading from its position
+     * up to its limit. Reads always fill the requested length, unless the end of {@code bytes} is reached.
+     */
+    public static CharReadable wrap(final ByteBuffer bytes, Charset charset) {
+        final CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        return new CharReadable() {
+            private boolean flushed;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (flushed) {
+                    return -1;
+                }
+                CharBuffer chars = CharBuffer.wrap(buffer, offset, length);
+                CoderResult result = decoder.decode(bytes, chars, true);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (!bytes.hasRemaining() && result.isUnderflow()) {
+                    result = decoder.flush(chars);
+                    if (result.isUnderflow()) {
+                        flushed = true;
+                    }
+                }
+                int read = chars.position() - offset;
+                return (read == 0 && flushed) ? -1 : read;
+            }
+
+            @Override
+            public void close() throws IOException {   // Nothing to close, bytes are owned by the caller
+            }
+        };
+    }
+
+    /**
+     * Reads {@code bytes}, f.ex. a memory mapped region of a file, from its position up to its limit, as a channel.
+     * Useful for {@link BufferedUtf8CharSeeker}, which then copies chunks of them without decoding.
+     */
+    public static ReadableByteChannel channel(final ByteBuffer bytes) {
+        return new ReadableByteChannel() {
+            private boolean open = true;
+
+            @Override
+            public int read(ByteBuffer target) throws IOException {
+                if (!open) {
+                    throw new ClosedChannelException();
+                }
+                if (!bytes.hasRemaining()) {
+                    return -1;
+                }
+                int read = Math.min(bytes.remaining(), target.remaining());
+                ByteBuffer chunk = bytes.duplicate();
+                chunk.limit(chunk.position() + read);
+                target.put(chunk);
+                bytes.position(bytes.position() + read);
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return open;
+            }
+
+            @Override
+            public void close() throws IOException {   // Nothing to close, bytes are owned by the caller
+                open = false;
+            }
+        };
+    }
+
     private static final RawFunction<File, CharReadable, IOException> FROM_FILE = new RawFunction<File, CharReadable, IOException>() {
         @Override
         public CharReadable apply(File file) throws IOException {
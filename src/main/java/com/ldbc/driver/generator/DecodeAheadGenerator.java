@@ -0,0 +1,326 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.util.PaddedAtomicLong;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Retrieves elements of the source iterator on a separate (decoder) thread, so when a consumer asks for the next
+ * element it has usually already been decoded, e.g., parsed from CSV and instantiated.
+ * <p>
+ * Decoded elements are handed to the consumer in batches, through a bounded single producer single consumer ring of
+ * batches. Batch arrays are allocated once and reused. A batch is published when it is full, or earlier when the
+ * consumer is waiting for it.
+ * <p>
+ * Source iterator must only be used by this generator. Its resources, if any, are closed after the decoder thread
+ * has stopped.
+ */
+public class DecodeAheadGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> implements Closeable
+{
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    public static final int DEFAULT_BATCH_COUNT = 16;
+    private static final int SPIN_COUNT = 100;
+    private static final long PARK_TIME_AS_NANO = 100_000;
+
+    private final String name;
+    private final Closeable sourceCloseable;
+    private final Object[][] batches;
+    private final int[] batchSizes;
+    private final int mask;
+    // count of batches published by decoder thread
+    private final PaddedAtomicLong published = new PaddedAtomicLong( 0 );
+    // count of batches released by consumer
+    private final PaddedAtomicLong released = new PaddedAtomicLong( 0 );
+    private final DecoderThread decoderThread;
+    private volatile Thread waitingConsumer = null;
+    private volatile boolean closed = false;
+
+    // consumer state
+    private Object[] batch = null;
+    private int batchSize = 0;
+    private int batchIndex = 0;
+    private long consumerWaitCount = 0;
+
+    public DecodeAheadGenerator( String name, Iterator<GENERATE_TYPE> source, Closeable sourceCloseable )
+    {
+        this( name, source, sourceCloseable, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_COUNT );
+    }
+
+    /**
+     * @param batchCount number of batches in ring, must be a power of 2
+     */
+    public DecodeAheadGenerator(
+            String name,
+            Iterator<GENERATE_TYPE> source,
+            Closeable sourceCloseable,
+            int batchSize,
+            int batchCount )
+    {
+        if ( batchSize < 1 || batchCount < 1 || Integer.bitCount( batchCount ) != 1 )
+        {
+            throw new GeneratorException(
+                    format( "Batch size must be positive & batch count must be a power of 2, found %s & %s",
+                            batchSize, batchCount ) );
+        }
+        this.name = name;
+        this.sourceCloseable = sourceCloseable;
+        this.batches = new Object[batchCount][batchSize];
+        this.batchSizes = new int[batchCount];
+        this.mask = batchCount - 1;
+        this.decoderThread = new DecoderThread( source );
+        this.decoderThread.start();
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        if ( batchIndex == batchSize && false == nextBatch() )
+        {
+            return null;
+        }
+        GENERATE_TYPE next = (GENERATE_TYPE) batch[batchIndex];
+        batch[batchIndex] = null;
+        batchIndex++;
+        return next;
+    }
+
+    // releases current batch, if any, and waits for the next one. returns false if there are no more batches
+    private boolean nextBatch()
+    {
+        long consumed = released.get();
+        if ( null != batch )
+        {
+            consumed++;
+            released.lazySet( consumed );
+            batch = null;
+            if ( decoderThread.waitingForSpace )
+            {
+                LockSupport.unpark( decoderThread );
+            }
+        }
+        if ( published.get() == consumed && false == decoderThread.finished )
+        {
+            consumerWaitCount++;
+        }
+        int spins = 0;
+        while ( published.get() == consumed )
+        {
+            if ( decoderThread.finished )
+            {
+                if ( published.get() != consumed )
+                {
+                    break;
+                }
+                if ( null != decoderThread.error )
+                {
+                    throw new GeneratorException( format( "Error decoding ahead: %s", name ), decoderThread.error );
+                }
+                return false;
+            }
+            if ( spins < SPIN_COUNT )
+            {
+                spins++;
+                Thread.yield();
+            }
+            else
+            {
+                waitingConsumer = Thread.currentThread();
+                if ( published.get() == consumed && false == decoderThread.finished )
+                {
+                    LockSupport.parkNanos( PARK_TIME_AS_NANO );
+                }
+                waitingConsumer = null;
+            }
+        }
+        int slot = (int) (consumed & mask);
+        batch = batches[slot];
+        batchSize = batchSizes[slot];
+        batchIndex = 0;
+        return true;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    /**
+     * Only accurate after close
+     */
+    public long decodedCount()
+    {
+        return decoderThread.decodedCount;
+    }
+
+    /**
+     * Time decoder thread spent retrieving elements from source, i.e., excluding time it waited for space in ring.
+     * Only accurate after close.
+     */
+    public long decodeDurationAsNano()
+    {
+        return decoderThread.decodeDurationAsNano;
+    }
+
+    /**
+     * Number of times decoder thread found the ring full, i.e., decoding was ahead of consumption. Only accurate after
+     * close.
+     */
+    public long decoderWaitCount()
+    {
+        return decoderThread.waitCount;
+    }
+
+    /**
+     * Number of times consumer found the ring empty, i.e., consumption was waiting on decoding. Only accurate after
+     * close, and only when read by consumer thread.
+     */
+    public long consumerWaitCount()
+    {
+        return consumerWaitCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        double decodeDurationAsMilli = decodeDurationAsNano() / 1000000.0;
+        return format( "%s: decoded %s in %s ms (%s/s), decoder waited %s times, consumer waited %s times",
+                name,
+                decodedCount(),
+                (long) decodeDurationAsMilli,
+                (decodeDurationAsMilli > 0) ? (long) (decodedCount() / (decodeDurationAsMilli / 1000)) : 0,
+                decoderWaitCount(),
+                consumerWaitCount() );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark( decoderThread );
+        try
+        {
+            decoderThread.join();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new IOException( format( "Interrupted while waiting for decoder thread to stop: %s", name ), e );
+        }
+        finally
+        {
+            for ( Object[] batch : batches )
+            {
+                Arrays.fill( batch, null );
+            }
+            if ( null != sourceCloseable )
+            {
+                sourceCloseable.close();
+            }
+        }
+    }
+
+    private class DecoderThread extends Thread
+    {
+        private final Iterator<GENERATE_TYPE> source;
+        private volatile boolean waitingForSpace = false;
+        private volatile boolean finished = false;
+        private volatile Throwable error = null;
+        private long decodedCount = 0;
+        private long decodeDurationAsNano = 0;
+        private long waitCount = 0;
+
+        private DecoderThread( Iterator<GENERATE_TYPE> source )
+        {
+            super( DecodeAheadGenerator.class.getSimpleName() + "-" + name );
+            this.source = source;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                long produced = 0;
+                boolean exhausted = false;
+                while ( false == closed && false == exhausted )
+                {
+                    if ( produced - released.get() == batches.length )
+                    {
+                        waitCount++;
+                        waitingForSpace = true;
+                        if ( produced - released.get() == batches.length && false == closed )
+                        {
+                            LockSupport.parkNanos( PARK_TIME_AS_NANO );
+                        }
+                        waitingForSpace = false;
+                        continue;
+                    }
+                    int slot = (int) (produced & mask);
+                    Object[] batch = batches[slot];
+                    int size = 0;
+                    long startTimeAsNano = System.nanoTime();
+                    try
+                    {
+                        while ( size < batch.length && false == closed )
+                        {
+                            if ( false == source.hasNext() )
+                            {
+                                exhausted = true;
+                                break;
+                            }
+                            batch[size++] = source.next();
+                            // hand over what is ready rather than keep a waiting consumer waiting for a full batch
+                            if ( null != waitingConsumer )
+                            {
+                                break;
+                            }
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        // elements decoded before the error are still published, error is reported after them
+                        error = e;
+                        exhausted = true;
+                    }
+                    decodeDurationAsNano += System.nanoTime() - startTimeAsNano;
+                    if ( size > 0 )
+                    {
+                        decodedCount += size;
+                        batchSizes[slot] = size;
+                        produced++;
+                        published.lazySet( produced );
+                        Thread consumer = waitingConsumer;
+                        if ( null != consumer )
+                        {
+                            LockSupport.unpark( consumer );
+                        }
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                error = e;
+            }
+            finally
+            {
+                finished = true;
+                Thread consumer = waitingConsumer;
+                if ( null != consumer )
+                {
+                    LockSupport.unpark( consumer );
+                }
+            }
+        }
+    }
+}
@@ -513,55 +513,26 @@ public class GeneratorFactory
 
     /**
      * Returned generator will merge all input generators into one, sorting on the scheduled start time of operations,
-     * ascending
+     * ascending. Operations with equal scheduled start times are returned in the order of their input generators.
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return new OperationMergeSortGenerator( OperationMergeSortGenerator.SortKey.SCHEDULED_START_TIME, generators );
     }
 
     /**
-     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending
+     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending.
+     * Operations with equal time stamps are returned in the order of their input generators.
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return new OperationMergeSortGenerator( OperationMergeSortGenerator.SortKey.TIME_STAMP, generators );
     }
 
     /**
@@ -635,6 +606,20 @@ public class GeneratorFactory
         return new RepeatingGenerator<>( generator );
     }
 
+    /**
+     * Returned generator will loop over input parameter rows indefinitely, like repeating(), but stores the rows in
+     * packed, primitive, form and returns a new row instance each time.
+     * <p/>
+     * Rows are expected to have the same number of values, each column containing values of one type.
+     *
+     * @param parameters
+     * @return
+     */
+    public Iterator<Object[]> repeatingParameters( Iterator<Object[]> parameters )
+    {
+        return new PackedRepeatingParametersGenerator( parameters );
+    }
+
     /**
      * Returned generator will iterate over all of the things, once
      *
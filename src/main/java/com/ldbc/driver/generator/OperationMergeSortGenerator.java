@@ -0,0 +1,84 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.util.LongKeyedMinHeap;
+
+import java.util.Iterator;
+
+/**
+ * Merges operation streams that are each sorted by time stamp (or by scheduled start time) into one sorted stream.
+ * <p>
+ * Stream heads are kept in a min heap keyed on the primitive time of each head, so producing the next operation costs
+ * O(log k) comparisons of longs for k streams. Operations with equal times are returned in order of their stream in
+ * the input, i.e., the merge is stable.
+ * <p>
+ * A stream is only advanced when the next operation is requested, not when its previous head is returned.
+ */
+class OperationMergeSortGenerator extends Generator<Operation>
+{
+    enum SortKey
+    {
+        TIME_STAMP,
+        SCHEDULED_START_TIME
+    }
+
+    private final Iterator<Operation>[] generators;
+    private final Operation[] heads;
+    private final LongKeyedMinHeap heap;
+    private final boolean sortByTimeStamp;
+    private boolean initialized = false;
+    // stream whose head was returned last, and that has not been advanced yet
+    private int returnedFrom = -1;
+
+    OperationMergeSortGenerator( SortKey sortKey, Iterator<Operation>... generators )
+    {
+        this.generators = generators;
+        this.heads = new Operation[generators.length];
+        this.heap = new LongKeyedMinHeap( generators.length );
+        this.sortByTimeStamp = SortKey.TIME_STAMP == sortKey;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException
+    {
+        if ( false == initialized )
+        {
+            for ( int i = 0; i < generators.length; i++ )
+            {
+                if ( generators[i].hasNext() )
+                {
+                    heads[i] = generators[i].next();
+                    heap.add( i, keyOf( heads[i] ) );
+                }
+            }
+            initialized = true;
+        }
+        else if ( -1 != returnedFrom )
+        {
+            if ( generators[returnedFrom].hasNext() )
+            {
+                heads[returnedFrom] = generators[returnedFrom].next();
+                heap.replaceTopKey( keyOf( heads[returnedFrom] ) );
+            }
+            else
+            {
+                heap.removeTop();
+            }
+            returnedFrom = -1;
+        }
+
+        if ( heap.isEmpty() )
+        {
+            return null;
+        }
+        returnedFrom = heap.peekValue();
+        Operation head = heads[returnedFrom];
+        heads[returnedFrom] = null;
+        return head;
+    }
+
+    private long keyOf( Operation operation )
+    {
+        return (sortByTimeStamp) ? operation.timeStamp() : operation.scheduledStartTimeAsMilli();
+    }
+}
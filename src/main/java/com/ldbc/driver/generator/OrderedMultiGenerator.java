@@ -8,6 +8,9 @@ import java.util.List;
 public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
     private final List<GeneratorHead<GENERATE_TYPE>> generatorHeads;
     private final Comparator<GENERATE_TYPE> comparator;
+    private int[] heap;
+    private int heapSize = 0;
+    private boolean heapInitialized = false;
 
     public OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
         this.comparator = comparator;
@@ -36,27 +39,68 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
 
     @Override
     protected GENERATE_TYPE doNext() throws GeneratorException {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = getMinGeneratorHead();
-        return (null == minGeneratorHead) ? null : minGeneratorHead.removeHead();
+        if (false == heapInitialized) {
+            initializeHeap();
+        }
+        if (0 == heapSize) return null;
+        GeneratorHead<GENERATE_TYPE> minGeneratorHead = generatorHeads.get(heap[0]);
+        GENERATE_TYPE minHead = minGeneratorHead.removeHead();
+        if (null == minGeneratorHead.inspectHead()) {
+            // generator is empty, remove it from heap
+            heapSize--;
+            heap[0] = heap[heapSize];
+        }
+        siftDown(0);
+        return minHead;
     }
 
-    private GeneratorHead<GENERATE_TYPE> getMinGeneratorHead() {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = null;
-
-        // Get generator head with lowest head element (removing empty ones encountered first)
+    // Heap of indexes of non-empty generator heads, ordered by head element, then by index. So with equal head
+    // elements, generator that was passed first is returned first, as with a linear scan over generator heads, but
+    // getting the generator head with lowest head element costs O(log k) comparisons rather than O(k)
+    private void initializeHeap() {
+        heap = new int[generatorHeads.size()];
         for (int i = 0; i < generatorHeads.size(); i++) {
-            GeneratorHead<GENERATE_TYPE> generatorHead = generatorHeads.get(i);
-            if (null == generatorHead) continue;
-            if (null == generatorHead.inspectHead()) {
-                generatorHeads.set(i, null);
-                continue;
-            }
-            if (null == minGeneratorHead || comparator.compare(generatorHead.inspectHead(), minGeneratorHead.inspectHead()) < 0) {
-                minGeneratorHead = generatorHead;
+            if (null == generatorHeads.get(i).inspectHead()) continue;
+            heap[heapSize] = i;
+            siftUp(heapSize);
+            heapSize++;
+        }
+        heapInitialized = true;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (false == less(index, heap[parent])) break;
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = index;
+    }
+
+    private void siftDown(int position) {
+        if (position >= heapSize) return;
+        int index = heap[position];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < heapSize && less(heap[right], heap[child])) {
+                child = right;
             }
+            if (false == less(heap[child], index)) break;
+            heap[position] = heap[child];
+            position = child;
         }
+        heap[position] = index;
+    }
 
-        return minGeneratorHead;
+    private boolean less(int index1, int index2) {
+        int comparison = comparator.compare(
+                generatorHeads.get(index1).inspectHead(),
+                generatorHeads.get(index2).inspectHead());
+        return comparison < 0 || (0 == comparison && index1 < index2);
     }
 
     private static interface GeneratorHead<T1> {
@@ -0,0 +1,372 @@
+package com.ldbc.driver.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Loops over parameter rows indefinitely, like {@link RepeatingGenerator}, but rather than retaining every row as
+ * an Object[] of boxed values it stores rows column wise in primitive arrays: Long and Integer columns as long[] &
+ * int[], String columns as int[] codes into a dictionary of distinct strings, and List&lt;String&gt; columns as
+ * int[] codes & offsets. Columns of any other type are retained as references.
+ * <p>
+ * Each returned row is a new Object[], with new lists, so rows may be modified freely.
+ */
+public class PackedRepeatingParametersGenerator extends Generator<Object[]>
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Column[] columns;
+    private final int rowCount;
+    private int row = 0;
+
+    PackedRepeatingParametersGenerator( Iterator<Object[]> parameters )
+    {
+        Dictionary dictionary = new Dictionary();
+        Column[] columns = null;
+        int rowCount = 0;
+        while ( parameters.hasNext() )
+        {
+            Object[] values = parameters.next();
+            if ( null == columns )
+            {
+                columns = new Column[values.length];
+                for ( int i = 0; i < values.length; i++ )
+                {
+                    columns[i] = columnFor( values[i], dictionary );
+                }
+            }
+            else if ( columns.length != values.length )
+            {
+                throw new GeneratorException( format( "Parameter row %s has %s values, previous rows have %s",
+                        rowCount, values.length, columns.length ) );
+            }
+            for ( int i = 0; i < values.length; i++ )
+            {
+                if ( false == columns[i].add( values[i] ) )
+                {
+                    // value does not fit packed column type, fall back to retaining references
+                    columns[i] = new ObjectColumn( columns[i], rowCount );
+                    columns[i].add( values[i] );
+                }
+            }
+            rowCount++;
+        }
+        this.columns = (null == columns) ? new Column[0] : columns;
+        for ( Column column : this.columns )
+        {
+            column.trim();
+        }
+        dictionary.trim();
+        this.rowCount = rowCount;
+    }
+
+    private static Column columnFor( Object value, Dictionary dictionary )
+    {
+        if ( value instanceof Long )
+        {
+            return new LongColumn();
+        }
+        else if ( value instanceof Integer )
+        {
+            return new IntColumn();
+        }
+        else if ( null == value || value instanceof String )
+        {
+            return new StringColumn( dictionary );
+        }
+        else if ( value instanceof List )
+        {
+            return new StringListColumn( dictionary );
+        }
+        else
+        {
+            return new ObjectColumn();
+        }
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    @Override
+    protected Object[] doNext() throws GeneratorException
+    {
+        if ( 0 == rowCount )
+        {
+            return null;
+        }
+        Object[] values = new Object[columns.length];
+        for ( int i = 0; i < columns.length; i++ )
+        {
+            values[i] = columns[i].get( row );
+        }
+        row = (row + 1 == rowCount) ? 0 : row + 1;
+        return values;
+    }
+
+    private interface Column
+    {
+        // returns false if value can not be stored by this column type
+        boolean add( Object value );
+
+        Object get( int row );
+
+        void trim();
+    }
+
+    private static class LongColumn implements Column
+    {
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public boolean add( Object value )
+        {
+            if ( false == value instanceof Long )
+            {
+                return false;
+            }
+            if ( size == values.length )
+            {
+                values = Arrays.copyOf( values, size * 2 );
+            }
+            values[size++] = (Long) value;
+            return true;
+        }
+
+        @Override
+        public Object get( int row )
+        {
+            return values[row];
+        }
+
+        @Override
+        public void trim()
+        {
+            values = Arrays.copyOf( values, size );
+        }
+    }
+
+    private static class IntColumn implements Column
+    {
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public boolean add( Object value )
+        {
+            if ( false == value instanceof Integer )
+            {
+                return false;
+            }
+            if ( size == values.length )
+            {
+                values = Arrays.copyOf( values, size * 2 );
+            }
+            values[size++] = (Integer) value;
+            return true;
+        }
+
+        @Override
+        public Object get( int row )
+        {
+            return values[row];
+        }
+
+        @Override
+        public void trim()
+        {
+            values = Arrays.copyOf( values, size );
+        }
+    }
+
+    private static class StringColumn implements Column
+    {
+        private final Dictionary dictionary;
+        private int[] codes = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private StringColumn( Dictionary dictionary )
+        {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public boolean add( Object value )
+        {
+            if ( null != value && false == value instanceof String )
+            {
+                return false;
+            }
+            if ( size == codes.length )
+            {
+                codes = Arrays.copyOf( codes, size * 2 );
+            }
+            codes[size++] = dictionary.codeFor( (String) value );
+            return true;
+        }
+
+        @Override
+        public Object get( int row )
+        {
+            return dictionary.stringFor( codes[row] );
+        }
+
+        @Override
+        public void trim()
+        {
+            codes = Arrays.copyOf( codes, size );
+        }
+    }
+
+    private static class StringListColumn implements Column
+    {
+        private final Dictionary dictionary;
+        // elements of row i are codes[offsets[i]] to codes[offsets[i + 1] - 1]
+        private int[] offsets = new int[INITIAL_CAPACITY + 1];
+        private int[] codes = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private StringListColumn( Dictionary dictionary )
+        {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public boolean add( Object value )
+        {
+            if ( false == value instanceof List )
+            {
+                return false;
+            }
+            List<?> list = (List<?>) value;
+            for ( Object element : list )
+            {
+                if ( false == element instanceof String )
+                {
+                    return false;
+                }
+            }
+            if ( size + 1 == offsets.length )
+            {
+                offsets = Arrays.copyOf( offsets, offsets.length * 2 );
+            }
+            int offset = offsets[size];
+            if ( offset + list.size() > codes.length )
+            {
+                codes = Arrays.copyOf( codes, Math.max( codes.length * 2, offset + list.size() ) );
+            }
+            for ( Object element : list )
+            {
+                codes[offset++] = dictionary.codeFor( (String) element );
+            }
+            offsets[++size] = offset;
+            return true;
+        }
+
+        @Override
+        public Object get( int row )
+        {
+            List<String> list = new ArrayList<>( offsets[row + 1] - offsets[row] );
+            for ( int i = offsets[row]; i < offsets[row + 1]; i++ )
+            {
+                list.add( dictionary.stringFor( codes[i] ) );
+            }
+            return list;
+        }
+
+        @Override
+        public void trim()
+        {
+            offsets = Arrays.copyOf( offsets, size + 1 );
+            codes = Arrays.copyOf( codes, offsets[size] );
+        }
+    }
+
+    private static class ObjectColumn implements Column
+    {
+        private Object[] values;
+        private int size = 0;
+
+        private ObjectColumn()
+        {
+            this.values = new Object[INITIAL_CAPACITY];
+        }
+
+        private ObjectColumn( Column packedColumn, int rowCount )
+        {
+            this.values = new Object[Math.max( INITIAL_CAPACITY, rowCount * 2 )];
+            for ( int i = 0; i < rowCount; i++ )
+            {
+                values[size++] = packedColumn.get( i );
+            }
+        }
+
+        @Override
+        public boolean add( Object value )
+        {
+            if ( size == values.length )
+            {
+                values = Arrays.copyOf( values, size * 2 );
+            }
+            values[size++] = value;
+            return true;
+        }
+
+        @Override
+        public Object get( int row )
+        {
+            return values[row];
+        }
+
+        @Override
+        public void trim()
+        {
+            values = Arrays.copyOf( values, size );
+        }
+    }
+
+    // distinct strings of all columns, parameter values (tags, countries, etc.) tend to repeat across rows
+    private static class Dictionary
+    {
+        private static final int NULL_CODE = -1;
+
+        // only needed while packing
+        private Map<String,Integer> codes = new HashMap<>();
+        private final ArrayList<String> strings = new ArrayList<>();
+
+        private int codeFor( String string )
+        {
+            if ( null == string )
+            {
+                return NULL_CODE;
+            }
+            Integer code = codes.get( string );
+            if ( null == code )
+            {
+                code = strings.size();
+                codes.put( string, code );
+                strings.add( string );
+            }
+            return code;
+        }
+
+        private String stringFor( int code )
+        {
+            return (NULL_CODE == code) ? null : strings.get( code );
+        }
+
+        private void trim()
+        {
+            codes = null;
+            strings.trimToSize();
+        }
+    }
+}
@@ -10,12 +10,20 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.executor.MultiplexedOperationStreamExecutorService;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.TimingWheelOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategy;
 import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.ArrayList;
@@ -46,8 +54,14 @@ public class WorkloadRunner
             CompletionTimeService completionTimeService,
             LoggingServiceFactory loggingServiceFactory,
             int threadCount,
+            OperationExecutorType operationExecutorType,
+            ChildOperationMode childOperationMode,
+            int blockingStreamThreadCount,
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
+            SpinnerWaitStrategy spinnerWaitStrategy,
+            ScheduleLagRecorder scheduleLagRecorder,
+            ChildOperationChainRecorder childOperationChainRecorder,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
     {
@@ -60,8 +74,14 @@ public class WorkloadRunner
                 completionTimeService,
                 loggingServiceFactory,
                 threadCount,
+                operationExecutorType,
+                childOperationMode,
+                blockingStreamThreadCount,
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
+                spinnerWaitStrategy,
+                scheduleLagRecorder,
+                childOperationChainRecorder,
                 ignoreScheduleStartTimes,
                 operationHandlerExecutorsBoundedQueueSize
         );
@@ -90,8 +110,14 @@ public class WorkloadRunner
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
+                OperationExecutorType operationExecutorType,
+                ChildOperationMode childOperationMode,
+                int blockingStreamThreadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                SpinnerWaitStrategy spinnerWaitStrategy,
+                ScheduleLagRecorder scheduleLagRecorder,
+                ChildOperationChainRecorder childOperationChainRecorder,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
         {
@@ -104,8 +130,14 @@ public class WorkloadRunner
                     completionTimeService,
                     loggingServiceFactory,
                     threadCount,
+                    operationExecutorType,
+                    childOperationMode,
+                    blockingStreamThreadCount,
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
+                    spinnerWaitStrategy,
+                    scheduleLagRecorder,
+                    childOperationChainRecorder,
                     ignoreScheduleStartTimes,
                     operationHandlerExecutorsBoundedQueueSize
             );
@@ -276,6 +308,8 @@ public class WorkloadRunner
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
+        // when set, executes all blocking streams, rather than one blocking stream executor service per stream
+        private final MultiplexedOperationStreamExecutorService multiplexedBlockingStreamExecutorService;
         private final long statusDisplayIntervalAsMilli;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
 
@@ -293,15 +327,27 @@ public class WorkloadRunner
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
+                OperationExecutorType operationExecutorType,
+                ChildOperationMode childOperationMode,
+                int blockingStreamThreadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                SpinnerWaitStrategy spinnerWaitStrategy,
+                ScheduleLagRecorder scheduleLagRecorder,
+                ChildOperationChainRecorder childOperationChainRecorder,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            this.spinner = new Spinner(
+                    timeSource,
+                    spinnerSleepDurationAsMilli,
+                    ignoreScheduleStartTimes,
+                    spinnerWaitStrategy,
+                    scheduleLagRecorder
+            );
 
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
@@ -327,19 +373,65 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            switch ( operationExecutorType )
+            {
+            case THREAD_POOL:
+                this.executorForAsynchronous = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        childOperationMode,
+                        childOperationChainRecorder
+                );
+                break;
+            case TIMING_WHEEL:
+                this.executorForAsynchronous = new TimingWheelOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        ignoreScheduleStartTimes,
+                        childOperationMode,
+                        childOperationChainRecorder
+                );
+                break;
+            case VIRTUAL_THREAD:
+                this.executorForAsynchronous = new VirtualThreadOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator(),
+                        childOperationMode,
+                        loggingServiceFactory.loggingServiceFor(
+                                VirtualThreadOperationExecutor.class.getSimpleName() )
+                );
+                break;
+            default:
+                throw new WorkloadException(
+                        format( "Unrecognized %s: %s", OperationExecutorType.class.getSimpleName(),
+                                operationExecutorType ) );
+            }
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
@@ -347,6 +439,7 @@ public class WorkloadRunner
                     completionTimeWriterForAsynchronous
             );
 
+            List<CompletionTimeWriter> completionTimeWritersForBlocking = new ArrayList<>();
             for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
             {
                 // only create a completion time writer for an executor if it contains at least one READ_WRITE operation
@@ -374,13 +467,31 @@ public class WorkloadRunner
                         blockingStream.childOperationGenerator()
                 );
                 this.executorsForBlocking.add( executorForBlocking );
-                this.blockingStreamExecutorServices.add(
-                        new OperationStreamExecutorService(
-                                errorReporter,
-                                blockingStream,
-                                executorForBlocking,
-                                completionTimeWriterForBlocking
-                        )
+                completionTimeWritersForBlocking.add( completionTimeWriterForBlocking );
+                if ( 0 == blockingStreamThreadCount )
+                {
+                    this.blockingStreamExecutorServices.add(
+                            new OperationStreamExecutorService(
+                                    errorReporter,
+                                    blockingStream,
+                                    executorForBlocking,
+                                    completionTimeWriterForBlocking
+                            )
+                    );
+                }
+            }
+            if ( 0 == blockingStreamThreadCount )
+            {
+                this.multiplexedBlockingStreamExecutorService = null;
+            }
+            else
+            {
+                this.multiplexedBlockingStreamExecutorService = new MultiplexedOperationStreamExecutorService(
+                        blockingStreamThreadCount,
+                        errorReporter,
+                        workloadStreams.blockingStreamDefinitions(),
+                        executorsForBlocking,
+                        completionTimeWritersForBlocking
                 );
             }
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
@@ -399,11 +510,15 @@ public class WorkloadRunner
                 workloadStatusThread.start();
             }
 
-            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
-            executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
-            for ( int i = 0; i < blockingStreamExecutorServices.size(); i++ )
+            List<AtomicBoolean> executorFinishedFlags = new ArrayList<>();
+            executorFinishedFlags.add( asynchronousStreamExecutorService.execute() );
+            for ( OperationStreamExecutorService blockingStreamExecutorService : blockingStreamExecutorServices )
             {
-                executorFinishedFlags[i + 1] = blockingStreamExecutorServices.get( i ).execute();
+                executorFinishedFlags.add( blockingStreamExecutorService.execute() );
+            }
+            if ( null != multiplexedBlockingStreamExecutorService )
+            {
+                executorFinishedFlags.add( multiplexedBlockingStreamExecutorService.execute() );
             }
 
             stateRef.set( WorkloadRunnerThreadState.RUNNING );
@@ -420,9 +535,9 @@ public class WorkloadRunner
 
                 // All executors have completed --> return
                 boolean allExecutorsHaveCompleted = true;
-                for ( int i = 0; i < executorFinishedFlags.length; i++ )
+                for ( AtomicBoolean executorFinishedFlag : executorFinishedFlags )
                 {
-                    if ( !executorFinishedFlags[i].get() )
+                    if ( !executorFinishedFlag.get() )
                     {
                         allExecutorsHaveCompleted = false;
                         break;
@@ -499,6 +614,23 @@ public class WorkloadRunner
                 }
             }
 
+            if ( null != multiplexedBlockingStreamExecutorService )
+            {
+                try
+                {
+                    multiplexedBlockingStreamExecutorService.shutdown( shutdownWait );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while shutting down %s\n%s\n",
+                                    multiplexedBlockingStreamExecutorService.getClass().getSimpleName(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
+            }
+
             try
             {
                 // if forced shutdown (error) some handlers likely still running,
@@ -9,6 +9,14 @@ public interface CompletionTimeService extends CompletionTimeReader
 
     Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException;
 
+    /**
+     * --- BLOCKING CALL (until completion time reaches timeAsMilli, or maxWaitAsMilli elapses) ---
+     * Waiting threads are woken when completion time advances, they do not poll it.
+     *
+     * @return completion time, lower than timeAsMilli only if wait time elapsed first
+     */
+    long awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsMilli ) throws CompletionTimeException;
+
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
     void shutdown() throws CompletionTimeException;
@@ -47,13 +47,56 @@ public class CompletionTimeServiceAssistant
 
     public SynchronizedCompletionTimeService newSynchronizedCompletionTimeService() throws CompletionTimeException
     {
-        return new SynchronizedCompletionTimeService();
+        return newSynchronizedCompletionTimeService( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    public SynchronizedCompletionTimeService newSynchronizedCompletionTimeService(
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService( completionTimeTrackerType );
     }
 
     public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
     {
-        return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        return newThreadedQueuedCompletionTimeService(
+                timeSource,
+                errorReporter,
+                CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
+    {
+        return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter, completionTimeTrackerType );
+    }
+
+    public ShardedCompletionTimeService newShardedCompletionTimeService(
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
+    {
+        return new ShardedCompletionTimeService( completionTimeTrackerType );
+    }
+
+    public CompletionTimeService newCompletionTimeService(
+            CompletionTimeServiceType completionTimeServiceType,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
+    {
+        switch ( completionTimeServiceType )
+        {
+        case SYNCHRONIZED:
+            return newSynchronizedCompletionTimeService( completionTimeTrackerType );
+        case THREADED_QUEUED:
+            return newThreadedQueuedCompletionTimeService( timeSource, errorReporter, completionTimeTrackerType );
+        case SHARDED:
+            return newShardedCompletionTimeService( completionTimeTrackerType );
+        default:
+            throw new CompletionTimeException(
+                    "Unrecognized completion time service type: " + completionTimeServiceType );
+        }
     }
 }
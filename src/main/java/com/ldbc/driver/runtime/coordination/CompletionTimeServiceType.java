@@ -0,0 +1,17 @@
+package com.ldbc.driver.runtime.coordination;
+
+public enum CompletionTimeServiceType
+{
+    /**
+     * Every initiated & completed time, from every writer, is applied while holding one lock
+     */
+    SYNCHRONIZED,
+    /**
+     * Every initiated & completed time, from every writer, is queued to and applied by one thread
+     */
+    THREADED_QUEUED,
+    /**
+     * Every writer tracks its own completion time, global completion time is computed when read
+     */
+    SHARDED
+}
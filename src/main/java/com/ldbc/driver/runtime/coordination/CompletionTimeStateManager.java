@@ -26,12 +26,19 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker;
+    private final CompletedTimeTracker completedTimeTracker;
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
     {
+        this( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    CompletionTimeStateManager( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.initiatedTimeTracker = completionTimeTrackerType.newInitiatedTimeTracker();
+        this.completedTimeTracker = completionTimeTrackerType.newCompletedTimeTracker();
     }
 
     @Override
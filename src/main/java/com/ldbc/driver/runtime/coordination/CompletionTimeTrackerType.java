@@ -0,0 +1,39 @@
+package com.ldbc.driver.runtime.coordination;
+
+public enum CompletionTimeTrackerType
+{
+    /**
+     * Initiated and completed times are held, boxed, in sorted multisets
+     */
+    TREE_MULTISET,
+    /**
+     * Initiated times are held in a primitive ring buffer, completed times in a primitive heap
+     */
+    PRIMITIVE;
+
+    CompletionTimeStateManager.InitiatedTimeTracker newInitiatedTimeTracker()
+    {
+        switch ( this )
+        {
+        case TREE_MULTISET:
+            return CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+        case PRIMITIVE:
+            return new PrimitiveInitiatedTimeTracker();
+        default:
+            throw new IllegalStateException( "Unrecognized completion time tracker: " + this );
+        }
+    }
+
+    CompletionTimeStateManager.CompletedTimeTracker newCompletedTimeTracker()
+    {
+        switch ( this )
+        {
+        case TREE_MULTISET:
+            return CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+        case PRIMITIVE:
+            return new PrimitiveCompletedTimeTracker();
+        default:
+            throw new IllegalStateException( "Unrecognized completion time tracker: " + this );
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads waiting for completion time to reach some time, ordered by that time.
+ * <p>
+ * Completion time services call release whenever completion time may have advanced, which wakes exactly the waiters
+ * whose time has been reached, instead of waiters polling completion time. When no waiter can be released, e.g.,
+ * there are no waiters, release returns after one volatile read.
+ * <p>
+ * Waiters register before reading completion time, and services advance completion time before checking for
+ * waiters, so a waiter either reads the advanced completion time or is released by the service that advanced it.
+ */
+public class CompletionTimeWaiterRegistry
+{
+    private static final long NO_WAITERS = Long.MAX_VALUE;
+
+    // guarded by itself
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    // time the first waiter waits for, or NO_WAITERS
+    private volatile long lowestAwaitedTimeAsMilli = NO_WAITERS;
+
+    public boolean hasWaiters()
+    {
+        return NO_WAITERS != lowestAwaitedTimeAsMilli;
+    }
+
+    /**
+     * --- BLOCKING CALL (until completion time reaches timeAsMilli, or maxWaitAsMilli elapses) ---
+     *
+     * @return completion time, lower than timeAsMilli only if wait time elapsed first
+     */
+    public long await( long timeAsMilli, long maxWaitAsMilli, CompletionTimeReader completionTimeReader )
+            throws CompletionTimeException
+    {
+        long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+        if ( completionTimeAsMilli >= timeAsMilli || maxWaitAsMilli <= 0 )
+        {
+            return completionTimeAsMilli;
+        }
+        Waiter waiter = new Waiter( timeAsMilli, Thread.currentThread() );
+        synchronized ( waiters )
+        {
+            waiters.add( waiter );
+            lowestAwaitedTimeAsMilli = waiters.peek().timeAsMilli;
+        }
+        try
+        {
+            // completion time may have advanced before waiter was registered
+            completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+            long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( maxWaitAsMilli );
+            while ( completionTimeAsMilli < timeAsMilli && !waiter.released )
+            {
+                long remainingAsNano = deadlineAsNano - System.nanoTime();
+                if ( remainingAsNano <= 0 )
+                {
+                    break;
+                }
+                LockSupport.parkNanos( this, remainingAsNano );
+                if ( waiter.released )
+                {
+                    completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+                }
+            }
+            return completionTimeAsMilli;
+        }
+        finally
+        {
+            if ( !waiter.released )
+            {
+                synchronized ( waiters )
+                {
+                    waiters.remove( waiter );
+                    lowestAwaitedTimeAsMilli = (waiters.isEmpty()) ? NO_WAITERS : waiters.peek().timeAsMilli;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wakes all waiters waiting for completionTimeAsMilli or lower
+     */
+    public void release( long completionTimeAsMilli )
+    {
+        if ( completionTimeAsMilli < lowestAwaitedTimeAsMilli )
+        {
+            return;
+        }
+        synchronized ( waiters )
+        {
+            while ( !waiters.isEmpty() && waiters.peek().timeAsMilli <= completionTimeAsMilli )
+            {
+                Waiter waiter = waiters.poll();
+                waiter.released = true;
+                LockSupport.unpark( waiter.thread );
+            }
+            lowestAwaitedTimeAsMilli = (waiters.isEmpty()) ? NO_WAITERS : waiters.peek().timeAsMilli;
+        }
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final long timeAsMilli;
+        private final Thread thread;
+        private volatile boolean released = false;
+
+        private Waiter( long timeAsMilli, Thread thread )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.thread = thread;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            return Long.compare( timeAsMilli, other.timeAsMilli );
+        }
+    }
+}
@@ -30,9 +30,16 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
     private final List<CompletionTimeReaderWriter> completionTimeReaderWriters = new ArrayList<>();
     private long completionTimeAsMilli = -1;
     private long initiationTimeAsMilli = -1;
+    private final CompletionTimeTrackerType completionTimeTrackerType;
 
     MultiWriterCompletionTimeStateManager()
     {
+        this( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    MultiWriterCompletionTimeStateManager( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
     }
 
     @Override
@@ -102,7 +109,8 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         case ADD_WRITER:
         {
             int nextWriterId = completionTimeReaderWriters.size();
-            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager();
+            CompletionTimeReaderWriter completionTimeReaderWriter =
+                    new CompletionTimeStateManager( completionTimeTrackerType );
             CompletionTimeWriter completionTimeWriter =
                     new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
             completionTimeReaderWriters.add( completionTimeReaderWriter );
@@ -0,0 +1,87 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.Arrays;
+
+/**
+ * Completed time tracker backed by a binary min-heap of primitive longs.
+ * <p>
+ * Completed times arrive in (almost) any order, but are only ever removed from the low end, i.e., lower than the
+ * lowest uncompleted initiated time, so a heap is all that is needed.
+ * <p>
+ * Allocates nothing, other than when the heap needs to grow. It is NOT thread-safe.
+ */
+class PrimitiveCompletedTimeTracker implements CompletionTimeStateManager.CompletedTimeTracker
+{
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private long[] heap;
+    private int size = 0;
+
+    PrimitiveCompletedTimeTracker()
+    {
+        this( DEFAULT_INITIAL_CAPACITY );
+    }
+
+    PrimitiveCompletedTimeTracker( int initialCapacity )
+    {
+        this.heap = new long[Math.max( 1, initialCapacity )];
+    }
+
+    @Override
+    public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+    {
+        if ( size == heap.length )
+        { heap = Arrays.copyOf( heap, heap.length << 1 ); }
+        int index = size++;
+        while ( index > 0 )
+        {
+            int parent = (index - 1) >>> 1;
+            if ( heap[parent] <= completedTimeAsMilli )
+            { break; }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = completedTimeAsMilli;
+    }
+
+    @Override
+    public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+    {
+        long highestRemovedAsMilli = -1;
+        while ( size > 0 && heap[0] < timeAsMilli )
+        {
+            // times are removed in ascending order, every removed time is higher than the previous one
+            highestRemovedAsMilli = heap[0];
+            removeLowest();
+        }
+        return highestRemovedAsMilli;
+    }
+
+    private void removeLowest()
+    {
+        long last = heap[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while ( index < half )
+        {
+            int child = (index << 1) + 1;
+            if ( child + 1 < size && heap[child + 1] < heap[child] )
+            { child++; }
+            if ( last <= heap[child] )
+            { break; }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = last;
+    }
+
+    @Override
+    public String toString()
+    {
+        long[] completedTimesAsMilli = Arrays.copyOf( heap, size );
+        Arrays.sort( completedTimesAsMilli );
+        return "PrimitiveCompletedTimeTracker{" +
+               "completedTimesAsMilli=" + Arrays.toString( completedTimesAsMilli ) +
+               '}';
+    }
+}
@@ -0,0 +1,171 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import static java.lang.String.format;
+
+/**
+ * Initiated time tracker backed by a ring buffer of primitive longs.
+ * <p>
+ * Exploits the fact that initiated times are submitted in ascending order, i.e., appending to the ring buffer keeps
+ * it sorted. Equal times share one entry, with a count of how many of them are still uncompleted.
+ * Completed times are found by binary search, and entries are only removed from the head of the ring buffer,
+ * once their counts reach zero. Lowest uncompleted initiated time is then always at the head.
+ * <p>
+ * Allocates nothing, other than when the ring buffer needs to grow. It is NOT thread-safe.
+ */
+class PrimitiveInitiatedTimeTracker implements CompletionTimeStateManager.InitiatedTimeTracker
+{
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private long[] times;
+    private int[] counts;
+    private int mask;
+    private int head = 0;
+    private int size = 0;
+    private long lastKnownLowestInitiatedTimeAsMilli = -1;
+    private long highestInitiatedTimeAsMilli = -1;
+    private int uncompletedInitiatedTimes = 0;
+
+    PrimitiveInitiatedTimeTracker()
+    {
+        this( DEFAULT_INITIAL_CAPACITY );
+    }
+
+    PrimitiveInitiatedTimeTracker( int initialCapacity )
+    {
+        int capacity = Integer.highestOneBit( Math.max( 2, initialCapacity - 1 ) ) << 1;
+        this.times = new long[capacity];
+        this.counts = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+            throws CompletionTimeException
+    {
+        if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+        {
+            String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                    + "  Submitted: %s (%s ms)\n"
+                                    + "  Previous: %s (%s ms)",
+                    temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                    temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                    highestInitiatedTimeAsMilli
+            );
+            throw new CompletionTimeException( errMsg );
+        }
+        highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+        if ( 0 == uncompletedInitiatedTimes )
+        { lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli; }
+        int tail = (head + size - 1) & mask;
+        if ( size > 0 && times[tail] == initiatedTimeAsMilli )
+        {
+            counts[tail]++;
+        }
+        else
+        {
+            if ( size == times.length )
+            { grow(); }
+            tail = (head + size) & mask;
+            times[tail] = initiatedTimeAsMilli;
+            counts[tail] = 1;
+            size++;
+        }
+        uncompletedInitiatedTimes++;
+        return lastKnownLowestInitiatedTimeAsMilli;
+    }
+
+    @Override
+    public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+    {
+        int index = indexOf( timeAsMilli );
+        if ( -1 == index || 0 == counts[index] )
+        {
+            throw new CompletionTimeException( format(
+                    "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                    timeAsMilli ) );
+        }
+        counts[index]--;
+        uncompletedInitiatedTimes--;
+        while ( size > 0 && 0 == counts[head] )
+        {
+            head = (head + 1) & mask;
+            size--;
+        }
+        if ( 0 == uncompletedInitiatedTimes )
+        { lastKnownLowestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli; }
+        else
+        { lastKnownLowestInitiatedTimeAsMilli = times[head]; }
+        return lastKnownLowestInitiatedTimeAsMilli;
+    }
+
+    @Override
+    public long highestInitiatedTimeAsMilli()
+    {
+        return highestInitiatedTimeAsMilli;
+    }
+
+    @Override
+    public int uncompletedInitiatedTimes()
+    {
+        return uncompletedInitiatedTimes;
+    }
+
+    // binary search over entries, which are in ascending order from head
+    private int indexOf( long timeAsMilli )
+    {
+        int low = 0;
+        int high = size - 1;
+        while ( low <= high )
+        {
+            int middle = (low + high) >>> 1;
+            long middleTimeAsMilli = times[(head + middle) & mask];
+            if ( middleTimeAsMilli < timeAsMilli )
+            { low = middle + 1; }
+            else if ( middleTimeAsMilli > timeAsMilli )
+            { high = middle - 1; }
+            else
+            { return (head + middle) & mask; }
+        }
+        return -1;
+    }
+
+    private void grow()
+    {
+        int newCapacity = times.length << 1;
+        long[] newTimes = new long[newCapacity];
+        int[] newCounts = new int[newCapacity];
+        for ( int i = 0; i < size; i++ )
+        {
+            newTimes[i] = times[(head + i) & mask];
+            newCounts[i] = counts[(head + i) & mask];
+        }
+        times = newTimes;
+        counts = newCounts;
+        mask = newCapacity - 1;
+        head = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder( "[" );
+        for ( int i = 0; i < size; i++ )
+        {
+            int index = (head + i) & mask;
+            if ( i > 0 )
+            { sb.append( ", " ); }
+            sb.append( times[index] ).append( " x " ).append( counts[index] );
+        }
+        sb.append( "]" );
+        return "PrimitiveInitiatedTimeTracker{" +
+               "initiatedTimesAsMilli=" + sb.toString() +
+               ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+               ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+               ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+               '}';
+    }
+}
@@ -0,0 +1,206 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.util.concurrent.Futures;
+import com.ldbc.driver.util.PaddedAtomicLong;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Completion time service without a central queue or thread.
+ * <p>
+ * Every writer tracks its own (local) completion time, and publishes its last known lowest initiated time & local
+ * completion time to padded atomics, i.e., writers never contend with one another.
+ * Global completion time is computed lazily, when read, as in MultiWriterCompletionTimeStateManager:
+ * the highest local completion time that is lower than the lowest of the initiated times of all writers.
+ * <p>
+ * Published values only ever increase, so values read from writers that are being written concurrently are, at
+ * worst, lower than the latest ones, which can only make global completion time lower than it could be, never higher.
+ * To make use of that, initiated times of all writers are read before any of their completion times are read.
+ */
+public class ShardedCompletionTimeService implements CompletionTimeService
+{
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+    private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
+    // highest global completion time computed so far, global completion time never decreases
+    private final PaddedAtomicLong completionTimeAsMilli = new PaddedAtomicLong( -1 );
+    private volatile ShardedCompletionTimeWriter[] writers = new ShardedCompletionTimeWriter[0];
+    private final CompletionTimeWaiterRegistry completionTimeWaiters = new CompletionTimeWaiterRegistry();
+
+    ShardedCompletionTimeService( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return lowestInitiatedTimeAsMilli( writers );
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        ShardedCompletionTimeWriter[] currentWriters = writers;
+        long lowestInitiatedTimeAsMilli = lowestInitiatedTimeAsMilli( currentWriters );
+        long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        if ( -1 == lowestInitiatedTimeAsMilli )
+        {
+            // if any initiation times are null, initiation time and completion time are undefined
+            return previousCompletionTimeAsMilli;
+        }
+        long newCompletionTimeAsMilli = previousCompletionTimeAsMilli;
+        for ( ShardedCompletionTimeWriter writer : currentWriters )
+        {
+            long writerCompletionTimeAsMilli = writer.completionTimeAsMilli.get();
+            // completion time must be lower than initiation time
+            if ( -1 != writerCompletionTimeAsMilli &&
+                 writerCompletionTimeAsMilli < lowestInitiatedTimeAsMilli &&
+                 writerCompletionTimeAsMilli > newCompletionTimeAsMilli )
+            {
+                newCompletionTimeAsMilli = writerCompletionTimeAsMilli;
+            }
+        }
+        while ( newCompletionTimeAsMilli > previousCompletionTimeAsMilli )
+        {
+            if ( completionTimeAsMilli.compareAndSet( previousCompletionTimeAsMilli, newCompletionTimeAsMilli ) )
+            {
+                return newCompletionTimeAsMilli;
+            }
+            previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        }
+        return previousCompletionTimeAsMilli;
+    }
+
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        ShardedCompletionTimeWriter writer = new ShardedCompletionTimeWriter(
+                writers.length,
+                new CompletionTimeStateManager( completionTimeTrackerType ),
+                sharedIsShuttingDownReference,
+                this );
+        ShardedCompletionTimeWriter[] newWriters = Arrays.copyOf( writers, writers.length + 1 );
+        newWriters[newWriters.length - 1] = writer;
+        writers = newWriters;
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return Futures.immediateFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    public long awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsMilli ) throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, maxWaitAsMilli, this );
+    }
+
+    // global completion time is only computed when there are waiters that it may release
+    private void releaseWaiters() throws CompletionTimeException
+    {
+        if ( completionTimeWaiters.hasWaiters() )
+        {
+            completionTimeWaiters.release( completionTimeAsMilli() );
+        }
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return new ArrayList<CompletionTimeWriter>( Arrays.asList( writers ) );
+    }
+
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        sharedIsShuttingDownReference.set( true );
+    }
+
+    private static long lowestInitiatedTimeAsMilli( ShardedCompletionTimeWriter[] writers )
+    {
+        long lowestInitiatedTimeAsMilli = -1;
+        for ( ShardedCompletionTimeWriter writer : writers )
+        {
+            long writerInitiatedTimeAsMilli = writer.lastKnownLowestInitiatedTimeAsMilli.get();
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                return -1;
+            }
+            else if ( -1 == lowestInitiatedTimeAsMilli || writerInitiatedTimeAsMilli < lowestInitiatedTimeAsMilli )
+            {
+                lowestInitiatedTimeAsMilli = writerInitiatedTimeAsMilli;
+            }
+        }
+        return lowestInitiatedTimeAsMilli;
+    }
+
+    /**
+     * Writers may be written to by multiple threads, e.g., initiated times by the thread that submits operations,
+     * and completed times by the threads that execute them, but writers never contend with one another
+     */
+    public static class ShardedCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final int writerId;
+        private final CompletionTimeStateManager localCompletionTimeStateManager;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        private final ShardedCompletionTimeService completionTimeService;
+        private final PaddedAtomicLong lastKnownLowestInitiatedTimeAsMilli = new PaddedAtomicLong( -1 );
+        private final PaddedAtomicLong completionTimeAsMilli = new PaddedAtomicLong( -1 );
+
+        private ShardedCompletionTimeWriter( int writerId,
+                CompletionTimeStateManager localCompletionTimeStateManager,
+                AtomicBoolean sharedIsShuttingDownReference,
+                ShardedCompletionTimeService completionTimeService )
+        {
+            this.writerId = writerId;
+            this.localCompletionTimeStateManager = localCompletionTimeStateManager;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.completionTimeService = completionTimeService;
+        }
+
+        @Override
+        synchronized public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            localCompletionTimeStateManager.submitInitiatedTime( timeAsMilli );
+            publish();
+        }
+
+        @Override
+        synchronized public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            localCompletionTimeStateManager.submitCompletedTime( timeAsMilli );
+            publish();
+        }
+
+        // initiated time is published first, it is read first too
+        // global completion time can only advance when a published value does
+        private void publish() throws CompletionTimeException
+        {
+            long newInitiatedTimeAsMilli = localCompletionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli();
+            long newCompletionTimeAsMilli = localCompletionTimeStateManager.completionTimeAsMilli();
+            if ( newInitiatedTimeAsMilli != lastKnownLowestInitiatedTimeAsMilli.get() ||
+                 newCompletionTimeAsMilli != completionTimeAsMilli.get() )
+            {
+                lastKnownLowestInitiatedTimeAsMilli.set( newInitiatedTimeAsMilli );
+                completionTimeAsMilli.set( newCompletionTimeAsMilli );
+                completionTimeService.releaseWaiters();
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return "ShardedCompletionTimeWriter{" + "writerId=" + writerId + '}';
+        }
+    }
+}
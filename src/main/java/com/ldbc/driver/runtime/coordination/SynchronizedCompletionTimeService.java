@@ -9,6 +9,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
 {
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final List<CompletionTimeWriter> completionTimeWriters;
+    private final CompletionTimeWaiterRegistry completionTimeWaiters = new CompletionTimeWaiterRegistry();
 
     private enum Event
     {
@@ -18,7 +19,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         GET_ALL_WRITERS
     }
 
-    SynchronizedCompletionTimeService() throws CompletionTimeException
+    SynchronizedCompletionTimeService( CompletionTimeTrackerType completionTimeTrackerType )
+            throws CompletionTimeException
     {
         // *** CT Reader ***
         // Completion Time will only get read from MultiWriterCompletionTimeStateManager,
@@ -33,7 +35,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         this.completionTimeWriters = new ArrayList<>();
     }
 
@@ -62,6 +64,12 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (long) processEvent( Event.READ_COMPLETION_TIME );
     }
 
+    @Override
+    public long awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsMilli ) throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, maxWaitAsMilli, this );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
@@ -89,7 +97,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
             }
             case CREATE_NEW_COMPLETION_TIME_WRITER:
             {
-                CompletionTimeWriter completionTimeWriter = completionTimeStateManager.newCompletionTimeWriter();
+                CompletionTimeWriter completionTimeWriter =
+                        new WaiterReleasingCompletionTimeWriter( completionTimeStateManager.newCompletionTimeWriter() );
                 completionTimeWriters.add( completionTimeWriter );
                 return completionTimeWriter;
             }
@@ -105,6 +114,47 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
+    /**
+     * Completion time may only advance when times are submitted, after which waiters it reached are released
+     */
+    private class WaiterReleasingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter completionTimeWriter;
+
+        private WaiterReleasingCompletionTimeWriter( CompletionTimeWriter completionTimeWriter )
+        {
+            this.completionTimeWriter = completionTimeWriter;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitInitiatedTime( timeAsMilli );
+            releaseWaiters();
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitCompletedTime( timeAsMilli );
+            releaseWaiters();
+        }
+
+        private void releaseWaiters() throws CompletionTimeException
+        {
+            if ( completionTimeWaiters.hasWaiters() )
+            {
+                completionTimeWaiters.release( completionTimeStateManager.completionTimeAsMilli() );
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return completionTimeWriter.toString();
+        }
+    }
+
     private static class CompletionTimeAsMilliFuture implements Future<Long>
     {
         private final long completionTimeValueAsMilli;
@@ -30,9 +30,11 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
     private final ConcurrentErrorReporter errorReporter;
     private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    private final CompletionTimeWaiterRegistry completionTimeWaiters = new CompletionTimeWaiterRegistry();
 
     ThreadedQueuedCompletionTimeService( TimeSource timeSource,
-            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
     {
         this.timeSource = timeSource;
         this.errorReporter = errorReporter;
@@ -43,7 +45,9 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                completionTimeWaiters,
+                completionTimeTrackerType );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -53,6 +57,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedCtReference.get();
     }
 
+    @Override
+    public long awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsMilli ) throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, maxWaitAsMilli, this );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
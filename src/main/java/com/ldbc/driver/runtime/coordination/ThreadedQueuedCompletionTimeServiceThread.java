@@ -33,6 +33,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final AtomicLong completionTimeSharedReference;
+    private final CompletionTimeWaiterRegistry completionTimeWaiters;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private Long processedWriteEventCount = 0L;
@@ -43,7 +44,9 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     ThreadedQueuedCompletionTimeServiceThread(
             Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong completionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong completionTimeSharedReference,
+            CompletionTimeWaiterRegistry completionTimeWaiters,
+            CompletionTimeTrackerType completionTimeTrackerType ) throws CompletionTimeException
     {
         super( ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -60,11 +63,12 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        completionTimeStateManager = new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         this.completionTimeWriters = new HashMap<>();
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( completionTimeQueue );
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
+        this.completionTimeWaiters = completionTimeWaiters;
         this.completionTimeSharedReference.set( completionTimeStateManager.completionTimeAsMilli() );
     }
 
@@ -190,6 +194,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         else
         {
             completionTimeSharedReference.set( newCompletionTimeAsMilli );
+            completionTimeWaiters.release( newCompletionTimeAsMilli );
         }
     }
 }
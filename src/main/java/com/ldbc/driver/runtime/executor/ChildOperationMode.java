@@ -0,0 +1,16 @@
+package com.ldbc.driver.runtime.executor;
+
+public enum ChildOperationMode
+{
+    /**
+     * Child operations (e.g., short read chains) are executed one after the other by the thread that completed their
+     * parent, before it moves on to other operations
+     */
+    INLINE,
+    /**
+     * Each child operation is submitted to the worker pool as a task of its own, carrying the state of its chain,
+     * so chains interleave with scheduled operations across all workers.
+     * Only supported by executors with a worker pool, i.e., THREAD_POOL & TIMING_WHEEL, VIRTUAL_THREAD rejects it
+     */
+    ASYNCHRONOUS
+}
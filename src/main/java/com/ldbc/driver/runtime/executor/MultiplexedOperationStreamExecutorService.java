@@ -0,0 +1,302 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.util.LongKeyedMinHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * Executes many blocking streams on a fixed number of threads, rather than on one {@link
+ * OperationStreamExecutorService} thread per stream.
+ * <p>
+ * Each stream executes its operations one at a time & in order, as a stream is only ever held by one thread at a
+ * time. Streams that are not held are kept in a heap, keyed by time stamp of their next operation, and idle threads
+ * always take the stream whose next operation comes first. Scheduled start times are derived from time stamps, so that
+ * operation is also due first, but time stamps are used because under high time compression many operations share
+ * the same scheduled start time, and taking any one of them may leave operations it depends on in the heap.
+ * <p>
+ * A stream that is not held has submitted the initiated time of its next dependency operation, but with one thread
+ * per stream its local completion time would only advance past its previous operation once that next operation
+ * completed, which may never happen while the operation being executed waits on it. So, before submitting the
+ * initiated time of its next dependency operation, each stream also initiates & completes the time just below it,
+ * which is safe because all earlier operations of the stream have completed. The operation that comes first then never
+ * depends on streams that are not held, and streams progress even when there are far fewer threads than streams.
+ */
+public class MultiplexedOperationStreamExecutorService
+{
+    private static final int NO_STREAM = -1;
+
+    private final ConcurrentErrorReporter errorReporter;
+    private final List<WorkloadStreamDefinition> streamDefinitions;
+    private final List<CompletionTimeWriter> completionTimeWriters;
+    private final OperationExecutor[] operationExecutors;
+    private final InitiatedTimeSubmittingOperationRetriever[] operationRetrievers;
+    private final Operation[] nextOperations;
+    private final int threadCount;
+    private final List<StreamWorkerThread> streamWorkerThreads = new ArrayList<>();
+    private final AtomicBoolean hasFinished = new AtomicBoolean( false );
+    private final AtomicBoolean executing = new AtomicBoolean( false );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final AtomicBoolean forceThreadsToTerminate = new AtomicBoolean( false );
+    private final AtomicInteger runningThreads = new AtomicInteger( 0 );
+
+    // guarded by itself
+    private final LongKeyedMinHeap readyStreams;
+    // streams with operations still to execute, guarded by readyStreams
+    private int unfinishedStreamCount = 0;
+
+    /**
+     * @param threadCount           maximum number of threads, fewer are started when there are fewer streams
+     * @param streamDefinitions     blocking streams
+     * @param operationExecutors    executor of each stream, executing operations in the calling thread
+     * @param completionTimeWriters completion time writer of each stream
+     */
+    public MultiplexedOperationStreamExecutorService(
+            int threadCount,
+            ConcurrentErrorReporter errorReporter,
+            List<WorkloadStreamDefinition> streamDefinitions,
+            List<OperationExecutor> operationExecutors,
+            List<CompletionTimeWriter> completionTimeWriters )
+    {
+        if ( threadCount < 1 )
+        {
+            throw new IllegalArgumentException( format( "Thread count must be at least 1, found %s", threadCount ) );
+        }
+        if ( streamDefinitions.size() != operationExecutors.size() ||
+             streamDefinitions.size() != completionTimeWriters.size() )
+        {
+            throw new IllegalArgumentException(
+                    format( "Expected executor & completion time writer for each of %s streams, found %s & %s",
+                            streamDefinitions.size(), operationExecutors.size(), completionTimeWriters.size() ) );
+        }
+        int streamCount = streamDefinitions.size();
+        this.threadCount = threadCount;
+        this.errorReporter = errorReporter;
+        this.streamDefinitions = streamDefinitions;
+        this.completionTimeWriters = completionTimeWriters;
+        this.operationExecutors = operationExecutors.toArray( new OperationExecutor[streamCount] );
+        this.operationRetrievers = new InitiatedTimeSubmittingOperationRetriever[streamCount];
+        this.nextOperations = new Operation[streamCount];
+        this.readyStreams = new LongKeyedMinHeap( Math.max( 1, streamCount ) );
+    }
+
+    synchronized public AtomicBoolean execute()
+    {
+        if ( executing.get() )
+        {
+            return hasFinished;
+        }
+        executing.set( true );
+        for ( int stream = 0; stream < streamDefinitions.size(); stream++ )
+        {
+            operationRetrievers[stream] = new InitiatedTimeSubmittingOperationRetriever(
+                    streamDefinitions.get( stream ),
+                    new GapClosingCompletionTimeWriter( completionTimeWriters.get( stream ) )
+            );
+            if ( operationRetrievers[stream].hasNextOperation() )
+            {
+                unfinishedStreamCount++;
+                if ( !retrieveNextOperation( stream ) )
+                {
+                    finish( stream );
+                }
+            }
+        }
+        int startedThreadCount = Math.min( threadCount, unfinishedStreamCount );
+        if ( 0 == startedThreadCount )
+        {
+            hasFinished.set( true );
+            return hasFinished;
+        }
+        runningThreads.set( startedThreadCount );
+        long factoryTimeStampId = System.currentTimeMillis();
+        for ( int i = 0; i < startedThreadCount; i++ )
+        {
+            StreamWorkerThread streamWorkerThread = new StreamWorkerThread(
+                    getClass().getSimpleName() + "-id(" + factoryTimeStampId + ")" + "-thread(" + i + ")"
+            );
+            streamWorkerThreads.add( streamWorkerThread );
+            streamWorkerThread.start();
+        }
+        return hasFinished;
+    }
+
+    synchronized public void shutdown( long shutdownWait ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        forceThreadsToTerminate.set( true );
+        synchronized ( readyStreams )
+        {
+            readyStreams.notifyAll();
+        }
+        long deadlineAsMilli = System.currentTimeMillis() + shutdownWait;
+        try
+        {
+            for ( StreamWorkerThread streamWorkerThread : streamWorkerThreads )
+            {
+                streamWorkerThread.join( Math.max( 1, deadlineAsMilli - System.currentTimeMillis() ) );
+            }
+        }
+        catch ( Exception e )
+        {
+            String errMsg = format( "Unexpected error encountered while shutting down threads\n%s",
+                    ConcurrentErrorReporter.stackTraceToString( e ) );
+            errorReporter.reportError( this, errMsg );
+        }
+        shutdown.set( true );
+    }
+
+    /**
+     * @return false if stream could not provide its next operation, in which case error has been reported
+     */
+    private boolean retrieveNextOperation( int stream )
+    {
+        try
+        {
+            nextOperations[stream] = operationRetrievers[stream].nextOperation();
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            return false;
+        }
+        synchronized ( readyStreams )
+        {
+            readyStreams.add( stream, nextOperations[stream].timeStamp() );
+            readyStreams.notify();
+        }
+        return true;
+    }
+
+    private void finish( int stream )
+    {
+        nextOperations[stream] = null;
+        synchronized ( readyStreams )
+        {
+            unfinishedStreamCount--;
+            if ( 0 == unfinishedStreamCount )
+            {
+                readyStreams.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * --- BLOCKING CALL (until a stream is ready, all streams have finished, or shutdown is forced) ---
+     *
+     * @return stream whose next operation comes first, or NO_STREAM if there is no more work
+     */
+    private int takeReadyStream() throws InterruptedException
+    {
+        synchronized ( readyStreams )
+        {
+            while ( readyStreams.isEmpty() && unfinishedStreamCount > 0 && !forceThreadsToTerminate.get() )
+            {
+                // every unfinished stream is held by another thread
+                readyStreams.wait();
+            }
+            if ( readyStreams.isEmpty() || forceThreadsToTerminate.get() )
+            {
+                return NO_STREAM;
+            }
+            return readyStreams.removeTop();
+        }
+    }
+
+    private void executeNextOperation( int stream )
+    {
+        try
+        {
+            // --- BLOCKING CALL (until operation, and its child operations, have completed) ---
+            operationExecutors[stream].execute( nextOperations[stream] );
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            finish( stream );
+            return;
+        }
+        if ( !operationRetrievers[stream].hasNextOperation() || !retrieveNextOperation( stream ) )
+        {
+            finish( stream );
+        }
+    }
+
+    private class StreamWorkerThread extends Thread
+    {
+        private StreamWorkerThread( String name )
+        {
+            super( name );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                int stream;
+                while ( NO_STREAM != (stream = takeReadyStream()) )
+                {
+                    executeNextOperation( stream );
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
+            finally
+            {
+                if ( 0 == runningThreads.decrementAndGet() )
+                {
+                    hasFinished.set( true );
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the gap between the previously completed & the next initiated time of a stream, see class comment.
+     * Only valid when the stream submits initiated times after all its earlier operations have completed.
+     */
+    private static class GapClosingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter completionTimeWriter;
+        private long highestInitiatedTimeAsMilli = -1;
+
+        private GapClosingCompletionTimeWriter( CompletionTimeWriter completionTimeWriter )
+        {
+            this.completionTimeWriter = completionTimeWriter;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            // highest possible time is submitted after the last operation was retrieved, not after it completed
+            if ( Long.MAX_VALUE != timeAsMilli && timeAsMilli - 1 >= highestInitiatedTimeAsMilli )
+            {
+                completionTimeWriter.submitInitiatedTime( timeAsMilli - 1 );
+                completionTimeWriter.submitCompletedTime( timeAsMilli - 1 );
+            }
+            completionTimeWriter.submitInitiatedTime( timeAsMilli );
+            highestInitiatedTimeAsMilli = timeAsMilli;
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitCompletedTime( timeAsMilli );
+        }
+    }
+}
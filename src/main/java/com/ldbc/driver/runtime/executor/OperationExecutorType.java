@@ -0,0 +1,19 @@
+package com.ldbc.driver.runtime.executor;
+
+public enum OperationExecutorType
+{
+    /**
+     * Fixed pool of worker threads, each worker waits (in the spinner) for the scheduled start time of the operation
+     * it is given
+     */
+    THREAD_POOL,
+    /**
+     * Operations are held in a timing wheel, and only handed to the fixed pool of worker threads once they are due
+     */
+    TIMING_WHEEL,
+    /**
+     * One (virtual, when supported by the JVM) thread per operation, thread count is the maximum number of
+     * operations in flight
+     */
+    VIRTUAL_THREAD
+}
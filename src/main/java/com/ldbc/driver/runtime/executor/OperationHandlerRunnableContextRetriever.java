@@ -15,6 +15,7 @@ import com.ldbc.driver.runtime.scheduling.CtDependencyCheck;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -23,6 +24,9 @@ import static java.lang.String.format;
 class OperationHandlerRunnableContextRetriever
 {
     private static final CompletionTimeWriter DUMMY_COMPLETION_TIME_WRITER = new DummyCompletionTimeWriter();
+    private static final byte CLASSIFIED = 1;
+    private static final byte DEPENDENCY = 2;
+    private static final byte DEPENDENT = 4;
     private final Db db;
     private final CompletionTimeWriter completionTimeWriter;
     private final Spinner spinner;
@@ -32,6 +36,9 @@ class OperationHandlerRunnableContextRetriever
     private final Set<Class<? extends Operation>> dependencyOperationTypes;
     private final Set<Class<? extends Operation>> dependentOperationTypes;
     private final CtDependencyCheck ctDependencyCheck;
+    // indexed by operation type, filled lazily from the type sets as types are first encountered
+    // races are benign, as every thread computes the same classification for a given type
+    private byte[] operationTypeClassifications = new byte[32];
 
     OperationHandlerRunnableContextRetriever(
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
@@ -67,9 +74,9 @@ class OperationHandlerRunnableContextRetriever
             throw new OperationExecutorException(
                     format( "Error while retrieving handler for operation\nOperation: %s", operation ), e );
         }
+        byte classification = classificationFor( operation );
         CompletionTimeWriter completionTimeWriterForHandler;
-        // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
-        if ( dependencyOperationTypes.contains( operation.getClass() ) )
+        if ( 0 != (classification & DEPENDENCY) )
         {
             completionTimeWriterForHandler = completionTimeWriter;
         }
@@ -92,11 +99,37 @@ class OperationHandlerRunnableContextRetriever
         {
             throw new OperationExecutorException( format( "Error initializing handler for: %s", operation ), e );
         }
-        // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
-        if ( dependentOperationTypes.contains( operation.getClass() ) )
+        if ( 0 != (classification & DEPENDENT) )
         {
             operationHandlerRunnableContext.setBeforeExecuteCheck( ctDependencyCheck );
         }
         return operationHandlerRunnableContext;
     }
+
+    private byte classificationFor( Operation operation )
+    {
+        int operationType = operation.type();
+        byte[] classifications = operationTypeClassifications;
+        if ( operationType < classifications.length && 0 != classifications[operationType] )
+        {
+            return classifications[operationType];
+        }
+        byte classification = CLASSIFIED;
+        if ( dependencyOperationTypes.contains( operation.getClass() ) )
+        {
+            classification |= DEPENDENCY;
+        }
+        if ( dependentOperationTypes.contains( operation.getClass() ) )
+        {
+            classification |= DEPENDENT;
+        }
+        if ( operationType >= classifications.length )
+        {
+            classifications =
+                    Arrays.copyOf( classifications, Math.max( operationType + 1, classifications.length * 2 ) );
+            operationTypeClassifications = classifications;
+        }
+        classifications[operationType] = classification;
+        return classification;
+    }
 }
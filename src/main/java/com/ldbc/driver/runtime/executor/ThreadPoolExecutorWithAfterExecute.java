@@ -0,0 +1,506 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.Function1;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
+{
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ConcurrentErrorReporter errorReporter;
+    private final Semaphore asyncInFlightPermits;
+    private final int maxAsyncInFlight;
+    private final ChildOperationMode childOperationMode;
+    private final ChildOperationChainRecorder childOperationChainRecorder;
+    private final TimeSource timeSource;
+    private final WorkerThreadFactory workerThreadFactory;
+    private final AfterExecuteFun afterExecuteFun = new AfterExecuteFun();
+    private final AsyncCompletionExecutor asyncCompletionExecutor = new AsyncCompletionExecutor();
+    // completions of asynchronous handlers handed off by threads other than workers, run by workers
+    private final Queue<Runnable> pendingAsyncCompletions = new ConcurrentLinkedQueue<>();
+    private final RunPendingAsyncCompletions runPendingAsyncCompletions = new RunPendingAsyncCompletions();
+    // completions of asynchronous handlers handed off, but not yet run
+    private final AtomicLong asyncCompletionsInFlight = new AtomicLong( 0 );
+
+    static ThreadPoolExecutorWithAfterExecute newFixedThreadPool( int threadCount,
+            ThreadFactory threadFactory,
+            AtomicLong uncompletedHandlers,
+            int boundedQueueSize,
+            ChildOperationGenerator childOperationGenerator,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
+            ConcurrentErrorReporter errorReporter,
+            ChildOperationMode childOperationMode,
+            ChildOperationChainRecorder childOperationChainRecorder,
+            TimeSource timeSource )
+    {
+        int corePoolSize = threadCount;
+        int maximumPoolSize = threadCount;
+        long keepAliveTime = 0;
+        TimeUnit unit = TimeUnit.MILLISECONDS;
+        BlockingQueue<Runnable> workQueue = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
+        return new ThreadPoolExecutorWithAfterExecute(
+                corePoolSize,
+                maximumPoolSize,
+                keepAliveTime,
+                unit,
+                workQueue,
+                new WorkerThreadFactory( threadFactory ),
+                uncompletedHandlers,
+                childOperationGenerator,
+                operationHandlerRunnableContextInitializer,
+                errorReporter,
+                boundedQueueSize,
+                childOperationMode,
+                childOperationChainRecorder,
+                timeSource
+        );
+    }
+
+    private final AtomicLong uncompletedHandlers;
+
+    private ThreadPoolExecutorWithAfterExecute( int corePoolSize,
+            int maximumPoolSize,
+            long keepAliveTime,
+            TimeUnit unit,
+            BlockingQueue<Runnable> workQueue,
+            WorkerThreadFactory workerThreadFactory,
+            AtomicLong uncompletedHandlers,
+            ChildOperationGenerator childOperationGenerator,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            ConcurrentErrorReporter errorReporter,
+            int maxAsyncInFlight,
+            ChildOperationMode childOperationMode,
+            ChildOperationChainRecorder childOperationChainRecorder,
+            TimeSource timeSource )
+    {
+        super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, workerThreadFactory );
+        this.workerThreadFactory = workerThreadFactory;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.uncompletedHandlers = uncompletedHandlers;
+        this.childOperationGenerator = childOperationGenerator;
+        this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+        this.errorReporter = errorReporter;
+        // asynchronous handlers do not occupy worker threads while in flight, so are bounded separately
+        this.asyncInFlightPermits = new Semaphore( maxAsyncInFlight );
+        this.maxAsyncInFlight = maxAsyncInFlight;
+        this.childOperationMode = childOperationMode;
+        this.childOperationChainRecorder = childOperationChainRecorder;
+        this.timeSource = timeSource;
+    }
+
+    @Override
+    public boolean awaitTermination( long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        long deadlineAsNano = System.nanoTime() + unit.toNanos( timeout );
+        if ( !super.awaitTermination( timeout, unit ) )
+        {
+            return false;
+        }
+        // asynchronous operations may still be in flight after every worker has terminated
+        long remainingAsNano = Math.max( 0, deadlineAsNano - System.nanoTime() );
+        if ( !asyncInFlightPermits.tryAcquire( maxAsyncInFlight, remainingAsNano, TimeUnit.NANOSECONDS ) )
+        {
+            return false;
+        }
+        asyncInFlightPermits.release( maxAsyncInFlight );
+        // permits are returned before completions are handed off, completions may still be pending after that,
+        // and as workers have terminated they are run by the calling thread
+        runPendingAsyncCompletions();
+        while ( asyncCompletionsInFlight.get() > 0 )
+        {
+            if ( System.nanoTime() >= deadlineAsNano )
+            {
+                return false;
+            }
+            Spinner.powerNap( 1 );
+        }
+        return true;
+    }
+
+    private boolean isWorkerThread()
+    {
+        return workerThreadFactory.isWorkerThread();
+    }
+
+    // Note, this occurs in same worker thread as run()
+    @Override
+    protected void beforeExecute( Thread thread, Runnable runnable )
+    {
+        super.beforeExecute( thread, runnable );
+        if ( runnable instanceof RunPendingAsyncCompletions )
+        {
+            return;
+        }
+        OperationHandlerRunnableContext operationHandlerRunnableContext;
+        Function1<OperationHandlerRunnableContext,Void,RuntimeException> completionCallback;
+        if ( runnable instanceof ChildOperationChain )
+        {
+            ChildOperationChain childOperationChain = (ChildOperationChain) runnable;
+            operationHandlerRunnableContext = childOperationChain.operationHandlerRunnableContext;
+            completionCallback = childOperationChain;
+        }
+        else
+        {
+            operationHandlerRunnableContext = (OperationHandlerRunnableContext) runnable;
+            completionCallback = afterExecuteFun;
+        }
+        if ( operationHandlerRunnableContext.operationHandler() instanceof AsyncOperationHandler )
+        {
+            // --- BLOCKING CALL (when maximum number of asynchronous operations are in flight) ---
+            asyncInFlightPermits.acquireUninterruptibly();
+        }
+        operationHandlerRunnableContext.setCompletionCallback( completionCallback, asyncCompletionExecutor );
+    }
+
+    // Note, this occurs in same worker thread as run()
+    @Override
+    protected void afterExecute( Runnable runnable, Throwable throwable )
+    {
+        super.afterExecute( runnable, throwable );
+        runPendingAsyncCompletions();
+    }
+
+    /**
+     * Submits task to the work queue, without blocking, as it may be called by the worker threads that drain it
+     *
+     * @return false if task could not be submitted, i.e., work queue is full or executor is shutting down
+     */
+    private boolean trySubmit( Runnable task ) throws InterruptedException
+    {
+        if ( isShutdown() || !getQueue().offer( task, 0, TimeUnit.NANOSECONDS ) )
+        {
+            return false;
+        }
+        // workers of a shutdown executor may have already terminated, in which case no one would take it
+        return !(isShutdown() && getQueue().remove( task ));
+    }
+
+    private void runPendingAsyncCompletions()
+    {
+        Runnable completion;
+        while ( null != (completion = pendingAsyncCompletions.poll()) )
+        {
+            try
+            {
+                completion.run();
+            }
+            finally
+            {
+                asyncCompletionsInFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Submits chain to the work queue, blocking while it is full, so must never be called by worker threads
+     *
+     * @return false if chain could not be submitted, i.e., executor is shutting down
+     */
+    private boolean blockingSubmit( ChildOperationChain childOperationChain ) throws InterruptedException
+    {
+        while ( !isShutdown() )
+        {
+            // --- BLOCKING CALL (when work queue is full), times out periodically to check for shutdown ---
+            if ( getQueue().offer( childOperationChain, 100, TimeUnit.MILLISECONDS ) )
+            {
+                // workers of a shutdown executor may have already terminated, in which case no one would take it
+                return !(isShutdown() && getQueue().remove( childOperationChain ));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Occurs once handler has completed, i.e., in same worker thread as run() for synchronous handlers,
+     * and in the worker that runs the callback handed off by {@link AsyncCompletionExecutor} for asynchronous ones
+     */
+    private class AfterExecuteFun implements Function1<OperationHandlerRunnableContext,Void,RuntimeException>
+    {
+        @Override
+        public Void apply( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            boolean holdsAsyncPermit = holdsAsyncPermit( operationHandlerRunnableContext );
+            // while its children execute, a chain holds the uncompleted handler count of its parent
+            boolean startedChildOperationChain = false;
+            try
+            {
+                if ( ChildOperationMode.ASYNCHRONOUS == childOperationMode )
+                {
+                    startedChildOperationChain = startChildOperationChain( operationHandlerRunnableContext );
+                }
+                else
+                {
+                    childOperationExecutor.execute(
+                            childOperationGenerator,
+                            operationHandlerRunnableContext.operation(),
+                            operationHandlerRunnableContext.resultReporter().result(),
+                            operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                            operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                            operationHandlerRunnableContextRetriever
+                    );
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                if ( !startedChildOperationChain )
+                {
+                    uncompletedHandlers.decrementAndGet();
+                }
+                operationHandlerRunnableContext.cleanup();
+                if ( holdsAsyncPermit )
+                {
+                    asyncInFlightPermits.release();
+                }
+            }
+            return null;
+        }
+
+        private boolean startChildOperationChain( OperationHandlerRunnableContext parentContext ) throws Exception
+        {
+            if ( null == childOperationGenerator )
+            {
+                return false;
+            }
+            double state = childOperationGenerator.initialState();
+            Operation childOperation = childOperationGenerator.nextOperation(
+                    state,
+                    parentContext.operation(),
+                    parentContext.resultReporter().result(),
+                    parentContext.resultReporter().actualStartTimeAsMilli(),
+                    parentContext.resultReporter().runDurationAsNano()
+            );
+            if ( null == childOperation )
+            {
+                return false;
+            }
+            new ChildOperationChain( state, timeSource.nanoSnapshot() ).continueWith( childOperation );
+            return true;
+        }
+    }
+
+    // permits of asynchronous handlers that completed asynchronously are returned by AsyncCompletionExecutor
+    private boolean holdsAsyncPermit( OperationHandlerRunnableContext operationHandlerRunnableContext )
+    {
+        return operationHandlerRunnableContext.operationHandler() instanceof AsyncOperationHandler &&
+               !operationHandlerRunnableContext.completedAsynchronously();
+    }
+
+    /**
+     * Runs the completion callbacks of asynchronous handlers (child operations, context cleanup) in worker threads,
+     * rather than in the threads that completed them, e.g., of a database client. Completion times and results have
+     * already been submitted by then, as operations ahead of the callbacks in the work queue may depend on them.
+     * <p>
+     * Hand offs never block. Callbacks are queued separately from the work queue, and workers run them after every
+     * task, a task that only does that is submitted when there is room in the work queue. When there is not, the
+     * tasks in it are run later, so are the callbacks. The asynchronous permit is returned before the hand off, as
+     * workers waiting for permits could otherwise never get to run it.
+     * Completions in worker threads, i.e., of stages that completed during executeOperationAsync(), are run directly.
+     */
+    private class AsyncCompletionExecutor implements Executor
+    {
+        @Override
+        public void execute( Runnable completion )
+        {
+            if ( isWorkerThread() )
+            {
+                try
+                {
+                    completion.run();
+                }
+                finally
+                {
+                    asyncInFlightPermits.release();
+                }
+                return;
+            }
+            asyncCompletionsInFlight.incrementAndGet();
+            pendingAsyncCompletions.add( completion );
+            asyncInFlightPermits.release();
+            try
+            {
+                trySubmit( runPendingAsyncCompletions );
+            }
+            catch ( InterruptedException e )
+            {
+                // workers run pending completions after every task anyway
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private class RunPendingAsyncCompletions implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            // pending completions are run in afterExecute(), as after any other task
+        }
+    }
+
+    /**
+     * Creates the pool workers, and remembers them, so hand offs to the pool can tell if they are made by a worker
+     */
+    private static class WorkerThreadFactory implements ThreadFactory
+    {
+        private final ThreadFactory threadFactory;
+        private final ThreadLocal<Boolean> isWorkerThread = new ThreadLocal<Boolean>()
+        {
+            @Override
+            protected Boolean initialValue()
+            {
+                return false;
+            }
+        };
+
+        private WorkerThreadFactory( ThreadFactory threadFactory )
+        {
+            this.threadFactory = threadFactory;
+        }
+
+        @Override
+        public Thread newThread( final Runnable runnable )
+        {
+            return threadFactory.newThread( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    isWorkerThread.set( true );
+                    runnable.run();
+                }
+            } );
+        }
+
+        private boolean isWorkerThread()
+        {
+            return isWorkerThread.get();
+        }
+    }
+
+    /**
+     * Chain of child operations, each executed as a task of its own. The chain is both the task that runs the
+     * handler of its current child operation, and the completion callback of that handler, which submits the next
+     * child operation of the chain.
+     */
+    private class ChildOperationChain
+            implements Runnable, Function1<OperationHandlerRunnableContext,Void,RuntimeException>
+    {
+        private final long startTimeAsNano;
+        private double state;
+        private long length = 0;
+        private OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+
+        private ChildOperationChain( double state, long startTimeAsNano )
+        {
+            this.state = state;
+            this.startTimeAsNano = startTimeAsNano;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
+
+        @Override
+        public Void apply( OperationHandlerRunnableContext childContext )
+        {
+            boolean holdsAsyncPermit = holdsAsyncPermit( childContext );
+            Operation nextChildOperation = null;
+            try
+            {
+                nextChildOperation = nextChildOperation( childContext );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error generating child operation\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                childContext.cleanup();
+                if ( holdsAsyncPermit )
+                {
+                    asyncInFlightPermits.release();
+                }
+            }
+            continueWith( nextChildOperation );
+            return null;
+        }
+
+        /**
+         * Submits the next child operation, or completes the chain if there is none.
+         * Worker threads must not block on the work queue they drain, so when it is full they execute the remainder
+         * of the chain themselves, as with {@link ChildOperationMode#INLINE}. Any other thread waits for space in
+         * the work queue, and only executes the remainder of the chain once the executor is shutting down.
+         */
+        private void continueWith( Operation childOperation )
+        {
+            try
+            {
+                while ( null != childOperation )
+                {
+                    operationHandlerRunnableContext =
+                            operationHandlerRunnableContextRetriever.getInitializedHandlerFor( childOperation );
+                    if ( trySubmit( this ) || (!isWorkerThread() && blockingSubmit( this )) )
+                    {
+                        return;
+                    }
+                    OperationHandlerRunnableContext childContext = operationHandlerRunnableContext;
+                    // without completion callback, run() blocks until asynchronous handlers complete
+                    childContext.run();
+                    childOperation = nextChildOperation( childContext );
+                    childContext.cleanup();
+                }
+                childOperationChainRecorder.recordChain( length, timeSource.nanoSnapshot() - startTimeAsNano );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing child operation\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            uncompletedHandlers.decrementAndGet();
+        }
+
+        private Operation nextChildOperation( OperationHandlerRunnableContext childContext ) throws Exception
+        {
+            length++;
+            state = childOperationGenerator.updateState( state, childContext.operation().type() );
+            return childOperationGenerator.nextOperation(
+                    state,
+                    childContext.operation(),
+                    childContext.resultReporter().result(),
+                    childContext.resultReporter().actualStartTimeAsMilli(),
+                    childContext.resultReporter().runDurationAsNano()
+            );
+        }
+    }
+}
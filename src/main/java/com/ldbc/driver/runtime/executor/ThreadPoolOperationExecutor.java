@@ -6,18 +6,16 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
-import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -42,6 +40,37 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                ChildOperationMode.INLINE,
+                new ChildOperationChainRecorder()
+        );
+    }
+
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ,
+            ChildOperationMode childOperationMode,
+            ChildOperationChainRecorder childOperationChainRecorder )
     {
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -75,7 +104,10 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 boundedQueueSize,
                 childOperationGenerator,
                 operationHandlerRunnableContextRetriever,
-                errorReporter
+                errorReporter,
+                childOperationMode,
+                childOperationChainRecorder,
+                timeSource
         );
     }
 
@@ -141,90 +173,4 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
     {
         return uncompletedHandlers.get();
     }
-
-    private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
-    {
-        private final ChildOperationGenerator childOperationGenerator;
-        private final ChildOperationExecutor childOperationExecutor;
-        private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
-        private final ConcurrentErrorReporter errorReporter;
-
-        static ThreadPoolExecutorWithAfterExecute newFixedThreadPool( int threadCount,
-                ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
-                int boundedQueueSize,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
-                ConcurrentErrorReporter errorReporter )
-        {
-            int corePoolSize = threadCount;
-            int maximumPoolSize = threadCount;
-            long keepAliveTime = 0;
-            TimeUnit unit = TimeUnit.MILLISECONDS;
-            BlockingQueue<Runnable> workQueue = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
-            return new ThreadPoolExecutorWithAfterExecute(
-                    corePoolSize,
-                    maximumPoolSize,
-                    keepAliveTime,
-                    unit,
-                    workQueue,
-                    threadFactory,
-                    uncompletedHandlers,
-                    childOperationGenerator,
-                    operationHandlerRunnableContextInitializer,
-                    errorReporter
-            );
-        }
-
-        private final AtomicLong uncompletedHandlers;
-
-        private ThreadPoolExecutorWithAfterExecute( int corePoolSize,
-                int maximumPoolSize,
-                long keepAliveTime,
-                TimeUnit unit,
-                BlockingQueue<Runnable> workQueue,
-                ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
-                ConcurrentErrorReporter errorReporter )
-        {
-            super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
-            this.childOperationExecutor = new ChildOperationExecutor();
-            this.uncompletedHandlers = uncompletedHandlers;
-            this.childOperationGenerator = childOperationGenerator;
-            this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
-            this.errorReporter = errorReporter;
-        }
-
-        // Note, this occurs in same worker thread as beforeExecute() and run()
-        @Override
-        protected void afterExecute( Runnable runnable, Throwable throwable )
-        {
-            super.afterExecute( runnable, throwable );
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
-            try
-            {
-                childOperationExecutor.execute(
-                        childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                        operationHandlerRunnableContextRetriever
-                );
-            }
-            catch ( Throwable e )
-            {
-                errorReporter.reportError( this,
-                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
-            }
-            finally
-            {
-                uncompletedHandlers.decrementAndGet();
-                operationHandlerRunnableContext.cleanup();
-            }
-        }
-    }
 }
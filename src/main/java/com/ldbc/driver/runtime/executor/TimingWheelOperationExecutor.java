@@ -0,0 +1,329 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.TimingWheel;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.Function1;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Holds operations in a timing wheel until their scheduled start time, and only then hands them to worker threads.
+ * Worker threads are never parked waiting for start times of operations that are not yet due, which
+ * (unlike {@link ThreadPoolOperationExecutor}) avoids head-of-line blocking in the worker queue.
+ * <p>
+ * Workers still run operations through the spinner, for dependency (completion time) checks,
+ * but by the time operations reach workers their scheduled start times have already passed.
+ */
+public class TimingWheelOperationExecutor implements OperationExecutor
+{
+    private static final long DISPATCHER_PARK_DURATION_AS_NANO =
+            TimeUnit.MILLISECONDS.toNanos( TimingWheel.DEFAULT_TICK_DURATION_AS_MILLI );
+
+    private final ThreadPoolExecutor threadPoolExecutorService;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final Semaphore heldHandlerPermits;
+    private final DispatcherThread dispatcherThread;
+
+    public TimingWheelOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            boolean ignoreScheduledStartTimes )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                ignoreScheduledStartTimes,
+                ChildOperationMode.INLINE,
+                new ChildOperationChainRecorder()
+        );
+    }
+
+    public TimingWheelOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            boolean ignoreScheduledStartTimes,
+            ChildOperationMode childOperationMode,
+            ChildOperationChainRecorder childOperationChainRecorder )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        TimingWheelOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+            }
+        };
+        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
+                threadCount,
+                threadFactory,
+                uncompletedHandlers,
+                boundedQueueSize,
+                childOperationGenerator,
+                operationHandlerRunnableContextRetriever,
+                errorReporter,
+                childOperationMode,
+                childOperationChainRecorder,
+                timeSource
+        );
+        // bounds number of handlers held in the wheel, i.e., not yet due, same as queue bound of worker pool
+        this.heldHandlerPermits = new Semaphore( boundedQueueSize );
+        this.dispatcherThread = new DispatcherThread(
+                timeSource,
+                threadPoolExecutorService,
+                heldHandlerPermits,
+                errorReporter,
+                ignoreScheduledStartTimes
+        );
+        this.dispatcherThread.start();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            // --- BLOCKING CALL (when bound of held handlers is reached) ---
+            heldHandlerPermits.acquire();
+            dispatcherThread.submit( operationHandlerRunnableContext );
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long startTimeAsMilli = System.currentTimeMillis();
+            // dispatcher terminates once every handler it holds has been handed to the worker pool
+            dispatcherThread.shutdown();
+            dispatcherThread.join( Math.max( 1, waitAsMilli ) );
+            if ( dispatcherThread.isAlive() )
+            {
+                dispatcherThread.forceShutdown();
+                dispatcherThread.join();
+            }
+            threadPoolExecutorService.shutdown();
+            long remainingWaitAsMilli = Math.max( 0, waitAsMilli - (System.currentTimeMillis() - startTimeAsMilli) );
+            boolean allHandlersCompleted =
+                    threadPoolExecutorService.awaitTermination( remainingWaitAsMilli, TimeUnit.MILLISECONDS );
+            long heldHandlers = dispatcherThread.heldHandlerCount();
+            if ( !allHandlersCompleted || heldHandlers > 0 )
+            {
+                List<Runnable> stillRunningThreads = threadPoolExecutorService.shutdownNow();
+                if ( !stillRunningThreads.isEmpty() || heldHandlers > 0 )
+                {
+                    String errMsg = format(
+                            "%s shutdown before all handlers could complete\n%s handlers were not yet due\n" +
+                            "%s handlers were queued for execution but not yet started\n" +
+                            "%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            heldHandlers,
+                            stillRunningThreads.size(),
+                            uncompletedHandlers.get() - stillRunningThreads.size() - heldHandlers );
+                    throw new OperationExecutorException( errMsg );
+                }
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private static class DispatcherThread extends Thread
+    {
+        private final TimeSource timeSource;
+        private final ThreadPoolExecutor threadPoolExecutorService;
+        private final Semaphore heldHandlerPermits;
+        private final ConcurrentErrorReporter errorReporter;
+        private final boolean ignoreScheduledStartTimes;
+        private final Queue<OperationHandlerRunnableContext> submitted = new ConcurrentLinkedQueue<>();
+        private final TimingWheel<OperationHandlerRunnableContext> timingWheel;
+        private final DispatchFun dispatchFun = new DispatchFun();
+        private final AtomicBoolean shutdown = new AtomicBoolean( false );
+        private final AtomicBoolean forcedShutdown = new AtomicBoolean( false );
+        private final AtomicLong heldHandlers = new AtomicLong( 0 );
+
+        private DispatcherThread( TimeSource timeSource,
+                ThreadPoolExecutor threadPoolExecutorService,
+                Semaphore heldHandlerPermits,
+                ConcurrentErrorReporter errorReporter,
+                boolean ignoreScheduledStartTimes )
+        {
+            super( TimingWheelOperationExecutor.class.getSimpleName() + "-dispatcher-" + System.currentTimeMillis() );
+            this.timeSource = timeSource;
+            this.threadPoolExecutorService = threadPoolExecutorService;
+            this.heldHandlerPermits = heldHandlerPermits;
+            this.errorReporter = errorReporter;
+            this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
+            this.timingWheel = new TimingWheel<>( timeSource.nowAsMilli() );
+        }
+
+        private void submit( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            heldHandlers.incrementAndGet();
+            submitted.add( operationHandlerRunnableContext );
+            if ( ignoreScheduledStartTimes )
+            {
+                LockSupport.unpark( this );
+            }
+        }
+
+        private void shutdown()
+        {
+            shutdown.set( true );
+            LockSupport.unpark( this );
+        }
+
+        private void forceShutdown()
+        {
+            forcedShutdown.set( true );
+            LockSupport.unpark( this );
+        }
+
+        private long heldHandlerCount()
+        {
+            return heldHandlers.get();
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( !forcedShutdown.get() && (!shutdown.get() || heldHandlers.get() > 0) )
+                {
+                    long nowAsMilli = timeSource.nowAsMilli();
+                    OperationHandlerRunnableContext operationHandlerRunnableContext;
+                    while ( null != (operationHandlerRunnableContext = submitted.poll()) )
+                    {
+                        if ( ignoreScheduledStartTimes || !timingWheel.add(
+                                operationHandlerRunnableContext.operation().scheduledStartTimeAsMilli(),
+                                operationHandlerRunnableContext ) )
+                        {
+                            dispatchFun.apply( operationHandlerRunnableContext );
+                        }
+                    }
+                    timingWheel.advance( nowAsMilli, dispatchFun );
+                    if ( submitted.isEmpty() )
+                    {
+                        LockSupport.parkNanos( DISPATCHER_PARK_DURATION_AS_NANO );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error dispatching handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private class DispatchFun implements Function1<OperationHandlerRunnableContext,Void,RuntimeException>
+        {
+            @Override
+            public Void apply( OperationHandlerRunnableContext operationHandlerRunnableContext )
+            {
+                // --- BLOCKING CALL (when bounded queue of worker pool is full) ---
+                threadPoolExecutorService.execute( operationHandlerRunnableContext );
+                heldHandlers.decrementAndGet();
+                heldHandlerPermits.release();
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.Function1;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Runs every operation in its own (virtual) thread, allowing thousands of operations to be in flight against
+ * high latency databases, without the cost of thousands of platform threads.
+ * Number of operations in flight is capped by a semaphore, rather than by the size of a thread pool.
+ * <p>
+ * Virtual threads are only available on JDK 21+, they are looked up reflectively as driver is built for Java 8.
+ * On older JVMs a new platform thread is started per operation instead, which behaves the same but costs more,
+ * a warning is logged when the executor is created.
+ * <p>
+ * Child operations are always executed by the thread of their parent, after it completes, i.e., only
+ * {@link ChildOperationMode#INLINE} is supported.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    private static final String VIRTUAL_THREADS_UNSUPPORTED_REASON;
+
+    static
+    {
+        ThreadFactory virtualThreadFactory = null;
+        String unsupportedReason = null;
+        try
+        {
+            virtualThreadFactory = virtualThreadFactory();
+        }
+        catch ( Throwable e )
+        {
+            unsupportedReason = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        VIRTUAL_THREAD_FACTORY = virtualThreadFactory;
+        VIRTUAL_THREADS_UNSUPPORTED_REASON = unsupportedReason;
+    }
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlight;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+    private final ConcurrentErrorReporter errorReporter;
+    private final AfterExecuteFun afterExecuteFun = new AfterExecuteFun();
+    // completions of asynchronous handlers, and their child operations, are run in threads of their own too,
+    // rather than in the threads that completed them, e.g., of a database client
+    private final Executor completionExecutor = new Executor()
+    {
+        @Override
+        public void execute( Runnable completion )
+        {
+            threadFactory.newThread( completion ).start();
+        }
+    };
+
+    public static boolean virtualThreadsSupported()
+    {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+
+    public VirtualThreadOperationExecutor( int maxInFlight,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            ChildOperationMode childOperationMode,
+            LoggingService loggingService )
+    {
+        if ( maxInFlight < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Maximum number of operations in flight must be positive: %s", maxInFlight ) );
+        }
+        if ( ChildOperationMode.INLINE != childOperationMode )
+        {
+            throw new IllegalArgumentException(
+                    format( "%s only supports %s %s, not: %s",
+                            getClass().getSimpleName(),
+                            ChildOperationMode.class.getSimpleName(),
+                            ChildOperationMode.INLINE,
+                            childOperationMode ) );
+        }
+        if ( !virtualThreadsSupported() )
+        {
+            loggingService.warn(
+                    format( "Virtual threads are not supported by this JVM (%s), %s will start a platform thread " +
+                            "per operation instead",
+                            VIRTUAL_THREADS_UNSUPPORTED_REASON,
+                            getClass().getSimpleName() ) );
+        }
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.threadFactory = (virtualThreadsSupported())
+                             ? VIRTUAL_THREAD_FACTORY
+                             : new ThreadFactory()
+                             {
+                                 private final long factoryTimeStampId = System.currentTimeMillis();
+                                 private final AtomicLong count = new AtomicLong( 0 );
+
+                                 @Override
+                                 public Thread newThread( Runnable runnable )
+                                 {
+                                     return new Thread(
+                                             runnable,
+                                             VirtualThreadOperationExecutor.class.getSimpleName() + "-id(" +
+                                             factoryTimeStampId + ")" + "-thread(" + count.getAndIncrement() + ")"
+                                     );
+                                 }
+                             };
+        this.maxInFlight = maxInFlight;
+        this.inFlightPermits = new Semaphore( maxInFlight );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            // --- BLOCKING CALL (when maximum number of operations are in flight) ---
+            inFlightPermits.acquire();
+            operationHandlerRunnableContext.setCompletionCallback( afterExecuteFun, completionExecutor );
+            threadFactory.newThread( operationHandlerRunnableContext ).start();
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            // every permit is returned once every operation in flight has completed
+            boolean allHandlersCompleted =
+                    inFlightPermits.tryAcquire( maxInFlight, waitAsMilli, TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                String errMsg = format(
+                        "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        uncompletedHandlers.get() );
+                throw new OperationExecutorException( errMsg );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private static ThreadFactory virtualThreadFactory() throws Exception
+    {
+        Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+        Class<?> builderType = Class.forName( "java.lang.Thread$Builder" );
+        builder = builderType.getMethod( "name", String.class, long.class )
+                .invoke( builder, VirtualThreadOperationExecutor.class.getSimpleName() + "-thread-", 0l );
+        Method factory = builderType.getMethod( "factory" );
+        return (ThreadFactory) factory.invoke( builder );
+    }
+
+    // same semantics as ThreadPoolExecutorWithAfterExecute, permit is held until operation has completed,
+    // i.e., asynchronous operations remain in flight after their thread has terminated
+    private class AfterExecuteFun implements Function1<OperationHandlerRunnableContext,Void,RuntimeException>
+    {
+        @Override
+        public Void apply( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            try
+            {
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                inFlightPermits.release();
+            }
+            return null;
+        }
+    }
+}
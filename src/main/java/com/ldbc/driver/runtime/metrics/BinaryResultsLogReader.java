@@ -0,0 +1,233 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.BLOCK_HEADER_LENGTH;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.HEADER_LENGTH;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by {@link BinaryResultsLogWriter}, compressed or not
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private final FileChannel channel;
+    private final TimeUnit unit;
+    private final boolean compressed;
+    private final ByteBuffer blockHeader = ByteBuffer.allocateDirect( BLOCK_HEADER_LENGTH );
+    private final List<String> operationNames = new ArrayList<>();
+    private ByteBuffer block = ByteBuffer.allocateDirect( 0 );
+    private ByteBuffer compressedBlock = ByteBuffer.allocateDirect( 0 );
+    private boolean hasRow = false;
+    private int operationTypeId;
+    private long scheduledStartTimeAsMilli;
+    private long actualStartTimeAsMilli;
+    private long runDuration;
+    private int resultCode;
+    private long originalStartTime;
+
+    public static boolean isBinaryResultsLog( File resultsLog ) throws IOException
+    {
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "r" ) )
+        {
+            return file.length() >= HEADER_LENGTH && MAGIC == file.readInt();
+        }
+    }
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this.channel = new RandomAccessFile( resultsLog, "r" ).getChannel();
+        ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH );
+        if ( !readFully( header ) || MAGIC != header.getInt( 0 ) )
+        {
+            channel.close();
+            throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+        }
+        if ( VERSION != header.get( 4 ) )
+        {
+            channel.close();
+            throw new IOException( format( "Unsupported binary results log version %s: %s",
+                    header.get( 4 ), resultsLog.getAbsolutePath() ) );
+        }
+        this.unit = TimeUnit.values()[header.get( 5 )];
+        this.compressed = 1 == header.get( 6 );
+    }
+
+    @Override
+    public boolean next()
+    {
+        try
+        {
+            while ( true )
+            {
+                if ( !block.hasRemaining() && !readBlock() )
+                {
+                    hasRow = false;
+                    return false;
+                }
+                int id = block.getInt();
+                if ( id < 0 )
+                {
+                    byte[] name = new byte[block.getShort()];
+                    block.get( name );
+                    operationNames.add( new String( name, StandardCharsets.UTF_8 ) );
+                    continue;
+                }
+                operationTypeId = id;
+                scheduledStartTimeAsMilli = block.getLong();
+                actualStartTimeAsMilli = block.getLong();
+                runDuration = block.getLong();
+                resultCode = block.getInt();
+                originalStartTime = block.getLong();
+                hasRow = true;
+                return true;
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( "Error reading binary results log", e );
+        }
+    }
+
+    private boolean readBlock() throws IOException
+    {
+        blockHeader.clear();
+        if ( !readFully( blockHeader ) )
+        {
+            return false;
+        }
+        int rawLength = blockHeader.getInt( 0 );
+        int compressedLength = blockHeader.getInt( 4 );
+        if ( block.capacity() < rawLength )
+        {
+            block = ByteBuffer.allocateDirect( rawLength );
+        }
+        block.clear();
+        if ( 0 == compressedLength )
+        {
+            block.limit( rawLength );
+            if ( !readFully( block ) )
+            {
+                throw new IOException( "Binary results log ended mid block" );
+            }
+        }
+        else
+        {
+            if ( !compressed )
+            {
+                throw new IOException( "Compressed block in uncompressed binary results log" );
+            }
+            if ( compressedBlock.capacity() < compressedLength )
+            {
+                compressedBlock = ByteBuffer.allocateDirect( compressedLength );
+            }
+            compressedBlock.clear();
+            compressedBlock.limit( compressedLength );
+            if ( !readFully( compressedBlock ) )
+            {
+                throw new IOException( "Binary results log ended mid block" );
+            }
+            int decompressedLength = Lz4BlockCodec.decompress( compressedBlock, 0, compressedLength, block );
+            if ( decompressedLength != rawLength )
+            {
+                throw new IOException( format( "Block decompressed to %s bytes, expected %s",
+                        decompressedLength, rawLength ) );
+            }
+        }
+        block.position( 0 );
+        block.limit( rawLength );
+        return true;
+    }
+
+    /**
+     * @return false if end of file was reached before reading anything
+     */
+    private boolean readFully( ByteBuffer buffer ) throws IOException
+    {
+        int start = buffer.position();
+        while ( buffer.hasRemaining() )
+        {
+            if ( -1 == channel.read( buffer ) )
+            {
+                if ( buffer.position() == start )
+                {
+                    return false;
+                }
+                throw new IOException( "Binary results log is truncated" );
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertHasRow();
+        return operationNames.get( operationTypeId );
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertHasRow();
+        return scheduledStartTimeAsMilli;
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertHasRow();
+        return actualStartTimeAsMilli;
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertHasRow();
+        return unit.toNanos( runDuration );
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertHasRow();
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertHasRow();
+        return originalStartTime;
+    }
+
+    private void assertHasRow()
+    {
+        if ( !hasRow )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        channel.close();
+    }
+}
@@ -0,0 +1,221 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes results log as fixed width binary records, without creating any objects per operation result.
+ * <p>
+ * File layout:
+ * <pre>
+ * header   : magic (int), version (byte), duration unit ordinal (byte), compressed (byte)
+ * block*   : raw length (int), compressed length (int, 0 if block is stored uncompressed), bytes
+ * </pre>
+ * Decompressed blocks contain whole entries, entries never span blocks. An entry is either a record:
+ * <pre>
+ * operation type id (int, >= 0), scheduled start time (long), actual start time (long), duration (long, in unit),
+ * result code (int), original start time (long)
+ * </pre>
+ * or, the first time an operation type is written, the definition of its id:
+ * <pre>
+ * -(operation type id + 1) (int), name length (short), name (UTF-8 bytes)
+ * </pre>
+ * Records are assembled in a large direct buffer, which is written to the file channel when full, when the writer is
+ * closed, and at most once per flush interval when flushed. Flushing every time flush() is called (i.e., after every
+ * batch of results) would mostly write tiny blocks, which defeats buffering & compression.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    public static final int MAGIC = 0x4C444243;
+    public static final byte VERSION = 1;
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+    public static final long DEFAULT_FLUSH_INTERVAL_AS_MILLI = 1000;
+
+    static final int HEADER_LENGTH = 4 + 1 + 1 + 1;
+    static final int BLOCK_HEADER_LENGTH = 4 + 4;
+    static final int RECORD_LENGTH = 4 + 8 + 8 + 8 + 4 + 8;
+    private static final int MAX_NAME_LENGTH = Short.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final TimeUnit unit;
+    private final Lz4BlockCodec codec;
+    private final ByteBuffer blockHeader = ByteBuffer.allocateDirect( BLOCK_HEADER_LENGTH );
+    private final ByteBuffer block;
+    private final ByteBuffer compressedBlock;
+    private final ByteBuffer[] uncompressedWrite;
+    private final Map<String,Integer> operationTypeIds = new HashMap<>();
+    private final long flushIntervalAsNano;
+    private long lastWriteAsNano;
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, boolean compressed ) throws IOException
+    {
+        this( resultsLog, unit, compressed, DEFAULT_BLOCK_SIZE, DEFAULT_FLUSH_INTERVAL_AS_MILLI );
+    }
+
+    public BinaryResultsLogWriter(
+            File resultsLog,
+            TimeUnit unit,
+            boolean compressed,
+            int blockSize,
+            long flushIntervalAsMilli ) throws IOException
+    {
+        if ( blockSize < RECORD_LENGTH + 4 + 2 + MAX_NAME_LENGTH )
+        {
+            throw new IOException( format( "Block size (%s) must fit the longest operation type definition (%s)",
+                    blockSize, RECORD_LENGTH + 4 + 2 + MAX_NAME_LENGTH ) );
+        }
+        resultsLog.createNewFile();
+        this.channel = new RandomAccessFile( resultsLog, "rw" ).getChannel();
+        this.channel.truncate( 0 );
+        this.unit = unit;
+        this.block = ByteBuffer.allocateDirect( blockSize );
+        if ( compressed )
+        {
+            this.codec = new Lz4BlockCodec();
+            this.compressedBlock = ByteBuffer.allocateDirect(
+                    BLOCK_HEADER_LENGTH + Lz4BlockCodec.maxCompressedLength( blockSize ) );
+            this.uncompressedWrite = null;
+        }
+        else
+        {
+            this.codec = null;
+            this.compressedBlock = null;
+            this.uncompressedWrite = new ByteBuffer[]{blockHeader, block};
+        }
+        this.flushIntervalAsNano = TimeUnit.MILLISECONDS.toNanos( flushIntervalAsMilli );
+
+        ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH );
+        header.putInt( MAGIC );
+        header.put( VERSION );
+        header.put( (byte) unit.ordinal() );
+        header.put( (byte) (compressed ? 1 : 0) );
+        header.flip();
+        writeFully( header );
+        this.lastWriteAsNano = System.nanoTime();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        Integer operationTypeId = operationTypeIds.get( operationName );
+        if ( null == operationTypeId )
+        {
+            operationTypeId = defineOperationType( operationName );
+        }
+        if ( block.remaining() < RECORD_LENGTH )
+        {
+            writeBlock();
+        }
+        block.putInt( operationTypeId );
+        block.putLong( scheduledStartTimeAsMilli );
+        block.putLong( actualStartTimeAsMilli );
+        block.putLong( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+        block.putInt( resultCode );
+        block.putLong( originalStartTime );
+    }
+
+    private int defineOperationType( String operationName ) throws IOException
+    {
+        byte[] name = operationName.getBytes( StandardCharsets.UTF_8 );
+        if ( name.length > MAX_NAME_LENGTH )
+        {
+            throw new IOException( format( "Operation name too long: %s", operationName ) );
+        }
+        int operationTypeId = operationTypeIds.size();
+        if ( block.remaining() < 4 + 2 + name.length )
+        {
+            writeBlock();
+        }
+        block.putInt( -(operationTypeId + 1) );
+        block.putShort( (short) name.length );
+        block.put( name );
+        operationTypeIds.put( operationName, operationTypeId );
+        return operationTypeId;
+    }
+
+    private void writeBlock() throws IOException
+    {
+        lastWriteAsNano = System.nanoTime();
+        int rawLength = block.position();
+        if ( 0 == rawLength )
+        {
+            return;
+        }
+        if ( null == codec )
+        {
+            blockHeader.clear();
+            blockHeader.putInt( rawLength ).putInt( 0 );
+            blockHeader.flip();
+            block.flip();
+            writeFully( uncompressedWrite );
+        }
+        else
+        {
+            compressedBlock.clear();
+            int compressedLength = codec.compress( block, rawLength, compressedBlock, BLOCK_HEADER_LENGTH );
+            if ( compressedLength < rawLength )
+            {
+                compressedBlock.putInt( 0, rawLength ).putInt( 4, compressedLength );
+                compressedBlock.limit( BLOCK_HEADER_LENGTH + compressedLength );
+                writeFully( compressedBlock );
+            }
+            else
+            {
+                // incompressible, store as is
+                blockHeader.clear();
+                blockHeader.putInt( rawLength ).putInt( 0 );
+                blockHeader.flip();
+                block.flip();
+                writeFully( blockHeader, block );
+            }
+        }
+        block.clear();
+    }
+
+    private void writeFully( ByteBuffer... buffers ) throws IOException
+    {
+        ByteBuffer last = buffers[buffers.length - 1];
+        while ( last.hasRemaining() )
+        {
+            channel.write( buffers );
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        if ( System.nanoTime() - lastWriteAsNano >= flushIntervalAsNano )
+        {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        try
+        {
+            writeBlock();
+            channel.force( false );
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.util.DefaultPrettyPrinter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records length (number of child operations) and latency (from completion of the parent operation until completion
+ * of the last child operation) of child operation chains, into histograms of the thread that completes the chain.
+ * Histograms are not safe to read while being written to, snapshots should be taken after recording threads complete.
+ */
+public class ChildOperationChainRecorder
+{
+    private static final TimeUnit LATENCY_UNIT = TimeUnit.MICROSECONDS;
+    private static final long HIGHEST_EXPECTED_LATENCY_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+    private static final long HIGHEST_EXPECTED_LENGTH = 1000000;
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentLinkedQueue<ChainMetrics> chainMetrics = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ChainMetrics> threadChainMetrics = new ThreadLocal<ChainMetrics>()
+    {
+        @Override
+        protected ChainMetrics initialValue()
+        {
+            ChainMetrics metrics = new ChainMetrics();
+            chainMetrics.add( metrics );
+            return metrics;
+        }
+    };
+
+    public void recordChain( long length, long latencyAsNano )
+    {
+        // values are clamped to histogram ranges
+        long lengthInRange = Math.min( Math.max( 1, length ), HIGHEST_EXPECTED_LENGTH );
+        long latencyAsMicro = Math.min( Math.max( 0, LATENCY_UNIT.convert( latencyAsNano, TimeUnit.NANOSECONDS ) ),
+                HIGHEST_EXPECTED_LATENCY_AS_MICRO );
+        ChainMetrics metrics = threadChainMetrics.get();
+        metrics.length.addMeasurement( lengthInRange );
+        metrics.latency.addMeasurement( latencyAsMicro );
+    }
+
+    public ContinuousMetricSnapshot lengthSnapshot()
+    {
+        ContinuousMetricManager combinedLength = newLengthMetric();
+        for ( ChainMetrics metrics : chainMetrics )
+        {
+            combinedLength.add( metrics.length );
+        }
+        return combinedLength.snapshot();
+    }
+
+    public ContinuousMetricSnapshot latencySnapshot()
+    {
+        ContinuousMetricManager combinedLatency = newLatencyMetric();
+        for ( ChainMetrics metrics : chainMetrics )
+        {
+            combinedLatency.add( metrics.latency );
+        }
+        return combinedLatency.snapshot();
+    }
+
+    public String toJson()
+    {
+        Map<String,Object> chains = new LinkedHashMap<>();
+        chains.put( "length", lengthSnapshot() );
+        chains.put( "latency", latencySnapshot() );
+        try
+        {
+            return new ObjectMapper().writer( new DefaultPrettyPrinter() ).writeValueAsString( chains );
+        }
+        catch ( Exception e )
+        {
+            System.out.println( ConcurrentErrorReporter.stackTraceToString( e ) );
+            throw new RuntimeException( "Unable to generate child operation chains string", e );
+        }
+    }
+
+    private static ContinuousMetricManager newLengthMetric()
+    {
+        return new ContinuousMetricManager( "Chain Length", null, HIGHEST_EXPECTED_LENGTH,
+                NUMBER_OF_SIGNIFICANT_DIGITS );
+    }
+
+    private static ContinuousMetricManager newLatencyMetric()
+    {
+        return new ContinuousMetricManager( "Chain Latency", LATENCY_UNIT, HIGHEST_EXPECTED_LATENCY_AS_MICRO,
+                NUMBER_OF_SIGNIFICANT_DIGITS );
+    }
+
+    private static class ChainMetrics
+    {
+        private final ContinuousMetricManager length = newLengthMetric();
+        private final ContinuousMetricManager latency = newLatencyMetric();
+    }
+}
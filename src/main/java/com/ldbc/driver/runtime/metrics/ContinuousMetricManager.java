@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
 import org.HdrHistogram.Histogram;
 
 import java.util.concurrent.TimeUnit;
@@ -33,13 +35,39 @@ public class ContinuousMetricManager
         histogram.recordValue( value );
     }
 
+    public void add( ContinuousMetricManager other )
+    {
+        histogram.add( other.histogram );
+    }
+
+    void add( AbstractHistogram other )
+    {
+        histogram.add( other );
+    }
+
+    void reset()
+    {
+        histogram.reset();
+    }
+
+    /**
+     * @return empty histogram with the same range & precision as this one, safe to record into from many threads
+     */
+    AbstractHistogram newConcurrentHistogram()
+    {
+        return new AtomicHistogram(
+                histogram.getLowestTrackableValue(),
+                histogram.getHighestTrackableValue(),
+                histogram.getNumberOfSignificantValueDigits() );
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot( name, unit, count(), mean(), min(), max(), percentile50(), percentile90(),
                 percentile95(), percentile99(),percentile99_9(), stdDev() );
     }
 
-    private long count()
+    long count()
     {
         return histogram.getTotalCount();
     }
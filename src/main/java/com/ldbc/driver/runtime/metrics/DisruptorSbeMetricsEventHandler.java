@@ -8,6 +8,7 @@ import com.ldbc.driver.temporal.TimeSource;
 import com.lmax.disruptor.EventHandler;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicStampedReference;
@@ -24,7 +25,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
     private final ResultsLogWriter resultsLogWriter;
+    // false if operation results are measured by the threads that submit them
+    private final boolean measureOperationResults;
+    // events processed by this handler, only this handler's thread reads & writes it
     private long processedEventCount = 0L;
+    // processed event count as seen by other threads, published once per batch rather than once per event
+    private volatile long publishedProcessedEventCount = 0L;
     private final String[] operationNames;
     private final MetricsEvent metricsEvent;
 
@@ -35,10 +41,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
-            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+            LoggingServiceFactory loggingServiceFactory,
+            boolean measureOperationResults ) throws MetricsCollectionException
     {
         this.errorReporter = errorReporter;
         this.resultsLogWriter = resultsLogWriter;
+        this.measureOperationResults = measureOperationResults;
         this.metricsManager = new MetricsManager(
                 timeSource,
                 unit,
@@ -61,11 +69,11 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 
     long processedEventCount()
     {
-        return processedEventCount;
+        return publishedProcessedEventCount;
     }
 
     @Override
-    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    public void onEvent( DirectBuffer event, long l, boolean endOfBatch ) throws Exception
     {
         metricsEvent.wrapForDecode(
                 event,
@@ -93,12 +101,16 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            if ( measureOperationResults )
+            {
+                metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            }
             processedEventCount++;
             break;
         }
         case DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS:
         {
+            flush();
             WorkloadStatusSnapshot newStatus = metricsManager.status();
             WorkloadStatusSnapshot oldStatus;
             int oldStamp;
@@ -112,6 +124,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         }
         case DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS:
         {
+            flush();
             WorkloadResultsSnapshot newResults = metricsManager.snapshot();
             WorkloadResultsSnapshot oldResults;
             int oldStamp;
@@ -129,5 +142,18 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             break;
         }
         }
+
+        // end of batch means the handler has caught up with writers, i.e., it is a cheap time to do deferred work.
+        // below saturation every event is a batch of its own, results log writers limit how often they write
+        if ( endOfBatch )
+        {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException
+    {
+        resultsLogWriter.flush();
+        publishedProcessedEventCount = processedEventCount;
     }
 }
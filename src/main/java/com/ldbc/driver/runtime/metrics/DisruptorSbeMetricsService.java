@@ -5,7 +5,6 @@ import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
@@ -23,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
@@ -38,13 +38,23 @@ public class DisruptorSbeMetricsService implements MetricsService
 
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
+    // must be power of 2
+    public static final int DEFAULT_RING_BUFFER_SIZE = 16384;
+    public static final MetricsWaitStrategy DEFAULT_WAIT_STRATEGY = MetricsWaitStrategy.BLOCKING;
+    public static final MetricsRecordingMode DEFAULT_RECORDING_MODE = MetricsRecordingMode.EVENT_HANDLER;
 
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
+    // number of times a writer found the ring buffer full, and had to wait for the event handler to make room
+    private final LongAdder ringBufferFullStalls = new LongAdder();
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final TimeSource timeSource;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
+    // null if operation results are recorded by the event handler
+    private final StripedMetricsRecorder stripedMetricsRecorder;
+    // false if there is nothing for the event handler to do with operation results
+    private final boolean publishOperationResults;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
@@ -57,26 +67,67 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_RING_BUFFER_SIZE,
+                DEFAULT_WAIT_STRATEGY,
+                DEFAULT_RECORDING_MODE
+        );
+    }
+
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringBufferSize,
+            MetricsWaitStrategy waitStrategy,
+            MetricsRecordingMode recordingMode ) throws MetricsCollectionException
+    {
+        if ( ringBufferSize < 1 || Integer.bitCount( ringBufferSize ) != 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Ring buffer size must be a power of 2, but was: %s", ringBufferSize ) );
+        }
 
         this.executor = Executors.newSingleThreadExecutor();
         // Construct the Disruptor
         disruptor = new Disruptor(
                 new MetricsCollectionEventFactory(),
-                bufferSize,
+                ringBufferSize,
                 // Executor that will be used to construct new threads for consumers
                 this.executor,
                 ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
+                waitStrategy.create()
         );
 
+        if ( MetricsRecordingMode.WRITER_THREADS == recordingMode )
+        {
+            stripedMetricsRecorder = new StripedMetricsRecorder(
+                    new MetricsManager(
+                            timeSource,
+                            timeUnit,
+                            maxRuntimeDurationAsNano,
+                            operationTypeToClassMapping,
+                            loggingServiceFactory ),
+                    Runtime.getRuntime().availableProcessors() );
+            publishOperationResults = !(resultsLogWriter instanceof NullResultsLogWriter);
+        }
+        else
+        {
+            stripedMetricsRecorder = null;
+            publishOperationResults = true;
+        }
+
         // Connect the handler
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
@@ -85,7 +136,8 @@ public class DisruptorSbeMetricsService implements MetricsService
                 timeSource,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
-                loggingServiceFactory
+                loggingServiceFactory,
+                null == stripedMetricsRecorder
         );
 
         disruptor.handleEventsWith( eventHandler );
@@ -130,6 +182,20 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( errMsg );
         }
 
+        // halts the event processor, otherwise the executor thread running it never terminates
+        try
+        {
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            String errMsg = format( "%s timed out waiting for %s to shutdown",
+                    getClass().getSimpleName(),
+                    disruptor.getClass().getSimpleName()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+
         try
         {
             executor.shutdown();
@@ -154,19 +220,6 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException(
                     "Error encountered while trying to shutdown metrics service disruptor executor", e );
         }
-
-        try
-        {
-            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
-        }
-        catch ( TimeoutException e )
-        {
-            String errMsg = format( "%s timed out waiting for %s to shutdown",
-                    getClass().getSimpleName(),
-                    disruptor.getClass().getSimpleName()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
         AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
         for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
         {
@@ -183,16 +236,36 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+                new DisruptorSbeMetricsServiceWriter(
+                        initiatedEvents,
+                        ringBufferFullStalls,
+                        ringBuffer,
+                        eventHandler,
+                        stripedMetricsRecorder,
+                        publishOperationResults );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
 
+    /**
+     * @return number of operation results that could not be published immediately, because the ring buffer was full,
+     * i.e., number of times an executor thread stalled waiting for metrics collection to catch up
+     */
+    public long ringBufferFullStallCount()
+    {
+        return ringBufferFullStalls.sum();
+    }
+
     private static class DisruptorSbeMetricsServiceWriter implements MetricsServiceWriter
     {
         private final AtomicLong initiatedEvents;
+        private final LongAdder ringBufferFullStalls;
         private final RingBuffer<DirectBuffer> ringBuffer;
         private final DisruptorSbeMetricsEventHandler eventHandler;
+        // null if operation results are recorded by the event handler
+        private final StripedMetricsRecorder stripedMetricsRecorder;
+        // false if there is nothing for the event handler to do with operation results
+        private final boolean publishOperationResults;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
@@ -200,12 +273,18 @@ public class DisruptorSbeMetricsService implements MetricsService
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
+                LongAdder ringBufferFullStalls,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler eventHandler,
+                StripedMetricsRecorder stripedMetricsRecorder,
+                boolean publishOperationResults )
         {
             this.initiatedEvents = initiatedEvents;
+            this.ringBufferFullStalls = ringBufferFullStalls;
             this.ringBuffer = ringBuffer;
             this.eventHandler = eventHandler;
+            this.stripedMetricsRecorder = stripedMetricsRecorder;
+            this.publishOperationResults = publishOperationResults;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
@@ -229,9 +308,22 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
+            if ( null != stripedMetricsRecorder )
+            {
+                stripedMetricsRecorder.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            }
+            if ( !publishOperationResults )
+            {
+                return;
+            }
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            if ( !ringBuffer.tryPublishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime ) )
+            {
+                ringBufferFullStalls.increment();
+                ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            }
         }
 
         @Override
@@ -241,6 +333,10 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
+            if ( null != stripedMetricsRecorder )
+            {
+                return stripedMetricsRecorder.status();
+            }
             AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
             int oldStamp = statusSnapshotReference.getStamp();
             ringBuffer.publishEvent( getWorkloadStatusTranslator );
@@ -258,6 +354,10 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
+            if ( null != stripedMetricsRecorder )
+            {
+                return stripedMetricsRecorder.snapshot().withRingBufferFullStallCount( ringBufferFullStalls.sum() );
+            }
             AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
             int oldStamp = resultsSnapshotReference.getStamp();
             ringBuffer.publishEvent( getWorkloadResultsTranslator );
@@ -265,7 +365,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
             }
-            return resultsSnapshotReference.getReference();
+            return resultsSnapshotReference.getReference().withRingBufferFullStallCount( ringBufferFullStalls.sum() );
         }
 
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
@@ -0,0 +1,187 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Compresses blocks into the LZ4 block format: sequences of literals followed by a back reference (offset, length)
+ * into the previously decompressed bytes.
+ * <p>
+ * Compression uses a single hash table probe per position, i.e., it trades compression ratio for speed, which suits
+ * results log records well as most of their bytes (high order bytes of times, operation type ids, result codes) repeat
+ * from one record to the next.
+ * <p>
+ * Not thread safe, the hash table is reused between blocks.
+ */
+class Lz4BlockCodec
+{
+    private static final int MIN_MATCH = 4;
+    // last match must start at least 12 bytes before end of block
+    private static final int MF_LIMIT = 12;
+    // last 5 bytes of block are always literals
+    private static final int LAST_LITERALS = 5;
+    private static final int MAX_OFFSET = 65535;
+    private static final int HASH_LOG = 14;
+    private static final int RUN_MASK = 15;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    static int maxCompressedLength( int length )
+    {
+        return length + (length / 255) + 16;
+    }
+
+    /**
+     * @param src bytes [0,srcLength) are compressed
+     * @param dst compressed bytes are written from dstOffset, must have maxCompressedLength(srcLength) remaining
+     * @return compressed length
+     */
+    int compress( ByteBuffer src, int srcLength, ByteBuffer dst, int dstOffset )
+    {
+        int d = dstOffset;
+        int anchor = 0;
+        if ( srcLength > MF_LIMIT )
+        {
+            Arrays.fill( hashTable, -1 );
+            int limit = srcLength - MF_LIMIT;
+            int matchLimit = srcLength - LAST_LITERALS;
+            int i = 0;
+            while ( i < limit )
+            {
+                int sequence = src.getInt( i );
+                int hash = (sequence * -1640531535) >>> (32 - HASH_LOG);
+                int ref = hashTable[hash];
+                hashTable[hash] = i;
+                if ( ref < 0 || i - ref > MAX_OFFSET || src.getInt( ref ) != sequence )
+                {
+                    i++;
+                    continue;
+                }
+                while ( i > anchor && ref > 0 && src.get( i - 1 ) == src.get( ref - 1 ) )
+                {
+                    i--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while ( i + matchLength < matchLimit && src.get( i + matchLength ) == src.get( ref + matchLength ) )
+                {
+                    matchLength++;
+                }
+                d = writeLiterals( src, anchor, i - anchor, matchLength - MIN_MATCH, dst, d );
+                int offset = i - ref;
+                dst.put( d++, (byte) offset );
+                dst.put( d++, (byte) (offset >>> 8) );
+                if ( matchLength - MIN_MATCH >= RUN_MASK )
+                {
+                    d = writeLength( matchLength - MIN_MATCH - RUN_MASK, dst, d );
+                }
+                i += matchLength;
+                anchor = i;
+            }
+        }
+        d = writeLiterals( src, anchor, srcLength - anchor, 0, dst, d );
+        return d - dstOffset;
+    }
+
+    private static int writeLiterals( ByteBuffer src, int from, int length, int matchLengthToken, ByteBuffer dst,
+            int d )
+    {
+        int token = (Math.min( length, RUN_MASK ) << 4) | Math.min( matchLengthToken, RUN_MASK );
+        dst.put( d++, (byte) token );
+        if ( length >= RUN_MASK )
+        {
+            d = writeLength( length - RUN_MASK, dst, d );
+        }
+        for ( int i = 0; i < length; i++ )
+        {
+            dst.put( d++, src.get( from + i ) );
+        }
+        return d;
+    }
+
+    private static int writeLength( int length, ByteBuffer dst, int d )
+    {
+        while ( length >= 255 )
+        {
+            dst.put( d++, (byte) 255 );
+            length -= 255;
+        }
+        dst.put( d++, (byte) length );
+        return d;
+    }
+
+    /**
+     * @param src compressed bytes are [srcOffset,srcOffset+srcLength)
+     * @param dst decompressed bytes are written from 0, must have capacity for all of them
+     * @return decompressed length
+     * @throws IOException if the compressed bytes are malformed
+     */
+    static int decompress( ByteBuffer src, int srcOffset, int srcLength, ByteBuffer dst ) throws IOException
+    {
+        int s = srcOffset;
+        int srcEnd = srcOffset + srcLength;
+        int d = 0;
+        try
+        {
+            while ( true )
+            {
+                int token = src.get( s++ ) & 0xFF;
+                int literalLength = token >>> 4;
+                if ( literalLength == RUN_MASK )
+                {
+                    int b;
+                    do
+                    {
+                        b = src.get( s++ ) & 0xFF;
+                        literalLength += b;
+                    }
+                    while ( b == 255 );
+                }
+                for ( int i = 0; i < literalLength; i++ )
+                {
+                    dst.put( d++, src.get( s++ ) );
+                }
+                if ( s >= srcEnd )
+                {
+                    break;
+                }
+                int offset = (src.get( s ) & 0xFF) | ((src.get( s + 1 ) & 0xFF) << 8);
+                s += 2;
+                if ( offset == 0 || offset > d )
+                {
+                    throw new IOException( format( "Invalid match offset %s at decompressed position %s", offset, d ) );
+                }
+                int matchLength = token & RUN_MASK;
+                if ( matchLength == RUN_MASK )
+                {
+                    int b;
+                    do
+                    {
+                        b = src.get( s++ ) & 0xFF;
+                        matchLength += b;
+                    }
+                    while ( b == 255 );
+                }
+                matchLength += MIN_MATCH;
+                // byte by byte, source and destination may overlap
+                for ( int i = 0; i < matchLength; i++ )
+                {
+                    dst.put( d, dst.get( d - offset ) );
+                    d++;
+                }
+            }
+        }
+        catch ( IndexOutOfBoundsException e )
+        {
+            throw new IOException( "Malformed compressed block", e );
+        }
+        if ( s != srcEnd )
+        {
+            throw new IOException( format( "Compressed block has %s trailing bytes", srcEnd - s ) );
+        }
+        return d;
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.Ordering;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
@@ -155,6 +156,48 @@ public class MetricsManager
         operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
     }
 
+    long toRecordableRunDuration( int operationType, long runDurationAsNano )
+    {
+        return operationTypeMetricsManagers[operationType].toRecordableValue( runDurationAsNano );
+    }
+
+    /**
+     * @return empty histogram that runtimes of the given operation type can be recorded into, from many threads
+     */
+    AbstractHistogram newConcurrentHistogram( int operationType )
+    {
+        return operationTypeMetricsManagers[operationType].newConcurrentHistogram();
+    }
+
+    int operationTypeCount()
+    {
+        return operationTypeMetricsManagers.length;
+    }
+
+    void add( int operationType, AbstractHistogram runtimes )
+    {
+        operationTypeMetricsManagers[operationType].add( runtimes );
+    }
+
+    void add( long startTimeAsMilli, long latestFinishTimeAsMilli )
+    {
+        this.startTimeAsMilli = Math.min( this.startTimeAsMilli, startTimeAsMilli );
+        this.latestFinishTimeAsMilli = Math.max( this.latestFinishTimeAsMilli, latestFinishTimeAsMilli );
+    }
+
+    void reset()
+    {
+        for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
+        {
+            if ( null != operationTypeMetricsManager )
+            {
+                operationTypeMetricsManager.reset();
+            }
+        }
+        this.startTimeAsMilli = Long.MAX_VALUE;
+        this.latestFinishTimeAsMilli = Long.MIN_VALUE;
+    }
+
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
     {
         Map<String,Integer> simpleNameToTypeMapping = simpleNameToTypeMapping( operationTypeToClassMapping );
@@ -205,24 +248,27 @@ public class MetricsManager
     }
 
     WorkloadStatusSnapshot status()
+    {
+        return status( startTimeAsMilli, latestFinishTimeAsMilli, totalOperationCount() );
+    }
+
+    WorkloadStatusSnapshot status( long startTimeAsMilli, long latestFinishTimeAsMilli, long operationCount )
     {
         long nowAsMilli = timeSource.nowAsMilli();
         if ( nowAsMilli < startTimeAsMilli )
         {
             long runDurationAsMilli = 0;
-            long operationCount = 0;
             long durationSinceLastMeasurementAsMilli = 0;
             double operationsPerSecond = 0;
             return new WorkloadStatusSnapshot(
                     runDurationAsMilli,
-                    operationCount,
+                    0,
                     durationSinceLastMeasurementAsMilli,
                     operationsPerSecond );
         }
         else
         {
             long runDurationAsMilli = nowAsMilli - startTimeAsMilli;
-            long operationCount = totalOperationCount();
             long durationSinceLastMeasurementAsMilli =
                     (-1 == latestFinishTimeAsMilli) ? -1 : nowAsMilli - latestFinishTimeAsMilli;
             double operationsPerSecond =
@@ -0,0 +1,15 @@
+package com.ldbc.driver.runtime.metrics;
+
+public enum MetricsRecordingMode
+{
+    /**
+     * Operation results are published to the metrics ring buffer, and recorded by the one thread that consumes it
+     */
+    EVENT_HANDLER,
+    /**
+     * Operation results are recorded by the threads that submit them, into histograms per thread & operation type,
+     * which are merged when results are requested. Ring buffer is then only used to write the results log.
+     * Uses a few MB of memory per thread & operation type.
+     */
+    WRITER_THREADS
+}
@@ -0,0 +1,66 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.LiteBlockingWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+public enum MetricsWaitStrategy
+{
+    /**
+     * Consumer waits on a lock & condition, producers signal it on every publish
+     */
+    BLOCKING,
+    /**
+     * As BLOCKING, but producers only signal when the consumer is actually waiting
+     */
+    LITE_BLOCKING,
+    /**
+     * Consumer spins, then yields, then sleeps, producers never signal
+     */
+    SLEEPING,
+    /**
+     * Consumer spins, then yields, producers never signal. Occupies one core.
+     */
+    YIELDING,
+    /**
+     * Consumer busy spins, producers never signal. Occupies one core, lowest latency.
+     */
+    BUSY_SPIN,
+    /**
+     * Consumer spins, then yields, then falls back to LITE_BLOCKING
+     */
+    PHASED_BACKOFF;
+
+    private static final long PHASED_BACKOFF_SPIN_TIMEOUT_AS_MICRO = 10;
+    private static final long PHASED_BACKOFF_YIELD_TIMEOUT_AS_MICRO = 100;
+
+    public WaitStrategy create()
+    {
+        switch ( this )
+        {
+        case BLOCKING:
+            return new BlockingWaitStrategy();
+        case LITE_BLOCKING:
+            return new LiteBlockingWaitStrategy();
+        case SLEEPING:
+            return new SleepingWaitStrategy();
+        case YIELDING:
+            return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+            return new BusySpinWaitStrategy();
+        case PHASED_BACKOFF:
+            return PhasedBackoffWaitStrategy.withLiteLock(
+                    PHASED_BACKOFF_SPIN_TIMEOUT_AS_MICRO,
+                    PHASED_BACKOFF_YIELD_TIMEOUT_AS_MICRO,
+                    TimeUnit.MICROSECONDS );
+        default:
+            throw new IllegalStateException( "Unrecognized wait strategy: " + this );
+        }
+    }
+}
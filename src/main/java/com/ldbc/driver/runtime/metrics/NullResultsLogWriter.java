@@ -16,6 +16,12 @@ public class NullResultsLogWriter implements ResultsLogWriter
         // do nothing
     }
 
+    @Override
+    public void flush() throws IOException
+    {
+        // do nothing
+    }
+
     @Override
     public void close() throws Exception
     {
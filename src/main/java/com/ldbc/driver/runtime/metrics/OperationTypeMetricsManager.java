@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +40,36 @@ public class OperationTypeMetricsManager
     }
 
     void measure( long runDurationAsNano ) throws MetricsCollectionException
+    {
+        long runtimeInAppropriateUnit = toRecordableValue( runDurationAsNano );
+
+        try
+        {
+            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    runDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    runtimeInAppropriateUnit,
+                    unit.name(),
+                    name,
+                    highestExpectedRuntimeDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    unit.name()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+    }
+
+    /**
+     * Converts runtime to the unit runtimes are recorded in, runtimes above the highest expected runtime are recorded
+     * as the highest expected runtime. Safe to call from any thread.
+     */
+    long toRecordableValue( long runDurationAsNano )
     {
         //
         // Measure operation runtime
@@ -63,28 +94,22 @@ public class OperationTypeMetricsManager
             runDurationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        return unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+    }
 
-        try
-        {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
-        }
-        catch ( Throwable e )
-        {
-            String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
-                    TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
-                    unit.name(),
-                    name,
-                    highestExpectedRuntimeDurationAsNano,
-                    TimeUnit.NANOSECONDS.name(),
-                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
-                    unit.name()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
+    AbstractHistogram newConcurrentHistogram()
+    {
+        return runTimeMetric.newConcurrentHistogram();
+    }
+
+    void add( AbstractHistogram runtimes )
+    {
+        runTimeMetric.add( runtimes );
+    }
+
+    void reset()
+    {
+        runTimeMetric.reset();
     }
 
     public OperationMetricsSnapshot snapshot()
@@ -99,7 +124,7 @@ public class OperationTypeMetricsManager
 
     public long count()
     {
-        return runTimeMetric.snapshot().count();
+        return runTimeMetric.count();
     }
 
     static class OperationMetricsNameComparator implements Comparator<OperationMetricsSnapshot>
@@ -0,0 +1,51 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public enum ResultsLogFormat
+{
+    /**
+     * Human readable, one row per operation result, see {@link SimpleResultsLogWriter}
+     */
+    CSV,
+    /**
+     * Fixed width binary records, see {@link BinaryResultsLogWriter}
+     */
+    BINARY,
+    /**
+     * As BINARY, with blocks of records compressed
+     */
+    BINARY_COMPRESSED;
+
+    public boolean isBinary()
+    {
+        return this != CSV;
+    }
+
+    public ResultsLogWriter newWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return new SimpleResultsLogWriter( resultsLog, unit );
+        case BINARY:
+            return new BinaryResultsLogWriter( resultsLog, unit, false );
+        case BINARY_COMPRESSED:
+            return new BinaryResultsLogWriter( resultsLog, unit, true );
+        default:
+            throw new IllegalStateException( "Unrecognized results log format: " + this );
+        }
+    }
+
+    /**
+     * Opens a results log of any format, the format is detected from the file contents
+     */
+    public static ResultsLogReader newReader( File resultsLog ) throws IOException
+    {
+        return (BinaryResultsLogReader.isBinaryResultsLog( resultsLog ))
+               ? new BinaryResultsLogReader( resultsLog )
+               : new SimpleResultsLogReader( resultsLog );
+    }
+}
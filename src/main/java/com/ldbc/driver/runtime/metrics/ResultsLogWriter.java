@@ -25,4 +25,10 @@ public interface ResultsLogWriter extends AutoCloseable
             long runDurationAsNano,
             int resultCode,
             long originalStartTime ) throws IOException;
+
+    /**
+     * Called when there are (momentarily) no more results to write, e.g., to push buffered results to the log.
+     * As that may be after every result, implementations are expected to limit how often they actually write.
+     */
+    void flush() throws IOException;
 }
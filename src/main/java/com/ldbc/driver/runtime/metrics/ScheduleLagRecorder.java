@@ -0,0 +1,121 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import org.HdrHistogram.AbstractHistogram;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.util.DefaultPrettyPrinter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records schedule lag (actual start time - scheduled start time) of operations, into a fixed number of histograms.
+ * <p>
+ * Like {@link StripedMetricsRecorder}, the histogram (stripe) is selected by thread id. Pool threads have consecutive
+ * ids, so with at least as many stripes as pool threads every pool thread records into a histogram of its own, i.e.,
+ * uncontended. Executors that start a thread per operation (e.g., virtual threads) share the same stripes, so memory
+ * use and output size are bounded by the stripe count, not by the number of threads ever started.
+ * Histograms are safe to record into concurrently, and to snapshot while being recorded into.
+ */
+public class ScheduleLagRecorder
+{
+    private static final String ALL_STRIPES = "All";
+    private static final TimeUnit UNIT = TimeUnit.MICROSECONDS;
+    private static final long HIGHEST_EXPECTED_LAG_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+
+    // used to create stripe histograms, of the same range & precision
+    private final ContinuousMetricManager lagMetricTemplate = newLagMetric( ALL_STRIPES );
+    private final int stripeMask;
+    private final AtomicReferenceArray<AbstractHistogram> stripes;
+
+    public ScheduleLagRecorder()
+    {
+        this( Runtime.getRuntime().availableProcessors() );
+    }
+
+    public ScheduleLagRecorder( int minimumStripeCount )
+    {
+        int stripeCount = Integer.highestOneBit( Math.max( 1, minimumStripeCount - 1 ) ) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicReferenceArray<>( stripeCount );
+    }
+
+    private static ContinuousMetricManager newLagMetric( String name )
+    {
+        return new ContinuousMetricManager( name, UNIT, HIGHEST_EXPECTED_LAG_AS_MICRO, NUMBER_OF_SIGNIFICANT_DIGITS );
+    }
+
+    public void recordLagAsNano( long lagAsNano )
+    {
+        // lag is clamped to histogram range: early starts are recorded as 0, excessive delays as the maximum
+        long lagAsMicro = Math.min( Math.max( 0, UNIT.convert( lagAsNano, TimeUnit.NANOSECONDS ) ),
+                HIGHEST_EXPECTED_LAG_AS_MICRO );
+        stripeFor( Thread.currentThread() ).recordValue( lagAsMicro );
+    }
+
+    private AbstractHistogram stripeFor( Thread thread )
+    {
+        int index = (int) thread.getId() & stripeMask;
+        AbstractHistogram histogram = stripes.get( index );
+        if ( null == histogram )
+        {
+            stripes.compareAndSet( index, null, lagMetricTemplate.newConcurrentHistogram() );
+            histogram = stripes.get( index );
+        }
+        return histogram;
+    }
+
+    /**
+     * @return snapshots of the stripes that have been recorded into, in stripe order
+     */
+    public List<ContinuousMetricSnapshot> stripeSnapshots()
+    {
+        List<ContinuousMetricSnapshot> snapshots = new ArrayList<>();
+        for ( int i = 0; i < stripes.length(); i++ )
+        {
+            AbstractHistogram histogram = stripes.get( i );
+            if ( null != histogram )
+            {
+                ContinuousMetricManager stripeLagMetric = newLagMetric( "Stripe " + i );
+                stripeLagMetric.add( histogram );
+                snapshots.add( stripeLagMetric.snapshot() );
+            }
+        }
+        return snapshots;
+    }
+
+    public ContinuousMetricSnapshot combinedSnapshot()
+    {
+        ContinuousMetricManager combinedLagMetric = newLagMetric( ALL_STRIPES );
+        for ( int i = 0; i < stripes.length(); i++ )
+        {
+            AbstractHistogram histogram = stripes.get( i );
+            if ( null != histogram )
+            {
+                combinedLagMetric.add( histogram );
+            }
+        }
+        return combinedLagMetric.snapshot();
+    }
+
+    public String toJson()
+    {
+        Map<String,Object> scheduleLag = new LinkedHashMap<>();
+        scheduleLag.put( "combined", combinedSnapshot() );
+        scheduleLag.put( "per_stripe", stripeSnapshots() );
+        try
+        {
+            return new ObjectMapper().writer( new DefaultPrettyPrinter() ).writeValueAsString( scheduleLag );
+        }
+        catch ( Exception e )
+        {
+            System.out.println( ConcurrentErrorReporter.stackTraceToString( e ) );
+            throw new RuntimeException( "Unable to generate schedule lag string", e );
+        }
+    }
+}
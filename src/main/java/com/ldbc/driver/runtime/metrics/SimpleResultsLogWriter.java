@@ -6,15 +6,31 @@ import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Rows are buffered, and written to the file when the buffer is full, when the writer is closed, and at most once per
+ * flush interval when flushed. Flushing every time flush() is called (i.e., after every batch of results, which below
+ * saturation is every result) would cost a write per result.
+ */
 public class SimpleResultsLogWriter implements ResultsLogWriter
 {
+    public static final long DEFAULT_FLUSH_INTERVAL_AS_MILLI = 1000;
+
     private final SimpleCsvFileWriter writer;
     private final TimeUnit unit;
+    private final long flushIntervalAsNano;
+    private long lastFlushAsNano;
 
     public SimpleResultsLogWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        this( resultsLog, unit, DEFAULT_FLUSH_INTERVAL_AS_MILLI );
+    }
+
+    public SimpleResultsLogWriter( File resultsLog, TimeUnit unit, long flushIntervalAsMilli ) throws IOException
     {
         this.writer = new SimpleCsvFileWriter( resultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
         this.unit = unit;
+        this.flushIntervalAsNano = TimeUnit.MILLISECONDS.toNanos( flushIntervalAsMilli );
+        this.lastFlushAsNano = System.nanoTime();
         resultsLog.createNewFile();
         writer.writeRow(
                 HEADER_OPERATION_TYPE,
@@ -45,6 +61,16 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
         );
     }
 
+    @Override
+    public void flush() throws IOException
+    {
+        if ( System.nanoTime() - lastFlushAsNano >= flushIntervalAsNano )
+        {
+            writer.flush();
+            lastFlushAsNano = System.nanoTime();
+        }
+    }
+
     @Override
     public void close() throws Exception
     {
@@ -0,0 +1,116 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.LongBinaryOperator;
+
+import static java.lang.String.format;
+
+/**
+ * Records operation results on the threads that submit them, rather than on one metrics collection thread.
+ * <p>
+ * Runtimes are recorded into concurrent histograms, one per operation type per stripe, where the stripe is selected
+ * by thread id. Pool threads have consecutive ids, so with at least as many stripes as executing threads every thread
+ * records into histograms of its own, i.e., uncontended. Histograms are only created once first recorded into.
+ * <p>
+ * Histograms are merged when results are requested, status only sums their counts.
+ */
+class StripedMetricsRecorder
+{
+    private static final LongBinaryOperator MIN = new LongBinaryOperator()
+    {
+        @Override
+        public long applyAsLong( long left, long right )
+        {
+            return Math.min( left, right );
+        }
+    };
+    private static final LongBinaryOperator MAX = new LongBinaryOperator()
+    {
+        @Override
+        public long applyAsLong( long left, long right )
+        {
+            return Math.max( left, right );
+        }
+    };
+
+    // used to create histograms & convert runtimes, and as target for merged histograms
+    private final MetricsManager metricsManager;
+    private final int operationTypeCount;
+    private final int stripeMask;
+    // index = stripe * operationTypeCount + operationType
+    private final AtomicReferenceArray<AbstractHistogram> runtimes;
+    private final LongAccumulator startTimeAsMilli = new LongAccumulator( MIN, Long.MAX_VALUE );
+    private final LongAccumulator latestFinishTimeAsMilli = new LongAccumulator( MAX, Long.MIN_VALUE );
+
+    StripedMetricsRecorder( MetricsManager metricsManager, int minimumStripeCount )
+    {
+        this.metricsManager = metricsManager;
+        this.operationTypeCount = metricsManager.operationTypeCount();
+        int stripeCount = Integer.highestOneBit( Math.max( 1, minimumStripeCount - 1 ) ) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.runtimes = new AtomicReferenceArray<>( stripeCount * operationTypeCount );
+    }
+
+    void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
+            throws MetricsCollectionException
+    {
+        startTimeAsMilli.accumulate( actualStartTimeAsMilli );
+        long operationFinishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+        latestFinishTimeAsMilli.accumulate( operationFinishTimeAsMilli );
+        long runtime = metricsManager.toRecordableRunDuration( operationType, runDurationAsNano );
+        try
+        {
+            runtimesFor( operationType ).recordValue( runtime );
+        }
+        catch ( Throwable e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error encountered recording runtime %s of operation type %s",
+                            runtime, operationType ), e );
+        }
+    }
+
+    private AbstractHistogram runtimesFor( int operationType )
+    {
+        int index = ((int) Thread.currentThread().getId() & stripeMask) * operationTypeCount + operationType;
+        AbstractHistogram histogram = runtimes.get( index );
+        if ( null == histogram )
+        {
+            runtimes.compareAndSet( index, null, metricsManager.newConcurrentHistogram( operationType ) );
+            histogram = runtimes.get( index );
+        }
+        return histogram;
+    }
+
+    WorkloadStatusSnapshot status()
+    {
+        long operationCount = 0;
+        for ( int i = 0; i < runtimes.length(); i++ )
+        {
+            AbstractHistogram histogram = runtimes.get( i );
+            if ( null != histogram )
+            {
+                operationCount += histogram.getTotalCount();
+            }
+        }
+        return metricsManager.status( startTimeAsMilli.get(), latestFinishTimeAsMilli.get(), operationCount );
+    }
+
+    synchronized WorkloadResultsSnapshot snapshot()
+    {
+        metricsManager.reset();
+        metricsManager.add( startTimeAsMilli.get(), latestFinishTimeAsMilli.get() );
+        for ( int i = 0; i < runtimes.length(); i++ )
+        {
+            AbstractHistogram histogram = runtimes.get( i );
+            if ( null != histogram )
+            {
+                metricsManager.add( i % operationTypeCount, histogram );
+            }
+        }
+        return metricsManager.snapshot();
+    }
+}
@@ -39,6 +39,11 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    // number of operation results that could not be published to the metrics ring buffer immediately, because it
+    // was full, i.e., number of times an executor thread stalled waiting for metrics collection to catch up
+    @JsonProperty( value = "ring_buffer_full_stalls" )
+    private long ringBufferFullStallCount;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -113,6 +118,25 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    public long ringBufferFullStallCount()
+    {
+        return ringBufferFullStallCount;
+    }
+
+    public WorkloadResultsSnapshot withRingBufferFullStallCount( long ringBufferFullStallCount )
+    {
+        WorkloadResultsSnapshot snapshot = new WorkloadResultsSnapshot();
+        snapshot.metrics = metrics;
+        snapshot.unit = unit;
+        snapshot.startTimeAsUnit = startTimeAsUnit;
+        snapshot.latestFinishTimeAsUnit = latestFinishTimeAsUnit;
+        snapshot.totalRunDurationAsUnit = totalRunDurationAsUnit;
+        snapshot.operationCount = operationCount;
+        snapshot.throughput = throughput;
+        snapshot.ringBufferFullStallCount = ringBufferFullStallCount;
+        return snapshot;
+    }
+
     public String toJson()
     {
         try
@@ -137,6 +161,7 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", ringBufferFullStallCount=" + ringBufferFullStallCount +
                '}';
     }
 
@@ -154,6 +179,8 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( operationCount != that.operationCount )
         { return false; }
+        if ( ringBufferFullStallCount != that.ringBufferFullStallCount )
+        { return false; }
         if ( startTimeAsUnit != that.startTimeAsUnit )
         { return false; }
         if ( totalRunDurationAsUnit != that.totalRunDurationAsUnit )
@@ -175,6 +202,7 @@ public class WorkloadResultsSnapshot
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
         result = 31 * result + (int) (totalRunDurationAsUnit ^ (totalRunDurationAsUnit >>> 32));
         result = 31 * result + (int) (operationCount ^ (operationCount >>> 32));
+        result = 31 * result + (int) (ringBufferFullStallCount ^ (ringBufferFullStallCount >>> 32));
         return result;
     }
 }
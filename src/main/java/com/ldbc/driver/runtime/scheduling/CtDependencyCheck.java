@@ -4,19 +4,31 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import static java.lang.String.format;
 
+/**
+ * When completion time is read from a completion time service, a check that does not pass blocks until completion
+ * time advances far enough (or a short while has passed), rather than returning to the spinner to be polled again.
+ */
 public class CtDependencyCheck implements SpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    // bounds how long a check blocks, after which the spinner calls it again
+    private static final long MAX_AWAIT_AS_MILLI = 100;
     private final CompletionTimeReader completionTimeReader;
+    // null if reader is not a service, in which case completion time is polled
+    private final CompletionTimeService completionTimeService;
     private final ConcurrentErrorReporter errorReporter;
 
     public CtDependencyCheck( CompletionTimeReader completionTimeReader, ConcurrentErrorReporter errorReporter )
     {
         this.completionTimeReader = completionTimeReader;
+        this.completionTimeService = (completionTimeReader instanceof CompletionTimeService)
+                                     ? (CompletionTimeService) completionTimeReader
+                                     : null;
         this.errorReporter = errorReporter;
     }
 
@@ -25,7 +37,16 @@ public class CtDependencyCheck implements SpinnerCheck
     {
         try
         {
-            return (completionTimeReader.completionTimeAsMilli() >= operation.dependencyTimeStamp())
+            long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+            if ( completionTimeAsMilli < operation.dependencyTimeStamp() && null != completionTimeService )
+            {
+                // --- BLOCKING CALL (until completion time reaches dependency time, or wait time elapses) ---
+                completionTimeAsMilli = completionTimeService.awaitCompletionTimeAsMilli(
+                        operation.dependencyTimeStamp(),
+                        MAX_AWAIT_AS_MILLI
+                );
+            }
+            return (completionTimeAsMilli >= operation.dependencyTimeStamp())
                    ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
         }
         catch ( CompletionTimeException e )
@@ -0,0 +1,86 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits against a nanosecond resolution clock, in three phases:
+ * (1) park while the deadline is far away, in slices no longer than the maximum park duration
+ * (2) yield when the deadline is close, as park overshoots by tens of microseconds
+ * (3) busy spin for the final few microseconds
+ * <p>
+ * The nanosecond clock is calibrated once, against the millisecond (epoch) clock of the time source, on creation.
+ */
+public class HybridWaitStrategy implements WaitStrategy
+{
+    public static final long DEFAULT_YIELD_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 200 );
+    public static final long DEFAULT_SPIN_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 20 );
+
+    private final TimeSource timeSource;
+    private final long epochOffsetAsNano;
+    private final long maxParkDurationAsNano;
+    private final long yieldThresholdAsNano;
+    private final long spinThresholdAsNano;
+
+    public HybridWaitStrategy( TimeSource timeSource, long maxParkDurationAsMilli )
+    {
+        this(
+                timeSource,
+                TimeUnit.MILLISECONDS.toNanos( Math.max( 1, maxParkDurationAsMilli ) ),
+                DEFAULT_YIELD_THRESHOLD_AS_NANO,
+                DEFAULT_SPIN_THRESHOLD_AS_NANO
+        );
+    }
+
+    public HybridWaitStrategy( TimeSource timeSource,
+            long maxParkDurationAsNano,
+            long yieldThresholdAsNano,
+            long spinThresholdAsNano )
+    {
+        this.timeSource = timeSource;
+        this.epochOffsetAsNano = TimeUnit.MILLISECONDS.toNanos( timeSource.nowAsMilli() ) - timeSource.nanoSnapshot();
+        this.maxParkDurationAsNano = maxParkDurationAsNano;
+        this.yieldThresholdAsNano = yieldThresholdAsNano;
+        this.spinThresholdAsNano = spinThresholdAsNano;
+    }
+
+    @Override
+    public long nowAsNano()
+    {
+        return timeSource.nanoSnapshot() + epochOffsetAsNano;
+    }
+
+    @Override
+    public void waitUntil( long targetTimeAsNano )
+    {
+        long remainingAsNano;
+        while ( (remainingAsNano = targetTimeAsNano - nowAsNano()) > 0 )
+        {
+            if ( remainingAsNano > yieldThresholdAsNano )
+            {
+                park( Math.min( remainingAsNano - yieldThresholdAsNano, maxParkDurationAsNano ) );
+            }
+            else if ( remainingAsNano > spinThresholdAsNano )
+            {
+                Thread.yield();
+            }
+            // else busy spin
+        }
+    }
+
+    @Override
+    public void pause()
+    {
+        park( yieldThresholdAsNano );
+    }
+
+    private static void park( long durationAsNano )
+    {
+        LockSupport.parkNanos( durationAsNano );
+        // an interrupted thread would return from park immediately, i.e., busy spin from then on
+        // interrupts are ignored, same as Spinner.powerNap
+        Thread.interrupted();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the millisecond clock of the time source, sleeping for a fixed duration between polls.
+ * NOTE: longer sleep == lower scheduling accuracy AND lower achievable throughput,
+ * while a sleep duration of 0 busy waits and consumes an entire core.
+ */
+public class SleepWaitStrategy implements WaitStrategy
+{
+    private final TimeSource timeSource;
+    private final long sleepDurationAsMilli;
+
+    public SleepWaitStrategy( TimeSource timeSource, long sleepDurationAsMilli )
+    {
+        this.timeSource = timeSource;
+        this.sleepDurationAsMilli = sleepDurationAsMilli;
+    }
+
+    @Override
+    public long nowAsNano()
+    {
+        return TimeUnit.MILLISECONDS.toNanos( timeSource.nowAsMilli() );
+    }
+
+    @Override
+    public void waitUntil( long targetTimeAsNano )
+    {
+        while ( nowAsNano() < targetTimeAsNano )
+        {
+            Spinner.powerNap( sleepDurationAsMilli );
+        }
+    }
+
+    @Override
+    public void pause()
+    {
+        Spinner.powerNap( sleepDurationAsMilli );
+    }
+}
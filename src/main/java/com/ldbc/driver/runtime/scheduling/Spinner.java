@@ -1,9 +1,12 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Function2;
 
+import java.util.concurrent.TimeUnit;
+
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
 // TODO perhaps the CT for that operation needs to be reported too (to CT service, but not to MetricsService),
@@ -25,10 +28,28 @@ public class Spinner
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
+    {
+        this(
+                timeSource,
+                sleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                SpinnerWaitStrategy.SLEEP,
+                new ScheduleLagRecorder()
+        );
+    }
+
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            SpinnerWaitStrategy waitStrategy,
+            ScheduleLagRecorder scheduleLagRecorder )
     {
         this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                       ? new WaitForChecksFun( waitStrategy.create( timeSource, sleepDurationAsMilli ) )
+                       : new WaitForChecksAndScheduledStartTimeFun(
+                               waitStrategy.create( timeSource, sleepDurationAsMilli ),
+                               scheduleLagRecorder );
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -74,15 +95,15 @@ public class Spinner
     private static class WaitForChecksAndScheduledStartTimeFun implements
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
-        private final TimeSource timeSource;
-        private final long sleepDurationAsMilli;
+        private final WaitStrategy waitStrategy;
+        private final ScheduleLagRecorder scheduleLagRecorder;
 
         private WaitForChecksAndScheduledStartTimeFun(
-                TimeSource timeSource,
-                long sleepDurationAsMilli )
+                WaitStrategy waitStrategy,
+                ScheduleLagRecorder scheduleLagRecorder )
         {
-            this.timeSource = timeSource;
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
+            this.scheduleLagRecorder = scheduleLagRecorder;
         }
 
         @Override
@@ -92,14 +113,13 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.pause();
             }
 
             // wait for scheduled operation start time
-            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
-            {
-                powerNap( sleepDurationAsMilli );
-            }
+            long scheduledStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( operation.scheduledStartTimeAsMilli() );
+            waitStrategy.waitUntil( scheduledStartTimeAsNano );
+            scheduleLagRecorder.recordLagAsNano( waitStrategy.nowAsNano() - scheduledStartTimeAsNano );
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
@@ -107,11 +127,11 @@ public class Spinner
 
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
-        private final long sleepDurationAsMilli;
+        private final WaitStrategy waitStrategy;
 
-        private WaitForChecksFun( long sleepDurationAsMilli )
+        private WaitForChecksFun( WaitStrategy waitStrategy )
         {
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
         }
 
         @Override
@@ -120,7 +140,7 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.pause();
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
@@ -0,0 +1,29 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+public enum SpinnerWaitStrategy
+{
+    /**
+     * Poll millisecond clock, sleeping for spinner sleep duration between polls
+     */
+    SLEEP,
+    /**
+     * Park, then yield, then busy spin, on a nanosecond clock.
+     * Spinner sleep duration is used as the maximum duration of a single park.
+     */
+    HYBRID;
+
+    public WaitStrategy create( TimeSource timeSource, long sleepDurationAsMilli )
+    {
+        switch ( this )
+        {
+        case SLEEP:
+            return new SleepWaitStrategy( timeSource, sleepDurationAsMilli );
+        case HYBRID:
+            return new HybridWaitStrategy( timeSource, sleepDurationAsMilli );
+        default:
+            throw new IllegalStateException( "Unrecognized wait strategy: " + this );
+        }
+    }
+}
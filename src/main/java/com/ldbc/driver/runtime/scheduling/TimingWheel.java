@@ -0,0 +1,195 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.util.Function1;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Hierarchical timing wheel, holds items until they are due.
+ * <p>
+ * Level 0 has one slot per tick, every higher level has one slot per full rotation of the level below it.
+ * Items are added to the lowest level that covers their due time, and cascade down a level every time the clock
+ * enters the time range of the slot they are held in. Levels are created lazily, as far away due times are added.
+ * <p>
+ * Add and advance are O(1) per item (amortized over cascades), independent of how many items are held.
+ * <p>
+ * NOT thread safe, it is intended to be owned by a single dispatching thread.
+ */
+public class TimingWheel<T>
+{
+    public static final long DEFAULT_TICK_DURATION_AS_MILLI = 1;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickDurationAsMilli;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTimeAsMilli;
+    private long size = 0;
+
+    public TimingWheel( long startTimeAsMilli )
+    {
+        this( startTimeAsMilli, DEFAULT_TICK_DURATION_AS_MILLI, DEFAULT_WHEEL_SIZE );
+    }
+
+    public TimingWheel( long startTimeAsMilli, long tickDurationAsMilli, int wheelSize )
+    {
+        if ( tickDurationAsMilli < 1 )
+        {
+            throw new IllegalArgumentException( format( "Tick duration must be positive: %s", tickDurationAsMilli ) );
+        }
+        if ( wheelSize < 2 )
+        {
+            throw new IllegalArgumentException( format( "Wheel size must be at least 2: %s", wheelSize ) );
+        }
+        this.tickDurationAsMilli = tickDurationAsMilli;
+        this.wheelSize = wheelSize;
+        this.currentTimeAsMilli = floor( startTimeAsMilli, tickDurationAsMilli );
+        this.levels.add( new Level<T>( tickDurationAsMilli, wheelSize ) );
+    }
+
+    /**
+     * @return false if the item is already due, in which case it was not added, and should be dispatched by caller
+     */
+    public boolean add( long dueTimeAsMilli, T item )
+    {
+        if ( dueTimeAsMilli < currentTimeAsMilli + tickDurationAsMilli )
+        {
+            return false;
+        }
+        insert( new Entry<>( dueTimeAsMilli, item ) );
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the clock of the wheel to the given time, passing every item that becomes due to the sink, in due
+     * time order (at tick granularity)
+     */
+    public <EXCEPTION extends Exception> void advance( long nowAsMilli, Function1<T,?,EXCEPTION> sink )
+            throws EXCEPTION
+    {
+        long nowTickAsMilli = floor( nowAsMilli, tickDurationAsMilli );
+        while ( currentTimeAsMilli < nowTickAsMilli )
+        {
+            if ( 0 == size )
+            {
+                // nothing to cascade or expire, jump straight to now
+                currentTimeAsMilli = nowTickAsMilli;
+                return;
+            }
+            currentTimeAsMilli += tickDurationAsMilli;
+            for ( int i = levels.size() - 1; i > 0; i-- )
+            {
+                Level<T> level = levels.get( i );
+                if ( 0 == currentTimeAsMilli % level.tickDurationAsMilli )
+                {
+                    cascade( level.slotFor( currentTimeAsMilli ), sink );
+                }
+            }
+            ArrayDeque<Entry<T>> slot = levels.get( 0 ).slotFor( currentTimeAsMilli );
+            Entry<T> entry;
+            while ( null != (entry = slot.poll()) )
+            {
+                size--;
+                sink.apply( entry.item );
+            }
+        }
+    }
+
+    /**
+     * @return number of items held by the wheel, i.e., not yet due
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    public long currentTimeAsMilli()
+    {
+        return currentTimeAsMilli;
+    }
+
+    private <EXCEPTION extends Exception> void cascade( ArrayDeque<Entry<T>> slot, Function1<T,?,EXCEPTION> sink )
+            throws EXCEPTION
+    {
+        int entriesToCascade = slot.size();
+        for ( int i = 0; i < entriesToCascade; i++ )
+        {
+            Entry<T> entry = slot.poll();
+            if ( entry.dueTimeAsMilli < currentTimeAsMilli + tickDurationAsMilli )
+            {
+                size--;
+                sink.apply( entry.item );
+            }
+            else
+            {
+                insert( entry );
+            }
+        }
+    }
+
+    private void insert( Entry<T> entry )
+    {
+        for ( int i = 0; ; i++ )
+        {
+            if ( i == levels.size() )
+            {
+                Level<T> highestLevel = levels.get( i - 1 );
+                levels.add( new Level<T>( highestLevel.tickDurationAsMilli * wheelSize, wheelSize ) );
+            }
+            Level<T> level = levels.get( i );
+            // the current slot of a level is only ever covered by the level below it, i.e., the range of a level
+            // begins at its next slot, and extends one full rotation from the start of its current slot
+            if ( entry.dueTimeAsMilli < floor( currentTimeAsMilli, level.tickDurationAsMilli ) + level.intervalAsMilli )
+            {
+                level.slotFor( entry.dueTimeAsMilli ).add( entry );
+                return;
+            }
+        }
+    }
+
+    private static long floor( long timeAsMilli, long durationAsMilli )
+    {
+        return timeAsMilli - (timeAsMilli % durationAsMilli);
+    }
+
+    private static class Level<T>
+    {
+        private final long tickDurationAsMilli;
+        private final long intervalAsMilli;
+        private final ArrayDeque<Entry<T>>[] slots;
+
+        @SuppressWarnings( "unchecked" )
+        private Level( long tickDurationAsMilli, int wheelSize )
+        {
+            this.tickDurationAsMilli = tickDurationAsMilli;
+            this.intervalAsMilli = tickDurationAsMilli * wheelSize;
+            this.slots = new ArrayDeque[wheelSize];
+            for ( int i = 0; i < wheelSize; i++ )
+            {
+                slots[i] = new ArrayDeque<>();
+            }
+        }
+
+        private ArrayDeque<Entry<T>> slotFor( long timeAsMilli )
+        {
+            return slots[(int) ((timeAsMilli / tickDurationAsMilli) % slots.length)];
+        }
+    }
+
+    private static class Entry<T>
+    {
+        private final long dueTimeAsMilli;
+        private final T item;
+
+        private Entry( long dueTimeAsMilli, T item )
+        {
+            this.dueTimeAsMilli = dueTimeAsMilli;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ldbc.driver.runtime.scheduling;
+
+public interface WaitStrategy
+{
+    /**
+     * Current time, on the clock this strategy waits against, as nanoseconds since epoch.
+     * Resolution depends on the strategy, e.g., it may only advance in milliseconds.
+     *
+     * @return current time as nano
+     */
+    long nowAsNano();
+
+    /**
+     * Blocks until the clock of this strategy reaches the target time.
+     *
+     * @param targetTimeAsNano time to wait for, as nanoseconds since epoch
+     */
+    void waitUntil( long targetTimeAsNano );
+
+    /**
+     * Called between consecutive polls of a SpinnerCheck, gives up the CPU for a short while.
+     */
+    void pause();
+}
@@ -12,35 +12,48 @@ import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Each stream (asynchronous and blocking) is generated on its own thread, which computes statistics that only depend
+ * on the operations of that stream (operation mix, first/last start times, dependency durations) into a partial,
+ * indexed by operation type code. Partials are merged exactly at the end.
+ * <p>
+ * Interleaves are between consecutive operations of the merged streams, so can not be computed per stream. Instead,
+ * stream threads pass start times and type codes of their operations to the calling thread, in chunks of primitive
+ * arrays, where they are merge sorted by start time, in the same order GeneratorFactory would merge the operations.
+ * <p>
+ * Streams are already consumed concurrently during workload execution. Dependency and non-dependency operations of a
+ * stream share a child operation generator, so they are merged on the same thread.
+ */
 public class WorkloadStatisticsCalculator
 {
     /**
      * TODO report how frequently CT is updated
      */
 
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MAX_QUEUED_CHUNKS_PER_STREAM = 16;
+    private static final int INITIAL_OPERATION_TYPE_CAPACITY = 32;
+    private static final long NO_START_TIME = -1;
+
     public WorkloadStatistics calculate(
             WorkloadStreams workloadStreams,
             long maxExpectedInterleaveAsMilli ) throws MetricsCollectionException
     {
-        Histogram<Class,Long> operationMixHistogram = new Histogram<>( 0L );
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
-        ContinuousMetricManager operationInterleaves =
-                new ContinuousMetricManager( null, null, maxExpectedInterleaveAsMilli, 5 );
-
-        long previousOperationStartTimeAsMilli = -1;
-
-        final Map<Class,Long> previousOperationStartTimesAsMilliByOperationType = new HashMap<>();
-        Map<Class,ContinuousMetricManager> operationInterleavesByOperationType = new HashMap<>();
-
-        Map<Class,Long> firstStartTimesAsMilliByOperationType = new HashMap<>();
-        Map<Class,Long> lastStartTimesAsMilliByOperationType = new HashMap<>();
 
         final Set<Class> dependencyOperationTypes = new HashSet<>();
         final Set<Class> dependentOperationTypes = new HashSet<>();
@@ -65,96 +78,406 @@ public class WorkloadStatisticsCalculator
             }
         }
 
-        List<Iterator<Operation>> operationIterators = new ArrayList<>();
-        operationIterators.add(
-                new StreamWithChildOperationGenerator( workloadStreams.asynchronousStream().dependencyOperations(),
-                        workloadStreams.asynchronousStream().childOperationGenerator() )
-        );
-        operationIterators.add(
-                new StreamWithChildOperationGenerator( workloadStreams.asynchronousStream().nonDependencyOperations(),
-                        workloadStreams.asynchronousStream().childOperationGenerator() )
-        );
-        for ( WorkloadStreams.WorkloadStreamDefinition blockingStreamDefinition : workloadStreams
-                .blockingStreamDefinitions() )
+        List<WorkloadStreams.WorkloadStreamDefinition> streamDefinitions = new ArrayList<>();
+        streamDefinitions.add( workloadStreams.asynchronousStream() );
+        streamDefinitions.addAll( workloadStreams.blockingStreamDefinitions() );
+
+        List<StreamStatisticsCalculator> streamStatisticsCalculators = new ArrayList<>();
+        for ( WorkloadStreams.WorkloadStreamDefinition streamDefinition : streamDefinitions )
         {
-            operationIterators.add(
-                    new StreamWithChildOperationGenerator( blockingStreamDefinition.dependencyOperations(),
-                            blockingStreamDefinition.childOperationGenerator() )
-            );
-            operationIterators.add(
-                    new StreamWithChildOperationGenerator( blockingStreamDefinition.nonDependencyOperations(),
-                            blockingStreamDefinition.childOperationGenerator() )
+            Iterator<Operation> operations = gf.mergeSortOperationsByScheduledStartTime(
+                    new StreamWithChildOperationGenerator( streamDefinition.dependencyOperations(),
+                            streamDefinition.childOperationGenerator() ),
+                    new StreamWithChildOperationGenerator( streamDefinition.nonDependencyOperations(),
+                            streamDefinition.childOperationGenerator() )
             );
+            streamStatisticsCalculators.add( new StreamStatisticsCalculator( operations ) );
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                streamStatisticsCalculators.size(),
+                new StreamStatisticsThreadFactory() );
+        InterleaveStatistics interleaveStatistics;
+        try
+        {
+            for ( StreamStatisticsCalculator streamStatisticsCalculator : streamStatisticsCalculators )
+            {
+                executorService.execute( streamStatisticsCalculator );
+            }
+            interleaveStatistics = mergeStartTimes( streamStatisticsCalculators, maxExpectedInterleaveAsMilli );
+        }
+        finally
+        {
+            executorService.shutdownNow();
         }
 
-        Iterator<Operation> operations = gf.mergeSortOperationsByScheduledStartTime(
-                operationIterators.toArray( new Iterator[operationIterators.size()] ) );
+        StreamStatistics statistics = new StreamStatistics();
+        for ( StreamStatisticsCalculator streamStatisticsCalculator : streamStatisticsCalculators )
+        {
+            statistics.merge( streamStatisticsCalculator.statistics );
+        }
 
+        Histogram<Class,Long> operationMixHistogram = new Histogram<>( 0L );
+        Map<Class,Long> firstStartTimesAsMilliByOperationType = new HashMap<>();
+        Map<Class,Long> lastStartTimesAsMilliByOperationType = new HashMap<>();
         Map<Class,Long> lowestDependencyDurationAsMilliByOperationType = new HashMap<>();
+        Map<Class,ContinuousMetricManager> operationInterleavesByOperationType = new HashMap<>();
+        for ( int operationType = 0; operationType < statistics.operationClasses.length; operationType++ )
+        {
+            Class operationClass = statistics.operationClasses[operationType];
+            if ( null == operationClass )
+            {
+                continue;
+            }
+            operationMixHistogram.incOrCreateBucket( Bucket.DiscreteBucket.create( operationClass ),
+                    statistics.counts[operationType] );
+            firstStartTimesAsMilliByOperationType.put( operationClass,
+                    statistics.firstStartTimesAsMilli[operationType] );
+            lastStartTimesAsMilliByOperationType.put( operationClass, statistics.lastStartTimesAsMilli[operationType] );
+            lowestDependencyDurationAsMilliByOperationType.put( operationClass,
+                    statistics.lowestDependencyDurationsAsMilli[operationType] );
+            operationInterleavesByOperationType.put( operationClass,
+                    interleaveStatistics.operationInterleavesByOperationType[operationType] );
+        }
 
-        while ( operations.hasNext() )
+        return new WorkloadStatistics(
+                firstStartTimesAsMilliByOperationType,
+                lastStartTimesAsMilliByOperationType,
+                operationMixHistogram,
+                interleaveStatistics.operationInterleaves,
+                operationInterleavesByOperationType,
+                dependencyOperationTypes,
+                dependentOperationTypes,
+                lowestDependencyDurationAsMilliByOperationType );
+    }
+
+    // ties are broken by stream order, as when merging operations with GeneratorFactory
+    private InterleaveStatistics mergeStartTimes( List<StreamStatisticsCalculator> streamStatisticsCalculators,
+            long maxExpectedInterleaveAsMilli ) throws MetricsCollectionException
+    {
+        InterleaveStatistics interleaveStatistics = new InterleaveStatistics( maxExpectedInterleaveAsMilli );
+        StartTimesCursor[] cursors = new StartTimesCursor[streamStatisticsCalculators.size()];
+        for ( int i = 0; i < cursors.length; i++ )
         {
-            Operation operation = operations.next();
-            Class operationType = operation.getClass();
-            long operationStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
-            long operationDependencyTimeAsMilli = operation.dependencyTimeStamp();
-            long operationDependencyDurationAsMilli = operationStartTimeAsMilli - operationDependencyTimeAsMilli;
+            cursors[i] = new StartTimesCursor( streamStatisticsCalculators.get( i ).startTimeChunks );
+            cursors[i].advance();
+        }
+        while ( true )
+        {
+            StartTimesCursor next = null;
+            for ( int i = 0; i < cursors.length; i++ )
+            {
+                if ( !cursors[i].isExhausted() &&
+                     (null == next || cursors[i].startTimeAsMilli() < next.startTimeAsMilli()) )
+                {
+                    next = cursors[i];
+                }
+            }
+            if ( null == next )
+            {
+                return interleaveStatistics;
+            }
+            interleaveStatistics.record( next.startTimeAsMilli(), next.operationType() );
+            next.advance();
+        }
+    }
+
+    private static class InterleaveStatistics
+    {
+        private final long maxExpectedInterleaveAsMilli;
+        private final ContinuousMetricManager operationInterleaves;
+        private long previousOperationStartTimeAsMilli = NO_START_TIME;
+        private ContinuousMetricManager[] operationInterleavesByOperationType =
+                new ContinuousMetricManager[INITIAL_OPERATION_TYPE_CAPACITY];
+        private long[] previousOperationStartTimesAsMilliByOperationType =
+                newStartTimes( INITIAL_OPERATION_TYPE_CAPACITY );
 
-            // Operation Mix
-            operationMixHistogram.incOrCreateBucket( Bucket.DiscreteBucket.create( operationType ), 1L );
+        private InterleaveStatistics( long maxExpectedInterleaveAsMilli )
+        {
+            this.maxExpectedInterleaveAsMilli = maxExpectedInterleaveAsMilli;
+            this.operationInterleaves = new ContinuousMetricManager( null, null, maxExpectedInterleaveAsMilli, 5 );
+        }
 
+        private void record( long operationStartTimeAsMilli, int operationType )
+        {
             // Interleaves
-            if ( -1 != previousOperationStartTimeAsMilli )
+            if ( NO_START_TIME != previousOperationStartTimeAsMilli )
             {
-                long interleaveDurationAsMilli = operationStartTimeAsMilli - previousOperationStartTimeAsMilli;
-                operationInterleaves.addMeasurement( interleaveDurationAsMilli );
+                operationInterleaves.addMeasurement( operationStartTimeAsMilli - previousOperationStartTimeAsMilli );
             }
             previousOperationStartTimeAsMilli = operationStartTimeAsMilli;
 
             // Interleaves by operation type
-            ContinuousMetricManager operationInterleaveForOperationType =
-                    operationInterleavesByOperationType.get( operationType );
-            if ( null == operationInterleaveForOperationType )
+            if ( operationType >= operationInterleavesByOperationType.length )
+            {
+                int capacity = Math.max( operationType + 1, operationInterleavesByOperationType.length * 2 );
+                operationInterleavesByOperationType = Arrays.copyOf( operationInterleavesByOperationType, capacity );
+                previousOperationStartTimesAsMilliByOperationType =
+                        growStartTimes( previousOperationStartTimesAsMilliByOperationType, capacity );
+            }
+            if ( null == operationInterleavesByOperationType[operationType] )
             {
-                operationInterleaveForOperationType =
+                operationInterleavesByOperationType[operationType] =
                         new ContinuousMetricManager( null, null, maxExpectedInterleaveAsMilli, 5 );
-                operationInterleavesByOperationType.put( operationType, operationInterleaveForOperationType );
             }
-            Long previousOperationStartTimeAsMilliForOperationType =
-                    previousOperationStartTimesAsMilliByOperationType.get( operationType );
-            if ( null != previousOperationStartTimeAsMilliForOperationType )
+            long previousOperationStartTimeAsMilliForOperationType =
+                    previousOperationStartTimesAsMilliByOperationType[operationType];
+            if ( NO_START_TIME != previousOperationStartTimeAsMilliForOperationType )
             {
-                long interleaveDurationAsMilli =
-                        operationStartTimeAsMilli - previousOperationStartTimeAsMilliForOperationType;
-                operationInterleaveForOperationType.addMeasurement( interleaveDurationAsMilli );
+                operationInterleavesByOperationType[operationType].addMeasurement(
+                        operationStartTimeAsMilli - previousOperationStartTimeAsMilliForOperationType );
             }
-            previousOperationStartTimesAsMilliByOperationType.put( operationType, operationStartTimeAsMilli );
+            previousOperationStartTimesAsMilliByOperationType[operationType] = operationStartTimeAsMilli;
+        }
+    }
 
-            // Dependency duration by operation type
-            long lowestDependencyDurationAsMilliForOperationType =
-                    (lowestDependencyDurationAsMilliByOperationType.containsKey( operationType ))
-                    ? lowestDependencyDurationAsMilliByOperationType.get( operationType )
-                    : Long.MAX_VALUE;
-            if ( operationDependencyDurationAsMilli < lowestDependencyDurationAsMilliForOperationType )
-            { lowestDependencyDurationAsMilliByOperationType.put( operationType, operationDependencyDurationAsMilli ); }
+    /**
+     * Statistics of one stream, or of several merged streams, indexed by operation type code
+     */
+    private static class StreamStatistics
+    {
+        private Class[] operationClasses = new Class[INITIAL_OPERATION_TYPE_CAPACITY];
+        private long[] counts = new long[INITIAL_OPERATION_TYPE_CAPACITY];
+        private long[] firstStartTimesAsMilli = new long[INITIAL_OPERATION_TYPE_CAPACITY];
+        private long[] lastStartTimesAsMilli = new long[INITIAL_OPERATION_TYPE_CAPACITY];
+        private long[] lowestDependencyDurationsAsMilli = new long[INITIAL_OPERATION_TYPE_CAPACITY];
 
-            // First start times by operation type
-            if ( !firstStartTimesAsMilliByOperationType.containsKey( operationType ) )
-            { firstStartTimesAsMilliByOperationType.put( operationType, operationStartTimeAsMilli ); }
+        private void record( Operation operation )
+        {
+            int operationType = operation.type();
+            long operationStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
+            long operationDependencyDurationAsMilli = operationStartTimeAsMilli - operation.dependencyTimeStamp();
+            ensureCapacity( operationType + 1 );
+            if ( null == operationClasses[operationType] )
+            {
+                operationClasses[operationType] = operation.getClass();
+                firstStartTimesAsMilli[operationType] = operationStartTimeAsMilli;
+                lastStartTimesAsMilli[operationType] = operationStartTimeAsMilli;
+                lowestDependencyDurationsAsMilli[operationType] = operationDependencyDurationAsMilli;
+            }
+            else
+            {
+                // stream is ordered by start time, so the first start time never changes
+                lastStartTimesAsMilli[operationType] = operationStartTimeAsMilli;
+                if ( operationDependencyDurationAsMilli < lowestDependencyDurationsAsMilli[operationType] )
+                {
+                    lowestDependencyDurationsAsMilli[operationType] = operationDependencyDurationAsMilli;
+                }
+            }
+            counts[operationType]++;
+        }
 
-            // Last start times by operation type
-            lastStartTimesAsMilliByOperationType.put( operationType, operationStartTimeAsMilli );
+        private void merge( StreamStatistics other )
+        {
+            ensureCapacity( other.operationClasses.length );
+            for ( int operationType = 0; operationType < other.operationClasses.length; operationType++ )
+            {
+                if ( null == other.operationClasses[operationType] )
+                {
+                    continue;
+                }
+                if ( null == operationClasses[operationType] )
+                {
+                    operationClasses[operationType] = other.operationClasses[operationType];
+                    firstStartTimesAsMilli[operationType] = other.firstStartTimesAsMilli[operationType];
+                    lastStartTimesAsMilli[operationType] = other.lastStartTimesAsMilli[operationType];
+                    lowestDependencyDurationsAsMilli[operationType] =
+                            other.lowestDependencyDurationsAsMilli[operationType];
+                }
+                else
+                {
+                    firstStartTimesAsMilli[operationType] = Math.min(
+                            firstStartTimesAsMilli[operationType], other.firstStartTimesAsMilli[operationType] );
+                    lastStartTimesAsMilli[operationType] = Math.max(
+                            lastStartTimesAsMilli[operationType], other.lastStartTimesAsMilli[operationType] );
+                    lowestDependencyDurationsAsMilli[operationType] = Math.min(
+                            lowestDependencyDurationsAsMilli[operationType],
+                            other.lowestDependencyDurationsAsMilli[operationType] );
+                }
+                counts[operationType] += other.counts[operationType];
+            }
         }
 
-        return new WorkloadStatistics(
-                firstStartTimesAsMilliByOperationType,
-                lastStartTimesAsMilliByOperationType,
-                operationMixHistogram,
-                operationInterleaves,
-                operationInterleavesByOperationType,
-                dependencyOperationTypes,
-                dependentOperationTypes,
-                lowestDependencyDurationAsMilliByOperationType );
+        private void ensureCapacity( int capacity )
+        {
+            if ( capacity > operationClasses.length )
+            {
+                capacity = Math.max( capacity, operationClasses.length * 2 );
+                operationClasses = Arrays.copyOf( operationClasses, capacity );
+                counts = Arrays.copyOf( counts, capacity );
+                firstStartTimesAsMilli = Arrays.copyOf( firstStartTimesAsMilli, capacity );
+                lastStartTimesAsMilli = Arrays.copyOf( lastStartTimesAsMilli, capacity );
+                lowestDependencyDurationsAsMilli = Arrays.copyOf( lowestDependencyDurationsAsMilli, capacity );
+            }
+        }
+    }
+
+    private static long[] newStartTimes( int capacity )
+    {
+        long[] startTimes = new long[capacity];
+        Arrays.fill( startTimes, NO_START_TIME );
+        return startTimes;
+    }
+
+    private static long[] growStartTimes( long[] startTimes, int capacity )
+    {
+        long[] grownStartTimes = newStartTimes( capacity );
+        System.arraycopy( startTimes, 0, grownStartTimes, 0, startTimes.length );
+        return grownStartTimes;
+    }
+
+    /**
+     * Start times and type codes of consecutive operations of one stream
+     */
+    private static class StartTimeChunk
+    {
+        private final long[] startTimesAsMilli;
+        private final int[] operationTypes;
+        private int size = 0;
+        private boolean isLast = false;
+        private Throwable error = null;
+
+        private StartTimeChunk( int capacity )
+        {
+            this.startTimesAsMilli = new long[capacity];
+            this.operationTypes = new int[capacity];
+        }
+
+        private boolean isFull()
+        {
+            return startTimesAsMilli.length == size;
+        }
+
+        private void add( long startTimeAsMilli, int operationType )
+        {
+            startTimesAsMilli[size] = startTimeAsMilli;
+            operationTypes[size] = operationType;
+            size++;
+        }
+    }
+
+    private static class StartTimesCursor
+    {
+        private final BlockingQueue<StartTimeChunk> startTimeChunks;
+        // empty chunk, so first advance takes the first chunk of the stream
+        private StartTimeChunk chunk = new StartTimeChunk( 0 );
+        private int index = -1;
+
+        private StartTimesCursor( BlockingQueue<StartTimeChunk> startTimeChunks )
+        {
+            this.startTimeChunks = startTimeChunks;
+        }
+
+        private boolean isExhausted()
+        {
+            return null == chunk;
+        }
+
+        private long startTimeAsMilli()
+        {
+            return chunk.startTimesAsMilli[index];
+        }
+
+        private int operationType()
+        {
+            return chunk.operationTypes[index];
+        }
+
+        private void advance() throws MetricsCollectionException
+        {
+            index++;
+            while ( null != chunk && index >= chunk.size )
+            {
+                if ( chunk.isLast )
+                {
+                    chunk = null;
+                    return;
+                }
+                chunk = null;
+                try
+                {
+                    chunk = startTimeChunks.take();
+                }
+                catch ( InterruptedException e )
+                {
+                    throw new MetricsCollectionException( "Interrupted while calculating workload statistics", e );
+                }
+                if ( null != chunk.error )
+                {
+                    throw new MetricsCollectionException( "Error encountered while calculating workload statistics",
+                            chunk.error );
+                }
+                index = 0;
+            }
+        }
+    }
+
+    private static class StreamStatisticsCalculator implements Runnable
+    {
+        private final Iterator<Operation> operations;
+        private final BlockingQueue<StartTimeChunk> startTimeChunks =
+                new ArrayBlockingQueue<>( MAX_QUEUED_CHUNKS_PER_STREAM );
+        // safely published to calling thread by the queue, once the last chunk has been taken
+        private final StreamStatistics statistics = new StreamStatistics();
+
+        private StreamStatisticsCalculator( Iterator<Operation> operations )
+        {
+            this.operations = operations;
+        }
+
+        @Override
+        public void run()
+        {
+            StartTimeChunk chunk = new StartTimeChunk( CHUNK_SIZE );
+            try
+            {
+                while ( operations.hasNext() )
+                {
+                    Operation operation = operations.next();
+                    statistics.record( operation );
+                    chunk.add( operation.scheduledStartTimeAsMilli(), operation.type() );
+                    if ( chunk.isFull() )
+                    {
+                        startTimeChunks.put( chunk );
+                        chunk = new StartTimeChunk( CHUNK_SIZE );
+                    }
+                }
+                chunk.isLast = true;
+                startTimeChunks.put( chunk );
+            }
+            catch ( InterruptedException e )
+            {
+                // calculation was aborted
+            }
+            catch ( Throwable e )
+            {
+                StartTimeChunk errorChunk = new StartTimeChunk( 0 );
+                errorChunk.error = e;
+                errorChunk.isLast = true;
+                try
+                {
+                    startTimeChunks.put( errorChunk );
+                }
+                catch ( InterruptedException e1 )
+                {
+                    // calculation was aborted
+                }
+            }
+        }
+    }
+
+    private static class StreamStatisticsThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadCount = new AtomicInteger( 0 );
+
+        @Override
+        public Thread newThread( Runnable runnable )
+        {
+            Thread thread = new Thread( runnable,
+                    WorkloadStatisticsCalculator.class.getSimpleName() + "-thread-" + threadCount.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        }
     }
 
     private static class StreamWithChildOperationGenerator implements Iterator<Operation>
@@ -0,0 +1,116 @@
+package com.ldbc.driver.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded FIFO buffer of long values, for any number of producer & consumer threads, that never blocks: when full,
+ * adding a value overwrites the oldest one, and polling an empty buffer returns a caller provided value.
+ * <p>
+ * Values are stored in a primitive array, nothing is boxed and no lock is taken. Producers claim positions with a
+ * single atomic increment. Each slot has a stamp, set before & after its value is written, that tells consumers
+ * whether the slot holds a completely written value of the position they are about to take. Consumers claim
+ * positions with a compare-and-set of the head, skipping positions that have been overwritten.
+ * <p>
+ * Only values that were added are returned, and, while producers are not a full lap apart, each at most once. A value
+ * may be lost when it is overwritten, or when its producer is still writing it while a consumer reaches its position,
+ * in which case the consumer sees an empty buffer. When two producers write the same slot concurrently (a full lap
+ * apart) one of their values may be returned twice. This suits buffers of sampled values, e.g., ids for short reads.
+ */
+public class ConcurrentLongRingBuffer
+{
+    private final AtomicLongArray values;
+    // stamp of slot holding position p is (p + 1) * 2 when written, (p + 1) * 2 - 1 while being written
+    private final AtomicLongArray stamps;
+    private final int mask;
+    // next position to take
+    private final PaddedAtomicLong head = new PaddedAtomicLong( 0 );
+    // next position to add
+    private final PaddedAtomicLong tail = new PaddedAtomicLong( 0 );
+
+    /**
+     * @param capacity rounded up to a power of 2
+     */
+    public ConcurrentLongRingBuffer( int capacity )
+    {
+        if ( capacity < 1 || capacity > 1 << 30 )
+        {
+            throw new IllegalArgumentException( format( "Capacity must be in [1, 2^30], found %s", capacity ) );
+        }
+        int size = Integer.highestOneBit( capacity );
+        size = (size == capacity) ? size : size << 1;
+        this.values = new AtomicLongArray( size );
+        this.stamps = new AtomicLongArray( size );
+        this.mask = size - 1;
+    }
+
+    public int capacity()
+    {
+        return mask + 1;
+    }
+
+    public void add( long value )
+    {
+        long position = tail.getAndIncrement();
+        int slot = (int) (position & mask);
+        long writtenStamp = (position + 1) * 2;
+        // ordered stores suffice: each store becomes visible after the ones before it, and consumers check the stamp
+        // before & after reading the value
+        stamps.lazySet( slot, writtenStamp - 1 );
+        values.lazySet( slot, value );
+        stamps.lazySet( slot, writtenStamp );
+    }
+
+    /**
+     * @return oldest value, or valueIfEmpty if buffer is empty
+     */
+    public long poll( long valueIfEmpty )
+    {
+        while ( true )
+        {
+            long position = head.get();
+            long end = tail.get();
+            if ( position >= end )
+            {
+                return valueIfEmpty;
+            }
+            if ( end - position > mask + 1 )
+            {
+                // oldest positions have been overwritten, skip to the oldest one that may still be there
+                head.compareAndSet( position, end - (mask + 1) );
+                continue;
+            }
+            int slot = (int) (position & mask);
+            long expectedStamp = (position + 1) * 2;
+            long stampBefore = stamps.get( slot );
+            if ( stampBefore < expectedStamp )
+            {
+                // producer of this position has not finished writing it
+                return valueIfEmpty;
+            }
+            long value = values.get( slot );
+            if ( stampBefore == expectedStamp && stamps.get( slot ) == expectedStamp )
+            {
+                if ( head.compareAndSet( position, position + 1 ) )
+                {
+                    return value;
+                }
+            }
+            else
+            {
+                // position has been overwritten, by the time head is re-read it will be skipped
+                head.compareAndSet( position, position + 1 );
+            }
+        }
+    }
+
+    /**
+     * Approximate, as producers & consumers may be concurrently modifying the buffer
+     */
+    public int size()
+    {
+        long size = tail.get() - head.get();
+        return (int) Math.max( 0, Math.min( size, mask + 1 ) );
+    }
+}
@@ -0,0 +1,337 @@
+package com.ldbc.driver.util;
+
+import com.ldbc.driver.SerializingMarshallingException;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Serializes results as JSON arrays of fields (one array per result row), and marshals them back, by streaming
+ * fields directly between result objects and Jackson generators/parsers. No intermediate List&lt;List&lt;Object&gt;&gt;
+ * is built, and output is identical to what ObjectMapper produces for such lists.
+ * <p>
+ * Codecs hold no state and JsonFactory is thread safe, so a codec may be used by any number of threads at once.
+ */
+public abstract class JsonRowCodec<T>
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Write fields of row, enclosing array is written by caller
+     */
+    protected abstract void writeRow( T row, JsonGenerator jsonGenerator ) throws IOException;
+
+    /**
+     * Read fields of row, parser is on the start of the enclosing array, which is closed by caller
+     */
+    protected abstract T readRow( JsonParser jsonParser ) throws IOException;
+
+    public final String serializeRows( List<T> rows ) throws SerializingMarshallingException
+    {
+        StringWriter writer = new StringWriter();
+        try ( JsonGenerator jsonGenerator = JSON_FACTORY.createJsonGenerator( writer ) )
+        {
+            jsonGenerator.writeStartArray();
+            for ( int i = 0; i < rows.size(); i++ )
+            {
+                jsonGenerator.writeStartArray();
+                writeRow( rows.get( i ), jsonGenerator );
+                jsonGenerator.writeEndArray();
+            }
+            jsonGenerator.writeEndArray();
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            throw new SerializingMarshallingException( format( "Error serializing result\n%s", rows ), e );
+        }
+        return writer.toString();
+    }
+
+    public final String serializeRow( T row ) throws SerializingMarshallingException
+    {
+        StringWriter writer = new StringWriter();
+        try ( JsonGenerator jsonGenerator = JSON_FACTORY.createJsonGenerator( writer ) )
+        {
+            jsonGenerator.writeStartArray();
+            writeRow( row, jsonGenerator );
+            jsonGenerator.writeEndArray();
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            throw new SerializingMarshallingException( format( "Error serializing result\n%s", row ), e );
+        }
+        return writer.toString();
+    }
+
+    public final List<T> marshalRows( String serializedRows ) throws SerializingMarshallingException
+    {
+        try ( JsonParser jsonParser = JSON_FACTORY.createJsonParser( serializedRows ) )
+        {
+            expect( jsonParser.nextToken(), JsonToken.START_ARRAY );
+            List<T> rows = new ArrayList<>();
+            while ( JsonToken.START_ARRAY == jsonParser.nextToken() )
+            {
+                rows.add( readRow( jsonParser ) );
+                expect( jsonParser.nextToken(), JsonToken.END_ARRAY );
+            }
+            expect( jsonParser.getCurrentToken(), JsonToken.END_ARRAY );
+            return rows;
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            throw new SerializingMarshallingException( format( "Error marshalling result\n%s", serializedRows ), e );
+        }
+    }
+
+    public final T marshalRow( String serializedRow ) throws SerializingMarshallingException
+    {
+        try ( JsonParser jsonParser = JSON_FACTORY.createJsonParser( serializedRow ) )
+        {
+            expect( jsonParser.nextToken(), JsonToken.START_ARRAY );
+            T row = readRow( jsonParser );
+            expect( jsonParser.nextToken(), JsonToken.END_ARRAY );
+            return row;
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            throw new SerializingMarshallingException( format( "Error marshalling result\n%s", serializedRow ), e );
+        }
+    }
+
+    protected static void expect( JsonToken actual, JsonToken expected ) throws IOException
+    {
+        if ( expected != actual )
+        {
+            throw new IOException( format( "Expected %s but found %s", expected, actual ) );
+        }
+    }
+
+    // ----- Readers, each advances parser to next field then reads it -----
+
+    protected static long readLong( JsonParser jsonParser ) throws IOException
+    {
+        jsonParser.nextToken();
+        return jsonParser.getLongValue();
+    }
+
+    protected static int readInt( JsonParser jsonParser ) throws IOException
+    {
+        jsonParser.nextToken();
+        return jsonParser.getIntValue();
+    }
+
+    protected static float readFloat( JsonParser jsonParser ) throws IOException
+    {
+        jsonParser.nextToken();
+        return jsonParser.getFloatValue();
+    }
+
+    protected static double readDouble( JsonParser jsonParser ) throws IOException
+    {
+        jsonParser.nextToken();
+        return jsonParser.getDoubleValue();
+    }
+
+    protected static boolean readBoolean( JsonParser jsonParser ) throws IOException
+    {
+        JsonToken token = jsonParser.nextToken();
+        if ( JsonToken.VALUE_TRUE == token )
+        {
+            return true;
+        }
+        else if ( JsonToken.VALUE_FALSE == token )
+        {
+            return false;
+        }
+        throw new IOException( format( "Expected boolean but found %s", token ) );
+    }
+
+    protected static String readString( JsonParser jsonParser ) throws IOException
+    {
+        return (JsonToken.VALUE_NULL == jsonParser.nextToken()) ? null : jsonParser.getText();
+    }
+
+    protected static List<String> readStringList( JsonParser jsonParser ) throws IOException
+    {
+        expect( jsonParser.nextToken(), JsonToken.START_ARRAY );
+        List<String> values = new ArrayList<>();
+        while ( JsonToken.END_ARRAY != jsonParser.nextToken() )
+        {
+            values.add( (JsonToken.VALUE_NULL == jsonParser.getCurrentToken()) ? null : jsonParser.getText() );
+        }
+        return values;
+    }
+
+    protected static List<Long> readLongList( JsonParser jsonParser ) throws IOException
+    {
+        expect( jsonParser.nextToken(), JsonToken.START_ARRAY );
+        List<Long> values = new ArrayList<>();
+        while ( JsonToken.END_ARRAY != jsonParser.nextToken() )
+        {
+            values.add( jsonParser.getLongValue() );
+        }
+        return values;
+    }
+
+    /**
+     * Reads next field as ObjectMapper would when binding to Object, i.e., integers as Integer, Long or BigInteger,
+     * floating point numbers as Double, arrays as ArrayList, and objects as LinkedHashMap
+     */
+    protected static Object readUntyped( JsonParser jsonParser ) throws IOException
+    {
+        return readUntypedValue( jsonParser, jsonParser.nextToken() );
+    }
+
+    private static Object readUntypedValue( JsonParser jsonParser, JsonToken token ) throws IOException
+    {
+        switch ( token )
+        {
+        case VALUE_NULL:
+            return null;
+        case VALUE_TRUE:
+            return Boolean.TRUE;
+        case VALUE_FALSE:
+            return Boolean.FALSE;
+        case VALUE_STRING:
+            return jsonParser.getText();
+        case VALUE_NUMBER_INT:
+            return jsonParser.getNumberValue();
+        case VALUE_NUMBER_FLOAT:
+            return jsonParser.getDoubleValue();
+        case START_ARRAY:
+        {
+            List<Object> values = new ArrayList<>();
+            JsonToken elementToken;
+            while ( JsonToken.END_ARRAY != (elementToken = jsonParser.nextToken()) )
+            {
+                values.add( readUntypedValue( jsonParser, elementToken ) );
+            }
+            return values;
+        }
+        case START_OBJECT:
+        {
+            Map<String,Object> values = new LinkedHashMap<>();
+            while ( JsonToken.FIELD_NAME == jsonParser.nextToken() )
+            {
+                String fieldName = jsonParser.getCurrentName();
+                values.put( fieldName, readUntypedValue( jsonParser, jsonParser.nextToken() ) );
+            }
+            return values;
+        }
+        default:
+            throw new IOException( format( "Unexpected token: %s", token ) );
+        }
+    }
+
+    // ----- Writers -----
+
+    protected static void writeString( JsonGenerator jsonGenerator, String value ) throws IOException
+    {
+        if ( null == value )
+        {
+            jsonGenerator.writeNull();
+        }
+        else
+        {
+            jsonGenerator.writeString( value );
+        }
+    }
+
+    protected static void writeStrings( JsonGenerator jsonGenerator, Iterable<String> values ) throws IOException
+    {
+        jsonGenerator.writeStartArray();
+        for ( String value : values )
+        {
+            writeString( jsonGenerator, value );
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    protected static void writeLongs( JsonGenerator jsonGenerator, Iterable<Long> values ) throws IOException
+    {
+        jsonGenerator.writeStartArray();
+        for ( Long value : values )
+        {
+            jsonGenerator.writeNumber( value );
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    /**
+     * Writes value as ObjectMapper would for the basic types produced by readUntyped
+     */
+    protected static void writeUntyped( JsonGenerator jsonGenerator, Object value ) throws IOException
+    {
+        if ( null == value )
+        {
+            jsonGenerator.writeNull();
+        }
+        else if ( value instanceof String )
+        {
+            jsonGenerator.writeString( (String) value );
+        }
+        else if ( value instanceof Boolean )
+        {
+            jsonGenerator.writeBoolean( (Boolean) value );
+        }
+        else if ( value instanceof Integer || value instanceof Short || value instanceof Byte )
+        {
+            jsonGenerator.writeNumber( ((Number) value).intValue() );
+        }
+        else if ( value instanceof Long )
+        {
+            jsonGenerator.writeNumber( (Long) value );
+        }
+        else if ( value instanceof Float )
+        {
+            jsonGenerator.writeNumber( (Float) value );
+        }
+        else if ( value instanceof Double )
+        {
+            jsonGenerator.writeNumber( (Double) value );
+        }
+        else if ( value instanceof Iterable )
+        {
+            jsonGenerator.writeStartArray();
+            for ( Object element : (Iterable) value )
+            {
+                writeUntyped( jsonGenerator, element );
+            }
+            jsonGenerator.writeEndArray();
+        }
+        else if ( value instanceof Map )
+        {
+            jsonGenerator.writeStartObject();
+            for ( Map.Entry<?,?> entry : ((Map<?,?>) value).entrySet() )
+            {
+                jsonGenerator.writeFieldName( String.valueOf( entry.getKey() ) );
+                writeUntyped( jsonGenerator, entry.getValue() );
+            }
+            jsonGenerator.writeEndObject();
+        }
+        else if ( value instanceof BigInteger )
+        {
+            jsonGenerator.writeNumber( (BigInteger) value );
+        }
+        else if ( value instanceof BigDecimal )
+        {
+            jsonGenerator.writeNumber( (BigDecimal) value );
+        }
+        else
+        {
+            throw new IOException( format( "Unsupported result field type: %s", value.getClass().getName() ) );
+        }
+    }
+}
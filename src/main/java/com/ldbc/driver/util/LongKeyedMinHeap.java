@@ -0,0 +1,144 @@
+package com.ldbc.driver.util;
+
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Binary min heap of int values (e.g., indexes of streams being merged) ordered by long keys (e.g., time stamps of
+ * stream heads). Of values with equal keys, the lowest value is at the top, which makes merges stable: on equal time
+ * stamps, the stream with the lowest index goes first, exactly as with a linear scan over stream heads.
+ * <p>
+ * Keys and values are stored in primitive arrays, nothing is boxed and no Comparator is involved. Merging k streams
+ * costs O(log k) per element, rather than the O(k) of a linear scan.
+ * <p>
+ * Not thread safe.
+ */
+public class LongKeyedMinHeap
+{
+    private final int[] values;
+    private final long[] keys;
+    private int size = 0;
+
+    public LongKeyedMinHeap( int capacity )
+    {
+        this.values = new int[capacity];
+        this.keys = new long[capacity];
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return 0 == size;
+    }
+
+    public void add( int value, long key )
+    {
+        if ( size == values.length )
+        {
+            throw new IllegalStateException( format( "Heap is full, capacity: %s", values.length ) );
+        }
+        int position = size++;
+        values[position] = value;
+        keys[position] = key;
+        siftUp( position );
+    }
+
+    public int peekValue()
+    {
+        assertNotEmpty();
+        return values[0];
+    }
+
+    public long peekKey()
+    {
+        assertNotEmpty();
+        return keys[0];
+    }
+
+    /**
+     * Changes key of the top value, e.g., after the head of the stream at the top has been replaced by its successor.
+     * Cheaper than removeTop() followed by add().
+     */
+    public void replaceTopKey( long key )
+    {
+        assertNotEmpty();
+        keys[0] = key;
+        siftDown( 0 );
+    }
+
+    public int removeTop()
+    {
+        assertNotEmpty();
+        int top = values[0];
+        size--;
+        if ( size > 0 )
+        {
+            values[0] = values[size];
+            keys[0] = keys[size];
+            siftDown( 0 );
+        }
+        return top;
+    }
+
+    private void siftUp( int position )
+    {
+        int value = values[position];
+        long key = keys[position];
+        while ( position > 0 )
+        {
+            int parent = (position - 1) >>> 1;
+            if ( false == less( key, value, keys[parent], values[parent] ) )
+            {
+                break;
+            }
+            values[position] = values[parent];
+            keys[position] = keys[parent];
+            position = parent;
+        }
+        values[position] = value;
+        keys[position] = key;
+    }
+
+    private void siftDown( int position )
+    {
+        int value = values[position];
+        long key = keys[position];
+        int half = size >>> 1;
+        while ( position < half )
+        {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if ( right < size && less( keys[right], values[right], keys[child], values[child] ) )
+            {
+                child = right;
+            }
+            if ( false == less( keys[child], values[child], key, value ) )
+            {
+                break;
+            }
+            values[position] = values[child];
+            keys[position] = keys[child];
+            position = child;
+        }
+        values[position] = value;
+        keys[position] = key;
+    }
+
+    private static boolean less( long key1, int value1, long key2, int value2 )
+    {
+        return key1 < key2 || (key1 == key2 && value1 < value2);
+    }
+
+    private void assertNotEmpty()
+    {
+        if ( 0 == size )
+        {
+            throw new NoSuchElementException( "Heap is empty" );
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ldbc.driver.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AtomicLong padded to (at least) a cache line, so that frequently written instances that are allocated next to each
+ * other, e.g., one per writer thread, do not false share.
+ */
+public class PaddedAtomicLong extends AtomicLong
+{
+    private static final long serialVersionUID = 5064414347237938263L;
+
+    // padding, never read
+    public volatile long p1, p2, p3, p4, p5, p6, p7 = 7L;
+
+    public PaddedAtomicLong( long initialValue )
+    {
+        super( initialValue );
+    }
+
+    // prevents padding from being optimized away
+    public long sumPaddingToPreventOptimisation()
+    {
+        return p1 + p2 + p3 + p4 + p5 + p6 + p7;
+    }
+}
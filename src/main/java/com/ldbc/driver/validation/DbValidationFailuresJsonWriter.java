@@ -0,0 +1,163 @@
+package com.ldbc.driver.validation;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectWriter;
+import org.codehaus.jackson.type.TypeReference;
+import org.codehaus.jackson.util.DefaultPrettyPrinter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Writes actual and expected results of failed validation operations to their JSON files as failures are reported,
+ * so they never need to be held in memory together. Files contain one JSON array each, entries are written in the
+ * order failures are reported, which (with multiple validation threads) is not necessarily validation params order.
+ * <p>
+ * Thread safe.
+ */
+public class DbValidationFailuresJsonWriter implements Closeable
+{
+    private static final TypeReference<Map<String,Object>> TYPE_REFERENCE =
+            new TypeReference<Map<String,Object>>()
+            {
+            };
+    private final Workload workload;
+    private final Writer actualResultsWriter;
+    private final Writer expectedResultsWriter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter prettyPrintingWriter;
+    private boolean isFirstEntry = true;
+    private boolean isClosed = false;
+
+    public DbValidationFailuresJsonWriter( Workload workload, File actualResultsFile, File expectedResultsFile )
+            throws IOException
+    {
+        this(
+                workload,
+                new BufferedWriter( new OutputStreamWriter( new FileOutputStream( actualResultsFile ),
+                        Charsets.UTF_8 ) ),
+                new BufferedWriter( new OutputStreamWriter( new FileOutputStream( expectedResultsFile ),
+                        Charsets.UTF_8 ) )
+        );
+    }
+
+    public DbValidationFailuresJsonWriter( Workload workload, Writer actualResultsWriter,
+            Writer expectedResultsWriter ) throws IOException
+    {
+        this.workload = workload;
+        this.actualResultsWriter = actualResultsWriter;
+        this.expectedResultsWriter = expectedResultsWriter;
+        this.objectMapper = new ObjectMapper();
+        DefaultPrettyPrinter defaultPrettyPrinter = new DefaultPrettyPrinter();
+        defaultPrettyPrinter.indentArraysWith( new DefaultPrettyPrinter.Lf2SpacesIndenter() );
+        this.prettyPrintingWriter = objectMapper.writer( defaultPrettyPrinter );
+        actualResultsWriter.write( "[" );
+        expectedResultsWriter.write( "[" );
+    }
+
+    void writeIncorrectResult( Operation operation, Object expectedResult, Object actualResult )
+            throws WorkloadException
+    {
+        // serialization happens outside of lock, only writing is serialized
+        String actualResultEntry = operationAndResultAsPrettyJsonString( operation, actualResult );
+        String expectedResultEntry = operationAndResultAsPrettyJsonString( operation, expectedResult );
+        synchronized ( this )
+        {
+            if ( isClosed )
+            {
+                throw new WorkloadException( "Can not write failed validation results, writer has been closed" );
+            }
+            try
+            {
+                String separator = (isFirstEntry) ? "\n" : ",\n";
+                actualResultsWriter.write( separator );
+                actualResultsWriter.write( actualResultEntry );
+                expectedResultsWriter.write( separator );
+                expectedResultsWriter.write( expectedResultEntry );
+                isFirstEntry = false;
+            }
+            catch ( IOException e )
+            {
+                throw new WorkloadException( "Error encountered while writing failed validation results", e );
+            }
+        }
+    }
+
+    private String operationAndResultAsPrettyJsonString( Operation operation, Object result )
+            throws WorkloadException
+    {
+        String serializedOperation;
+        try
+        {
+            serializedOperation = workload.serializeOperation( operation );
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new WorkloadException(
+                    format( "Error occurred while serializing operation\nOperation: %s", operation ),
+                    e
+            );
+        }
+        String serializedResult;
+        try
+        {
+            serializedResult = operation.serializeResult( result );
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            throw new WorkloadException(
+                    format( "Error occurred while serializing operation result\nResult: %s", result ),
+                    e
+            );
+        }
+        String entry = "{\"operation\":" + serializedOperation + ",\"result\":" + serializedResult + "}";
+        try
+        {
+            return prettyPrintingWriter.writeValueAsString( objectMapper.readValue( entry, TYPE_REFERENCE ) );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( "Error encountered while trying to pretty print JSON output", e );
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException
+    {
+        if ( isClosed )
+        {
+            return;
+        }
+        isClosed = true;
+        String ending = (isFirstEntry) ? "]" : "\n]";
+        try
+        {
+            actualResultsWriter.write( ending );
+            expectedResultsWriter.write( ending );
+        }
+        finally
+        {
+            try
+            {
+                actualResultsWriter.close();
+            }
+            finally
+            {
+                expectedResultsWriter.close();
+            }
+        }
+    }
+}
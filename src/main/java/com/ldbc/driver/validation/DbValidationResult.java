@@ -31,7 +31,11 @@ public class DbValidationResult
     private final Db db;
     private final Set<Class> missingHandlersForOperationTypes;
     private final List<Tuple2<Operation,String>> unableToExecuteOperations;
+    // only retained when failures are not streamed to failures writer
     private final List<Tuple3<Operation,Object,Object>> incorrectResultsForOperations;
+    private final Map<Class,Integer> incorrectResultsPerOperationType;
+    private int incorrectResultsCount;
+    private final DbValidationFailuresJsonWriter failuresWriter;
     private final Map<Class,Integer> successfullyExecutedOperationsPerOperationType;
     private final Map<Class,Integer> totalOperationsPerOperationType;
     private final ObjectMapper objectMapper;
@@ -42,11 +46,22 @@ public class DbValidationResult
     private final DefaultPrettyPrinter defaultPrettyPrinter;
 
     DbValidationResult( Db db )
+    {
+        this( db, null );
+    }
+
+    /**
+     * @param failuresWriter if not null, incorrect results are written to it as they are reported, not retained
+     */
+    DbValidationResult( Db db, DbValidationFailuresJsonWriter failuresWriter )
     {
         this.db = db;
+        this.failuresWriter = failuresWriter;
         this.missingHandlersForOperationTypes = new HashSet<>();
         this.unableToExecuteOperations = new ArrayList<>();
         this.incorrectResultsForOperations = new ArrayList<>();
+        this.incorrectResultsPerOperationType = new HashMap<>();
+        this.incorrectResultsCount = 0;
         this.successfullyExecutedOperationsPerOperationType = new HashMap<>();
         this.totalOperationsPerOperationType = new HashMap<>();
         this.objectMapper = new ObjectMapper();
@@ -54,25 +69,40 @@ public class DbValidationResult
         this.defaultPrettyPrinter.indentArraysWith( new DefaultPrettyPrinter.Lf2SpacesIndenter() );
     }
 
-    void reportMissingHandlerForOperation( Operation operation )
+    synchronized void reportMissingHandlerForOperation( Operation operation )
     {
         missingHandlersForOperationTypes.add( operation.getClass() );
         incrementOperationCountPerOperationType( operation.getClass() );
     }
 
-    void reportUnableToExecuteOperation( Operation operation, String errorMessage )
+    synchronized void reportUnableToExecuteOperation( Operation operation, String errorMessage )
     {
         unableToExecuteOperations.add( Tuple.tuple2( operation, errorMessage ) );
         incrementOperationCountPerOperationType( operation.getClass() );
     }
 
     void reportIncorrectResultForOperation( Operation operation, Object expectedResult, Object actualResult )
+            throws WorkloadException
     {
-        incorrectResultsForOperations.add( Tuple.tuple3( operation, expectedResult, actualResult ) );
-        incrementOperationCountPerOperationType( operation.getClass() );
+        if ( null != failuresWriter )
+        {
+            // written outside of lock, writer is thread safe
+            failuresWriter.writeIncorrectResult( operation, expectedResult, actualResult );
+        }
+        synchronized ( this )
+        {
+            if ( null == failuresWriter )
+            {
+                incorrectResultsForOperations.add( Tuple.tuple3( operation, expectedResult, actualResult ) );
+            }
+            incorrectResultsCount++;
+            Integer count = incorrectResultsPerOperationType.get( operation.getClass() );
+            incorrectResultsPerOperationType.put( operation.getClass(), (null == count) ? 1 : count + 1 );
+            incrementOperationCountPerOperationType( operation.getClass() );
+        }
     }
 
-    void reportSuccessfulExecution( Operation operation )
+    synchronized void reportSuccessfulExecution( Operation operation )
     {
         if ( false == successfullyExecutedOperationsPerOperationType.containsKey( operation.getClass() ) )
         { successfullyExecutedOperationsPerOperationType.put( operation.getClass(), 0 ); }
@@ -97,14 +127,16 @@ public class DbValidationResult
         }
     }
 
-    public boolean isSuccessful()
+    public synchronized boolean isSuccessful()
     {
         return missingHandlersForOperationTypes.isEmpty() && unableToExecuteOperations.isEmpty() &&
-               incorrectResultsForOperations.isEmpty();
+               0 == incorrectResultsCount;
     }
 
-    public String actualResultsForFailedOperationsAsJsonString( Workload workload ) throws WorkloadException
+    public synchronized String actualResultsForFailedOperationsAsJsonString( Workload workload )
+            throws WorkloadException
     {
+        assertIncorrectResultsAreRetained();
         StringBuilder sb = new StringBuilder();
         sb.append( "[" );
         for ( int i = 0; i < incorrectResultsForOperations.size() - 1; i++ )
@@ -131,8 +163,10 @@ public class DbValidationResult
         }
     }
 
-    public String expectedResultsForFailedOperationsAsJsonString( Workload workload ) throws WorkloadException
+    public synchronized String expectedResultsForFailedOperationsAsJsonString( Workload workload )
+            throws WorkloadException
     {
+        assertIncorrectResultsAreRetained();
         StringBuilder sb = new StringBuilder();
         sb.append( "[" );
         for ( int i = 0; i < incorrectResultsForOperations.size() - 1; i++ )
@@ -159,6 +193,15 @@ public class DbValidationResult
         }
     }
 
+    private void assertIncorrectResultsAreRetained() throws WorkloadException
+    {
+        if ( null != failuresWriter )
+        {
+            throw new WorkloadException(
+                    "Incorrect results were written to failures writer as they were reported, they are not retained" );
+        }
+    }
+
     private String operationAndResultAsJsonMapString( Operation operation, Object result, Workload workload )
             throws WorkloadException
     {
@@ -189,7 +232,7 @@ public class DbValidationResult
         return "{\"operation\":" + serializedOperation + ",\"result\":" + serializedResult + "}";
     }
 
-    public String resultMessage()
+    public synchronized String resultMessage()
     {
         int padRightDistance = 15;
         StringBuilder sb = new StringBuilder();
@@ -230,12 +273,10 @@ public class DbValidationResult
                     append( "               " ).append( failedOperationType.getValue() ).append( "\n" );
         }
         sb.append( "  ***\n" );
-        sb.append( "  Incorrect results for " ).append( incorrectResultsForOperations.size() )
+        sb.append( "  Incorrect results for " ).append( incorrectResultsCount )
                 .append( " operations\n" );
-        Map<Class,Integer> incorrectResultsForOperationsGrouping =
-                incorrectResultsForOperationsGrouping( incorrectResultsForOperations );
         for ( Map.Entry<Class,Integer> failedOperationType : MapUtils
-                .sortedEntrySet( incorrectResultsForOperationsGrouping ) )
+                .sortedEntrySet( incorrectResultsPerOperationType ) )
         {
             sb.
                     append( failedOperationType.getKey().getSimpleName() ).
@@ -272,26 +313,6 @@ public class DbValidationResult
         return grouping;
     }
 
-    private Map<Class,Integer> incorrectResultsForOperationsGrouping(
-            List<Tuple3<Operation,Object,Object>> incorrectResultsForOperations )
-    {
-        Map<Class,Integer> grouping = new HashMap<>();
-        for ( Tuple3<Operation,Object,Object> failedOperation : incorrectResultsForOperations )
-        {
-            Class operationType = failedOperation._1().getClass();
-            if ( grouping.containsKey( operationType ) )
-            {
-                int count = grouping.get( operationType );
-                grouping.put( operationType, count + 1 );
-            }
-            else
-            {
-                grouping.put( operationType, 1 );
-            }
-        }
-        return grouping;
-    }
-
     private static class DefaultComparator<T> implements Comparator<T>
     {
         @Override
@@ -13,91 +13,213 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
 import java.text.DecimalFormat;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.String.format;
 
+/**
+ * Validation params are read by the calling thread and validated by a pool of worker threads. At most a fixed
+ * multiple of the worker count are in flight at any time, so params are never read far ahead of validation.
+ * Progress is printed periodically, not per operation.
+ */
 public class DbValidator
 {
+    public static final int UNKNOWN_VALIDATION_PARAMS_COUNT = -1;
+    private static final int MAX_IN_FLIGHT_PER_THREAD = 4;
+    private static final long PROGRESS_INTERVAL_AS_MILLI = 2000;
+
     public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
             Db db,
             int validationParamsCount,
             Workload workload ) throws WorkloadException
     {
-        System.out.println( "----" );
-        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
-        DbValidationResult dbValidationResult = new DbValidationResult( db );
-        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
-        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
-
-        int validationParamsProcessedSoFar = 0;
-        int validationParamsCrashedSoFar = 0;
-        int validationParamsIncorrectSoFar = 0;
+        return validate( validationParameters, db, validationParamsCount, workload, 1, null );
+    }
 
-        while ( validationParameters.hasNext() )
+    /**
+     * @param validationParamsCount only used to report progress, may be UNKNOWN_VALIDATION_PARAMS_COUNT
+     * @param failuresWriter if not null, incorrect results are written to it as they are found, not retained
+     */
+    public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
+            final Db db,
+            int validationParamsCount,
+            final Workload workload,
+            int threadCount,
+            DbValidationFailuresJsonWriter failuresWriter ) throws WorkloadException
+    {
+        System.out.println( "----" );
+        final DbValidationResult dbValidationResult = new DbValidationResult( db, failuresWriter );
+        final ValidationProgress progress = new ValidationProgress();
+        // first error that escaped validation of a param, f.ex. thrown by the workload, it stops the validation
+        final AtomicReference<Throwable> firstError = new AtomicReference<>( null );
+        int maxInFlight = Math.max( 1, threadCount ) * MAX_IN_FLIGHT_PER_THREAD;
+        final Semaphore inFlightPermits = new Semaphore( maxInFlight );
+        ExecutorService executorService =
+                Executors.newFixedThreadPool( Math.max( 1, threadCount ), new ValidationThreadFactory() );
+        long lastProgressReportAsMilli = System.currentTimeMillis();
+        try
         {
-            ValidationParam validationParam = validationParameters.next();
-            Operation operation = validationParam.operation();
-            Object expectedOperationResult = validationParam.operationResult();
-
-            OperationHandlerRunnableContext handlerRunner;
-            try
-            {
-                handlerRunner = db.getOperationHandlerRunnableContext( operation );
-            }
-            catch ( Throwable e )
-            {
-
-                dbValidationResult.reportMissingHandlerForOperation( operation );
-                continue;
-            }
-
-            try
+            while ( validationParameters.hasNext() && null == firstError.get() )
             {
-                OperationHandler handler = handlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
-                System.out.print( format(
-                        "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
-                        numberFormat.format( validationParamsProcessedSoFar ),
-                        numberFormat.format( validationParamsCount ),
-                        numberFormat.format( validationParamsCrashedSoFar ),
-                        numberFormat.format( validationParamsIncorrectSoFar ),
-                        operation.getClass().getSimpleName()
-                ) );
-                handler.executeOperation( operation, dbConnectionState, resultReporter );
-                if ( null == resultReporter.result() )
+                final ValidationParam validationParam = validationParameters.next();
+                while ( !inFlightPermits.tryAcquire( PROGRESS_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
                 {
-                    throw new DbException(
-                            format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
+                    lastProgressReportAsMilli = reportProgress( progress, validationParamsCount );
+                }
+                executorService.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            validateOne( validationParam, db, workload, dbValidationResult, progress );
+                        }
+                        catch ( Throwable e )
+                        {
+                            firstError.compareAndSet( null, e );
+                        }
+                        finally
+                        {
+                            inFlightPermits.release();
+                        }
+                    }
+                } );
+                if ( System.currentTimeMillis() - lastProgressReportAsMilli >= PROGRESS_INTERVAL_AS_MILLI )
+                {
+                    lastProgressReportAsMilli = reportProgress( progress, validationParamsCount );
                 }
             }
-            catch ( Throwable e )
-            {
-                // Not necessary, but perhaps useful for debugging
-                e.printStackTrace();
-                validationParamsCrashedSoFar++;
-                dbValidationResult
-                        .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
-                continue;
-            }
-            finally
+            // all permits are returned once all in flight validations have completed
+            while ( !inFlightPermits.tryAcquire( maxInFlight, PROGRESS_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
             {
-                validationParamsProcessedSoFar++;
-                handlerRunner.cleanup();
+                reportProgress( progress, validationParamsCount );
             }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new WorkloadException( "Interrupted while waiting for database validation to complete", e );
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+        reportProgress( progress, validationParamsCount );
+        System.out.println();
+        Throwable error = firstError.get();
+        if ( error instanceof WorkloadException )
+        {
+            throw (WorkloadException) error;
+        }
+        else if ( null != error )
+        {
+            throw new WorkloadException( "Error encountered while validating database", error );
+        }
+        System.out.println( "----" );
+        return dbValidationResult;
+    }
+
+    private void validateOne( ValidationParam validationParam,
+            Db db,
+            Workload workload,
+            DbValidationResult dbValidationResult,
+            ValidationProgress progress ) throws WorkloadException
+    {
+        Operation operation = validationParam.operation();
+        Object expectedOperationResult = validationParam.operationResult();
 
-            Object actualOperationResult = resultReporter.result();
+        OperationHandlerRunnableContext handlerRunner;
+        try
+        {
+            handlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( Throwable e )
+        {
+            dbValidationResult.reportMissingHandlerForOperation( operation );
+            progress.processed.incrementAndGet();
+            return;
+        }
 
-            if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        try
+        {
+            OperationHandler handler = handlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
+            handler.executeOperation( operation, dbConnectionState, resultReporter );
+            if ( null == resultReporter.result() )
             {
-                validationParamsIncorrectSoFar++;
-                dbValidationResult
-                        .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                continue;
+                throw new DbException(
+                        format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
             }
+        }
+        catch ( Throwable e )
+        {
+            // Not necessary, but perhaps useful for debugging
+            e.printStackTrace();
+            progress.crashed.incrementAndGet();
+            dbValidationResult
+                    .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
+            return;
+        }
+        finally
+        {
+            progress.processed.incrementAndGet();
+            handlerRunner.cleanup();
+        }
+
+        Object actualOperationResult = resultReporter.result();
+
+        if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        {
+            progress.incorrect.incrementAndGet();
+            dbValidationResult
+                    .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
+            return;
+        }
+
+        dbValidationResult.reportSuccessfulExecution( operation );
+    }
+
+    private long reportProgress( ValidationProgress progress, int validationParamsCount )
+    {
+        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        String total = (UNKNOWN_VALIDATION_PARAMS_COUNT == validationParamsCount)
+                       ? "?"
+                       : numberFormat.format( validationParamsCount );
+        System.out.print( format(
+                "Processed %s / %s -- Crashed %s -- Incorrect %s\r",
+                numberFormat.format( progress.processed.get() ),
+                total,
+                numberFormat.format( progress.crashed.get() ),
+                numberFormat.format( progress.incorrect.get() )
+        ) );
+        return System.currentTimeMillis();
+    }
 
-            dbValidationResult.reportSuccessfulExecution( operation );
+    private static class ValidationProgress
+    {
+        private final AtomicInteger processed = new AtomicInteger( 0 );
+        private final AtomicInteger crashed = new AtomicInteger( 0 );
+        private final AtomicInteger incorrect = new AtomicInteger( 0 );
+    }
+
+    private static class ValidationThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadCount = new AtomicInteger( 0 );
+
+        @Override
+        public Thread newThread( Runnable runnable )
+        {
+            Thread thread = new Thread( runnable,
+                    DbValidator.class.getSimpleName() + "-thread-" + threadCount.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
         }
-        System.out.println( "----" );
-        return dbValidationResult;
     }
-}
\ No newline at end of file
+}
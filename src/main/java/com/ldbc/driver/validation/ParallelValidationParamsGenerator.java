@@ -0,0 +1,339 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.Workload.DbValidationParametersFilter;
+import com.ldbc.driver.Workload.DbValidationParametersFilterResult;
+import com.ldbc.driver.generator.Generator;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * Generates the same validation params, in the same order, as ValidationParamsGenerator, but executes operations
+ * against the database on multiple threads.
+ * <p>
+ * The filter is only ever called from the calling thread, in the order ValidationParamsGenerator would call it.
+ * Upcoming operations (injected first, then from the stream) are executed speculatively by worker threads, and their
+ * results are consumed when the filter gets to them. Operations are only speculated if the filter would currently
+ * use them, which assumes useOperation() has no side effects. Speculated results of operations the filter then
+ * rejects are discarded, operations the filter uses but that were not speculated are executed by the calling thread.
+ * <p>
+ * Operations of ordered types (e.g., writes) are never speculated, and no operation after one is speculated until it
+ * has been executed, so every operation observes exactly the writes it would observe when executed sequentially.
+ */
+public class ParallelValidationParamsGenerator extends Generator<ValidationParam> implements Closeable
+{
+    private static final int LOOKAHEAD_PER_THREAD = 4;
+
+    private final Db db;
+    private final DbValidationParametersFilter dbValidationParametersFilter;
+    private final Iterator<Operation> operations;
+    private final Set<Class<? extends Operation>> orderedOperationTypes;
+    private final ExecutorService executorService;
+    private final int maxLookahead;
+    private final ArrayDeque<PendingOperation> injectedOperations = new ArrayDeque<>();
+    private final ArrayDeque<PendingOperation> lookaheadOperations = new ArrayDeque<>();
+    private int entriesWrittenSoFar;
+    private boolean needMoreValidationParameters;
+
+    /**
+     * @param orderedOperationTypes operation types that must be executed in order with respect to all others
+     */
+    public ParallelValidationParamsGenerator( Db db,
+            DbValidationParametersFilter dbValidationParametersFilter,
+            Iterator<Operation> operations,
+            Set<Class<? extends Operation>> orderedOperationTypes,
+            int threadCount )
+    {
+        this.db = db;
+        this.dbValidationParametersFilter = dbValidationParametersFilter;
+        this.operations = operations;
+        this.orderedOperationTypes = orderedOperationTypes;
+        this.executorService = Executors.newFixedThreadPool( Math.max( 1, threadCount ), new WorkerThreadFactory() );
+        this.maxLookahead = Math.max( 1, threadCount ) * LOOKAHEAD_PER_THREAD;
+        this.entriesWrittenSoFar = 0;
+        this.needMoreValidationParameters = true;
+    }
+
+    public int entriesWrittenSoFar()
+    {
+        return entriesWrittenSoFar;
+    }
+
+    @Override
+    protected ValidationParam doNext() throws GeneratorException
+    {
+        while ( needMoreValidationParameters )
+        {
+            speculate();
+            PendingOperation pendingOperation = (injectedOperations.isEmpty())
+                                                ? lookaheadOperations.poll()
+                                                : injectedOperations.poll();
+            if ( null == pendingOperation )
+            {
+                break;
+            }
+            Operation operation = pendingOperation.operation;
+
+            if ( false == dbValidationParametersFilter.useOperation( operation ) )
+            {
+                pendingOperation.discard();
+                continue;
+            }
+
+            Object result = pendingOperation.result();
+            DbValidationParametersFilterResult dbValidationParametersFilterResult =
+                    dbValidationParametersFilter.useOperationAndResultForValidation( operation, result );
+            inject( dbValidationParametersFilterResult.injectedOperations() );
+
+            switch ( dbValidationParametersFilterResult.acceptance() )
+            {
+            case REJECT_AND_CONTINUE:
+                continue;
+            case REJECT_AND_FINISH:
+                needMoreValidationParameters = false;
+                continue;
+            case ACCEPT_AND_CONTINUE:
+                entriesWrittenSoFar++;
+                return ValidationParam.createUntyped( operation, result );
+            case ACCEPT_AND_FINISH:
+                entriesWrittenSoFar++;
+                needMoreValidationParameters = false;
+                return ValidationParam.createUntyped( operation, result );
+            default:
+                throw new GeneratorException(
+                        format( "Unrecognized %s value: %s",
+                                Workload.DbValidationParametersFilterAcceptance.class.getSimpleName(),
+                                dbValidationParametersFilterResult.acceptance().name()
+                        )
+                );
+            }
+        }
+        // ran out of operations OR validation set size has been reached
+        discardAll();
+        return null;
+    }
+
+    private void inject( Iterable<Operation> operationsToInject )
+    {
+        for ( Operation operation : operationsToInject )
+        {
+            if ( isOrdered( operation ) )
+            {
+                // operations after it in the sequence may have been speculated, before it was executed
+                for ( PendingOperation pendingOperation : lookaheadOperations )
+                {
+                    pendingOperation.discard();
+                }
+            }
+            injectedOperations.add( new PendingOperation( operation ) );
+        }
+    }
+
+    // starts executing upcoming operations, in sequence order, until reaching lookahead or an ordered operation
+    private void speculate()
+    {
+        while ( lookaheadOperations.size() < maxLookahead && operations.hasNext() )
+        {
+            lookaheadOperations.add( new PendingOperation( operations.next() ) );
+        }
+        int speculatedCount = 0;
+        for ( PendingOperation pendingOperation : injectedOperations )
+        {
+            if ( speculatedCount >= maxLookahead || false == speculate( pendingOperation ) )
+            {
+                return;
+            }
+            speculatedCount++;
+        }
+        for ( PendingOperation pendingOperation : lookaheadOperations )
+        {
+            if ( speculatedCount >= maxLookahead || false == speculate( pendingOperation ) )
+            {
+                return;
+            }
+            speculatedCount++;
+        }
+    }
+
+    // returns false if no operation after this one may be speculated
+    private boolean speculate( PendingOperation pendingOperation )
+    {
+        if ( isOrdered( pendingOperation.operation ) )
+        {
+            return false;
+        }
+        if ( null == pendingOperation.future &&
+             dbValidationParametersFilter.useOperation( pendingOperation.operation ) )
+        {
+            pendingOperation.future = executorService.submit( new ExecuteOperation( db, pendingOperation.operation ) );
+        }
+        return true;
+    }
+
+    private boolean isOrdered( Operation operation )
+    {
+        return orderedOperationTypes.contains( operation.getClass() );
+    }
+
+    private void discardAll()
+    {
+        for ( PendingOperation pendingOperation : injectedOperations )
+        {
+            pendingOperation.discard();
+        }
+        for ( PendingOperation pendingOperation : lookaheadOperations )
+        {
+            pendingOperation.discard();
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        discardAll();
+        executorService.shutdownNow();
+    }
+
+    private static Object executeOperation( Db db, Operation operation ) throws GeneratorException
+    {
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        OperationHandlerRunnableContext operationHandlerRunner;
+        try
+        {
+            operationHandlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format(
+                            "Error retrieving operation handler for operation\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        try
+        {
+            operationHandlerRunner.operationHandler().executeOperation(
+                    operation,
+                    operationHandlerRunner.dbConnectionState(),
+                    resultReporter );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Error executing operation to retrieve validation result\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        finally
+        {
+            operationHandlerRunner.cleanup();
+        }
+        return resultReporter.result();
+    }
+
+    private class PendingOperation
+    {
+        private final Operation operation;
+        // null if not (or no longer) speculated
+        private Future<Object> future = null;
+
+        private PendingOperation( Operation operation )
+        {
+            this.operation = operation;
+        }
+
+        private Object result() throws GeneratorException
+        {
+            if ( null == future )
+            {
+                return executeOperation( db, operation );
+            }
+            try
+            {
+                return future.get();
+            }
+            catch ( InterruptedException e )
+            {
+                throw new GeneratorException(
+                        format( "Interrupted while waiting for validation result\nOperation: %s", operation ), e );
+            }
+            catch ( ExecutionException e )
+            {
+                if ( e.getCause() instanceof GeneratorException )
+                {
+                    throw (GeneratorException) e.getCause();
+                }
+                throw new GeneratorException(
+                        format( "Error executing operation to retrieve validation result\nOperation: %s",
+                                operation ),
+                        e.getCause() );
+            }
+        }
+
+        private void discard()
+        {
+            if ( null != future )
+            {
+                future.cancel( false );
+                future = null;
+            }
+        }
+    }
+
+    private static class ExecuteOperation implements Callable<Object>
+    {
+        private final Db db;
+        private final Operation operation;
+
+        private ExecuteOperation( Db db, Operation operation )
+        {
+            this.db = db;
+            this.operation = operation;
+        }
+
+        @Override
+        public Object call() throws Exception
+        {
+            return executeOperation( db, operation );
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadCount = new AtomicInteger( 0 );
+
+        @Override
+        public Thread newThread( Runnable runnable )
+        {
+            Thread thread = new Thread( runnable,
+                    ParallelValidationParamsGenerator.class.getSimpleName() + "-thread-" +
+                    threadCount.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        }
+    }
+}
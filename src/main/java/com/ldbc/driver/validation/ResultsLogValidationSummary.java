@@ -5,6 +5,7 @@ import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.util.DefaultPrettyPrinter;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 public class ResultsLogValidationSummary
@@ -36,11 +37,23 @@ public class ResultsLogValidationSummary
     @JsonProperty( value = "mean_delay_as_milli_per_type" )
     private Map<String,Long> meanDelayAsMilliPerType;
 
+    @JsonProperty( value = "delay_percentiles_as_milli_per_type" )
+    private Map<String,Map<String,Long>> delayPercentilesAsMilliPerType;
+
     public static ResultsLogValidationSummary fromJson( String jsonString ) throws IOException
     {
         return new ObjectMapper().readValue( jsonString, ResultsLogValidationSummary.class );
     }
 
+    /**
+     * @return key of percentile in delayPercentilesAsMilliPerType, e.g., "50" or "99.9"
+     */
+    public static String percentileKey( double percentile )
+    {
+        return (percentile == Math.rint( percentile )) ? Long.toString( (long) percentile )
+                                                       : Double.toString( percentile );
+    }
+
     private ResultsLogValidationSummary()
     {
     }
@@ -55,6 +68,32 @@ public class ResultsLogValidationSummary
             Map<String,Long> minDelayAsMilliPerType,
             Map<String,Long> maxDelayAsMilliPerType,
             Map<String,Long> meanDelayAsMilliPerType )
+    {
+        this(
+                excessiveDelayThresholdAsMilli,
+                excessiveDelayCount,
+                excessiveDelayCountPerType,
+                minDelayAsMilli,
+                maxDelayAsMilli,
+                meanDelayAsMilli,
+                minDelayAsMilliPerType,
+                maxDelayAsMilliPerType,
+                meanDelayAsMilliPerType,
+                new HashMap<String,Map<String,Long>>()
+        );
+    }
+
+    ResultsLogValidationSummary(
+            long excessiveDelayThresholdAsMilli,
+            long excessiveDelayCount,
+            Map<String,Long> excessiveDelayCountPerType,
+            long minDelayAsMilli,
+            long maxDelayAsMilli,
+            long meanDelayAsMilli,
+            Map<String,Long> minDelayAsMilliPerType,
+            Map<String,Long> maxDelayAsMilliPerType,
+            Map<String,Long> meanDelayAsMilliPerType,
+            Map<String,Map<String,Long>> delayPercentilesAsMilliPerType )
     {
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
         this.excessiveDelayCount = excessiveDelayCount;
@@ -65,6 +104,7 @@ public class ResultsLogValidationSummary
         this.minDelayAsMilliPerType = minDelayAsMilliPerType;
         this.maxDelayAsMilliPerType = maxDelayAsMilliPerType;
         this.meanDelayAsMilliPerType = meanDelayAsMilliPerType;
+        this.delayPercentilesAsMilliPerType = delayPercentilesAsMilliPerType;
     }
 
     public Long excessiveDelayThresholdAsMilli()
@@ -112,6 +152,11 @@ public class ResultsLogValidationSummary
         return meanDelayAsMilliPerType;
     }
 
+    public Map<String,Map<String,Long>> delayPercentilesAsMilliPerType()
+    {
+        return delayPercentilesAsMilliPerType;
+    }
+
     public String toJson()
     {
         try
@@ -160,8 +205,12 @@ public class ResultsLogValidationSummary
         if ( maxDelayAsMilliPerType != null ? !maxDelayAsMilliPerType.equals( that.maxDelayAsMilliPerType )
                                             : that.maxDelayAsMilliPerType != null )
         { return false; }
-        return !(meanDelayAsMilliPerType != null ? !meanDelayAsMilliPerType.equals( that.meanDelayAsMilliPerType )
-                                                 : that.meanDelayAsMilliPerType != null);
+        if ( meanDelayAsMilliPerType != null ? !meanDelayAsMilliPerType.equals( that.meanDelayAsMilliPerType )
+                                             : that.meanDelayAsMilliPerType != null )
+        { return false; }
+        return !(delayPercentilesAsMilliPerType != null
+                 ? !delayPercentilesAsMilliPerType.equals( that.delayPercentilesAsMilliPerType )
+                 : that.delayPercentilesAsMilliPerType != null);
 
     }
 
@@ -176,6 +225,8 @@ public class ResultsLogValidationSummary
         result = 31 * result + (minDelayAsMilliPerType != null ? minDelayAsMilliPerType.hashCode() : 0);
         result = 31 * result + (maxDelayAsMilliPerType != null ? maxDelayAsMilliPerType.hashCode() : 0);
         result = 31 * result + (meanDelayAsMilliPerType != null ? meanDelayAsMilliPerType.hashCode() : 0);
+        result = 31 * result +
+                 (delayPercentilesAsMilliPerType != null ? delayPercentilesAsMilliPerType.hashCode() : 0);
         return result;
     }
 }
@@ -4,81 +4,142 @@ import org.HdrHistogram.Histogram;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Computes summary of operation delays in one pass. Min, max, mean & counts are exact, delay percentiles come from
+ * per operation type histograms of bounded range, i.e., delays above that range are recorded as its highest value.
+ * <p>
+ * Calculators of separate parts of a results log can be combined with add().
+ */
 class ResultsLogValidationSummaryCalculator
 {
-    private final Histogram delays;
-    private final Map<String,Histogram> delaysPerType;
-    private final Map<String,Long> delaysAboveThresholdPerType;
-    private final long maxDelayAsMilli;
+    static final long HIGHEST_TRACKABLE_DELAY_AS_MILLI = TimeUnit.DAYS.toMillis( 1 );
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
     private final long excessiveDelayThresholdAsMilli;
-    private long delaysAboveThreshold;
+    private final Map<String,DelaysForType> delaysPerType;
 
-    ResultsLogValidationSummaryCalculator( long maxDelayAsMilli, long excessiveDelayThresholdAsMilli )
+    ResultsLogValidationSummaryCalculator( long excessiveDelayThresholdAsMilli )
     {
-        this.maxDelayAsMilli = maxDelayAsMilli;
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
-        this.delays = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
         this.delaysPerType = new HashMap<>();
-        this.delaysAboveThresholdPerType = new HashMap<>();
-        this.delaysAboveThreshold = 0;
     }
 
     void recordDelay( String operationType, long delayAsMilli )
     {
-        delays.recordValue( delayAsMilli );
+        delaysFor( operationType ).record( delayAsMilli );
+    }
 
-        Histogram delayForType = delaysPerType.get( operationType );
-        if ( null == delayForType )
+    DelaysForType delaysFor( String operationType )
+    {
+        DelaysForType delaysForType = delaysPerType.get( operationType );
+        if ( null == delaysForType )
         {
-            delayForType = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
-            delaysPerType.put( operationType, delayForType );
+            delaysForType = new DelaysForType( excessiveDelayThresholdAsMilli );
+            delaysPerType.put( operationType, delaysForType );
         }
-        delayForType.recordValue( delayAsMilli );
+        return delaysForType;
+    }
 
-        Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get( operationType );
-        if ( null == delaysAboveThresholdForType )
-        {
-            delaysAboveThresholdForType = 0L;
-            delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType );
-        }
-        if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+    void add( ResultsLogValidationSummaryCalculator other )
+    {
+        for ( Map.Entry<String,DelaysForType> entry : other.delaysPerType.entrySet() )
         {
-            delaysAboveThreshold++;
-            delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType + 1 );
+            delaysFor( entry.getKey() ).add( entry.getValue() );
         }
     }
 
     ResultsLogValidationSummary snapshot()
     {
+        long delaysAboveThreshold = 0;
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        Map<String,Long> delaysAboveThresholdPerType = new HashMap<>();
         Map<String,Long> minDelayAsMilliPerType = new HashMap<>();
         Map<String,Long> maxDelayAsMilliPerType = new HashMap<>();
         Map<String,Long> meanDelayAsMilliPerType = new HashMap<>();
-        for ( String operationType : delaysPerType.keySet() )
+        Map<String,Map<String,Long>> delayPercentilesAsMilliPerType = new HashMap<>();
+        for ( Map.Entry<String,DelaysForType> entry : delaysPerType.entrySet() )
         {
-            minDelayAsMilliPerType.put(
-                    operationType,
-                    delaysPerType.get( operationType ).getMinValue()
-            );
-            maxDelayAsMilliPerType.put(
-                    operationType,
-                    delaysPerType.get( operationType ).getMaxValue()
-            );
+            String operationType = entry.getKey();
+            DelaysForType delaysForType = entry.getValue();
+            delaysAboveThreshold += delaysForType.delaysAboveThreshold;
+            count += delaysForType.count;
+            sum += delaysForType.sum;
+            min = Math.min( min, delaysForType.min );
+            max = Math.max( max, delaysForType.max );
+            delaysAboveThresholdPerType.put( operationType, delaysForType.delaysAboveThreshold );
+            minDelayAsMilliPerType.put( operationType, delaysForType.min );
+            maxDelayAsMilliPerType.put( operationType, delaysForType.max );
             meanDelayAsMilliPerType.put(
                     operationType,
-                    Math.round( Math.ceil( delaysPerType.get( operationType ).getMean() ) )
+                    Math.round( Math.ceil( (double) delaysForType.sum / delaysForType.count ) )
             );
+            Map<String,Long> percentiles = new HashMap<>();
+            for ( double percentile : PERCENTILES )
+            {
+                percentiles.put(
+                        ResultsLogValidationSummary.percentileKey( percentile ),
+                        delaysForType.delays.getValueAtPercentile( percentile )
+                );
+            }
+            delayPercentilesAsMilliPerType.put( operationType, percentiles );
         }
         return new ResultsLogValidationSummary(
                 excessiveDelayThresholdAsMilli,
                 delaysAboveThreshold,
                 delaysAboveThresholdPerType,
-                delays.getMinValue(),
-                delays.getMaxValue(),
-                Math.round( delays.getMean() ),
+                (0 == count) ? 0 : min,
+                (0 == count) ? 0 : max,
+                (0 == count) ? 0 : Math.round( (double) sum / count ),
                 minDelayAsMilliPerType,
                 maxDelayAsMilliPerType,
-                meanDelayAsMilliPerType
+                meanDelayAsMilliPerType,
+                delayPercentilesAsMilliPerType
         );
     }
+
+    static class DelaysForType
+    {
+        private final long excessiveDelayThresholdAsMilli;
+        private final Histogram delays;
+        private long delaysAboveThreshold = 0;
+        private long count = 0;
+        private long sum = 0;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        private DelaysForType( long excessiveDelayThresholdAsMilli )
+        {
+            this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
+            this.delays = new Histogram( 1, HIGHEST_TRACKABLE_DELAY_AS_MILLI, NUMBER_OF_SIGNIFICANT_VALUE_DIGITS );
+        }
+
+        void record( long delayAsMilli )
+        {
+            delays.recordValue( Math.min( delayAsMilli, HIGHEST_TRACKABLE_DELAY_AS_MILLI ) );
+            count++;
+            sum += delayAsMilli;
+            min = Math.min( min, delayAsMilli );
+            max = Math.max( max, delayAsMilli );
+            if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+            {
+                delaysAboveThreshold++;
+            }
+        }
+
+        private void add( DelaysForType other )
+        {
+            delays.add( other.delays );
+            delaysAboveThreshold += other.delaysAboveThreshold;
+            count += other.count;
+            sum += other.sum;
+            min = Math.min( min, other.min );
+            max = Math.max( max, other.max );
+        }
+    }
 }
@@ -1,17 +1,57 @@
 package com.ldbc.driver.validation;
 
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.csv.charseeker.BufferedUtf8CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractor;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.ldbc.driver.validation.ResultsLogValidationResult.ValidationErrorType;
+import static com.ldbc.driver.validation.ResultsLogValidationSummaryCalculator.DelaysForType;
 import static java.lang.String.format;
 
 public class ResultsLogValidator
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    private static final char COLUMN_DELIMITER = '|';
+    private static final int CHAR_SEEKER_BUFFER_SIZE = 1024 * 1024;
+    private static final int LINE_END_SEARCH_WINDOW_SIZE = 8 * 1024;
+    private static final long MIN_CHUNK_SIZE = 4 * 1024 * 1024;
+    // chunks are mapped to byte buffers, which are indexed by int
+    private static final long MAX_CHUNK_SIZE = 256 * 1024 * 1024;
+
+    private final int threadCount;
+
+    public ResultsLogValidator()
+    {
+        this( Runtime.getRuntime().availableProcessors() );
+    }
+
+    public ResultsLogValidator( int threadCount )
+    {
+        this.threadCount = Math.max( 1, threadCount );
+    }
 
     public ResultsLogValidationResult validate(
             ResultsLogValidationSummary summary,
@@ -46,85 +86,279 @@ public class ResultsLogValidator
         return result;
     }
 
+    /**
+     * Computes delay summary in one pass over the results log.
+     * <p>
+     * CSV logs are memory mapped & split into chunks at line boundaries, chunks are parsed in parallel by CharSeekers
+     * and their partial summaries merged. Binary logs are read sequentially.
+     */
     public ResultsLogValidationSummary compute( File resultsLog, long excessiveDelayThresholdAsMilli )
             throws ValidationException
     {
-        long maxDelayAsMilli = maxDelayAsMilli( resultsLog );
-        ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
-                maxDelayAsMilli,
-                excessiveDelayThresholdAsMilli
-        );
-
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
-        {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+        boolean binary;
+        try
+        {
+            binary = BinaryResultsLogReader.isBinaryResultsLog( resultsLog );
+        }
+        catch ( IOException e )
+        {
+            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        return (binary)
+               ? computeFromBinary( resultsLog, excessiveDelayThresholdAsMilli )
+               : computeFromCsv( resultsLog, excessiveDelayThresholdAsMilli );
+    }
+
+    private ResultsLogValidationSummary computeFromBinary( File resultsLog, long excessiveDelayThresholdAsMilli )
+            throws ValidationException
+    {
+        ResultsLogValidationSummaryCalculator calculator =
+                new ResultsLogValidationSummaryCalculator( excessiveDelayThresholdAsMilli );
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
             {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                calculator.recordDelay( operationType, delayAsMilli );
+                long scheduledStartTimeAsMilli = reader.getScheduledStartTimeAsMilli();
+                long actualStartTimeAsMilli = reader.getActualStartTimeAsMilli();
+                calculator.recordDelay(
+                        reader.getOperationName(),
+                        delayAsMilli( scheduledStartTimeAsMilli, actualStartTimeAsMilli ) );
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( ValidationException e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            throw e;
         }
+        catch ( Exception e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        return calculator.snapshot();
+    }
 
+    private ResultsLogValidationSummary computeFromCsv( File resultsLog, final long excessiveDelayThresholdAsMilli )
+            throws ValidationException
+    {
+        ResultsLogValidationSummaryCalculator calculator =
+                new ResultsLogValidationSummaryCalculator( excessiveDelayThresholdAsMilli );
+        ExecutorService executor = null;
+        try ( final FileChannel channel = FileChannel.open( resultsLog.toPath(), StandardOpenOption.READ ) )
+        {
+            List<long[]> chunks = chunks( channel );
+            if ( chunks.isEmpty() )
+            {
+                return calculator.snapshot();
+            }
+            executor = Executors.newFixedThreadPool( Math.min( threadCount, chunks.size() ) );
+            CompletionService<ResultsLogValidationSummaryCalculator> completionService =
+                    new ExecutorCompletionService<>( executor );
+            for ( final long[] chunk : chunks )
+            {
+                completionService.submit( new Callable<ResultsLogValidationSummaryCalculator>()
+                {
+                    @Override
+                    public ResultsLogValidationSummaryCalculator call() throws Exception
+                    {
+                        MappedByteBuffer bytes = channel.map( FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] );
+                        return computeFromCsvChunk( bytes, chunk[0], excessiveDelayThresholdAsMilli );
+                    }
+                } );
+            }
+            for ( int i = 0; i < chunks.size(); i++ )
+            {
+                calculator.add( completionService.take().get() );
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof ValidationException )
+            {
+                throw (ValidationException) e.getCause();
+            }
+            throw new ValidationException(
+                    format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e.getCause() );
+        }
+        catch ( IOException | InterruptedException e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        finally
+        {
+            if ( null != executor )
+            {
+                executor.shutdownNow();
+            }
+        }
         return calculator.snapshot();
     }
 
-    private long maxDelayAsMilli( File resultsLog ) throws ValidationException
+    /**
+     * @return (offset, length) of chunks of whole lines, excluding the header line
+     */
+    private List<long[]> chunks( FileChannel channel ) throws IOException
+    {
+        long size = channel.size();
+        long chunkSize = Math.max( MIN_CHUNK_SIZE, Math.min( MAX_CHUNK_SIZE, size / threadCount ) );
+        List<long[]> chunks = new ArrayList<>();
+        long start = nextLineStart( channel, 0, size );
+        while ( start < size )
+        {
+            long end = nextLineStart( channel, Math.min( start + chunkSize, size ) - 1, size );
+            chunks.add( new long[]{start, end - start} );
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return position after the first line end at or after position, or size if there is none
+     */
+    private static long nextLineStart( FileChannel channel, long position, long size ) throws IOException
     {
-        long maxDelayAsMilli = 0;
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
-        {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+        ByteBuffer window = ByteBuffer.allocate( LINE_END_SEARCH_WINDOW_SIZE );
+        while ( position < size )
+        {
+            window.clear();
+            int read = channel.read( window, position );
+            for ( int i = 0; i < read; i++ )
+            {
+                if ( window.get( i ) == '\n' )
+                {
+                    return position + i + 1;
+                }
+            }
+            position += Math.max( read, 0 );
+        }
+        return size;
+    }
+
+    private static ResultsLogValidationSummaryCalculator computeFromCsvChunk(
+            ByteBuffer bytes,
+            long chunkOffset,
+            long excessiveDelayThresholdAsMilli ) throws IOException, ValidationException
+    {
+        ResultsLogValidationSummaryCalculator calculator =
+                new ResultsLogValidationSummaryCalculator( excessiveDelayThresholdAsMilli );
+        OperationTypeExtractor operationTypeExtractor = new OperationTypeExtractor( calculator );
+        Extractors.LongExtractor longExtractor = new Extractors( ';', ',' ).long_();
+        int[] columnDelimiters = new int[]{COLUMN_DELIMITER};
+        Mark mark = new Mark();
+        try ( CharSeeker charSeeker = new BufferedUtf8CharSeeker(
+                Readables.channel( bytes ),
+                CHAR_SEEKER_BUFFER_SIZE ) )
+        {
+            while ( charSeeker.seek( mark, columnDelimiters ) )
             {
-                String[] row = reader.next();
-                // operation type
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                if ( delayAsMilli < 0 )
+                DelaysForType delaysForType = charSeeker.extract( mark, operationTypeExtractor ).value();
+                if ( mark.isEndOfLine() || !charSeeker.seek( mark, columnDelimiters ) || mark.isEndOfLine() )
                 {
-                    throw new ValidationException(
-                            format( "Delay can not be negative\n" +
-                                    "Delay: %s (ms) / %s\n" +
-                                    "Scheduled Start Time: %s (ms) / %s\n" +
-                                    "Actual Start Time: %s (ms) / %s",
-                                    delayAsMilli,
-                                    TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
-                                    scheduledStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
-                                    actualStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
-                            )
-                    );
+                    throw new ValidationException( format(
+                            "Expected at least 3 columns on line %s of chunk starting at byte %s",
+                            mark.lineNumber(), chunkOffset ) );
                 }
-                if ( delayAsMilli > maxDelayAsMilli )
+                long scheduledStartTimeAsMilli = charSeeker.extract( mark, longExtractor ).longValue();
+                charSeeker.seek( mark, columnDelimiters );
+                long actualStartTimeAsMilli = charSeeker.extract( mark, longExtractor ).longValue();
+                // duration, result code, original start time
+                while ( !mark.isEndOfLine() && charSeeker.seek( mark, columnDelimiters ) )
                 {
-                    maxDelayAsMilli = delayAsMilli;
                 }
+                delaysForType.record( delayAsMilli( scheduledStartTimeAsMilli, actualStartTimeAsMilli ) );
             }
         }
-        catch ( FileNotFoundException e )
+        return calculator;
+    }
+
+    private static long delayAsMilli( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli )
+            throws ValidationException
+    {
+        long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+        if ( delayAsMilli < 0 )
+        {
+            throw new ValidationException(
+                    format( "Delay can not be negative\n" +
+                            "Delay: %s (ms) / %s\n" +
+                            "Scheduled Start Time: %s (ms) / %s\n" +
+                            "Actual Start Time: %s (ms) / %s",
+                            delayAsMilli,
+                            TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
+                            scheduledStartTimeAsMilli,
+                            TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                            actualStartTimeAsMilli,
+                            TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                    )
+            );
+        }
+        return delayAsMilli;
+    }
+
+    /**
+     * Resolves operation type column to its delays, without creating a string for every row
+     */
+    private static class OperationTypeExtractor implements Extractor<DelaysForType>
+    {
+        private final ResultsLogValidationSummaryCalculator calculator;
+        private byte[][] operationTypes = new byte[0][];
+        private DelaysForType[] delaysForTypes = new DelaysForType[0];
+        private DelaysForType value = null;
+
+        private OperationTypeExtractor( ResultsLogValidationSummaryCalculator calculator )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            this.calculator = calculator;
+        }
+
+        @Override
+        public void extract( char[] data, int offset, int length )
+        {
+            byte[] bytes = new String( data, offset, length ).getBytes( StandardCharsets.UTF_8 );
+            extract( bytes, 0, bytes.length );
+        }
+
+        @Override
+        public void extract( byte[] data, int offset, int length )
+        {
+            for ( int i = 0; i < operationTypes.length; i++ )
+            {
+                if ( equals( operationTypes[i], data, offset, length ) )
+                {
+                    value = delaysForTypes[i];
+                    return;
+                }
+            }
+            String operationType = new String( data, offset, length, StandardCharsets.UTF_8 );
+            value = calculator.delaysFor( operationType );
+            operationTypes = Arrays.copyOf( operationTypes, operationTypes.length + 1 );
+            operationTypes[operationTypes.length - 1] = Arrays.copyOfRange( data, offset, offset + length );
+            delaysForTypes = Arrays.copyOf( delaysForTypes, delaysForTypes.length + 1 );
+            delaysForTypes[delaysForTypes.length - 1] = value;
+        }
+
+        private static boolean equals( byte[] operationType, byte[] data, int offset, int length )
+        {
+            if ( operationType.length != length )
+            {
+                return false;
+            }
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( operationType[i] != data[offset + i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public DelaysForType value()
+        {
+            return value;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "OPERATION_TYPE";
         }
-        return maxDelayAsMilli;
     }
 }
@@ -14,9 +14,8 @@ import com.ldbc.driver.generator.Generator;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.List;
 
 import static java.lang.String.format;
 
@@ -28,7 +27,7 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
     private final ResultReporter resultReporter;
     private int entriesWrittenSoFar;
     private boolean needMoreValidationParameters;
-    private final List<Operation> injectedOperations;
+    private final ArrayDeque<Operation> injectedOperations;
 
     public ValidationParamsGenerator( Db db,
             DbValidationParametersFilter dbValidationParametersFilter,
@@ -40,7 +39,7 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
         this.resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
         this.entriesWrittenSoFar = 0;
         this.needMoreValidationParameters = true;
-        this.injectedOperations = new ArrayList<>();
+        this.injectedOperations = new ArrayDeque<>();
     }
 
     public int entriesWrittenSoFar()
@@ -60,7 +59,7 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
             }
             else
             {
-                operation = injectedOperations.remove( 0 );
+                operation = injectedOperations.poll();
             }
 
             if ( false == dbValidationParametersFilter.useOperation( operation ) )
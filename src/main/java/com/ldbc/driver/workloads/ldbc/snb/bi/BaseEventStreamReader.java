@@ -1,15 +1,13 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 
-import com.google.common.base.Charsets;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
-import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.BufferedUtf8CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
-import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
@@ -17,7 +15,7 @@ import com.ldbc.driver.generator.NoRemoveIterator;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.channels.Channels;
 import java.util.Iterator;
 
 import static java.lang.String.format;
@@ -34,10 +32,8 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
             GeneratorFactory gf ) throws WorkloadException
     {
         this.parametersInputStream = parametersInputStream;
-        charSeeker = new BufferedCharSeeker(
-                Readables.wrap(
-                        new InputStreamReader( parametersInputStream, Charsets.UTF_8 )
-                ),
+        charSeeker = new BufferedUtf8CharSeeker(
+                Channels.newChannel( parametersInputStream ),
                 charSeekerParams.bufferSize()
         );
         Mark mark = new Mark();
@@ -55,7 +51,7 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
                     format( "Unable to advance parameters stream beyond headers: %s", parametersInputStream ), e );
         }
 
-        parametersIterator = gf.repeating(
+        parametersIterator = gf.repeatingParameters(
                 new CsvEventStreamReaderBasicCharSeeker<>(
                         charSeeker,
                         new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
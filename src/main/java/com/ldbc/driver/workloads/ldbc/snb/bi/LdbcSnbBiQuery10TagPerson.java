@@ -2,14 +2,42 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10TagPersonResult>>
 {
     public static final int TYPE = 10;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery10TagPersonResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery10TagPersonResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery10TagPersonResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.score() );
+                    jsonGenerator.writeNumber( row.friendsScore() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery10TagPersonResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int score = readInt( jsonParser );
+                    int friendsScore = readInt( jsonParser );
+                    return new LdbcSnbBiQuery10TagPersonResult(
+                            personId,
+                            score,
+                            friendsScore
+                    );
+                }
+            };
     private final String tag;
     private final int limit;
 
@@ -66,40 +94,13 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
     public List<LdbcSnbBiQuery10TagPersonResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery10TagPersonResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int score = ((Number) row.get( 1 )).intValue();
-            int friendsScore = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery10TagPersonResult(
-                            personId,
-                            score,
-                            friendsScore
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery10TagPersonResult> result = (List<LdbcSnbBiQuery10TagPersonResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery10TagPersonResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.score() );
-            resultFields.add( row.friendsScore() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery10TagPersonResult>) resultsObject );
     }
 
     @Override
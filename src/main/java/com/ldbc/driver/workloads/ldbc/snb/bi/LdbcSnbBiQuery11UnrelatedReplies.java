@@ -2,14 +2,45 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQuery11UnrelatedRepliesResult>>
 {
     public static final int TYPE = 11;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery11UnrelatedRepliesResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery11UnrelatedRepliesResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery11UnrelatedRepliesResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.tag() );
+                    jsonGenerator.writeNumber( row.likeCount() );
+                    jsonGenerator.writeNumber( row.replyCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery11UnrelatedRepliesResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String tag = readString( jsonParser );
+                    int likeCount = readInt( jsonParser );
+                    int replyCount = readInt( jsonParser );
+                    return new LdbcSnbBiQuery11UnrelatedRepliesResult(
+                            personId,
+                            tag,
+                            likeCount,
+                            replyCount
+                    );
+                }
+            };
     private final String country;
     private final List<String> blackList;
     private final int limit;
@@ -77,44 +108,13 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery11UnrelatedRepliesResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery11UnrelatedRepliesResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String tag = (String) row.get( 1 );
-            int likeCount = ((Number) row.get( 2 )).intValue();
-            int replyCount = ((Number) row.get( 3 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery11UnrelatedRepliesResult(
-                            personId,
-                            tag,
-                            likeCount,
-                            replyCount
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery11UnrelatedRepliesResult> result =
-                (List<LdbcSnbBiQuery11UnrelatedRepliesResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery11UnrelatedRepliesResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.tag() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.replyCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery11UnrelatedRepliesResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,48 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery12TrendingPostsResult>>
 {
     public static final int TYPE = 12;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery12TrendingPostsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery12TrendingPostsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery12TrendingPostsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.messageId() );
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                    jsonGenerator.writeNumber( row.creationDate() );
+                    jsonGenerator.writeNumber( row.likeCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery12TrendingPostsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long postId = readLong( jsonParser );
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    long creationDate = readLong( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery12TrendingPostsResult(
+                            postId,
+                            firstName,
+                            lastName,
+                            creationDate,
+                            count
+                    );
+                }
+            };
     private final long date;
     private final int likeCount;
     private final int limit;
@@ -77,46 +111,13 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery12TrendingPostsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery12TrendingPostsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long postId = ((Number) row.get( 0 )).longValue();
-            String firstName = (String) row.get( 1 );
-            String lastName = (String) row.get( 2 );
-            long creationDate = ((Number) row.get( 3 )).longValue();
-            int count = ((Number) row.get( 4 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery12TrendingPostsResult(
-                            postId,
-                            firstName,
-                            lastName,
-                            creationDate,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery12TrendingPostsResult> result = (List<LdbcSnbBiQuery12TrendingPostsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery12TrendingPostsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageId() );
-            resultFields.add( row.firstName() );
-            resultFields.add( row.lastName() );
-            resultFields.add( row.creationDate() );
-            resultFields.add( row.likeCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery12TrendingPostsResult>) resultsObject );
     }
 
     @Override
@@ -1,9 +1,13 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
-import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,6 +15,49 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
 {
     public static final int TYPE = 13;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery13PopularMonthlyTagsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery13PopularMonthlyTagsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery13PopularMonthlyTagsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.year() );
+                    jsonGenerator.writeNumber( row.month() );
+                    jsonGenerator.writeStartArray();
+                    for ( LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity tagPopularity : row.tagPopularities() )
+                    {
+                        jsonGenerator.writeStartArray();
+                        writeString( jsonGenerator, tagPopularity.tagName() );
+                        jsonGenerator.writeNumber( tagPopularity.popularity() );
+                        jsonGenerator.writeEndArray();
+                    }
+                    jsonGenerator.writeEndArray();
+                }
+
+                @Override
+                protected LdbcSnbBiQuery13PopularMonthlyTagsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int year = readInt( jsonParser );
+                    int month = readInt( jsonParser );
+                    List<LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity> tagPopularities = new ArrayList<>();
+                    expect( jsonParser.nextToken(), JsonToken.START_ARRAY );
+                    while ( JsonToken.START_ARRAY == jsonParser.nextToken() )
+                    {
+                        String tagName = readString( jsonParser );
+                        int popularity = readInt( jsonParser );
+                        tagPopularities.add(
+                                new LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity( tagName, popularity ) );
+                        expect( jsonParser.nextToken(), JsonToken.END_ARRAY );
+                    }
+                    expect( jsonParser.getCurrentToken(), JsonToken.END_ARRAY );
+                    return new LdbcSnbBiQuery13PopularMonthlyTagsResult(
+                            year,
+                            month,
+                            tagPopularities
+                    );
+                }
+            };
     private final String country;
     private final int limit;
 
@@ -67,55 +114,13 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
     public List<LdbcSnbBiQuery13PopularMonthlyTagsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery13PopularMonthlyTagsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            int year = ((Number) row.get( 0 )).intValue();
-            int month = ((Number) row.get( 1 )).intValue();
-            List<LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity> tagPopularities = new ArrayList<>();
-            for ( List tagPopularity : (List<List>) row.get( 2 ) )
-            {
-                tagPopularities.add(
-                        new LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity(
-                                (String) tagPopularity.get( 0 ),
-                                (Integer) tagPopularity.get( 1 )
-                        )
-                );
-            }
-            result.add(
-                    new LdbcSnbBiQuery13PopularMonthlyTagsResult(
-                            year,
-                            month,
-                            tagPopularities
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery13PopularMonthlyTagsResult> result =
-                (List<LdbcSnbBiQuery13PopularMonthlyTagsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery13PopularMonthlyTagsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.year() );
-            resultFields.add( row.month() );
-            List<List> tagPopularitiesAsLists = new ArrayList<>();
-            for ( LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity tagPopularity : row.tagPopularities() )
-            {
-                tagPopularitiesAsLists.add( Lists.newArrayList( tagPopularity.tagName(), tagPopularity.popularity() ) );
-            }
-            resultFields.add( tagPopularitiesAsLists );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery13PopularMonthlyTagsResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,48 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbBiQuery14TopThreadInitiatorsResult>>
 {
     public static final int TYPE = 14;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery14TopThreadInitiatorsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery14TopThreadInitiatorsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery14TopThreadInitiatorsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                    jsonGenerator.writeNumber( row.messageCount() );
+                    jsonGenerator.writeNumber( row.threadCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery14TopThreadInitiatorsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    int count = readInt( jsonParser );
+                    int threadCount = readInt( jsonParser );
+                    return new LdbcSnbBiQuery14TopThreadInitiatorsResult(
+                            personId,
+                            firstName,
+                            lastName,
+                            count,
+                            threadCount
+                    );
+                }
+            };
     private final long beginDate;
     private final long endDate;
     private final int limit;
@@ -77,47 +111,13 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery14TopThreadInitiatorsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery14TopThreadInitiatorsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String firstName = (String) row.get( 1 );
-            String lastName = (String) row.get( 2 );
-            int count = ((Number) row.get( 3 )).intValue();
-            int threadCount = ((Number) row.get( 4 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery14TopThreadInitiatorsResult(
-                            personId,
-                            firstName,
-                            lastName,
-                            count,
-                            threadCount
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery14TopThreadInitiatorsResult> result =
-                (List<LdbcSnbBiQuery14TopThreadInitiatorsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery14TopThreadInitiatorsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.firstName() );
-            resultFields.add( row.lastName() );
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.threadCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery14TopThreadInitiatorsResult>) resultsObject );
     }
 
     @Override
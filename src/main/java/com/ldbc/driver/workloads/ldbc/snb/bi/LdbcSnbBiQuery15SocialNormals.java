@@ -2,14 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery15SocialNormals extends Operation<List<LdbcSnbBiQuery15SocialNormalsResult>>
 {
     public static final int TYPE = 15;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery15SocialNormalsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery15SocialNormalsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery15SocialNormalsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery15SocialNormalsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery15SocialNormalsResult(
+                            personId,
+                            count
+                    );
+                }
+            };
     private final String country;
     private final int limit;
 
@@ -66,37 +91,13 @@ public class LdbcSnbBiQuery15SocialNormals extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery15SocialNormalsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery15SocialNormalsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int count = ((Number) row.get( 1 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery15SocialNormalsResult(
-                            personId,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery15SocialNormalsResult> result = (List<LdbcSnbBiQuery15SocialNormalsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery15SocialNormalsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery15SocialNormalsResult>) resultsObject );
     }
 
     @Override
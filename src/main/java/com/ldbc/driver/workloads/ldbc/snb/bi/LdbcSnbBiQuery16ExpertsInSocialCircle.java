@@ -2,14 +2,43 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSnbBiQuery16ExpertsInSocialCircleResult>>
 {
     public static final int TYPE = 16;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery16ExpertsInSocialCircleResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery16ExpertsInSocialCircleResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery16ExpertsInSocialCircleResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.tag() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery16ExpertsInSocialCircleResult readRow( JsonParser jsonParser )
+                        throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String tag = readString( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery16ExpertsInSocialCircleResult(
+                            personId,
+                            tag,
+                            count
+                    );
+                }
+            };
     private final long person;
     private final String tagClass;
     private final String country;
@@ -110,41 +139,13 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
     public List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String tag = (String) row.get( 1 );
-            int count = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery16ExpertsInSocialCircleResult(
-                            personId,
-                            tag,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> result =
-                (List<LdbcSnbBiQuery16ExpertsInSocialCircleResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery16ExpertsInSocialCircleResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.tag() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery16ExpertsInSocialCircleResult>) resultsObject );
     }
 
     @Override
@@ -2,13 +2,33 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.util.Collections;
 
 public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuery17FriendshipTrianglesResult>
 {
     public static final int TYPE = 17;
+    private static final JsonRowCodec<LdbcSnbBiQuery17FriendshipTrianglesResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery17FriendshipTrianglesResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery17FriendshipTrianglesResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery17FriendshipTrianglesResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery17FriendshipTrianglesResult( count );
+                }
+            };
     private final String country;
 
     public LdbcSnbBiQuery17FriendshipTriangles( String country )
@@ -53,21 +73,15 @@ public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuer
     public LdbcSnbBiQuery17FriendshipTrianglesResult marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<Object> row = resultsAsList.get( 0 );
-        int count = ((Number) row.get( 0 )).intValue();
-        return new LdbcSnbBiQuery17FriendshipTrianglesResult( count );
+        // single result is serialized as a list containing one row
+        return RESULT_CODEC.marshalRows( serializedResults ).get( 0 );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        LdbcSnbBiQuery17FriendshipTrianglesResult result = (LdbcSnbBiQuery17FriendshipTrianglesResult) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.count() );
-        resultsFields.add( resultFields );
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows(
+                Collections.singletonList( (LdbcSnbBiQuery17FriendshipTrianglesResult) resultsObject ) );
     }
 
     @Override
@@ -2,14 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery18PersonPostCounts extends Operation<List<LdbcSnbBiQuery18PersonPostCountsResult>>
 {
     public static final int TYPE = 18;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery18PersonPostCountsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery18PersonPostCountsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery18PersonPostCountsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.messageCount() );
+                    jsonGenerator.writeNumber( row.personCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery18PersonPostCountsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int postCount = readInt( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery18PersonPostCountsResult(
+                            postCount,
+                            count
+                    );
+                }
+            };
     private final long date;
     private final int lengthThreshold;
     private final List<String> languages;
@@ -87,38 +112,13 @@ public class LdbcSnbBiQuery18PersonPostCounts extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery18PersonPostCountsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery18PersonPostCountsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            int postCount = ((Number) row.get( 0 )).intValue();
-            int count = ((Number) row.get( 1 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery18PersonPostCountsResult(
-                            postCount,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery18PersonPostCountsResult> result =
-                (List<LdbcSnbBiQuery18PersonPostCountsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery18PersonPostCountsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.personCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery18PersonPostCountsResult>) resultsObject );
     }
 
     @Override
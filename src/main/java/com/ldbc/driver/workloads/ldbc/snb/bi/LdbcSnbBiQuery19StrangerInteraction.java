@@ -2,14 +2,42 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbBiQuery19StrangerInteractionResult>>
 {
     public static final int TYPE = 19;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery19StrangerInteractionResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery19StrangerInteractionResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery19StrangerInteractionResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.strangerCount() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery19StrangerInteractionResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int strangerCount = readInt( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery19StrangerInteractionResult(
+                            personId,
+                            strangerCount,
+                            count
+                    );
+                }
+            };
     private final long date;
     private final String tagClassA;
     private final String tagClassB;
@@ -88,41 +116,13 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery19StrangerInteractionResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery19StrangerInteractionResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int strangerCount = ((Number) row.get( 1 )).intValue();
-            int count = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery19StrangerInteractionResult(
-                            personId,
-                            strangerCount,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery19StrangerInteractionResult> result =
-                (List<LdbcSnbBiQuery19StrangerInteractionResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery19StrangerInteractionResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.strangerCount() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery19StrangerInteractionResult>) resultsObject );
     }
 
     @Override
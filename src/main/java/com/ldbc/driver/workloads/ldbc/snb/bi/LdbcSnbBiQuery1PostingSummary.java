@@ -2,13 +2,53 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery1PostingSummaryResult>>
 {
     public static final int TYPE = 1;
+    private static final JsonRowCodec<LdbcSnbBiQuery1PostingSummaryResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery1PostingSummaryResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery1PostingSummaryResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.year() );
+                    jsonGenerator.writeBoolean( row.isComment() );
+                    jsonGenerator.writeNumber( row.messageLengthCategory() );
+                    jsonGenerator.writeNumber( row.messageCount() );
+                    jsonGenerator.writeNumber( row.messageLengthMean() );
+                    jsonGenerator.writeNumber( row.messageLengthSum() );
+                    jsonGenerator.writeNumber( row.percentOfTotalMessageCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery1PostingSummaryResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int year = readInt( jsonParser );
+                    boolean isReply = readBoolean( jsonParser );
+                    int messageLengthCategory = readInt( jsonParser );
+                    long messageCount = readLong( jsonParser );
+                    long messageLengthMean = readLong( jsonParser );
+                    long messageLengthSum = readLong( jsonParser );
+                    float percentOfTotalMessageCount = readFloat( jsonParser );
+                    return new LdbcSnbBiQuery1PostingSummaryResult(
+                            year,
+                            isReply,
+                            messageLengthCategory,
+                            messageCount,
+                            messageLengthMean,
+                            messageLengthSum,
+                            percentOfTotalMessageCount
+                    );
+                }
+            };
     private final long date;
 
     public LdbcSnbBiQuery1PostingSummary( long date )
@@ -53,53 +93,13 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery1PostingSummaryResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery1PostingSummaryResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            int year = ((Number) resultAsList.get( 0 )).intValue();
-            boolean isReply = (boolean) resultAsList.get( 1 );
-            int messageLengthCategory = ((Number) resultAsList.get( 2 )).intValue();
-            long messageCount = ((Number) resultAsList.get( 3 )).longValue();
-            long messageLengthMean = ((Number) resultAsList.get( 4 )).longValue();
-            long messageLengthSum = ((Number) resultAsList.get( 5 )).longValue();
-            float percentOfTotalMessageCount = ((Number) resultAsList.get( 6 )).floatValue();
-
-            results.add(
-                    new LdbcSnbBiQuery1PostingSummaryResult(
-                            year,
-                            isReply,
-                            messageLengthCategory,
-                            messageCount,
-                            messageLengthMean,
-                            messageLengthSum,
-                            percentOfTotalMessageCount
-                    )
-            );
-        }
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery1PostingSummaryResult> result = (List<LdbcSnbBiQuery1PostingSummaryResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery1PostingSummaryResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.year() );
-            resultFields.add( row.isComment() );
-            resultFields.add( row.messageLengthCategory() );
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.messageLengthMean() );
-            resultFields.add( row.messageLengthSum() );
-            resultFields.add( row.percentOfTotalMessageCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery1PostingSummaryResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery20HighLevelTopics extends Operation<List<LdbcSnbBiQuery20HighLevelTopicsResult>>
 {
     public static final int TYPE = 20;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery20HighLevelTopicsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery20HighLevelTopicsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery20HighLevelTopicsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.tagClass() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery20HighLevelTopicsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String tagClass = readString( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery20HighLevelTopicsResult(
+                            tagClass,
+                            count
+                    );
+                }
+            };
     private final List<String> tagClasses;
     private final int limit;
 
@@ -66,38 +91,13 @@ public class LdbcSnbBiQuery20HighLevelTopics extends Operation<List<LdbcSnbBiQue
     public List<LdbcSnbBiQuery20HighLevelTopicsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery20HighLevelTopicsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            String tagClass = (String) row.get( 0 );
-            int count = ((Number) row.get( 1 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery20HighLevelTopicsResult(
-                            tagClass,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery20HighLevelTopicsResult> result =
-                (List<LdbcSnbBiQuery20HighLevelTopicsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery20HighLevelTopicsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.tagClass() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery20HighLevelTopicsResult>) resultsObject );
     }
 
     @Override
@@ -2,8 +2,11 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21ZombiesResult>>
@@ -11,6 +14,34 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
     public static final int TYPE = 21;
     public static final int DEFAULT_LIMIT = 100;
     public static final int DEFAULT_DAYS = 30;
+    private static final JsonRowCodec<LdbcSnbBiQuery21ZombiesResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery21ZombiesResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery21ZombiesResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.zombieCount() );
+                    jsonGenerator.writeNumber( row.realCount() );
+                    jsonGenerator.writeNumber( row.score() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery21ZombiesResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int zombieCount = readInt( jsonParser );
+                    int realCount = readInt( jsonParser );
+                    double score = readDouble( jsonParser );
+                    return new LdbcSnbBiQuery21ZombiesResult(
+                            personId,
+                            zombieCount,
+                            realCount,
+                            score
+                    );
+                }
+            };
     private final String country;
     private final long endDate;
     private final int days;
@@ -85,46 +116,16 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
     }
 
     @Override
-    public List<LdbcSnbBiQuery21ZombiesResult> marshalResult( String serializedResults ) throws
-            SerializingMarshallingException
+    public List<LdbcSnbBiQuery21ZombiesResult> marshalResult( String serializedResults )
+            throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery21ZombiesResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int zombieCount = ((Number) row.get( 1 )).intValue();
-            int realCount = ((Number) row.get( 2 )).intValue();
-            double score = ((Number) row.get( 3 )).doubleValue();
-            result.add(
-                    new LdbcSnbBiQuery21ZombiesResult(
-                            personId,
-                            zombieCount,
-                            realCount,
-                            score
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery21ZombiesResult> result = (List<LdbcSnbBiQuery21ZombiesResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery21ZombiesResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.zombieCount() );
-            resultFields.add( row.realCount() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery21ZombiesResult>) resultsObject );
     }
 
     @Override
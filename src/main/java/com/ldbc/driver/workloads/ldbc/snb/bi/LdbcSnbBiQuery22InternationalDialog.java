@@ -2,14 +2,42 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbBiQuery22InternationalDialogResult>>
 {
     public static final int TYPE = 22;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery22InternationalDialogResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery22InternationalDialogResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery22InternationalDialogResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId1() );
+                    jsonGenerator.writeNumber( row.personId2() );
+                    jsonGenerator.writeNumber( row.score() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery22InternationalDialogResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId1 = readLong( jsonParser );
+                    long personId2 = readLong( jsonParser );
+                    int score = readInt( jsonParser );
+                    return new LdbcSnbBiQuery22InternationalDialogResult(
+                            personId1,
+                            personId2,
+                            score
+                    );
+                }
+            };
     private final String countryX;
     private final String countryY;
     private final int limit;
@@ -74,44 +102,16 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
     }
 
     @Override
-    public List<LdbcSnbBiQuery22InternationalDialogResult> marshalResult( String serializedResults ) throws
-            SerializingMarshallingException
+    public List<LdbcSnbBiQuery22InternationalDialogResult> marshalResult( String serializedResults )
+            throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery22InternationalDialogResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId1 = ((Number) row.get( 0 )).longValue();
-            long personId2 = ((Number) row.get( 1 )).longValue();
-            int score = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery22InternationalDialogResult(
-                            personId1,
-                            personId2,
-                            score
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery22InternationalDialogResult> result =
-                (List<LdbcSnbBiQuery22InternationalDialogResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery22InternationalDialogResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId1() );
-            resultFields.add( row.personId2() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery22InternationalDialogResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,42 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbBiQuery23HolidayDestinationsResult>>
 {
     public static final int TYPE = 23;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery23HolidayDestinationsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery23HolidayDestinationsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery23HolidayDestinationsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.countryName() );
+                    jsonGenerator.writeNumber( row.month() );
+                    jsonGenerator.writeNumber( row.messageCount() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery23HolidayDestinationsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String place = readString( jsonParser );
+                    int month = readInt( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery23HolidayDestinationsResult(
+                            place,
+                            month,
+                            count
+                    );
+                }
+            };
     private final String country;
     private final int limit;
 
@@ -63,44 +91,16 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
     }
 
     @Override
-    public List<LdbcSnbBiQuery23HolidayDestinationsResult> marshalResult( String serializedResults ) throws
-            SerializingMarshallingException
+    public List<LdbcSnbBiQuery23HolidayDestinationsResult> marshalResult( String serializedResults )
+            throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery23HolidayDestinationsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            String place = (String) row.get( 0 );
-            int month = ((Number) row.get( 1 )).intValue();
-            int count = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery23HolidayDestinationsResult(
-                            place,
-                            month,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery23HolidayDestinationsResult> result =
-                (List<LdbcSnbBiQuery23HolidayDestinationsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery23HolidayDestinationsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.countryName() );
-            resultFields.add( row.month() );
-            resultFields.add( row.messageCount() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery23HolidayDestinationsResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,48 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQuery24MessagesByTopicResult>>
 {
     public static final int TYPE = 24;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery24MessagesByTopicResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery24MessagesByTopicResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery24MessagesByTopicResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.messageCount() );
+                    jsonGenerator.writeNumber( row.likeCount() );
+                    jsonGenerator.writeNumber( row.year() );
+                    jsonGenerator.writeNumber( row.month() );
+                    writeString( jsonGenerator, row.continent() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery24MessagesByTopicResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int messageCount = readInt( jsonParser );
+                    int likeCount = readInt( jsonParser );
+                    int year = readInt( jsonParser );
+                    int month = readInt( jsonParser );
+                    String continent = readString( jsonParser );
+                    return new LdbcSnbBiQuery24MessagesByTopicResult(
+                            messageCount,
+                            likeCount,
+                            year,
+                            month,
+                            continent
+                    );
+                }
+            };
     private final String tagClass;
     private final int limit;
 
@@ -63,50 +97,16 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
     }
 
     @Override
-    public List<LdbcSnbBiQuery24MessagesByTopicResult> marshalResult( String serializedResults ) throws
-            SerializingMarshallingException
+    public List<LdbcSnbBiQuery24MessagesByTopicResult> marshalResult( String serializedResults )
+            throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery24MessagesByTopicResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            int messageCount = ((Number) row.get( 0 )).intValue();
-            int likeCount = ((Number) row.get( 1 )).intValue();
-            int year = ((Number) row.get( 2 )).intValue();
-            int month = ((Number) row.get( 3 )).intValue();
-            String continent = (String) row.get( 4 );
-            result.add(
-                    new LdbcSnbBiQuery24MessagesByTopicResult(
-                            messageCount,
-                            likeCount,
-                            year,
-                            month,
-                            continent
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery24MessagesByTopicResult> result =
-                (List<LdbcSnbBiQuery24MessagesByTopicResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery24MessagesByTopicResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.year() );
-            resultFields.add( row.month() );
-            resultFields.add( row.continent() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery24MessagesByTopicResult>) resultsObject );
     }
 
     @Override
@@ -2,13 +2,33 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery25WeightedPathsResult>>
 {
     public static final int TYPE = 25;
+    private static final JsonRowCodec<LdbcSnbBiQuery25WeightedPathsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery25WeightedPathsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery25WeightedPathsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeLongs( jsonGenerator, row.personIds() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery25WeightedPathsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    List<Long> personIds = readLongList( jsonParser );
+                    return new LdbcSnbBiQuery25WeightedPathsResult( personIds );
+                }
+            };
     private final long person1Id;
     private final long person2Id;
     private final long startDate;
@@ -86,33 +106,13 @@ public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery25WeightedPathsResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfListsLongs( serializedResults );
-        List<LdbcSnbBiQuery25WeightedPathsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            List<Long> personIds = (List<Long>) row.get( 0 );
-            result.add(
-                    new LdbcSnbBiQuery25WeightedPathsResult( personIds )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery25WeightedPathsResult> result =
-                (List<LdbcSnbBiQuery25WeightedPathsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery25WeightedPathsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personIds() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery25WeightedPathsResult>) resultsObject );
     }
 
     @Override
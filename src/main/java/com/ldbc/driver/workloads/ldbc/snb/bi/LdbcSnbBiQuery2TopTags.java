@@ -2,14 +2,51 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTagsResult>>
 {
     public static final int TYPE = 2;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery2TopTagsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery2TopTagsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery2TopTagsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.country() );
+                    jsonGenerator.writeNumber( row.month() );
+                    writeString( jsonGenerator, row.gender() );
+                    jsonGenerator.writeNumber( row.ageGroup() );
+                    writeString( jsonGenerator, row.tag() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery2TopTagsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String country = readString( jsonParser );
+                    int month = readInt( jsonParser );
+                    String gender = readString( jsonParser );
+                    int ageGroup = readInt( jsonParser );
+                    String tag = readString( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery2TopTagsResult(
+                            country,
+                            month,
+                            gender,
+                            ageGroup,
+                            tag,
+                            count
+                    );
+                }
+            };
     private final long dateA;
     private final long dateB;
     private final List<String> countries;
@@ -104,50 +141,13 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
     public List<LdbcSnbBiQuery2TopTagsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery2TopTagsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            String country = (String) row.get( 0 );
-            int month = ((Number) row.get( 1 )).intValue();
-            String gender = (String) row.get( 2 );
-            int ageGroup = ((Number) row.get( 3 )).intValue();
-            String tag = (String) row.get( 4 );
-            int count = ((Number) row.get( 5 )).intValue();
-
-            result.add(
-                    new LdbcSnbBiQuery2TopTagsResult(
-                            country,
-                            month,
-                            gender,
-                            ageGroup,
-                            tag,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery2TopTagsResult> result = (List<LdbcSnbBiQuery2TopTagsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery2TopTagsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.country() );
-            resultFields.add( row.month() );
-            resultFields.add( row.gender() );
-            resultFields.add( row.ageGroup() );
-            resultFields.add( row.tag() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery2TopTagsResult>) resultsObject );
     }
 
     @Override
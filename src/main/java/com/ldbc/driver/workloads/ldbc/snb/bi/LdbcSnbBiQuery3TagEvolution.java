@@ -2,14 +2,45 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery3TagEvolution extends Operation<List<LdbcSnbBiQuery3TagEvolutionResult>>
 {
     public static final int TYPE = 3;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery3TagEvolutionResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery3TagEvolutionResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery3TagEvolutionResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.tag() );
+                    jsonGenerator.writeNumber( row.countA() );
+                    jsonGenerator.writeNumber( row.countB() );
+                    jsonGenerator.writeNumber( row.difference() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery3TagEvolutionResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String tag = readString( jsonParser );
+                    int countA = readInt( jsonParser );
+                    int countB = readInt( jsonParser );
+                    int difference = readInt( jsonParser );
+                    return new LdbcSnbBiQuery3TagEvolutionResult(
+                            tag,
+                            countA,
+                            countB,
+                            difference
+                    );
+                }
+            };
     private final long range1Start;
     private final long range1End;
     private final long range2Start;
@@ -95,44 +126,13 @@ public class LdbcSnbBiQuery3TagEvolution extends Operation<List<LdbcSnbBiQuery3T
     public List<LdbcSnbBiQuery3TagEvolutionResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery3TagEvolutionResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            String tag = (String) row.get( 0 );
-            int countA = ((Number) row.get( 1 )).intValue();
-            int countB = ((Number) row.get( 2 )).intValue();
-            int difference = ((Number) row.get( 3 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery3TagEvolutionResult(
-                            tag,
-                            countA,
-                            countB,
-                            difference
-                    )
-            );
-        }
-
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery3TagEvolutionResult> result = (List<LdbcSnbBiQuery3TagEvolutionResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery3TagEvolutionResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.tag() );
-            resultFields.add( row.countA() );
-            resultFields.add( row.countB() );
-            resultFields.add( row.difference() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery3TagEvolutionResult>) resultsObject );
     }
 
     @Override
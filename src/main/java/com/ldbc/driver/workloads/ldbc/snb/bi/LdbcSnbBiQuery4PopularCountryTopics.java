@@ -2,14 +2,48 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbBiQuery4PopularCountryTopicsResult>>
 {
     public static final int TYPE = 4;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcSnbBiQuery4PopularCountryTopicsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery4PopularCountryTopicsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery4PopularCountryTopicsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.forumId() );
+                    writeString( jsonGenerator, row.forumTitle() );
+                    jsonGenerator.writeNumber( row.forumCreationDate() );
+                    jsonGenerator.writeNumber( row.moderatorId() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery4PopularCountryTopicsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long forumId = readLong( jsonParser );
+                    String title = readString( jsonParser );
+                    long creationDate = readLong( jsonParser );
+                    long moderator = readLong( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery4PopularCountryTopicsResult(
+                            forumId,
+                            title,
+                            creationDate,
+                            moderator,
+                            count
+                    );
+                }
+            };
     private final String tagClass;
     private final String country;
     private final int limit;
@@ -77,47 +111,13 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery4PopularCountryTopicsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery4PopularCountryTopicsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long forumId = ((Number) row.get( 0 )).longValue();
-            String title = (String) row.get( 1 );
-            long creationDate = ((Number) row.get( 2 )).longValue();
-            long moderator = ((Number) row.get( 3 )).longValue();
-            int count = ((Number) row.get( 4 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery4PopularCountryTopicsResult(
-                            forumId,
-                            title,
-                            creationDate,
-                            moderator,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery4PopularCountryTopicsResult> result =
-                (List<LdbcSnbBiQuery4PopularCountryTopicsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery4PopularCountryTopicsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.forumId() );
-            resultFields.add( row.forumTitle() );
-            resultFields.add( row.forumCreationDate() );
-            resultFields.add( row.moderatorId() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery4PopularCountryTopicsResult>) resultsObject );
     }
 
     @Override
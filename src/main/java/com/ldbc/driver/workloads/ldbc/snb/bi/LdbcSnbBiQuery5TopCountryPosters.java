@@ -2,8 +2,11 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQuery5TopCountryPostersResult>>
@@ -11,6 +14,37 @@ public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQu
     public static final int TYPE = 5;
     public static final int DEFAULT_LIMIT = 100;
     public static final int DEFAULT_POPULAR_FORUM_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery5TopCountryPostersResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery5TopCountryPostersResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery5TopCountryPostersResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                    jsonGenerator.writeNumber( row.creationDate() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery5TopCountryPostersResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    long creationDate = readLong( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery5TopCountryPostersResult(
+                            personId,
+                            firstName,
+                            lastName,
+                            creationDate,
+                            count
+                    );
+                }
+            };
     private final String country;
     private final int popularForumLimit;
     private final int limit;
@@ -78,47 +112,13 @@ public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery5TopCountryPostersResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery5TopCountryPostersResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String firstName = (String) row.get( 1 );
-            String lastName = (String) row.get( 2 );
-            long creationDate = ((Number) row.get( 3 )).longValue();
-            int count = ((Number) row.get( 4 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery5TopCountryPostersResult(
-                            personId,
-                            firstName,
-                            lastName,
-                            creationDate,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery5TopCountryPostersResult> result =
-                (List<LdbcSnbBiQuery5TopCountryPostersResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery5TopCountryPostersResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.firstName() );
-            resultFields.add( row.lastName() );
-            resultFields.add( row.creationDate() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery5TopCountryPostersResult>) resultsObject );
     }
 
     @Override
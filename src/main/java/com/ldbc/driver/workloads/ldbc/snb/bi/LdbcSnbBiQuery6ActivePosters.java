@@ -2,14 +2,48 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery6ActivePosters extends Operation<List<LdbcSnbBiQuery6ActivePostersResult>>
 {
     public static final int TYPE = 6;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery6ActivePostersResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery6ActivePostersResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery6ActivePostersResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.postCount() );
+                    jsonGenerator.writeNumber( row.replyCount() );
+                    jsonGenerator.writeNumber( row.likeCount() );
+                    jsonGenerator.writeNumber( row.score() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery6ActivePostersResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int postCount = readInt( jsonParser );
+                    int replyCount = readInt( jsonParser );
+                    int likeCount = readInt( jsonParser );
+                    int score = readInt( jsonParser );
+                    return new LdbcSnbBiQuery6ActivePostersResult(
+                            personId,
+                            postCount,
+                            replyCount,
+                            likeCount,
+                            score
+                    );
+                }
+            };
     private final String tag;
     private final int limit;
 
@@ -66,46 +100,13 @@ public class LdbcSnbBiQuery6ActivePosters extends Operation<List<LdbcSnbBiQuery6
     public List<LdbcSnbBiQuery6ActivePostersResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery6ActivePostersResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int postCount = ((Number) row.get( 1 )).intValue();
-            int replyCount = ((Number) row.get( 2 )).intValue();
-            int likeCount = ((Number) row.get( 3 )).intValue();
-            int score = ((Number) row.get( 4 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery6ActivePostersResult(
-                            personId,
-                            postCount,
-                            replyCount,
-                            likeCount,
-                            score
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery6ActivePostersResult> result = (List<LdbcSnbBiQuery6ActivePostersResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery6ActivePostersResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.postCount() );
-            resultFields.add( row.replyCount() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery6ActivePostersResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery7AuthoritativeUsers extends Operation<List<LdbcSnbBiQuery7AuthoritativeUsersResult>>
 {
     public static final int TYPE = 7;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery7AuthoritativeUsersResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery7AuthoritativeUsersResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery7AuthoritativeUsersResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    jsonGenerator.writeNumber( row.score() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery7AuthoritativeUsersResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    int score = readInt( jsonParser );
+                    return new LdbcSnbBiQuery7AuthoritativeUsersResult(
+                            personId,
+                            score
+                    );
+                }
+            };
     private final String tag;
     private final int limit;
 
@@ -66,38 +91,13 @@ public class LdbcSnbBiQuery7AuthoritativeUsers extends Operation<List<LdbcSnbBiQ
     public List<LdbcSnbBiQuery7AuthoritativeUsersResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery7AuthoritativeUsersResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int score = ((Number) row.get( 1 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery7AuthoritativeUsersResult(
-                            personId,
-                            score
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery7AuthoritativeUsersResult> result =
-                (List<LdbcSnbBiQuery7AuthoritativeUsersResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery7AuthoritativeUsersResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery7AuthoritativeUsersResult>) resultsObject );
     }
 
     @Override
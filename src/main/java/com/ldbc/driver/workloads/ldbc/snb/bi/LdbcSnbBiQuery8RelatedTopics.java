@@ -2,14 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery8RelatedTopics extends Operation<List<LdbcSnbBiQuery8RelatedTopicsResult>>
 {
     public static final int TYPE = 8;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery8RelatedTopicsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery8RelatedTopicsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery8RelatedTopicsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.tag() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery8RelatedTopicsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String tag = readString( jsonParser );
+                    int count = readInt( jsonParser );
+                    return new LdbcSnbBiQuery8RelatedTopicsResult(
+                            tag,
+                            count
+                    );
+                }
+            };
     private final String tag;
     private final int limit;
 
@@ -66,37 +91,13 @@ public class LdbcSnbBiQuery8RelatedTopics extends Operation<List<LdbcSnbBiQuery8
     public List<LdbcSnbBiQuery8RelatedTopicsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery8RelatedTopicsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            String tag = (String) row.get( 0 );
-            int count = ((Number) row.get( 1 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery8RelatedTopicsResult(
-                            tag,
-                            count
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery8RelatedTopicsResult> result = (List<LdbcSnbBiQuery8RelatedTopicsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery8RelatedTopicsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.tag() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery8RelatedTopicsResult>) resultsObject );
     }
 
     @Override
@@ -2,14 +2,42 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 public class LdbcSnbBiQuery9RelatedForums extends Operation<List<LdbcSnbBiQuery9RelatedForumsResult>>
 {
     public static final int TYPE = 9;
     public static final int DEFAULT_LIMIT = 100;
+    private static final JsonRowCodec<LdbcSnbBiQuery9RelatedForumsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcSnbBiQuery9RelatedForumsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcSnbBiQuery9RelatedForumsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.forumId() );
+                    jsonGenerator.writeNumber( row.sumA() );
+                    jsonGenerator.writeNumber( row.sumB() );
+                }
+
+                @Override
+                protected LdbcSnbBiQuery9RelatedForumsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long forumId = readLong( jsonParser );
+                    int sumA = readInt( jsonParser );
+                    int sumB = readInt( jsonParser );
+                    return new LdbcSnbBiQuery9RelatedForumsResult(
+                            forumId,
+                            sumA,
+                            sumB
+                    );
+                }
+            };
     private final String tagClassA;
     private final String tagClassB;
     private final int threshold;
@@ -87,40 +115,13 @@ public class LdbcSnbBiQuery9RelatedForums extends Operation<List<LdbcSnbBiQuery9
     public List<LdbcSnbBiQuery9RelatedForumsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<LdbcSnbBiQuery9RelatedForumsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long forumId = ((Number) row.get( 0 )).longValue();
-            int sumA = ((Number) row.get( 1 )).intValue();
-            int sumB = ((Number) row.get( 2 )).intValue();
-            result.add(
-                    new LdbcSnbBiQuery9RelatedForumsResult(
-                            forumId,
-                            sumA,
-                            sumB
-                    )
-            );
-        }
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcSnbBiQuery9RelatedForumsResult> result = (List<LdbcSnbBiQuery9RelatedForumsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < result.size(); i++ )
-        {
-            LdbcSnbBiQuery9RelatedForumsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.forumId() );
-            resultFields.add( row.sumA() );
-            resultFields.add( row.sumB() );
-            resultsFields.add( resultFields );
-        }
-        return SerializationUtil.toJson( resultsFields );
+        return RESULT_CODEC.serializeRows( (List<LdbcSnbBiQuery9RelatedForumsResult>) resultsObject );
     }
 
     @Override
@@ -33,6 +33,7 @@ public class LdbcSnbBiWorkload extends Workload
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     // TODO alternatively they could be CloseableStream (or similar) where files and everything are in 1 class
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
+    private List<File> readOperationFiles = new ArrayList<>();
     private FileInputStream readOperation1FileInputStream;
     private FileInputStream readOperation2FileInputStream;
     private FileInputStream readOperation3FileInputStream;
@@ -118,6 +119,7 @@ public class LdbcSnbBiWorkload extends Workload
                         new File( parametersDir, readOperationParamsFilename ).getAbsolutePath()
                 ) );
             }
+            readOperationFiles.add( new File( parametersDir, readOperationParamsFilename ) );
         }
         try
         {
@@ -251,6 +253,12 @@ public class LdbcSnbBiWorkload extends Workload
                 Double.parseDouble( params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim() );
     }
 
+    @Override
+    public List<File> streamInputFiles()
+    {
+        return new ArrayList<>( readOperationFiles );
+    }
+
     @Override
     synchronized protected void onClose() throws IOException
     {
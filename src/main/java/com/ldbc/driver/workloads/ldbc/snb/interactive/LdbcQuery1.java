@@ -3,21 +3,71 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 1;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery1Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery1Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery1Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.friendId() );
+                    writeString( jsonGenerator, row.friendLastName() );
+                    jsonGenerator.writeNumber( row.distanceFromPerson() );
+                    jsonGenerator.writeNumber( row.friendBirthday() );
+                    jsonGenerator.writeNumber( row.friendCreationDate() );
+                    writeString( jsonGenerator, row.friendGender() );
+                    writeString( jsonGenerator, row.friendBrowserUsed() );
+                    writeString( jsonGenerator, row.friendLocationIp() );
+                    writeStrings( jsonGenerator, row.friendEmails() );
+                    writeStrings( jsonGenerator, row.friendLanguages() );
+                    writeString( jsonGenerator, row.friendCityName() );
+                    writeUntyped( jsonGenerator, row.friendUniversities() );
+                    writeUntyped( jsonGenerator, row.friendCompanies() );
+                }
+
+                @Override
+                protected LdbcQuery1Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long friendId = readLong( jsonParser );
+                    String friendLastName = readString( jsonParser );
+                    int distanceFromPerson = readInt( jsonParser );
+                    long friendBirthday = readLong( jsonParser );
+                    long friendCreationDate = readLong( jsonParser );
+                    String friendGender = readString( jsonParser );
+                    String friendBrowserUsed = readString( jsonParser );
+                    String friendLocationIp = readString( jsonParser );
+                    Iterable<String> friendEmails = readStringList( jsonParser );
+                    Iterable<String> friendLanguages = readStringList( jsonParser );
+                    String friendCityName = readString( jsonParser );
+                    Iterable<List<Object>> friendUniversities = Lists.newArrayList( (List) readUntyped( jsonParser ) );
+                    Iterable<List<Object>> friendCompanies = Lists.newArrayList( (List) readUntyped( jsonParser ) );
+                    return new LdbcQuery1Result(
+                            friendId,
+                            friendLastName,
+                            distanceFromPerson,
+                            friendBirthday,
+                            friendCreationDate,
+                            friendGender,
+                            friendBrowserUsed,
+                            friendLocationIp,
+                            friendEmails,
+                            friendLanguages,
+                            friendCityName,
+                            friendUniversities,
+                            friendCompanies
+                    );
+                }
+            };
     private final long personId;
     private final String firstName;
     private final int limit;
@@ -86,92 +136,13 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
     @Override
     public List<LdbcQuery1Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery1Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-
-            long friendId = ((Number) resultAsList.get( 0 )).longValue();
-            String friendLastName = (String) resultAsList.get( 1 );
-            int distanceFromPerson = (Integer) resultAsList.get( 2 );
-            long friendBirthday = ((Number) resultAsList.get( 3 )).longValue();
-            long friendCreationDate = ((Number) resultAsList.get( 4 )).longValue();
-            String friendGender = (String) resultAsList.get( 5 );
-            String friendBrowserUsed = (String) resultAsList.get( 6 );
-            String friendLocationIp = (String) resultAsList.get( 7 );
-            Iterable<String> friendEmails = (List<String>) resultAsList.get( 8 );
-            Iterable<String> friendLanguages = (List<String>) resultAsList.get( 9 );
-            String friendCityName = (String) resultAsList.get( 10 );
-            Iterable<List<Object>> friendUniversities = Lists.newArrayList( (List) resultAsList.get( 11 ) );
-            Iterable<List<Object>> friendCompanies = Lists.newArrayList( (List) resultAsList.get( 12 ) );
-
-            results.add( new LdbcQuery1Result(
-                    friendId,
-                    friendLastName,
-                    distanceFromPerson,
-                    friendBirthday,
-                    friendCreationDate,
-                    friendGender,
-                    friendBrowserUsed,
-                    friendLocationIp,
-                    friendEmails,
-                    friendLanguages,
-                    friendCityName,
-                    friendUniversities,
-                    friendCompanies ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery1Result> results = (List<LdbcQuery1Result>) resultsObject;
-
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery1Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.friendId() );
-            resultFields.add( result.friendLastName() );
-            resultFields.add( result.distanceFromPerson() );
-            resultFields.add( result.friendBirthday() );
-            resultFields.add( result.friendCreationDate() );
-            resultFields.add( result.friendGender() );
-            resultFields.add( result.friendBrowserUsed() );
-            resultFields.add( result.friendLocationIp() );
-            resultFields.add( result.friendEmails() );
-            resultFields.add( result.friendLanguages() );
-            resultFields.add( result.friendCityName() );
-            resultFields.add( result.friendUniversities() );
-            resultFields.add( result.friendCompanies() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery1Result>) resultsObject );
     }
 
     @Override
@@ -2,21 +2,50 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 10;
     public static final int DEFAULT_LIMIT = 10;
+    private static final JsonRowCodec<LdbcQuery10Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery10Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery10Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.commonInterestScore() );
+                    writeString( jsonGenerator, row.personGender() );
+                    writeString( jsonGenerator, row.personCityName() );
+                }
+
+                @Override
+                protected LdbcQuery10Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    int commonInterestScore = readInt( jsonParser );
+                    String personGender = readString( jsonParser );
+                    String personCityName = readString( jsonParser );
+                    return new LdbcQuery10Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            commonInterestScore,
+                            personGender,
+                            personCityName
+                    );
+                }
+            };
     private final long personId;
     private final int month;
     private final int limit;
@@ -85,70 +114,13 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
     @Override
     public List<LdbcQuery10Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery10Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            int commonInterestScore = ((Number) resultAsList.get( 3 )).intValue();
-            String personGender = (String) resultAsList.get( 4 );
-            String personCityName = (String) resultAsList.get( 5 );
-
-            results.add( new LdbcQuery10Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    commonInterestScore,
-                    personGender,
-                    personCityName
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery10Result> results = (List<LdbcQuery10Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery10Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.commonInterestScore() );
-            resultFields.add( result.personGender() );
-            resultFields.add( result.personCityName() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery10Result>) resultsObject );
     }
 
     @Override
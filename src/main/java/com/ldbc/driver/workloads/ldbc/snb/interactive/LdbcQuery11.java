@@ -2,21 +2,47 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 11;
     public static final int DEFAULT_LIMIT = 10;
+    private static final JsonRowCodec<LdbcQuery11Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery11Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery11Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    writeString( jsonGenerator, row.organizationName() );
+                    jsonGenerator.writeNumber( row.organizationWorkFromYear() );
+                }
+
+                @Override
+                protected LdbcQuery11Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    String organizationName = readString( jsonParser );
+                    int organizationWorkFromYear = readInt( jsonParser );
+                    return new LdbcQuery11Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            organizationName,
+                            organizationWorkFromYear
+                    );
+                }
+            };
     private final long personId;
     private final String countryName;
     private final int workFromYear;
@@ -96,67 +122,13 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
     @Override
     public List<LdbcQuery11Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery11Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            String organizationName = (String) resultAsList.get( 3 );
-            int organizationWorkFromYear = ((Number) resultAsList.get( 4 )).intValue();
-
-            results.add( new LdbcQuery11Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    organizationName,
-                    organizationWorkFromYear
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery11Result> results = (List<LdbcQuery11Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery11Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.organizationName() );
-            resultFields.add( result.organizationWorkFromYear() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery11Result>) resultsObject );
     }
 
     @Override
@@ -2,21 +2,47 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 12;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery12Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery12Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery12Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    writeStrings( jsonGenerator, row.tagNames() );
+                    jsonGenerator.writeNumber( row.replyCount() );
+                }
+
+                @Override
+                protected LdbcQuery12Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    Iterable<String> tagNames = readStringList( jsonParser );
+                    int replyCount = readInt( jsonParser );
+                    return new LdbcQuery12Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            tagNames,
+                            replyCount
+                    );
+                }
+            };
     private final long personId;
     private final String tagClassName;
     private final int limit;
@@ -85,67 +111,13 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
     @Override
     public List<LdbcQuery12Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery12Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            Iterable<String> tagNames = (List<String>) resultAsList.get( 3 );
-            int replyCount = ((Number) resultAsList.get( 4 )).intValue();
-
-            results.add( new LdbcQuery12Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    tagNames,
-                    replyCount
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery12Result> results = (List<LdbcQuery12Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery12Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.tagNames() );
-            resultFields.add( result.replyCount() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery12Result>) resultsObject );
     }
 
     @Override
@@ -2,20 +2,31 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 public class LdbcQuery13 extends Operation<LdbcQuery13Result>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 13;
+    private static final JsonRowCodec<LdbcQuery13Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery13Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery13Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.shortestPathLength() );
+                }
+
+                @Override
+                protected LdbcQuery13Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    int shortestPathLength = readInt( jsonParser );
+                    return new LdbcQuery13Result( shortestPathLength );
+                }
+            };
     private final long person1Id;
     private final long person2Id;
 
@@ -73,39 +84,13 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
     @Override
     public LdbcQuery13Result marshalResult( String serializedResult ) throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = OBJECT_MAPPER.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResult ), e );
-        }
-
-        int shortestPathLength = ((Number) resultAsList.get( 0 )).intValue();
-        return new LdbcQuery13Result( shortestPathLength );
+        return RESULT_CODEC.marshalRow( serializedResult );
     }
 
     @Override
     public String serializeResult( Object resultObject ) throws SerializingMarshallingException
     {
-        LdbcQuery13Result result = (LdbcQuery13Result) resultObject;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.shortestPathLength() );
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", result.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRow( (LdbcQuery13Result) resultObject );
     }
 
     @Override
@@ -1,23 +1,38 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Iterables;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 14;
+    private static final JsonRowCodec<LdbcQuery14Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery14Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery14Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    writeUntyped( jsonGenerator, row.personsIdsInPath() );
+                    jsonGenerator.writeNumber( row.pathWeight() );
+                }
+
+                @Override
+                protected LdbcQuery14Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    Iterable<Long> personsIdsInPath = readLongList( jsonParser );
+                    double pathWeight = readDouble( jsonParser );
+                    return new LdbcQuery14Result(
+                            personsIdsInPath,
+                            pathWeight
+                    );
+                }
+            };
     private final long person1Id;
     private final long person2Id;
 
@@ -75,70 +90,13 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
     @Override
     public List<LdbcQuery14Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue(
-                    serializedResults,
-                    new TypeReference<List<List<Object>>>()
-                    {
-                    }
-            );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery14Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            Iterable<Long> personsIdsInPath =
-                    Iterables.transform( (List<Number>) resultAsList.get( 0 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } );
-            double pathWeight = ((Number) resultAsList.get( 1 )).doubleValue();
-
-            results.add(
-                    new LdbcQuery14Result(
-                            personsIdsInPath,
-                            pathWeight
-                    )
-            );
-        }
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery14Result> results = (List<LdbcQuery14Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery14Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personsIdsInPath() );
-            resultFields.add( result.pathWeight() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery14Result>) resultsObject );
     }
 
     @Override
@@ -2,22 +2,51 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 2;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery2Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery2Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery2Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.postOrCommentId() );
+                    writeString( jsonGenerator, row.postOrCommentContent() );
+                    jsonGenerator.writeNumber( row.postOrCommentCreationDate() );
+                }
+
+                @Override
+                protected LdbcQuery2Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    long postOrCommentId = readLong( jsonParser );
+                    String postOrCommentContent = readString( jsonParser );
+                    long postOrCommentCreationDate = readLong( jsonParser );
+                    return new LdbcQuery2Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            postOrCommentId,
+                            postOrCommentContent,
+                            postOrCommentCreationDate
+                    );
+                }
+            };
     private final long personId;
     private final Date maxDate;
     private final int limit;
@@ -87,70 +116,13 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
     @Override
     public List<LdbcQuery2Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error parsing serialized result\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery2Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long postOrCommentId = ((Number) resultAsList.get( 3 )).longValue();
-            String postOrCommentContent = (String) resultAsList.get( 4 );
-            long postOrCommentCreationDate = ((Number) resultAsList.get( 5 )).longValue();
-
-            results.add( new LdbcQuery2Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    postOrCommentId,
-                    postOrCommentContent,
-                    postOrCommentCreationDate
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery2Result> results = (List<LdbcQuery2Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery2Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.postOrCommentId() );
-            resultFields.add( result.postOrCommentContent() );
-            resultFields.add( result.postOrCommentCreationDate() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery2Result>) resultsObject );
     }
 
     @Override
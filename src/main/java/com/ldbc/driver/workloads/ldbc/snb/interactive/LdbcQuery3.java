@@ -2,22 +2,51 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 3;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery3Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery3Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery3Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.xCount() );
+                    jsonGenerator.writeNumber( row.yCount() );
+                    jsonGenerator.writeNumber( row.count() );
+                }
+
+                @Override
+                protected LdbcQuery3Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    long xCount = readLong( jsonParser );
+                    long yCount = readLong( jsonParser );
+                    long count = readLong( jsonParser );
+                    return new LdbcQuery3Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            xCount,
+                            yCount,
+                            count
+                    );
+                }
+            };
     private final long personId;
     private final String countryXName;
     private final String countryYName;
@@ -120,70 +149,13 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     @Override
     public List<LdbcQuery3Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery3Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long xCount = ((Number) resultAsList.get( 3 )).longValue();
-            long yCount = ((Number) resultAsList.get( 4 )).longValue();
-            long count = ((Number) resultAsList.get( 5 )).longValue();
-
-            results.add( new LdbcQuery3Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    xCount,
-                    yCount,
-                    count
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery3Result> results = (List<LdbcQuery3Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery3Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.xCount() );
-            resultFields.add( result.yCount() );
-            resultFields.add( result.count() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery3Result>) resultsObject );
     }
 
     @Override
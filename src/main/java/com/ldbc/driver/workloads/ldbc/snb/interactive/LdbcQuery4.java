@@ -2,22 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 4;
     public static final int DEFAULT_LIMIT = 10;
+    private static final JsonRowCodec<LdbcQuery4Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery4Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery4Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    writeString( jsonGenerator, row.tagName() );
+                    jsonGenerator.writeNumber( row.postCount() );
+                }
+
+                @Override
+                protected LdbcQuery4Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String tagName = readString( jsonParser );
+                    int tagCount = readInt( jsonParser );
+                    return new LdbcQuery4Result(
+                            tagName,
+                            tagCount
+                    );
+                }
+            };
     private final long personId;
     private final Date startDate;
     private final int durationDays;
@@ -97,58 +114,13 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     @Override
     public List<LdbcQuery4Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery4Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String tagName = (String) resultAsList.get( 0 );
-            int tagCount = ((Number) resultAsList.get( 1 )).intValue();
-
-            results.add( new LdbcQuery4Result(
-                    tagName,
-                    tagCount
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery4Result> results = (List<LdbcQuery4Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery4Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.tagName() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery4Result>) resultsObject );
     }
 
     @Override
@@ -2,22 +2,39 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 5;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery5Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery5Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery5Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    writeString( jsonGenerator, row.forumTitle() );
+                    jsonGenerator.writeNumber( row.postCount() );
+                }
+
+                @Override
+                protected LdbcQuery5Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String forumTitle = readString( jsonParser );
+                    int postCount = readInt( jsonParser );
+                    return new LdbcQuery5Result(
+                            forumTitle,
+                            postCount
+                    );
+                }
+            };
     private final long personId;
     private final Date minDate;
     private final int limit;
@@ -87,58 +104,13 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     @Override
     public List<LdbcQuery5Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery5Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String forumTitle = (String) resultAsList.get( 0 );
-            int postCount = ((Number) resultAsList.get( 1 )).intValue();
-
-            results.add( new LdbcQuery5Result(
-                    forumTitle,
-                    postCount
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery5Result> results = (List<LdbcQuery5Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery5Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.forumTitle() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery5Result>) resultsObject );
     }
 
     @Override
@@ -2,21 +2,38 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 6;
     public static final int DEFAULT_LIMIT = 10;
+    private static final JsonRowCodec<LdbcQuery6Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery6Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery6Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    writeString( jsonGenerator, row.tagName() );
+                    jsonGenerator.writeNumber( row.postCount() );
+                }
+
+                @Override
+                protected LdbcQuery6Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String tagName = readString( jsonParser );
+                    int tagCount = readInt( jsonParser );
+                    return new LdbcQuery6Result(
+                            tagName,
+                            tagCount
+                    );
+                }
+            };
     private final long personId;
     private final String tagName;
     private final int limit;
@@ -85,58 +102,13 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
     @Override
     public List<LdbcQuery6Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery6Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String tagName = (String) resultAsList.get( 0 );
-            int tagCount = ((Number) resultAsList.get( 1 )).intValue();
-
-            results.add( new LdbcQuery6Result(
-                    tagName,
-                    tagCount
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery6Result> results = (List<LdbcQuery6Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery6Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.tagName() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery6Result>) resultsObject );
     }
 
     @Override
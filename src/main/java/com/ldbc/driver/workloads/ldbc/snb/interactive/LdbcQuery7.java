@@ -2,21 +2,56 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 7;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery7Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery7Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery7Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.likeCreationDate() );
+                    jsonGenerator.writeNumber( row.commentOrPostId() );
+                    writeString( jsonGenerator, row.commentOrPostContent() );
+                    jsonGenerator.writeNumber( row.minutesLatency() );
+                    jsonGenerator.writeBoolean( row.isNew() );
+                }
+
+                @Override
+                protected LdbcQuery7Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    long likeCreationDate = readLong( jsonParser );
+                    long commentOrPostId = readLong( jsonParser );
+                    String commentOrPostContent = readString( jsonParser );
+                    int minutesLatency = readInt( jsonParser );
+                    boolean isNew = readBoolean( jsonParser );
+                    return new LdbcQuery7Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            likeCreationDate,
+                            commentOrPostId,
+                            commentOrPostContent,
+                            minutesLatency,
+                            isNew
+                    );
+                }
+            };
     private final long personId;
     private final int limit;
 
@@ -75,76 +110,13 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
     @Override
     public List<LdbcQuery7Result> marshalResult( String serializedResult ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error parsing serialized result\n%s", serializedResult ), e );
-        }
-
-        List<LdbcQuery7Result> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String personFirstName = (String) row.get( 1 );
-            String personLastName = (String) row.get( 2 );
-            long likeCreationDate = ((Number) row.get( 3 )).longValue();
-            long commentOrPostId = ((Number) row.get( 4 )).longValue();
-            String commentOrPostContent = (String) row.get( 5 );
-            int minutesLatency = ((Number) row.get( 6 )).intValue();
-            boolean isNew = (Boolean) row.get( 7 );
-
-            result.add( new LdbcQuery7Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    likeCreationDate,
-                    commentOrPostId,
-                    commentOrPostContent,
-                    minutesLatency,
-                    isNew
-            ) );
-        }
-
-        return result;
+        return RESULT_CODEC.marshalRows( serializedResult );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery7Result> results = (List<LdbcQuery7Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery7Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.likeCreationDate() );
-            resultFields.add( result.commentOrPostId() );
-            resultFields.add( result.commentOrPostContent() );
-            resultFields.add( result.minutesLatency() );
-            resultFields.add( result.isNew() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery7Result>) resultsObject );
     }
 
     @Override
@@ -2,21 +2,50 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 8;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery8Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery8Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery8Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.commentCreationDate() );
+                    jsonGenerator.writeNumber( row.commentId() );
+                    writeString( jsonGenerator, row.commentContent() );
+                }
+
+                @Override
+                protected LdbcQuery8Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    long commentCreationDate = readLong( jsonParser );
+                    long commentId = readLong( jsonParser );
+                    String commentContent = readString( jsonParser );
+                    return new LdbcQuery8Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            commentCreationDate,
+                            commentId,
+                            commentContent
+                    );
+                }
+            };
     private final long personId;
     private final int limit;
 
@@ -75,70 +104,13 @@ public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
     @Override
     public List<LdbcQuery8Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery8Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long commentCreationDate = ((Number) resultAsList.get( 3 )).longValue();
-            long commentId = ((Number) resultAsList.get( 4 )).longValue();
-            String commentContent = (String) resultAsList.get( 5 );
-
-            results.add( new LdbcQuery8Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    commentCreationDate,
-                    commentId,
-                    commentContent
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery8Result> results = (List<LdbcQuery8Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery8Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.commentCreationDate() );
-            resultFields.add( result.commentId() );
-            resultFields.add( result.commentContent() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery8Result>) resultsObject );
     }
 
     @Override
@@ -2,22 +2,51 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 9;
     public static final int DEFAULT_LIMIT = 20;
+    private static final JsonRowCodec<LdbcQuery9Result> RESULT_CODEC =
+            new JsonRowCodec<LdbcQuery9Result>()
+            {
+                @Override
+                protected void writeRow( LdbcQuery9Result row, JsonGenerator jsonGenerator ) throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.personFirstName() );
+                    writeString( jsonGenerator, row.personLastName() );
+                    jsonGenerator.writeNumber( row.commentOrPostId() );
+                    writeString( jsonGenerator, row.commentOrPostContent() );
+                    jsonGenerator.writeNumber( row.commentOrPostCreationDate() );
+                }
+
+                @Override
+                protected LdbcQuery9Result readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String personFirstName = readString( jsonParser );
+                    String personLastName = readString( jsonParser );
+                    long commentOrPostId = readLong( jsonParser );
+                    String commentOrPostContent = readString( jsonParser );
+                    long commentOrPostCreationDate = readLong( jsonParser );
+                    return new LdbcQuery9Result(
+                            personId,
+                            personFirstName,
+                            personLastName,
+                            commentOrPostId,
+                            commentOrPostContent,
+                            commentOrPostCreationDate
+                    );
+                }
+            };
     private final long personId;
     private final Date maxDate;
     private final int limit;
@@ -86,70 +115,13 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     @Override
     public List<LdbcQuery9Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
-
-        List<LdbcQuery9Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long commentOrPostId = ((Number) resultAsList.get( 3 )).longValue();
-            String commentOrPostContent = (String) resultAsList.get( 4 );
-            long commentOrPostCreationDate = ((Number) resultAsList.get( 5 )).longValue();
-
-            results.add( new LdbcQuery9Result(
-                    personId,
-                    personFirstName,
-                    personLastName,
-                    commentOrPostId,
-                    commentOrPostContent,
-                    commentOrPostCreationDate
-            ) );
-        }
-
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResults );
     }
 
     @Override
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
-        List<LdbcQuery9Result> results = (List<LdbcQuery9Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcQuery9Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.commentOrPostId() );
-            resultFields.add( result.commentOrPostContent() );
-            resultFields.add( result.commentOrPostCreationDate() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcQuery9Result>) resultsObject );
     }
 
     @Override
@@ -2,19 +2,55 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1PersonProfileResult>
 {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final int TYPE = 101;
+    private static final JsonRowCodec<LdbcShortQuery1PersonProfileResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery1PersonProfileResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery1PersonProfileResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                    jsonGenerator.writeNumber( row.birthday() );
+                    writeString( jsonGenerator, row.locationIp() );
+                    writeString( jsonGenerator, row.browserUsed() );
+                    jsonGenerator.writeNumber( row.cityId() );
+                    writeString( jsonGenerator, row.gender() );
+                    jsonGenerator.writeNumber( row.creationDate() );
+                }
+
+                @Override
+                protected LdbcShortQuery1PersonProfileResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    long birthday = readLong( jsonParser );
+                    String locationIp = readString( jsonParser );
+                    String browserUsed = readString( jsonParser );
+                    long cityId = readLong( jsonParser );
+                    String gender = readString( jsonParser );
+                    long creationDate = readLong( jsonParser );
+                    return new LdbcShortQuery1PersonProfileResult(
+                            firstName,
+                            lastName,
+                            birthday,
+                            locationIp,
+                            browserUsed,
+                            cityId,
+                            gender,
+                            creationDate
+                    );
+                }
+            };
     private final long personId;
 
     public LdbcShortQuery1PersonProfile( long personId )
@@ -31,62 +67,13 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
     public LdbcShortQuery1PersonProfileResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        String firstName = (String) resultAsList.get( 0 );
-        String lastName = (String) resultAsList.get( 1 );
-        long birthday = ((Number) resultAsList.get( 2 )).longValue();
-        String locationIp = (String) resultAsList.get( 3 );
-        String browserUsed = (String) resultAsList.get( 4 );
-        long cityId = ((Number) resultAsList.get( 5 )).longValue();
-        String gender = (String) resultAsList.get( 6 );
-        long creationDate = ((Number) resultAsList.get( 7 )).longValue();
-
-        return new LdbcShortQuery1PersonProfileResult(
-                firstName,
-                lastName,
-                birthday,
-                locationIp,
-                browserUsed,
-                cityId,
-                gender,
-                creationDate
-        );
+        return RESULT_CODEC.marshalRow( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        LdbcShortQuery1PersonProfileResult result = (LdbcShortQuery1PersonProfileResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.firstName() );
-        resultFields.add( result.lastName() );
-        resultFields.add( result.birthday() );
-        resultFields.add( result.locationIp() );
-        resultFields.add( result.browserUsed() );
-        resultFields.add( result.cityId() );
-        resultFields.add( result.gender() );
-        resultFields.add( result.creationDate() );
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRow( (LdbcShortQuery1PersonProfileResult) operationResultInstance );
     }
 
     @Override
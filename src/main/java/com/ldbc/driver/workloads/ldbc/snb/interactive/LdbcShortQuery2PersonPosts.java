@@ -2,20 +2,54 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2PersonPostsResult>>
 {
     public static final int TYPE = 102;
     public static final int DEFAULT_LIMIT = 10;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery2PersonPostsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery2PersonPostsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery2PersonPostsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.messageId() );
+                    writeString( jsonGenerator, row.messageContent() );
+                    jsonGenerator.writeNumber( row.messageCreationDate() );
+                    jsonGenerator.writeNumber( row.originalPostId() );
+                    jsonGenerator.writeNumber( row.originalPostAuthorId() );
+                    writeString( jsonGenerator, row.originalPostAuthorFirstName() );
+                    writeString( jsonGenerator, row.originalPostAuthorLastName() );
+                }
+
+                @Override
+                protected LdbcShortQuery2PersonPostsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long messageId = readLong( jsonParser );
+                    String messageContent = readString( jsonParser );
+                    long messageCreationDate = readLong( jsonParser );
+                    long originalPostId = readLong( jsonParser );
+                    long originalPostAuthorId = readLong( jsonParser );
+                    String originalPostAuthorFirstName = readString( jsonParser );
+                    String originalPostAuthorLastName = readString( jsonParser );
+                    return new LdbcShortQuery2PersonPostsResult(
+                            messageId,
+                            messageContent,
+                            messageCreationDate,
+                            originalPostId,
+                            originalPostAuthorId,
+                            originalPostAuthorFirstName,
+                            originalPostAuthorLastName
+                    );
+                }
+            };
     private final long personId;
     private final int limit;
 
@@ -39,77 +73,13 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
     public List<LdbcShortQuery2PersonPostsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-
-            long messageId = ((Number) resultAsList.get( 0 )).longValue();
-            String messageContent = (String) resultAsList.get( 1 );
-            long messageCreationDate = ((Number) resultAsList.get( 2 )).longValue();
-            long originalPostId = ((Number) resultAsList.get( 3 )).longValue();
-            long originalPostAuthorId = ((Number) resultAsList.get( 4 )).longValue();
-            String originalPostAuthorFirstName = (String) resultAsList.get( 5 );
-            String originalPostAuthorLastName = (String) resultAsList.get( 6 );
-
-            results.add(
-                    new LdbcShortQuery2PersonPostsResult(
-                            messageId,
-                            messageContent,
-                            messageCreationDate,
-                            originalPostId,
-                            originalPostAuthorId,
-                            originalPostAuthorFirstName,
-                            originalPostAuthorLastName
-                    )
-            );
-        }
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        List<LdbcShortQuery2PersonPostsResult> results =
-                (List<LdbcShortQuery2PersonPostsResult>) operationResultInstance;
-
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcShortQuery2PersonPostsResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.messageId() );
-            resultFields.add( result.messageContent() );
-            resultFields.add( result.messageCreationDate() );
-            resultFields.add( result.originalPostId() );
-            resultFields.add( result.originalPostAuthorId() );
-            resultFields.add( result.originalPostAuthorFirstName() );
-            resultFields.add( result.originalPostAuthorLastName() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcShortQuery2PersonPostsResult>) operationResultInstance );
     }
 
     @Override
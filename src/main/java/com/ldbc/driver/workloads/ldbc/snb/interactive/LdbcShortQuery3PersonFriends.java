@@ -2,19 +2,44 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3PersonFriendsResult>>
 {
     public static final int TYPE = 103;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery3PersonFriendsResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery3PersonFriendsResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery3PersonFriendsResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                    jsonGenerator.writeNumber( row.friendshipCreationDate() );
+                }
+
+                @Override
+                protected LdbcShortQuery3PersonFriendsResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long friendId = readLong( jsonParser );
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    long friendshipCreationDate = readLong( jsonParser );
+                    return new LdbcShortQuery3PersonFriendsResult(
+                            friendId,
+                            firstName,
+                            lastName,
+                            friendshipCreationDate
+                    );
+                }
+            };
     private final long personId;
 
     public LdbcShortQuery3PersonFriends( long personId )
@@ -31,68 +56,13 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
     public List<LdbcShortQuery3PersonFriendsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-
-            long friendId = ((Number) resultAsList.get( 0 )).longValue();
-            String firstName = (String) resultAsList.get( 1 );
-            String lastName = (String) resultAsList.get( 2 );
-            long friendshipCreationDate = ((Number) resultAsList.get( 3 )).longValue();
-
-            results.add(
-                    new LdbcShortQuery3PersonFriendsResult(
-                            friendId,
-                            firstName,
-                            lastName,
-                            friendshipCreationDate
-                    )
-            );
-        }
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        List<LdbcShortQuery3PersonFriendsResult> results =
-                (List<LdbcShortQuery3PersonFriendsResult>) operationResultInstance;
-
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcShortQuery3PersonFriendsResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.firstName() );
-            resultFields.add( result.lastName() );
-            resultFields.add( result.friendshipCreationDate() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcShortQuery3PersonFriendsResult>) operationResultInstance );
     }
 
     @Override
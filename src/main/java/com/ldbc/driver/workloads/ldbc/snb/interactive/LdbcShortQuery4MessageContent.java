@@ -2,19 +2,37 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4MessageContentResult>
 {
     public static final int TYPE = 104;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery4MessageContentResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery4MessageContentResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery4MessageContentResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    writeString( jsonGenerator, row.messageContent() );
+                    jsonGenerator.writeNumber( row.messageCreationDate() );
+                }
+
+                @Override
+                protected LdbcShortQuery4MessageContentResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    String marshaledMessageContent = readString( jsonParser );
+                    long marshaledMessageCreationDate = readLong( jsonParser );
+                    return new LdbcShortQuery4MessageContentResult(
+                            marshaledMessageContent,
+                            marshaledMessageCreationDate
+                    );
+                }
+            };
     private final long messageId;
 
     public LdbcShortQuery4MessageContent( long messageId )
@@ -31,44 +49,13 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
     public LdbcShortQuery4MessageContentResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        String marshaledMessageContent = (String) resultAsList.get( 0 );
-        long marshaledMessageCreationDate = ((Number) resultAsList.get( 1 )).longValue();
-
-        return new LdbcShortQuery4MessageContentResult(
-                marshaledMessageContent,
-                marshaledMessageCreationDate
-        );
+        return RESULT_CODEC.marshalRow( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        LdbcShortQuery4MessageContentResult result = (LdbcShortQuery4MessageContentResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.messageContent() );
-        resultFields.add( result.messageCreationDate() );
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRow( (LdbcShortQuery4MessageContentResult) operationResultInstance );
     }
 
     @Override
@@ -2,19 +2,40 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5MessageCreatorResult>
 {
     public static final int TYPE = 105;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery5MessageCreatorResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery5MessageCreatorResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery5MessageCreatorResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.personId() );
+                    writeString( jsonGenerator, row.firstName() );
+                    writeString( jsonGenerator, row.lastName() );
+                }
+
+                @Override
+                protected LdbcShortQuery5MessageCreatorResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long personId = readLong( jsonParser );
+                    String firstName = readString( jsonParser );
+                    String lastName = readString( jsonParser );
+                    return new LdbcShortQuery5MessageCreatorResult(
+                            personId,
+                            firstName,
+                            lastName
+                    );
+                }
+            };
     private final long messageId;
 
     public LdbcShortQuery5MessageCreator( long messageId )
@@ -31,48 +52,13 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
     public LdbcShortQuery5MessageCreatorResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        long personId = ((Number) resultAsList.get( 0 )).longValue();
-        String firstName = (String) resultAsList.get( 1 );
-        String lastName = (String) resultAsList.get( 2 );
-
-        return new LdbcShortQuery5MessageCreatorResult(
-                personId,
-                firstName,
-                lastName
-        );
+        return RESULT_CODEC.marshalRow( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        LdbcShortQuery5MessageCreatorResult result = (LdbcShortQuery5MessageCreatorResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.personId() );
-        resultFields.add( result.firstName() );
-        resultFields.add( result.lastName() );
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRow( (LdbcShortQuery5MessageCreatorResult) operationResultInstance );
     }
 
     @Override
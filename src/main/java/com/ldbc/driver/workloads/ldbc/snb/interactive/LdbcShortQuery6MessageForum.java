@@ -2,19 +2,46 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6MessageForumResult>
 {
     public static final int TYPE = 106;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery6MessageForumResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery6MessageForumResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery6MessageForumResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.forumId() );
+                    writeString( jsonGenerator, row.forumTitle() );
+                    jsonGenerator.writeNumber( row.moderatorId() );
+                    writeString( jsonGenerator, row.moderatorFirstName() );
+                    writeString( jsonGenerator, row.moderatorLastName() );
+                }
+
+                @Override
+                protected LdbcShortQuery6MessageForumResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long forumId = readLong( jsonParser );
+                    String forumTitle = readString( jsonParser );
+                    long moderatorId = readLong( jsonParser );
+                    String moderatorFirstName = readString( jsonParser );
+                    String moderatorLastName = readString( jsonParser );
+                    return new LdbcShortQuery6MessageForumResult(
+                            forumId,
+                            forumTitle,
+                            moderatorId,
+                            moderatorFirstName,
+                            moderatorLastName
+                    );
+                }
+            };
     private final long messageId;
 
     public LdbcShortQuery6MessageForum( long messageId )
@@ -31,54 +58,13 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
     public LdbcShortQuery6MessageForumResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        long forumId = ((Number) resultAsList.get( 0 )).longValue();
-        String forumTitle = (String) resultAsList.get( 1 );
-        long moderatorId = ((Number) resultAsList.get( 2 )).longValue();
-        String moderatorFirstName = (String) resultAsList.get( 3 );
-        String moderatorLastName = (String) resultAsList.get( 4 );
-
-        return new LdbcShortQuery6MessageForumResult(
-                forumId,
-                forumTitle,
-                moderatorId,
-                moderatorFirstName,
-                moderatorLastName
-        );
+        return RESULT_CODEC.marshalRow( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        LdbcShortQuery6MessageForumResult result = (LdbcShortQuery6MessageForumResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.forumId() );
-        resultFields.add( result.forumTitle() );
-        resultFields.add( result.moderatorId() );
-        resultFields.add( result.moderatorFirstName() );
-        resultFields.add( result.moderatorLastName() );
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRow( (LdbcShortQuery6MessageForumResult) operationResultInstance );
     }
 
     @Override
@@ -2,19 +2,53 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
+import com.ldbc.driver.util.JsonRowCodec;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery7MessageRepliesResult>>
 {
     public static final int TYPE = 107;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonRowCodec<LdbcShortQuery7MessageRepliesResult> RESULT_CODEC =
+            new JsonRowCodec<LdbcShortQuery7MessageRepliesResult>()
+            {
+                @Override
+                protected void writeRow( LdbcShortQuery7MessageRepliesResult row, JsonGenerator jsonGenerator )
+                        throws IOException
+                {
+                    jsonGenerator.writeNumber( row.commentId() );
+                    writeString( jsonGenerator, row.commentContent() );
+                    jsonGenerator.writeNumber( row.commentCreationDate() );
+                    jsonGenerator.writeNumber( row.replyAuthorId() );
+                    writeString( jsonGenerator, row.replyAuthorFirstName() );
+                    writeString( jsonGenerator, row.replyAuthorLastName() );
+                    jsonGenerator.writeBoolean( row.isReplyAuthorKnowsOriginalMessageAuthor() );
+                }
+
+                @Override
+                protected LdbcShortQuery7MessageRepliesResult readRow( JsonParser jsonParser ) throws IOException
+                {
+                    long commentId = readLong( jsonParser );
+                    String commentContent = readString( jsonParser );
+                    long commentCreationDate = readLong( jsonParser );
+                    long replyAuthorId = readLong( jsonParser );
+                    String replyAuthorFirstName = readString( jsonParser );
+                    String replyAuthorLastName = readString( jsonParser );
+                    boolean isReplyAuthorKnowsOriginalMessageAuthor = readBoolean( jsonParser );
+                    return new LdbcShortQuery7MessageRepliesResult(
+                            commentId,
+                            commentContent,
+                            commentCreationDate,
+                            replyAuthorId,
+                            replyAuthorFirstName,
+                            replyAuthorLastName,
+                            isReplyAuthorKnowsOriginalMessageAuthor
+                    );
+                }
+            };
     private final long messageId;
 
     public LdbcShortQuery7MessageReplies( long messageId )
@@ -31,77 +65,13 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
     public List<LdbcShortQuery7MessageRepliesResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
-        {
-            List<Object> resultAsList = resultsAsList.get( i );
-
-            long commentId = ((Number) resultAsList.get( 0 )).longValue();
-            String commentContent = (String) resultAsList.get( 1 );
-            long commentCreationDate = ((Number) resultAsList.get( 2 )).longValue();
-            long replyAuthorId = ((Number) resultAsList.get( 3 )).longValue();
-            String replyAuthorFirstName = (String) resultAsList.get( 4 );
-            String replyAuthorLastName = (String) resultAsList.get( 5 );
-            boolean isReplyAuthorKnowsOriginalMessageAuthor = (Boolean) resultAsList.get( 6 );
-
-            results.add(
-                    new LdbcShortQuery7MessageRepliesResult(
-                            commentId,
-                            commentContent,
-                            commentCreationDate,
-                            replyAuthorId,
-                            replyAuthorFirstName,
-                            replyAuthorLastName,
-                            isReplyAuthorKnowsOriginalMessageAuthor
-                    )
-            );
-        }
-        return results;
+        return RESULT_CODEC.marshalRows( serializedResult );
     }
 
     @Override
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
-        List<LdbcShortQuery7MessageRepliesResult> results =
-                (List<LdbcShortQuery7MessageRepliesResult>) operationResultInstance;
-
-        List<List<Object>> resultsFields = new ArrayList<>();
-        for ( int i = 0; i < results.size(); i++ )
-        {
-            LdbcShortQuery7MessageRepliesResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.commentId() );
-            resultFields.add( result.commentContent() );
-            resultFields.add( result.commentCreationDate() );
-            resultFields.add( result.replyAuthorId() );
-            resultFields.add( result.replyAuthorFirstName() );
-            resultFields.add( result.replyAuthorLastName() );
-            resultFields.add( result.isReplyAuthorKnowsOriginalMessageAuthor() );
-            resultsFields.add( resultFields );
-        }
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return RESULT_CODEC.serializeRows( (List<LdbcShortQuery7MessageRepliesResult>) operationResultInstance );
     }
 
     @Override
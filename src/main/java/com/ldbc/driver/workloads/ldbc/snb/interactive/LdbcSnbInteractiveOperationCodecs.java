@@ -0,0 +1,589 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.OperationCodec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary codecs of the operations that appear in compiled workload schedules, i.e., long reads & updates.
+ * Short reads are child operations, generated during the run, so they have no codecs.
+ */
+public class LdbcSnbInteractiveOperationCodecs
+{
+    public static Map<Integer,OperationCodec> codecs()
+    {
+        Map<Integer,OperationCodec> codecs = new HashMap<>();
+        codecs.put( LdbcQuery1.TYPE, new LdbcQuery1Codec() );
+        codecs.put( LdbcQuery2.TYPE, new LdbcQuery2Codec() );
+        codecs.put( LdbcQuery3.TYPE, new LdbcQuery3Codec() );
+        codecs.put( LdbcQuery4.TYPE, new LdbcQuery4Codec() );
+        codecs.put( LdbcQuery5.TYPE, new LdbcQuery5Codec() );
+        codecs.put( LdbcQuery6.TYPE, new LdbcQuery6Codec() );
+        codecs.put( LdbcQuery7.TYPE, new LdbcQuery7Codec() );
+        codecs.put( LdbcQuery8.TYPE, new LdbcQuery8Codec() );
+        codecs.put( LdbcQuery9.TYPE, new LdbcQuery9Codec() );
+        codecs.put( LdbcQuery10.TYPE, new LdbcQuery10Codec() );
+        codecs.put( LdbcQuery11.TYPE, new LdbcQuery11Codec() );
+        codecs.put( LdbcQuery12.TYPE, new LdbcQuery12Codec() );
+        codecs.put( LdbcQuery13.TYPE, new LdbcQuery13Codec() );
+        codecs.put( LdbcQuery14.TYPE, new LdbcQuery14Codec() );
+        codecs.put( LdbcUpdate1AddPerson.TYPE, new LdbcUpdate1AddPersonCodec() );
+        codecs.put( LdbcUpdate2AddPostLike.TYPE, new LdbcUpdate2AddPostLikeCodec() );
+        codecs.put( LdbcUpdate3AddCommentLike.TYPE, new LdbcUpdate3AddCommentLikeCodec() );
+        codecs.put( LdbcUpdate4AddForum.TYPE, new LdbcUpdate4AddForumCodec() );
+        codecs.put( LdbcUpdate5AddForumMembership.TYPE, new LdbcUpdate5AddForumMembershipCodec() );
+        codecs.put( LdbcUpdate6AddPost.TYPE, new LdbcUpdate6AddPostCodec() );
+        codecs.put( LdbcUpdate7AddComment.TYPE, new LdbcUpdate7AddCommentCodec() );
+        codecs.put( LdbcUpdate8AddFriendship.TYPE, new LdbcUpdate8AddFriendshipCodec() );
+        return codecs;
+    }
+
+    private static class LdbcQuery1Codec extends OperationCodec<LdbcQuery1>
+    {
+        @Override
+        public void encode( LdbcQuery1 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.firstName(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery1 decode( ByteBuffer source )
+        {
+            return new LdbcQuery1(
+                    source.getLong(),
+                    getString( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery2Codec extends OperationCodec<LdbcQuery2>
+    {
+        @Override
+        public void encode( LdbcQuery2 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putDate( operation.maxDate(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery2 decode( ByteBuffer source )
+        {
+            return new LdbcQuery2(
+                    source.getLong(),
+                    getDate( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery3Codec extends OperationCodec<LdbcQuery3>
+    {
+        @Override
+        public void encode( LdbcQuery3 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.countryXName(), target );
+            putString( operation.countryYName(), target );
+            putDate( operation.startDate(), target );
+            target.putInt( operation.durationDays() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery3 decode( ByteBuffer source )
+        {
+            return new LdbcQuery3(
+                    source.getLong(),
+                    getString( source ),
+                    getString( source ),
+                    getDate( source ),
+                    source.getInt(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery4Codec extends OperationCodec<LdbcQuery4>
+    {
+        @Override
+        public void encode( LdbcQuery4 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putDate( operation.startDate(), target );
+            target.putInt( operation.durationDays() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery4 decode( ByteBuffer source )
+        {
+            return new LdbcQuery4(
+                    source.getLong(),
+                    getDate( source ),
+                    source.getInt(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery5Codec extends OperationCodec<LdbcQuery5>
+    {
+        @Override
+        public void encode( LdbcQuery5 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putDate( operation.minDate(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery5 decode( ByteBuffer source )
+        {
+            return new LdbcQuery5(
+                    source.getLong(),
+                    getDate( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery6Codec extends OperationCodec<LdbcQuery6>
+    {
+        @Override
+        public void encode( LdbcQuery6 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.tagName(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery6 decode( ByteBuffer source )
+        {
+            return new LdbcQuery6(
+                    source.getLong(),
+                    getString( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery7Codec extends OperationCodec<LdbcQuery7>
+    {
+        @Override
+        public void encode( LdbcQuery7 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery7 decode( ByteBuffer source )
+        {
+            return new LdbcQuery7(
+                    source.getLong(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery8Codec extends OperationCodec<LdbcQuery8>
+    {
+        @Override
+        public void encode( LdbcQuery8 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery8 decode( ByteBuffer source )
+        {
+            return new LdbcQuery8(
+                    source.getLong(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery9Codec extends OperationCodec<LdbcQuery9>
+    {
+        @Override
+        public void encode( LdbcQuery9 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putDate( operation.maxDate(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery9 decode( ByteBuffer source )
+        {
+            return new LdbcQuery9(
+                    source.getLong(),
+                    getDate( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery10Codec extends OperationCodec<LdbcQuery10>
+    {
+        @Override
+        public void encode( LdbcQuery10 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            target.putInt( operation.month() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery10 decode( ByteBuffer source )
+        {
+            return new LdbcQuery10(
+                    source.getLong(),
+                    source.getInt(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery11Codec extends OperationCodec<LdbcQuery11>
+    {
+        @Override
+        public void encode( LdbcQuery11 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.countryName(), target );
+            target.putInt( operation.workFromYear() );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery11 decode( ByteBuffer source )
+        {
+            return new LdbcQuery11(
+                    source.getLong(),
+                    getString( source ),
+                    source.getInt(),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery12Codec extends OperationCodec<LdbcQuery12>
+    {
+        @Override
+        public void encode( LdbcQuery12 operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.tagClassName(), target );
+            target.putInt( operation.limit() );
+        }
+
+        @Override
+        public LdbcQuery12 decode( ByteBuffer source )
+        {
+            return new LdbcQuery12(
+                    source.getLong(),
+                    getString( source ),
+                    source.getInt()
+            );
+        }
+    }
+
+    private static class LdbcQuery13Codec extends OperationCodec<LdbcQuery13>
+    {
+        @Override
+        public void encode( LdbcQuery13 operation, ByteBuffer target )
+        {
+            target.putLong( operation.person1Id() );
+            target.putLong( operation.person2Id() );
+        }
+
+        @Override
+        public LdbcQuery13 decode( ByteBuffer source )
+        {
+            return new LdbcQuery13(
+                    source.getLong(),
+                    source.getLong()
+            );
+        }
+    }
+
+    private static class LdbcQuery14Codec extends OperationCodec<LdbcQuery14>
+    {
+        @Override
+        public void encode( LdbcQuery14 operation, ByteBuffer target )
+        {
+            target.putLong( operation.person1Id() );
+            target.putLong( operation.person2Id() );
+        }
+
+        @Override
+        public LdbcQuery14 decode( ByteBuffer source )
+        {
+            return new LdbcQuery14(
+                    source.getLong(),
+                    source.getLong()
+            );
+        }
+    }
+
+    private static class LdbcUpdate1AddPersonCodec extends OperationCodec<LdbcUpdate1AddPerson>
+    {
+        @Override
+        public void encode( LdbcUpdate1AddPerson operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            putString( operation.personFirstName(), target );
+            putString( operation.personLastName(), target );
+            putString( operation.gender(), target );
+            putDate( operation.birthday(), target );
+            putDate( operation.creationDate(), target );
+            putString( operation.locationIp(), target );
+            putString( operation.browserUsed(), target );
+            target.putLong( operation.cityId() );
+            putStrings( operation.languages(), target );
+            putStrings( operation.emails(), target );
+            putLongs( operation.tagIds(), target );
+            putOrganizations( operation.studyAt(), target );
+            putOrganizations( operation.workAt(), target );
+        }
+
+        @Override
+        public LdbcUpdate1AddPerson decode( ByteBuffer source )
+        {
+            return new LdbcUpdate1AddPerson(
+                    source.getLong(),
+                    getString( source ),
+                    getString( source ),
+                    getString( source ),
+                    getDate( source ),
+                    getDate( source ),
+                    getString( source ),
+                    getString( source ),
+                    source.getLong(),
+                    getStrings( source ),
+                    getStrings( source ),
+                    getLongs( source ),
+                    getOrganizations( source ),
+                    getOrganizations( source )
+            );
+        }
+
+        private static void putOrganizations( List<LdbcUpdate1AddPerson.Organization> values, ByteBuffer target )
+        {
+            target.putInt( values.size() );
+            for ( int i = 0; i < values.size(); i++ )
+            {
+                target.putLong( values.get( i ).organizationId() );
+                target.putInt( values.get( i ).year() );
+            }
+        }
+
+        private static List<LdbcUpdate1AddPerson.Organization> getOrganizations( ByteBuffer source )
+        {
+            int size = source.getInt();
+            List<LdbcUpdate1AddPerson.Organization> values = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                values.add( new LdbcUpdate1AddPerson.Organization( source.getLong(), source.getInt() ) );
+            }
+            return values;
+        }
+    }
+
+    private static class LdbcUpdate2AddPostLikeCodec extends OperationCodec<LdbcUpdate2AddPostLike>
+    {
+        @Override
+        public void encode( LdbcUpdate2AddPostLike operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            target.putLong( operation.postId() );
+            putDate( operation.creationDate(), target );
+        }
+
+        @Override
+        public LdbcUpdate2AddPostLike decode( ByteBuffer source )
+        {
+            return new LdbcUpdate2AddPostLike(
+                    source.getLong(),
+                    source.getLong(),
+                    getDate( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate3AddCommentLikeCodec extends OperationCodec<LdbcUpdate3AddCommentLike>
+    {
+        @Override
+        public void encode( LdbcUpdate3AddCommentLike operation, ByteBuffer target )
+        {
+            target.putLong( operation.personId() );
+            target.putLong( operation.commentId() );
+            putDate( operation.creationDate(), target );
+        }
+
+        @Override
+        public LdbcUpdate3AddCommentLike decode( ByteBuffer source )
+        {
+            return new LdbcUpdate3AddCommentLike(
+                    source.getLong(),
+                    source.getLong(),
+                    getDate( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate4AddForumCodec extends OperationCodec<LdbcUpdate4AddForum>
+    {
+        @Override
+        public void encode( LdbcUpdate4AddForum operation, ByteBuffer target )
+        {
+            target.putLong( operation.forumId() );
+            putString( operation.forumTitle(), target );
+            putDate( operation.creationDate(), target );
+            target.putLong( operation.moderatorPersonId() );
+            putLongs( operation.tagIds(), target );
+        }
+
+        @Override
+        public LdbcUpdate4AddForum decode( ByteBuffer source )
+        {
+            return new LdbcUpdate4AddForum(
+                    source.getLong(),
+                    getString( source ),
+                    getDate( source ),
+                    source.getLong(),
+                    getLongs( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate5AddForumMembershipCodec extends OperationCodec<LdbcUpdate5AddForumMembership>
+    {
+        @Override
+        public void encode( LdbcUpdate5AddForumMembership operation, ByteBuffer target )
+        {
+            target.putLong( operation.forumId() );
+            target.putLong( operation.personId() );
+            putDate( operation.joinDate(), target );
+        }
+
+        @Override
+        public LdbcUpdate5AddForumMembership decode( ByteBuffer source )
+        {
+            return new LdbcUpdate5AddForumMembership(
+                    source.getLong(),
+                    source.getLong(),
+                    getDate( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate6AddPostCodec extends OperationCodec<LdbcUpdate6AddPost>
+    {
+        @Override
+        public void encode( LdbcUpdate6AddPost operation, ByteBuffer target )
+        {
+            target.putLong( operation.postId() );
+            putString( operation.imageFile(), target );
+            putDate( operation.creationDate(), target );
+            putString( operation.locationIp(), target );
+            putString( operation.browserUsed(), target );
+            putString( operation.language(), target );
+            putString( operation.content(), target );
+            target.putInt( operation.length() );
+            target.putLong( operation.authorPersonId() );
+            target.putLong( operation.forumId() );
+            target.putLong( operation.countryId() );
+            putLongs( operation.tagIds(), target );
+        }
+
+        @Override
+        public LdbcUpdate6AddPost decode( ByteBuffer source )
+        {
+            return new LdbcUpdate6AddPost(
+                    source.getLong(),
+                    getString( source ),
+                    getDate( source ),
+                    getString( source ),
+                    getString( source ),
+                    getString( source ),
+                    getString( source ),
+                    source.getInt(),
+                    source.getLong(),
+                    source.getLong(),
+                    source.getLong(),
+                    getLongs( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate7AddCommentCodec extends OperationCodec<LdbcUpdate7AddComment>
+    {
+        @Override
+        public void encode( LdbcUpdate7AddComment operation, ByteBuffer target )
+        {
+            target.putLong( operation.commentId() );
+            putDate( operation.creationDate(), target );
+            putString( operation.locationIp(), target );
+            putString( operation.browserUsed(), target );
+            putString( operation.content(), target );
+            target.putInt( operation.length() );
+            target.putLong( operation.authorPersonId() );
+            target.putLong( operation.countryId() );
+            target.putLong( operation.replyToPostId() );
+            target.putLong( operation.replyToCommentId() );
+            putLongs( operation.tagIds(), target );
+        }
+
+        @Override
+        public LdbcUpdate7AddComment decode( ByteBuffer source )
+        {
+            return new LdbcUpdate7AddComment(
+                    source.getLong(),
+                    getDate( source ),
+                    getString( source ),
+                    getString( source ),
+                    getString( source ),
+                    source.getInt(),
+                    source.getLong(),
+                    source.getLong(),
+                    source.getLong(),
+                    source.getLong(),
+                    getLongs( source )
+            );
+        }
+    }
+
+    private static class LdbcUpdate8AddFriendshipCodec extends OperationCodec<LdbcUpdate8AddFriendship>
+    {
+        @Override
+        public void encode( LdbcUpdate8AddFriendship operation, ByteBuffer target )
+        {
+            target.putLong( operation.person1Id() );
+            target.putLong( operation.person2Id() );
+            putDate( operation.creationDate(), target );
+        }
+
+        @Override
+        public LdbcUpdate8AddFriendship decode( ByteBuffer source )
+        {
+            return new LdbcUpdate8AddFriendship(
+                    source.getLong(),
+                    source.getLong(),
+                    getDate( source )
+            );
+        }
+    }
+}
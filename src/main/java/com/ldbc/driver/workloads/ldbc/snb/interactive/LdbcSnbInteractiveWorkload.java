@@ -10,12 +10,14 @@ import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodec;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.BufferedUtf8CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -23,6 +25,7 @@ import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.DecodeAheadGenerator;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
@@ -49,7 +52,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -61,6 +63,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private List<File> forumUpdateOperationFiles = new ArrayList<>();
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> personUpdateOperationFiles = new ArrayList<>();
+    private List<DecodeAheadGenerator<Operation>> decodeAheadGenerators = new ArrayList<>();
 
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
     private File readOperation1File;
@@ -407,6 +410,30 @@ public class LdbcSnbInteractiveWorkload extends Workload
         );
     }
 
+    @Override
+    public List<File> streamInputFiles()
+    {
+        List<File> streamInputFiles = Lists.newArrayList(
+                readOperation1File,
+                readOperation2File,
+                readOperation3File,
+                readOperation4File,
+                readOperation5File,
+                readOperation6File,
+                readOperation7File,
+                readOperation8File,
+                readOperation9File,
+                readOperation10File,
+                readOperation11File,
+                readOperation12File,
+                readOperation13File,
+                readOperation14File
+        );
+        streamInputFiles.addAll( forumUpdateOperationFiles );
+        streamInputFiles.addAll( personUpdateOperationFiles );
+        return streamInputFiles;
+    }
+
     @Override
     synchronized protected void onClose() throws IOException
     {
@@ -424,6 +451,13 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             readOperationFileReader.close();
         }
+
+        // decode throughput vs wait counts tell whether update stream supply or the database was the bottleneck
+        for ( DecodeAheadGenerator<Operation> decodeAheadGenerator : decodeAheadGenerators )
+        {
+            System.out.println( "Update stream " + decodeAheadGenerator.toString() );
+        }
+        decodeAheadGenerators.clear();
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
@@ -443,10 +477,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             int bufferSize = 1 * 1024 * 1024;
 //                BufferedCharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new FileReader
 // (updateOperationsFile)), bufferSize);
-            BufferedCharSeeker charSeeker = new BufferedCharSeeker(
-                    Readables.wrap(
-                            new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                    ),
+            BufferedUtf8CharSeeker charSeeker = new BufferedUtf8CharSeeker(
+                    new FileInputStream( updateOperationsFile ).getChannel(),
                     bufferSize
             );
             Extractors extractors = new Extractors( ';', ',' );
@@ -469,6 +501,22 @@ public class LdbcSnbInteractiveWorkload extends Workload
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
                     WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
         }
+        case CHAR_SEEKER_DECODE_AHEAD:
+        {
+            int bufferSize = 1 * 1024 * 1024;
+            BufferedUtf8CharSeeker charSeeker = new BufferedUtf8CharSeeker(
+                    new FileInputStream( updateOperationsFile ).getChannel(),
+                    bufferSize
+            );
+            Extractors extractors = new Extractors( ';', ',' );
+            DecodeAheadGenerator<Operation> decodeAheadGenerator = new DecodeAheadGenerator<>(
+                    updateOperationsFile.getName(),
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ),
+                    charSeeker
+            );
+            decodeAheadGenerators.add( decodeAheadGenerator );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( decodeAheadGenerator, decodeAheadGenerator );
+        }
         }
         SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
@@ -696,10 +744,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation1File ).getChannel(),
                         bufferSize
                 );
             }
@@ -754,10 +800,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation2File ).getChannel(),
                         bufferSize
                 );
             }
@@ -812,10 +856,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation3File ).getChannel(),
                         bufferSize
                 );
             }
@@ -873,10 +915,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation4File ).getChannel(),
                         bufferSize
                 );
             }
@@ -932,10 +972,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation5File ).getChannel(),
                         bufferSize
                 );
             }
@@ -990,10 +1028,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation6File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1048,10 +1084,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation7File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1105,10 +1139,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation8File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1162,10 +1194,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation9File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1220,10 +1250,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation10File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1278,10 +1306,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation11File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1337,10 +1363,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation12File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1395,10 +1419,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation13File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1453,10 +1475,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
+                charSeeker = new BufferedUtf8CharSeeker(
+                        new FileInputStream( readOperation14File ).getChannel(),
                         bufferSize
                 );
             }
@@ -1554,58 +1574,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
          * *******
          * *******/
 
-        ChildOperationGenerator shortReadsChildGenerator = null;
-        if ( false == enabledShortReadOperationTypes.isEmpty() )
-        {
-            Map<Integer,Long> longReadInterleavesAsMilli = new HashMap<>();
-            longReadInterleavesAsMilli.put( LdbcQuery1.TYPE, readOperation1InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery2.TYPE, readOperation2InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery3.TYPE, readOperation3InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery4.TYPE, readOperation4InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery5.TYPE, readOperation5InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery6.TYPE, readOperation6InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery7.TYPE, readOperation7InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery8.TYPE, readOperation8InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery9.TYPE, readOperation9InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery10.TYPE, readOperation10InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery11.TYPE, readOperation11InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery12.TYPE, readOperation12InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery13.TYPE, readOperation13InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery14.TYPE, readOperation14InterleaveAsMilli );
-
-            RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
-            double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                                         ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                         : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                                          ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                          : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
-                                                                                             ?
-                                                                                             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
-                                                                                             :
-                                                                                             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
-            LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
-                                                                              ? new LdbcSnbShortReadGenerator
-                    .ResultBufferReplenishFun(
-                    personIdBuffer, messageIdBuffer )
-                                                                              : new LdbcSnbShortReadGenerator
-                                                                                      .NoOpBufferReplenishFun();
-            shortReadsChildGenerator = new LdbcSnbShortReadGenerator(
-                    initialProbability,
-                    shortReadDissipationFactor,
-                    updateInterleaveAsMilli,
-                    enabledShortReadOperationTypes,
-                    compressionRatio,
-                    personIdBuffer,
-                    messageIdBuffer,
-                    randomFactory,
-                    longReadInterleavesAsMilli,
-                    scheduledStartTimePolicy,
-                    bufferReplenishFun
-            );
-        }
+        ChildOperationGenerator shortReadsChildGenerator = shortReadsChildOperationGenerator( hasDbConnected );
 
         /* **************
          * **************
@@ -1626,6 +1595,68 @@ public class LdbcSnbInteractiveWorkload extends Workload
         return ldbcSnbInteractiveWorkloadStreams;
     }
 
+    @Override
+    protected ChildOperationGenerator getAsynchronousChildOperationGenerator( boolean hasDbConnected )
+    {
+        return shortReadsChildOperationGenerator( hasDbConnected );
+    }
+
+    private ChildOperationGenerator shortReadsChildOperationGenerator( boolean hasDbConnected )
+    {
+        if ( enabledShortReadOperationTypes.isEmpty() )
+        {
+            return null;
+        }
+        Map<Integer,Long> longReadInterleavesAsMilli = new HashMap<>();
+        longReadInterleavesAsMilli.put( LdbcQuery1.TYPE, readOperation1InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery2.TYPE, readOperation2InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery3.TYPE, readOperation3InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery4.TYPE, readOperation4InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery5.TYPE, readOperation5InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery6.TYPE, readOperation6InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery7.TYPE, readOperation7InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery8.TYPE, readOperation8InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery9.TYPE, readOperation9InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery10.TYPE, readOperation10InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery11.TYPE, readOperation11InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery12.TYPE, readOperation12InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery13.TYPE, readOperation13InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery14.TYPE, readOperation14InterleaveAsMilli );
+
+        RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
+        double initialProbability = 1.0;
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = (hasDbConnected)
+                ? LdbcSnbShortReadGenerator.concurrentCircularBuffer( 1024 )
+                : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = (hasDbConnected)
+                ? LdbcSnbShortReadGenerator.concurrentCircularBuffer( 1024 )
+                : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+        LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
+                                                                                         ?
+                                                                                         LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
+                                                                                         :
+                                                                                         LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
+        LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
+                                                                          ? new LdbcSnbShortReadGenerator
+                .ResultBufferReplenishFun(
+                personIdBuffer, messageIdBuffer )
+                                                                          : new LdbcSnbShortReadGenerator
+                                                                                  .NoOpBufferReplenishFun();
+        return new LdbcSnbShortReadGenerator(
+                initialProbability,
+                shortReadDissipationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                personIdBuffer,
+                messageIdBuffer,
+                randomFactory,
+                longReadInterleavesAsMilli,
+                scheduledStartTimePolicy,
+                bufferReplenishFun
+        );
+    }
+
     @Override
     public DbValidationParametersFilter dbValidationParametersFilter( Integer requiredValidationParameterCount )
     {
@@ -1688,6 +1719,12 @@ public class LdbcSnbInteractiveWorkload extends Workload
         );
     }
 
+    @Override
+    public Map<Integer,OperationCodec> operationCodecs()
+    {
+        return LdbcSnbInteractiveOperationCodecs.codecs();
+    }
+
     @Override
     public long maxExpectedInterleaveAsMilli()
     {
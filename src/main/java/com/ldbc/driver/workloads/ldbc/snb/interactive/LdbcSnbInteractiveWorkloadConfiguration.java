@@ -42,7 +42,9 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // decodes update events on a separate thread per update stream, ahead of their retrieval
+        CHAR_SEEKER_DECODE_AHEAD
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
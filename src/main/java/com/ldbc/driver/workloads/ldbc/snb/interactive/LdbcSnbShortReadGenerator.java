@@ -7,13 +7,12 @@ import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.ConcurrentLongRingBuffer;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.apache.commons.math3.random.RandomDataGenerator;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -27,8 +26,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private final double initialProbability;
     private final LdbcShortQueryFactory[] shortReadFactories;
     private final double[] probabilityDegradationFactors;
-    private final Queue<Long> personIdBuffer;
-    private final Queue<Long> messageIdBuffer;
+    private final IdBuffer personIdBuffer;
+    private final IdBuffer messageIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
 
@@ -44,8 +43,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             long updateInterleaveAsMilli,
             Set<Class> enabledShortReadOperationTypes,
             double compressionRatio,
-            Queue<Long> personIdBuffer,
-            Queue<Long> messageIdBuffer,
+            IdBuffer personIdBuffer,
+            IdBuffer messageIdBuffer,
             RandomDataGeneratorFactory randomFactory,
             Map<Integer,Long> longReadInterleaves,
             SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
@@ -518,10 +517,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
     public static class ResultBufferReplenishFun implements BufferReplenishFun
     {
-        private final Queue<Long> personIdBuffer;
-        private final Queue<Long> messageIdBuffer;
+        private final IdBuffer personIdBuffer;
+        private final IdBuffer messageIdBuffer;
 
-        public ResultBufferReplenishFun( Queue<Long> personIdBuffer, Queue<Long> messageIdBuffer )
+        public ResultBufferReplenishFun( IdBuffer personIdBuffer, IdBuffer messageIdBuffer )
         {
             this.personIdBuffer = personIdBuffer;
             this.messageIdBuffer = messageIdBuffer;
@@ -690,8 +689,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private interface LdbcShortQueryFactory
     {
         Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -704,8 +703,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     {
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -732,8 +731,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -771,8 +770,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -816,8 +815,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -884,15 +883,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -951,15 +950,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1018,15 +1017,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1085,15 +1084,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1152,15 +1151,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1219,15 +1218,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1286,15 +1285,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1363,122 +1362,81 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     Buffer
      */
 
-    static Queue<Long> synchronizedCircularQueueBuffer( int bufferSize )
+    /**
+     * Buffer of ids, taken from results of executed operations, for parameters of short reads. Operation handlers
+     * (on all executor threads) add ids, and poll them when generating short reads.
+     */
+    public interface IdBuffer
     {
-        return Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
+        long NO_ID = Long.MIN_VALUE;
+
+        void add( long id );
+
+        /**
+         * @return oldest id, or NO_ID if buffer is empty
+         */
+        long poll();
     }
 
-    static Queue<Long> constantBuffer( final long value )
+    /**
+     * Lock-free, overwrites oldest ids when full
+     */
+    static IdBuffer concurrentCircularBuffer( int bufferSize )
     {
-        return new Queue<Long>()
+        final ConcurrentLongRingBuffer ringBuffer = new ConcurrentLongRingBuffer( bufferSize );
+        return new IdBuffer()
         {
             @Override
-            public boolean add( Long aLong )
+            public void add( long id )
             {
-                return true;
+                ringBuffer.add( id );
             }
 
             @Override
-            public boolean offer( Long aLong )
+            public long poll()
             {
-                return true;
+                return ringBuffer.poll( NO_ID );
             }
+        };
+    }
 
+    /**
+     * Takes a global lock for every add & poll, boxes ids, overwrites oldest ids when full
+     */
+    static IdBuffer synchronizedCircularQueueBuffer( int bufferSize )
+    {
+        final Queue<Long> queue = Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
+        return new IdBuffer()
+        {
             @Override
-            public Long remove()
+            public void add( long id )
             {
-                throw new UnsupportedOperationException( "Method not implemented" );
+                queue.add( id );
             }
 
             @Override
-            public Long poll()
+            public long poll()
             {
-                return value;
+                Long id = queue.poll();
+                return (null == id) ? NO_ID : id;
             }
+        };
+    }
 
+    static IdBuffer constantBuffer( final long value )
+    {
+        return new IdBuffer()
+        {
             @Override
-            public Long element()
+            public void add( long id )
             {
-                return value;
             }
 
             @Override
-            public Long peek()
+            public long poll()
             {
                 return value;
             }
-
-            @Override
-            public int size()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean isEmpty()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean contains( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Iterator<Long> iterator()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Object[] toArray()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public <T> T[] toArray( T[] a )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean remove( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean containsAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean addAll( Collection<? extends Long> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean removeAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean retainAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public void clear()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
         };
     }
 }
\ No newline at end of file
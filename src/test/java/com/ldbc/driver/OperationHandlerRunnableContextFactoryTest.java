@@ -11,7 +11,11 @@ import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+
 import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 
 public class OperationHandlerRunnableContextFactoryTest
 {
@@ -26,17 +30,96 @@ public class OperationHandlerRunnableContextFactoryTest
                     new InstantiatingOperationHandlerRunnerFactory();
             OperationHandlerRunnerFactory pooledInstantiatingOperationHandlerRunnerFactory =
                     new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+            OperationHandlerRunnerFactory freeListInstantiatingOperationHandlerRunnerFactory =
+                    new FreeListOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
             long instantiatingDuration =
                     doOperationHandlerTest( count, instantiatingOperationHandlerRunnerFactory, operation );
             long pooledInstantiatingDuration =
                     doOperationHandlerTest( count, pooledInstantiatingOperationHandlerRunnerFactory, operation );
+            long freeListInstantiatingDuration =
+                    doOperationHandlerTest( count, freeListInstantiatingOperationHandlerRunnerFactory, operation );
             count = count * 4;
-            System.out.println( format( "Count: %s, Instantiating: %s, PooledInstantiating: %s, Speedup: %s", count,
-                    instantiatingDuration, pooledInstantiatingDuration,
-                    instantiatingDuration / (double) pooledInstantiatingDuration ) );
+            System.out.println( format(
+                    "Count: %s, Instantiating: %s, PooledInstantiating: %s, FreeListInstantiating: %s, " +
+                    "Speedup (Pooled): %s, Speedup (FreeList): %s",
+                    count,
+                    instantiatingDuration, pooledInstantiatingDuration, freeListInstantiatingDuration,
+                    instantiatingDuration / (double) pooledInstantiatingDuration,
+                    instantiatingDuration / (double) freeListInstantiatingDuration ) );
             instantiatingOperationHandlerRunnerFactory.shutdown();
             pooledInstantiatingOperationHandlerRunnerFactory.shutdown();
+            freeListInstantiatingOperationHandlerRunnerFactory.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotAllocateInSteadyStateWithFreeListFactory() throws OperationException
+    {
+        // Given
+        Operation operation = new NothingOperation();
+        FreeListOperationHandlerRunnerFactory operationHandlerRunnerFactory =
+                new FreeListOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // warm up, so free list is populated and code is compiled
+        doOperationHandlerTest( 100000, operationHandlerRunnerFactory, operation );
+        long allocationCountAfterWarmup = operationHandlerRunnerFactory.allocationCount();
+
+        // When
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes( threadId );
+        for ( int i = 0; i < 1000000; i++ )
+        {
+            OperationHandlerRunnableContext operationHandler =
+                    operationHandlerRunnerFactory.newOperationHandlerRunner();
+            operationHandler.cleanup();
         }
+        long allocatedBytesAfter = threadMXBean.getThreadAllocatedBytes( threadId );
+
+        // Then
+        long allocatedBytesPerOperation = (allocatedBytesAfter - allocatedBytesBefore) / 1000000;
+        System.out.println( format( "Allocated bytes per claim/release: %s", allocatedBytesPerOperation ) );
+        assertThat( operationHandlerRunnerFactory.allocationCount(), is( allocationCountAfterWarmup ) );
+        assertThat( allocatedBytesPerOperation, is( 0L ) );
+        operationHandlerRunnerFactory.shutdown();
+    }
+
+    @Test
+    public void shouldRecycleContextsReleasedByOtherThreadsWithFreeListFactory()
+            throws OperationException, InterruptedException
+    {
+        // Given
+        final FreeListOperationHandlerRunnerFactory operationHandlerRunnerFactory =
+                new FreeListOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        final OperationHandlerRunnableContext[] operationHandlers = new OperationHandlerRunnableContext[10];
+        for ( int i = 0; i < operationHandlers.length; i++ )
+        {
+            operationHandlers[i] = operationHandlerRunnerFactory.newOperationHandlerRunner();
+        }
+        assertThat( operationHandlerRunnerFactory.allocationCount(), is( 10L ) );
+
+        // When
+        Thread releasingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                for ( OperationHandlerRunnableContext operationHandler : operationHandlers )
+                {
+                    operationHandler.cleanup();
+                }
+            }
+        };
+        releasingThread.start();
+        releasingThread.join();
+        for ( int i = 0; i < operationHandlers.length; i++ )
+        {
+            operationHandlers[i] = operationHandlerRunnerFactory.newOperationHandlerRunner();
+        }
+
+        // Then
+        assertThat( operationHandlerRunnerFactory.allocationCount(), is( 10L ) );
+        operationHandlerRunnerFactory.shutdown();
     }
 
     public long doOperationHandlerTest( int count, OperationHandlerRunnerFactory operationHandlerRunnerFactory,
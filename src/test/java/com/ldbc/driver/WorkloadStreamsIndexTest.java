@@ -0,0 +1,328 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.WorkloadFactory;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1Factory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class WorkloadStreamsIndexTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldCalculateSameStreamPositionsWhenResumingFromCheckpoint() throws IOException, WorkloadException
+    {
+        // Given
+        File inputFile = newInputFile( "input" );
+        long checkpointInterval = 50;
+        long offset = 275;
+        long limit = 100;
+        Tuple3<long[],long[],Long> expected = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                testStreams(),
+                offset,
+                limit,
+                childOperationGenerators(),
+                loggingServiceFactory
+        );
+
+        // When
+        WorkloadStreamsIndex index = WorkloadStreamsIndex.load(
+                Lists.newArrayList( inputFile ),
+                new HashMap<String,String>(),
+                checkpointInterval,
+                loggingServiceFactory
+        );
+        // scan from the beginning, which records checkpoints
+        WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                testStreams(),
+                0,
+                1000,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                new WorkloadStreamsIndex.Checkpoint( 0, new long[4] ),
+                index
+        );
+        WorkloadStreamsIndex.Checkpoint checkpoint = index.checkpointAtOrBefore( offset, 4 );
+        List<Iterator<Operation>> streams = testStreams();
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            for ( long j = 0; j < checkpoint.streamOperationCounts()[i]; j++ )
+            {
+                streams.get( i ).next();
+            }
+        }
+        Tuple3<long[],long[],Long> actual = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams,
+                offset,
+                limit,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                checkpoint,
+                index
+        );
+
+        // Then
+        assertThat( checkpoint.operationCount() > offset - checkpointInterval, is( true ) );
+        assertThat( checkpoint.operationCount() <= offset, is( true ) );
+        assertThat( actual._1(), equalTo( expected._1() ) );
+        assertThat( actual._2(), equalTo( expected._2() ) );
+        assertThat( actual._3(), equalTo( expected._3() ) );
+    }
+
+    @Test
+    public void shouldReloadStreamPositionsUntilInputFileChanges() throws IOException
+    {
+        // Given
+        File inputFile = newInputFile( "input" );
+        Map<String,String> key = new HashMap<>();
+        key.put( "param", "value" );
+        WorkloadStreamsIndex index = WorkloadStreamsIndex.load(
+                Lists.newArrayList( inputFile ), key, 10, loggingServiceFactory );
+        assertThat( index.streamPositions( 5, 10 ), is( nullValue() ) );
+        index.addStreamPositions( 5, 10, Tuple.tuple3( new long[]{1, 4}, new long[]{3, 7}, 42l ) );
+        index.addCheckpoint( 10, new long[]{2, 8} );
+        index.save();
+        assertTrue( index.indexFile().exists() );
+
+        // When
+        WorkloadStreamsIndex reloadedIndex = WorkloadStreamsIndex.load(
+                Lists.newArrayList( inputFile ), key, 10, loggingServiceFactory );
+        key.put( "param", "other value" );
+        WorkloadStreamsIndex otherParamsIndex = WorkloadStreamsIndex.load(
+                Lists.newArrayList( inputFile ), key, 10, loggingServiceFactory );
+
+        // Then
+        Tuple3<long[],long[],Long> positions = reloadedIndex.streamPositions( 5, 10 );
+        assertThat( positions, is( notNullValue() ) );
+        assertThat( positions._1(), equalTo( new long[]{1, 4} ) );
+        assertThat( positions._2(), equalTo( new long[]{3, 7} ) );
+        assertThat( positions._3(), equalTo( 42l ) );
+        assertThat( reloadedIndex.checkpointAtOrBefore( 15, 2 ).streamOperationCounts(),
+                equalTo( new long[]{2, 8} ) );
+        assertThat( reloadedIndex.checkpointAtOrBefore( 9, 2 ), is( nullValue() ) );
+        assertThat( otherParamsIndex.streamPositions( 5, 10 ), is( nullValue() ) );
+
+        // When
+        try ( FileWriter writer = new FileWriter( inputFile, true ) )
+        {
+            writer.write( "more input" );
+        }
+        key.put( "param", "value" );
+        WorkloadStreamsIndex staleIndex = WorkloadStreamsIndex.load(
+                Lists.newArrayList( inputFile ), key, 10, loggingServiceFactory );
+
+        // Then
+        assertThat( staleIndex.streamPositions( 5, 10 ), is( nullValue() ) );
+        assertThat( staleIndex.checkpointAtOrBefore( 15, 2 ), is( nullValue() ) );
+    }
+
+    @Test
+    public void shouldCreateSameLimitedStreamsWithAndWithoutIndex() throws Exception
+    {
+        // Given
+        final File inputFile = newInputFile( "input" );
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new IndexedTestWorkload( inputFile );
+            }
+        };
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        ConsoleAndFileDriverConfiguration indexedConfiguration = (ConsoleAndFileDriverConfiguration) configuration
+                .applyArg( ConsoleAndFileDriverConfiguration.STREAM_INDEX_ARG, Boolean.toString( true ) );
+        long offset = 333;
+        long limit = 100;
+
+        // When
+        List<String> withoutIndex = limitedStreamsOperationNames( workloadFactory, configuration, offset, limit );
+        // first run with index scans streams, second run uses positions from index
+        List<String> withIndexFirstRun =
+                limitedStreamsOperationNames( workloadFactory, indexedConfiguration, offset, limit );
+        List<String> withIndexSecondRun =
+                limitedStreamsOperationNames( workloadFactory, indexedConfiguration, offset, limit );
+
+        // Then
+        File[] indexFiles = temporaryFolder.getRoot().listFiles();
+        assertThat( indexFiles.length, is( 2 ) );
+        assertThat( withoutIndex.size(), is( 100 ) );
+        assertThat( withIndexFirstRun, equalTo( withoutIndex ) );
+        assertThat( withIndexSecondRun, equalTo( withoutIndex ) );
+    }
+
+    private List<String> limitedStreamsOperationNames(
+            WorkloadFactory workloadFactory,
+            ConsoleAndFileDriverConfiguration configuration,
+            long offset,
+            long limit ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> limitedWorkloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory,
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        limit,
+                        loggingServiceFactory
+                );
+        Iterator<Operation> operations = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                gf,
+                limitedWorkloadStreamsAndWorkload._1()
+        );
+        List<String> names = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            TimedNamedOperation1 operation = (TimedNamedOperation1) operations.next();
+            names.add( operation.name() + "@" + operation.timeStamp() );
+        }
+        limitedWorkloadStreamsAndWorkload._2().close();
+        return names;
+    }
+
+    private File newInputFile( String name ) throws IOException
+    {
+        File inputFile = temporaryFolder.newFile( name );
+        try ( FileWriter writer = new FileWriter( inputFile ) )
+        {
+            writer.write( "input" );
+        }
+        return inputFile;
+    }
+
+    private static List<Iterator<Operation>> testStreams()
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        for ( int i = 0; i < 4; i++ )
+        {
+            streams.add( new TimedNamedOperation1Factory(
+                    gf.incrementing( (long) i, (long) (i + 1) * 3 ),
+                    gf.incrementing( 0l, 0l ),
+                    gf.constant( "stream" + i )
+            ) );
+        }
+        return streams;
+    }
+
+    private static List<ChildOperationGenerator> childOperationGenerators()
+    {
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        for ( int i = 0; i < 4; i++ )
+        {
+            childOperationGenerators.add( null );
+        }
+        return childOperationGenerators;
+    }
+
+    private static class IndexedTestWorkload extends Workload
+    {
+        private final File inputFile;
+
+        private IndexedTestWorkload( File inputFile )
+        {
+            this.inputFile = inputFile;
+        }
+
+        @Override
+        public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+        {
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+            operationTypeToClassMapping.put( NothingOperation.TYPE, NothingOperation.class );
+            operationTypeToClassMapping.put( TimedNamedOperation1.TYPE, TimedNamedOperation1.class );
+            return operationTypeToClassMapping;
+        }
+
+        @Override
+        public List<File> streamInputFiles()
+        {
+            return Lists.newArrayList( inputFile );
+        }
+
+        @Override
+        public void onInit( Map<String,String> params ) throws WorkloadException
+        {
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected WorkloadStreams getStreams( GeneratorFactory generators, boolean hasDbConnected )
+                throws WorkloadException
+        {
+            List<Iterator<Operation>> streams = testStreams();
+            WorkloadStreams workloadStreams = new WorkloadStreams();
+            workloadStreams.setAsynchronousStream(
+                    new HashSet<Class<? extends Operation>>(),
+                    Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                    streams.get( 0 ),
+                    streams.get( 1 ),
+                    null
+            );
+            workloadStreams.addBlockingStream(
+                    new HashSet<Class<? extends Operation>>(),
+                    Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                    streams.get( 2 ),
+                    streams.get( 3 ),
+                    null
+            );
+            return workloadStreams;
+        }
+
+        @Override
+        public String serializeOperation( Operation operation ) throws SerializingMarshallingException
+        {
+            return null;
+        }
+
+        @Override
+        public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+        {
+            return null;
+        }
+
+        @Override
+        public boolean resultsEqual( Operation operation, Object result1, Object result2 ) throws WorkloadException
+        {
+            return null != result1 && result1.equals( result2 );
+        }
+    }
+}
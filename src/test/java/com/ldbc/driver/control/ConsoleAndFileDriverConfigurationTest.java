@@ -1,6 +1,7 @@
 package com.ldbc.driver.control;
 
 import com.google.common.collect.Lists;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategy;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -101,6 +102,7 @@ public class ConsoleAndFileDriverConfigurationTest
         String databaseValidationFilePath = null;
         boolean calculateWorkloadStatistics = false;
         long spinnerSleepDuration = 0L;
+        SpinnerWaitStrategy spinnerWaitStrategy = SpinnerWaitStrategy.HYBRID;
         boolean printHelp = false;
         String name = "LDBC-SNB";
         boolean ignoreScheduledStartTimes = true;
@@ -126,7 +128,20 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
         );
 
         DriverConfiguration configurationAfter =
@@ -222,6 +237,45 @@ public class ConsoleAndFileDriverConfigurationTest
         paramsFromPublicStaticDefaultValuesAsMap.put(
                 ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
                 ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_ARG,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_ARG,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_ARG,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_ARG,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT_STRING );
         paramsFromPublicStaticDefaultValuesAsMap.put(
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT_STRING );
@@ -344,6 +398,45 @@ public class ConsoleAndFileDriverConfigurationTest
         paramsFromPublicStaticDefaultValuesAsMap.put(
                 ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
                 ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_ARG,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_ARG,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_ARG,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT_STRING );
+        paramsFromPublicStaticDefaultValuesAsMap.put(
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_ARG,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT_STRING );
         paramsFromPublicStaticDefaultValuesAsMap.put(
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT_STRING );
@@ -415,6 +508,35 @@ public class ConsoleAndFileDriverConfigurationTest
                 ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_DEFAULT_STRING );
         optionalParamsMap.put( ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
                 ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_ARG,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_ARG,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_ARG,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.STREAM_INDEX_ARG,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT_STRING );
+        optionalParamsMap.put( ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_ARG,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT_STRING );
+        if ( null != ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT_STRING )
+        {
+            optionalParamsMap.put( ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_ARG,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT_STRING );
+        }
         optionalParamsMap.put( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT_STRING );
         // Extra
@@ -478,6 +600,36 @@ public class ConsoleAndFileDriverConfigurationTest
         optionalParamsArgsList.addAll(
                 Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
                         ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_ARG,
+                        ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG,
+                        ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_ARG,
+                        ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_ARG,
+                        ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_ARG,
+                        ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_ARG,
+                        ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_ARG,
+                        ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_ARG,
+                        ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_ARG,
+                        ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT_STRING ) );
+        optionalParamsArgsList.addAll(
+                Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                        ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT_STRING ) );
         optionalParamsArgsList.addAll( Lists.newArrayList( "-" + ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
                 ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT_STRING ) );
         // Extra
@@ -539,6 +691,32 @@ public class ConsoleAndFileDriverConfigurationTest
                 is( ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_DEFAULT ) );
         assertThat( configurationFromParams.spinnerSleepDurationAsMilli(),
                 is( ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT ) );
+        assertThat( configurationFromParams.spinnerWaitStrategy(),
+                is( ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT ) );
+        assertThat( configurationFromParams.operationExecutorType(),
+                is( ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT ) );
+        assertThat( configurationFromParams.childOperationMode(),
+                is( ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT ) );
+        assertThat( configurationFromParams.blockingStreamThreadCount(),
+                is( ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT ) );
+        assertThat( configurationFromParams.completionTimeTrackerType(),
+                is( ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT ) );
+        assertThat( configurationFromParams.completionTimeServiceType(),
+                is( ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT ) );
+        assertThat( configurationFromParams.metricsRingBufferSize(),
+                is( ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT ) );
+        assertThat( configurationFromParams.metricsWaitStrategy(),
+                is( ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT ) );
+        assertThat( configurationFromParams.metricsRecordingMode(),
+                is( ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT ) );
+        assertThat( configurationFromParams.resultsLogFormat(),
+                is( ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT ) );
+        assertThat( configurationFromParams.streamIndex(),
+                is( ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT ) );
+        assertThat( configurationFromParams.compileWorkload(),
+                is( ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT ) );
+        assertThat( configurationFromParams.workloadScheduleFilePath(),
+                is( ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT ) );
         assertThat( configurationFromParams.warmupCount(),
                 is( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT ) );
     }
@@ -561,6 +739,7 @@ public class ConsoleAndFileDriverConfigurationTest
         String dbValidationFilePath = null;
         boolean calculateWorkloadStatistics = false;
         long spinnerSleepDuration = 0L;
+        SpinnerWaitStrategy spinnerWaitStrategy = SpinnerWaitStrategy.HYBRID;
         boolean printHelp = false;
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 10;
@@ -584,7 +763,20 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
         );
 
         assertThat( params.asMap(), equalTo( paramsMap ) );
@@ -604,6 +796,7 @@ public class ConsoleAndFileDriverConfigurationTest
         assertThat( params.shouldPrintHelpString(), equalTo( printHelp ) );
         assertThat( params.ignoreScheduledStartTimes(), equalTo( ignoreScheduledStartTimes ) );
         assertThat( params.spinnerSleepDurationAsMilli(), equalTo( spinnerSleepDuration ) );
+        assertThat( params.spinnerWaitStrategy(), equalTo( spinnerWaitStrategy ) );
     }
 
     @Test
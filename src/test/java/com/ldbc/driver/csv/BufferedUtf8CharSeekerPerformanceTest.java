@@ -0,0 +1,113 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.*;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.String.format;
+
+/**
+ * Compares parsing an update stream like file, with columns as in {@link ExtractorsTest}, using the seekers
+ * the workloads use(d) for their CSV inputs
+ */
+@Ignore
+public class BufferedUtf8CharSeekerPerformanceTest {
+    private static final int ROW_COUNT = 2000000;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int WARMUP_REPETITIONS = 3;
+    private static final int REPETITIONS = 5;
+
+    private enum SeekerType {
+        CHAR_SEEKER,
+        CHAR_SEEKER_THREAD_AHEAD,
+        UTF8_CHAR_SEEKER
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void compareSeekers() throws IOException {
+        File file = temporaryFolder.newFile();
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                // scheduled start time|dependency time|type|id|name|long array|int tuple array
+                writer.write(1347528982968L + i + "|" + (1347528982968L - i) + "|" + (i % 8) + "|" + (i * 31L) +
+                        "|" + ((i % 10 == 0) ? "\u00c6r\u00f8sk\u00f8bing" : "Jan") +
+                        "|" + i + ";" + (i + 1) + ";" + (i + 2) +
+                        "|1,2;3,4;5,6;7,8\n");
+            }
+        }
+        for (SeekerType seekerType : SeekerType.values()) {
+            for (int i = 0; i < WARMUP_REPETITIONS; i++) {
+                parse(seekerType, file);
+            }
+            long totalDurationAsNano = 0;
+            for (int i = 0; i < REPETITIONS; i++) {
+                totalDurationAsNano += parse(seekerType, file);
+            }
+            double durationAsMilli = totalDurationAsNano / 1000000.0 / REPETITIONS;
+            System.out.println(format("%s: %s ms, %s MB/s",
+                    seekerType,
+                    durationAsMilli,
+                    (long) (file.length() / 1024.0 / 1024.0 / (durationAsMilli / 1000))));
+        }
+    }
+
+    private long parse(SeekerType seekerType, File file) throws IOException {
+        long startTimeAsNano = System.nanoTime();
+        CharSeeker charSeeker;
+        switch (seekerType) {
+            case CHAR_SEEKER:
+                charSeeker = new BufferedCharSeeker(
+                        Readables.wrap(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)),
+                        BUFFER_SIZE);
+                break;
+            case CHAR_SEEKER_THREAD_AHEAD:
+                charSeeker = new BufferedCharSeeker(
+                        ThreadAheadReadable.threadAhead(
+                                Readables.wrap(
+                                        new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)),
+                                BUFFER_SIZE),
+                        BUFFER_SIZE);
+                break;
+            default:
+                charSeeker = new BufferedUtf8CharSeeker(new FileInputStream(file).getChannel(), BUFFER_SIZE);
+        }
+        Extractors extractors = new Extractors(';', ',');
+        int[] columnDelimiters = new int[]{'|'};
+        Mark mark = new Mark();
+        long checksum = 0;
+        int rows = 0;
+        try {
+            while (charSeeker.seek(mark, columnDelimiters)) {
+                checksum += charSeeker.extract(mark, extractors.long_()).longValue();
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.long_()).longValue();
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.int_()).intValue();
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.long_()).longValue();
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.string()).value().length();
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.longArray()).value().length;
+                charSeeker.seek(mark, columnDelimiters);
+                checksum += charSeeker.extract(mark, extractors.intTupleArray(2)).value()[3][1];
+                rows++;
+            }
+        } finally {
+            charSeeker.close();
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        if (rows != ROW_COUNT || checksum == 0) {
+            throw new IllegalStateException(format("Parsed %s of %s rows", rows, ROW_COUNT));
+        }
+        return durationAsNano;
+    }
+}
@@ -0,0 +1,158 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BufferedUtf8CharSeekerTest {
+    private static final String DATA = "" +
+            "id|name|isActive|weight|ratio|emails|tuples\n" +
+            "1|Jan|true|1.5|0.25|a@b.com;c@d.com|1,2;3,4;5,6;7,8\n" +
+            "-9223372036854775808|\u00c6r\u00f8sk\u00f8bing \u6771\u4eac|false|-2.5E3|1|\u00e9;\u00fc|1,2\r\n" +
+            "42|\"quoted|with \"\"double\"\" quotes\"||||\n" +
+            "\n" +
+            "7|\"escaped \\\" quote\"|true|0|0||\n" +
+            "9223372036854775807|last|true|3|4|x|9,10";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSeekSameValuesAsBufferedCharSeeker() throws Exception {
+        // small buffer sizes force values to span buffer refills
+        for (int bufferSize : new int[]{64, 65, 100, 1024}) {
+            List<String> expected = seekAll(
+                    new BufferedCharSeeker(Readables.wrap(new StringReader(DATA)), bufferSize));
+            List<String> actual = seekAll(
+                    new BufferedUtf8CharSeeker(channelFor(DATA), bufferSize));
+            assertThat(actual, equalTo(expected));
+        }
+    }
+
+    @Test
+    public void shouldExtractSameTypedValuesAsBufferedCharSeeker() throws Exception {
+        Extractors charExtractors = new Extractors(';', ',');
+        Extractors byteExtractors = new Extractors(';', ',');
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(DATA)));
+        CharSeeker byteSeeker = new BufferedUtf8CharSeeker(channelFor(DATA));
+        int[] columnDelimiters = new int[]{'|'};
+        Mark charMark = new Mark();
+        Mark byteMark = new Mark();
+
+        // skip headers
+        for (int i = 0; i < 7; i++) {
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+        }
+        for (int row = 0; row < 2; row++) {
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.long_()).longValue(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.long_()).longValue()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.string()).value(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.string()).value()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.boolean_()).booleanValue(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.boolean_()).booleanValue()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.double_()).doubleValue(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.double_()).doubleValue()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.float_()).floatValue(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.float_()).floatValue()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.stringArray()).value(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.stringArray()).value()));
+            charSeeker.seek(charMark, columnDelimiters);
+            byteSeeker.seek(byteMark, columnDelimiters);
+            assertThat(byteSeeker.extract(byteMark, byteExtractors.intTupleArray(2)).value(),
+                    equalTo(charSeeker.extract(charMark, charExtractors.intTupleArray(2)).value()));
+            assertThat(byteMark.isEndOfLine(), is(true));
+        }
+        charSeeker.close();
+        byteSeeker.close();
+    }
+
+    @Test
+    public void shouldParseIntTupleArrayAsSingleColumnManyTuples() throws Exception {
+        int[] columnDelimiters = new int[]{'|'};
+        String data = "1,2;3,4;5,6;7,8";
+        CharSeeker charSeeker = new BufferedUtf8CharSeeker(channelFor(data));
+
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+
+        charSeeker.seek(mark, columnDelimiters);
+        int[][] intTupleArray = charSeeker.extract(mark, extractors.intTupleArray(2)).value();
+        assertThat(intTupleArray.length, is(4));
+        assertThat(intTupleArray[0], equalTo(new int[]{1, 2}));
+        assertThat(intTupleArray[1], equalTo(new int[]{3, 4}));
+        assertThat(intTupleArray[2], equalTo(new int[]{5, 6}));
+        assertThat(intTupleArray[3], equalTo(new int[]{7, 8}));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+    }
+
+    @Test
+    public void shouldParseEmptyData() throws Exception {
+        CharSeeker charSeeker = new BufferedUtf8CharSeeker(channelFor(""));
+
+        assertThat(charSeeker.seek(new Mark(), new int[]{'|'}), is(false));
+    }
+
+    @Test
+    public void shouldSeekInFileChannel() throws Exception {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), DATA.getBytes(StandardCharsets.UTF_8));
+
+        List<String> expected = seekAll(new BufferedCharSeeker(Readables.wrap(new StringReader(DATA)), 64));
+        List<String> actual = seekAll(new BufferedUtf8CharSeeker(new FileInputStream(file).getChannel(), 64));
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAcceptNonAsciiDelimiters() throws Exception {
+        CharSeeker charSeeker = new BufferedUtf8CharSeeker(channelFor(DATA));
+
+        charSeeker.seek(new Mark(), new int[]{'\u00a7'});
+    }
+
+    private static ReadableByteChannel channelFor(String data) {
+        return Readables.channel(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // every value as line number, string and whether it ended its line
+    private static List<String> seekAll(CharSeeker charSeeker) throws IOException {
+        Extractors extractors = new Extractors(';', ',');
+        int[] columnDelimiters = new int[]{'|'};
+        Mark mark = new Mark();
+        List<String> values = new ArrayList<>();
+        while (charSeeker.seek(mark, columnDelimiters)) {
+            values.add(mark.lineNumber() + ":" + charSeeker.extract(mark, extractors.string()).value() + ":" +
+                    mark.isEndOfLine());
+        }
+        charSeeker.close();
+        return values;
+    }
+}
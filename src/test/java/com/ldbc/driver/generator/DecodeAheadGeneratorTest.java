@@ -0,0 +1,130 @@
+package com.ldbc.driver.generator;
+
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DecodeAheadGeneratorTest
+{
+    @Test
+    public void shouldReturnAllElementsInOrderWhenSourceIsLongerThanRing() throws IOException
+    {
+        // Given
+        List<Long> source = new ArrayList<>();
+        for ( long i = 0; i < 100000; i++ )
+        {
+            source.add( i );
+        }
+
+        // When
+        List<Long> decoded = new ArrayList<>();
+        try ( DecodeAheadGenerator<Long> generator =
+                      new DecodeAheadGenerator<>( "test", source.iterator(), null, 7, 4 ) )
+        {
+            while ( generator.hasNext() )
+            {
+                decoded.add( generator.next() );
+            }
+            assertThat( generator.hasNext(), is( false ) );
+        }
+
+        // Then
+        assertThat( decoded, equalTo( source ) );
+    }
+
+    @Test
+    public void shouldReturnNothingWhenSourceIsEmpty() throws IOException
+    {
+        // Given
+        Iterator<Long> source = Collections.<Long>emptyList().iterator();
+
+        // When
+        try ( DecodeAheadGenerator<Long> generator = new DecodeAheadGenerator<>( "test", source, null ) )
+        {
+            // Then
+            assertThat( generator.hasNext(), is( false ) );
+        }
+    }
+
+    @Test
+    public void shouldReturnElementsDecodedBeforeErrorThenFail() throws IOException
+    {
+        // Given
+        Iterator<Long> source = new Generator<Long>()
+        {
+            private long next = 0;
+
+            @Override
+            protected Long doNext() throws GeneratorException
+            {
+                if ( 10 == next )
+                {
+                    throw new GeneratorException( "decoding failed" );
+                }
+                return next++;
+            }
+        };
+
+        // When
+        long count = 0;
+        try ( DecodeAheadGenerator<Long> generator = new DecodeAheadGenerator<>( "test", source, null, 4, 2 ) )
+        {
+            while ( generator.hasNext() )
+            {
+                assertThat( generator.next(), equalTo( count ) );
+                count++;
+            }
+            fail( "Expected decoding error" );
+        }
+        catch ( GeneratorException e )
+        {
+            // Then
+            assertThat( count, equalTo( 10l ) );
+        }
+    }
+
+    @Test
+    public void shouldStopDecoderAndCloseSourceWhenClosedBeforeSourceIsConsumed() throws IOException
+    {
+        // Given
+        Iterator<Long> infiniteSource = new Generator<Long>()
+        {
+            private long next = 0;
+
+            @Override
+            protected Long doNext() throws GeneratorException
+            {
+                return next++;
+            }
+        };
+        final AtomicBoolean sourceClosed = new AtomicBoolean( false );
+        Closeable sourceCloseable = new Closeable()
+        {
+            @Override
+            public void close() throws IOException
+            {
+                sourceClosed.set( true );
+            }
+        };
+        DecodeAheadGenerator<Long> generator = new DecodeAheadGenerator<>( "test", infiniteSource, sourceCloseable );
+        assertThat( generator.next(), equalTo( 0l ) );
+
+        // When
+        generator.close();
+
+        // Then
+        assertThat( sourceClosed.get(), is( true ) );
+        assertThat( generator.decodedCount() > 0, is( true ) );
+    }
+}
@@ -0,0 +1,179 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Iterators;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+
+import static java.lang.String.format;
+
+@Ignore
+public class OperationMergePerformanceTest
+{
+    private static final int WARMUP_REPETITIONS = 3;
+    private static final int REPETITIONS = 5;
+    private static final int OPERATION_COUNT = 5000000;
+
+    private enum MergeType
+    {
+        // comparator based merge, as previously returned by GeneratorFactory
+        GUAVA_MERGE_SORTED,
+        // linear scan over all stream heads, as previously done by OrderedMultiGenerator & WorkloadStreams
+        LINEAR_SCAN,
+        // primitive keyed heap, as now returned by GeneratorFactory
+        HEAP
+    }
+
+    @Test
+    public void compareMergesOfFewStreams()
+    {
+        compareMerges( 2 );
+        compareMerges( 8 );
+    }
+
+    @Test
+    public void compareMergesOfManyStreams()
+    {
+        compareMerges( 32 );
+        compareMerges( 128 );
+        compareMerges( 512 );
+    }
+
+    private void compareMerges( int streamCount )
+    {
+        Operation[][] streams = streams( streamCount, OPERATION_COUNT );
+        for ( MergeType mergeType : MergeType.values() )
+        {
+            for ( int i = 0; i < WARMUP_REPETITIONS; i++ )
+            {
+                run( mergeType, streams );
+            }
+            long totalDurationAsNano = 0;
+            for ( int i = 0; i < REPETITIONS; i++ )
+            {
+                totalDurationAsNano += run( mergeType, streams );
+            }
+            double durationAsMilli = totalDurationAsNano / 1000000.0 / REPETITIONS;
+            System.out.println( format( "%s (%s streams): %s ms, %s operations/s",
+                    mergeType,
+                    streamCount,
+                    durationAsMilli,
+                    (long) (OPERATION_COUNT / (durationAsMilli / 1000)) ) );
+        }
+    }
+
+    private long run( MergeType mergeType, Operation[][] streams )
+    {
+        Iterator<Operation>[] iterators = new Iterator[streams.length];
+        for ( int i = 0; i < streams.length; i++ )
+        {
+            iterators[i] = Iterators.forArray( streams[i] );
+        }
+        long startTimeAsNano = System.nanoTime();
+        Iterator<Operation> merged;
+        switch ( mergeType )
+        {
+        case GUAVA_MERGE_SORTED:
+            merged = Iterators.mergeSorted( Arrays.asList( iterators ), new TimeStampComparator() );
+            break;
+        case LINEAR_SCAN:
+            merged = new LinearScanMerge( iterators );
+            break;
+        default:
+            merged = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) )
+                    .mergeSortOperationsByTimeStamp( iterators );
+        }
+        long count = 0;
+        long previousTimeStamp = Long.MIN_VALUE;
+        while ( merged.hasNext() )
+        {
+            long timeStamp = merged.next().timeStamp();
+            if ( timeStamp < previousTimeStamp )
+            {
+                throw new GeneratorException( format( "%s returned operations out of order", mergeType ) );
+            }
+            previousTimeStamp = timeStamp;
+            count++;
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        if ( OPERATION_COUNT != count )
+        {
+            throw new GeneratorException( format( "%s returned %s operations, expected %s",
+                    mergeType, count, OPERATION_COUNT ) );
+        }
+        return durationAsNano;
+    }
+
+    // streams of similar length, with interleaved time stamps, similar to the update & read streams of a workload
+    private static Operation[][] streams( int streamCount, int operationCount )
+    {
+        Random random = new Random( 42 );
+        Operation[][] streams = new Operation[streamCount][];
+        long[] timeStamps = new long[streamCount];
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            streams[i] = new Operation[operationCount / streamCount + ((i < operationCount % streamCount) ? 1 : 0)];
+            timeStamps[i] = random.nextInt( 1000 );
+        }
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            for ( int j = 0; j < streams[i].length; j++ )
+            {
+                timeStamps[i] += random.nextInt( streamCount * 2 );
+                streams[i][j] = new TimedNamedOperation1( timeStamps[i], timeStamps[i], 0, "stream" + i );
+            }
+        }
+        return streams;
+    }
+
+    private static class TimeStampComparator implements Comparator<Operation>
+    {
+        @Override
+        public int compare( Operation o1, Operation o2 )
+        {
+            return Long.compare( o1.timeStamp(), o2.timeStamp() );
+        }
+    }
+
+    private static class LinearScanMerge extends Generator<Operation>
+    {
+        private final Iterator<Operation>[] iterators;
+        private final Operation[] heads;
+
+        private LinearScanMerge( Iterator<Operation>[] iterators )
+        {
+            this.iterators = iterators;
+            this.heads = new Operation[iterators.length];
+            for ( int i = 0; i < iterators.length; i++ )
+            {
+                heads[i] = (iterators[i].hasNext()) ? iterators[i].next() : null;
+            }
+        }
+
+        @Override
+        protected Operation doNext() throws GeneratorException
+        {
+            int min = -1;
+            for ( int i = 0; i < heads.length; i++ )
+            {
+                if ( null != heads[i] && (-1 == min || heads[i].timeStamp() < heads[min].timeStamp()) )
+                {
+                    min = i;
+                }
+            }
+            if ( -1 == min )
+            {
+                return null;
+            }
+            Operation head = heads[min];
+            heads[min] = (iterators[min].hasNext()) ? iterators[min].next() : null;
+            return head;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class OperationMergeSortGeneratorTest
+{
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+    @Test
+    public void shouldMergeByTimeStampReturningEqualTimeStampsInOrderOfGenerators()
+    {
+        // Given
+        Iterator<Operation> stream1 = operations( "a", 1, 3, 3, 7 );
+        Iterator<Operation> stream2 = operations( "b" );
+        Iterator<Operation> stream3 = operations( "c", 0, 3, 8 );
+        Iterator<Operation> stream4 = operations( "d", 3, 7 );
+
+        // When
+        Iterator<Operation> merged = gf.mergeSortOperationsByTimeStamp( stream1, stream2, stream3, stream4 );
+
+        // Then
+        assertThat( namesOf( merged ), equalTo( (List<String>) Lists.newArrayList(
+                "c0", "a1", "a3", "a3", "c3", "d3", "a7", "d7", "c8"
+        ) ) );
+    }
+
+    @Test
+    public void shouldMergeByScheduledStartTime()
+    {
+        // Given
+        Iterator<Operation> stream1 = Lists.<Operation>newArrayList(
+                new TimedNamedOperation1( 5, 0, 0, "a" ),
+                new TimedNamedOperation1( 6, 0, 0, "a" )
+        ).iterator();
+        Iterator<Operation> stream2 = Lists.<Operation>newArrayList(
+                new TimedNamedOperation1( 2, 9, 0, "b" ),
+                new TimedNamedOperation1( 5, 9, 0, "b" )
+        ).iterator();
+
+        // When
+        Iterator<Operation> merged = gf.mergeSortOperationsByScheduledStartTime( stream1, stream2 );
+
+        // Then
+        List<String> names = new ArrayList<>();
+        while ( merged.hasNext() )
+        {
+            Operation operation = merged.next();
+            names.add( ((TimedNamedOperation1) operation).name() + operation.scheduledStartTimeAsMilli() );
+        }
+        assertThat( names, equalTo( (List<String>) Lists.newArrayList( "b2", "a5", "b5", "a6" ) ) );
+    }
+
+    @Test
+    public void shouldMergeNoGenerators()
+    {
+        // When
+        Iterator<Operation> merged = gf.mergeSortOperationsByTimeStamp();
+
+        // Then
+        assertThat( merged.hasNext(), is( false ) );
+    }
+
+    private static Iterator<Operation> operations( String name, long... timeStamps )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( long timeStamp : timeStamps )
+        {
+            operations.add( new TimedNamedOperation1( timeStamp, timeStamp, 0, name ) );
+        }
+        return operations.iterator();
+    }
+
+    private static List<String> namesOf( Iterator<Operation> operations )
+    {
+        List<String> names = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            Operation operation = operations.next();
+            names.add( ((TimedNamedOperation1) operation).name() + operation.timeStamp() );
+        }
+        return names;
+    }
+}
@@ -175,6 +175,38 @@ public class OrderedMultiGeneratorTest {
         }
     }
 
+    @Test
+    public void shouldReturnEqualElementsInOrderOfGenerators() {
+        // Given
+        int lookaheadDistance = 1;
+        Iterator<Integer> g1 = generators.identity(3, 13, 21);
+        Iterator<Integer> g2 = generators.identity(2, 12, 25);
+        Iterator<Integer> g3 = generators.identity(1, 11, 20);
+
+        // When
+        Iterator<Integer> orderedGenerator = generators.mergeSort(new TensComparator(), lookaheadDistance, g1, g2, g3);
+
+        // Then
+        assertThat(orderedGenerator.next(), is(3));
+        assertThat(orderedGenerator.next(), is(2));
+        assertThat(orderedGenerator.next(), is(1));
+        assertThat(orderedGenerator.next(), is(13));
+        assertThat(orderedGenerator.next(), is(12));
+        assertThat(orderedGenerator.next(), is(11));
+        assertThat(orderedGenerator.next(), is(21));
+        assertThat(orderedGenerator.next(), is(25));
+        assertThat(orderedGenerator.next(), is(20));
+        assertThat(orderedGenerator.hasNext(), is(false));
+    }
+
+    // compares by tens only, e.g., 21 and 25 are equal
+    private static class TensComparator implements Comparator<Integer> {
+        @Override
+        public int compare(Integer i1, Integer i2) {
+            return i1 / 10 - i2 / 10;
+        }
+    }
+
     private static class IntegerComparator implements Comparator<Integer> {
         @Override
         public int compare(Integer i1, Integer i2) {
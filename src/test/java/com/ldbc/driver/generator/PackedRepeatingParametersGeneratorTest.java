@@ -0,0 +1,100 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PackedRepeatingParametersGeneratorTest
+{
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+    @Test
+    public void shouldExhaustImmediatelyIfSourceIsEmpty()
+    {
+        // Given
+        Iterator<Object[]> source = new ArrayList<Object[]>().iterator();
+
+        // When
+        Iterator<Object[]> parameters = gf.repeatingParameters( source );
+
+        // Then
+        assertThat( parameters.hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldLoopOverRowsOfAllPackedColumnTypesIndefinitely()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for ( int i = 0; i < 100; i++ )
+        {
+            rows.add( new Object[]{
+                    (long) i * 1000000000000L,
+                    i,
+                    "country" + (i % 7),
+                    (0 == i % 5) ? null : "tag" + i,
+                    Lists.newArrayList( "language" + (i % 3), "language" + (i % 4) ).subList( 0, i % 3 ),
+                    20
+            } );
+        }
+
+        // When
+        Iterator<Object[]> parameters = gf.repeatingParameters( rows.iterator() );
+
+        // Then
+        for ( int repetition = 0; repetition < 3; repetition++ )
+        {
+            for ( Object[] row : rows )
+            {
+                assertThat( parameters.next(), equalTo( row ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnNewRowInstancesThatDoNotShareLists()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{Lists.newArrayList( "a", "b" )} );
+
+        // When
+        Iterator<Object[]> parameters = gf.repeatingParameters( rows.iterator() );
+        Object[] first = parameters.next();
+        ((List<String>) first[0]).clear();
+        Object[] second = parameters.next();
+
+        // Then
+        assertThat( second[0], equalTo( (Object) Lists.newArrayList( "a", "b" ) ) );
+    }
+
+    @Test
+    public void shouldRetainValuesOfOtherTypesAndOfColumnsWithMixedTypes()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{new Date( 1 ), 1L, Lists.newArrayList( "a" )} );
+        rows.add( new Object[]{new Date( 2 ), 2, Lists.newArrayList( 1L )} );
+        rows.add( new Object[]{new Date( 3 ), "3", null} );
+
+        // When
+        Iterator<Object[]> parameters = gf.repeatingParameters( rows.iterator() );
+
+        // Then
+        for ( int repetition = 0; repetition < 2; repetition++ )
+        {
+            for ( Object[] row : rows )
+            {
+                assertThat( parameters.next(), equalTo( row ) );
+            }
+        }
+    }
+}
@@ -381,7 +381,20 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
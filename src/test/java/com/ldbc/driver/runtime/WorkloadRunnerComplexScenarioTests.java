@@ -7,6 +7,7 @@ import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
@@ -17,10 +18,15 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategy;
 import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
@@ -1768,8 +1774,14 @@ public class WorkloadRunnerComplexScenarioTests
                 completionTimeService,
                 loggingServiceFactory,
                 threadCount,
+                OperationExecutorType.THREAD_POOL,
+                ChildOperationMode.INLINE,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
                 statusDisplayIntervalAsMilli,
                 spinnerSleepDurationAsMilli,
+                SpinnerWaitStrategy.SLEEP,
+                new ScheduleLagRecorder(),
+                new ChildOperationChainRecorder(),
                 ignoreScheduledStartTime,
                 operationHandlerExecutorsBoundedQueueSize
         );
@@ -22,8 +22,10 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
@@ -133,7 +135,20 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -203,8 +218,14 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().childOperationMode(),
+                    controlService.configuration().blockingStreamThreadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    new ScheduleLagRecorder(),
+                    new ChildOperationChainRecorder(),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -334,7 +355,20 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -402,8 +436,14 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().childOperationMode(),
+                    controlService.configuration().blockingStreamThreadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    new ScheduleLagRecorder(),
+                    new ChildOperationChainRecorder(),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -553,7 +593,20 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -621,8 +674,14 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().childOperationMode(),
+                    controlService.configuration().blockingStreamThreadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    new ScheduleLagRecorder(),
+                    new ChildOperationChainRecorder(),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -818,7 +877,20 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RECORDING_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.STREAM_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -880,8 +952,14 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().childOperationMode(),
+                    controlService.configuration().blockingStreamThreadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    new ScheduleLagRecorder(),
+                    new ChildOperationChainRecorder(),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -3,6 +3,8 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -33,7 +35,14 @@ public class CompletedTimeTrackerTest
         shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
-    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl tracker )
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingPrimitiveHeap() throws CompletionTimeException
+    {
+        // small initial capacity, to also exercise growing of heap
+        shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( new PrimitiveCompletedTimeTracker( 1 ) );
+    }
+
+    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTracker tracker )
             throws CompletionTimeException
     {
         // Given
@@ -64,8 +73,15 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder_UsingPrimitiveHeap() throws CompletionTimeException
+    {
+        // small initial capacity, to also exercise growing of heap
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder( new PrimitiveCompletedTimeTracker( 1 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -138,8 +154,15 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder_UsingPrimitiveHeap() throws CompletionTimeException
+    {
+        // small initial capacity, to also exercise growing of heap
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder( new PrimitiveCompletedTimeTracker( 1 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -217,4 +240,34 @@ public class CompletedTimeTrackerTest
         // [ , , , , , , , , , , , , , , , , , , , , , , ]
         assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ), is( -1L ) );
     }
+
+    @Test
+    public void primitiveHeapShouldBehaveSameAsTreeMultiSet() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.CompletedTimeTracker expectedTracker =
+                CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.CompletedTimeTracker tracker = new PrimitiveCompletedTimeTracker( 1 );
+        Random random = new Random( 42 );
+        long lowestInitiatedTimeAsMilli = 0;
+
+        // When/Then
+        for ( int i = 0; i < 100000; i++ )
+        {
+            if ( random.nextInt( 100 ) < 70 )
+            {
+                long completedTimeAsMilli = lowestInitiatedTimeAsMilli + random.nextInt( 100 );
+                tracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+                expectedTracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+            }
+            else
+            {
+                lowestInitiatedTimeAsMilli += random.nextInt( 10 );
+                assertThat(
+                        tracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli ),
+                        is( expectedTracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli ) )
+                );
+            }
+        }
+    }
 }
@@ -17,9 +17,14 @@ import com.ldbc.driver.testutils.ThreadPoolLoadGenerator;
 import com.ldbc.driver.workloads.simple.SimpleWorkload;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
@@ -35,12 +40,31 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+@RunWith( Parameterized.class )
 public class CompletionTimeServiceAdvancedTest
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
     private final TimeSource timeSource = new SystemTimeSource();
     private final CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
 
+    @Parameterized.Parameters( name = "{0}" )
+    public static Collection<Object[]> completionTimeTrackerTypes()
+    {
+        List<Object[]> completionTimeTrackerTypes = new ArrayList<>();
+        for ( CompletionTimeTrackerType completionTimeTrackerType : CompletionTimeTrackerType.values() )
+        {
+            completionTimeTrackerTypes.add( new Object[]{completionTimeTrackerType} );
+        }
+        return completionTimeTrackerTypes;
+    }
+
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+
+    public CompletionTimeServiceAdvancedTest( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
+    }
+
     @Ignore
     @Test
     public void stressTestThreadedQueuedCompletionTimeService()
@@ -63,7 +87,8 @@ public class CompletionTimeServiceAdvancedTest
                 {
                     CompletionTimeService cts = completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
                             timeSource,
-                            errorReporter );
+                            errorReporter,
+                            completionTimeTrackerType );
                     try
                     {
                         totalTestDurationAsMilli += parallelCompletionTimeServiceTest(
@@ -96,6 +121,7 @@ public class CompletionTimeServiceAdvancedTest
         int testRepetitions = 5;
         long totalTestDurationForSynchronousCts;
         long totalTestDurationForThreadedCts;
+        long totalTestDurationForShardedCts;
 
         for ( int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2 )
         {
@@ -103,7 +129,8 @@ public class CompletionTimeServiceAdvancedTest
             totalTestDurationForSynchronousCts = 0;
             for ( int i = 0; i < testRepetitions; i++ )
             {
-                CompletionTimeService cts = completionTimeServiceAssistant.newSynchronizedCompletionTimeService();
+                CompletionTimeService cts = completionTimeServiceAssistant.newSynchronizedCompletionTimeService(
+                        completionTimeTrackerType );
                 totalTestDurationForSynchronousCts += parallelCompletionTimeServiceTest(
                         cts,
                         errorReporter,
@@ -120,16 +147,32 @@ public class CompletionTimeServiceAdvancedTest
             {
                 CompletionTimeService cts = completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
                         timeSource,
-                        errorReporter );
+                        errorReporter,
+                        completionTimeTrackerType );
                 totalTestDurationForThreadedCts += parallelCompletionTimeServiceTest(
                         cts,
                         errorReporter,
                         workerThreads );
                 cts.shutdown();
             }
-            System.out.printf( "\t%s=%s\n",
+            System.out.printf( "\t%s=%s",
                     ThreadedQueuedCompletionTimeService.class.getSimpleName(),
                     TEMPORAL_UTIL.milliDurationToString( totalTestDurationForThreadedCts / testRepetitions ) );
+
+            totalTestDurationForShardedCts = 0;
+            for ( int i = 0; i < testRepetitions; i++ )
+            {
+                CompletionTimeService cts = completionTimeServiceAssistant.newShardedCompletionTimeService(
+                        completionTimeTrackerType );
+                totalTestDurationForShardedCts += parallelCompletionTimeServiceTest(
+                        cts,
+                        errorReporter,
+                        workerThreads );
+                cts.shutdown();
+            }
+            System.out.printf( "\t%s=%s\n",
+                    ShardedCompletionTimeService.class.getSimpleName(),
+                    TEMPORAL_UTIL.milliDurationToString( totalTestDurationForShardedCts / testRepetitions ) );
         }
     }
 
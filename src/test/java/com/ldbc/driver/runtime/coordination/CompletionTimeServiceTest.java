@@ -4,23 +4,67 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+@RunWith( Parameterized.class )
 public class CompletionTimeServiceTest
 {
+    @Parameterized.Parameters( name = "{0}" )
+    public static Collection<Object[]> completionTimeTrackerTypes()
+    {
+        List<Object[]> completionTimeTrackerTypes = new ArrayList<>();
+        for ( CompletionTimeTrackerType completionTimeTrackerType : CompletionTimeTrackerType.values() )
+        {
+            completionTimeTrackerTypes.add( new Object[]{completionTimeTrackerType} );
+        }
+        return completionTimeTrackerTypes;
+    }
+
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+
+    public CompletionTimeServiceTest( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
+    }
+
     @Test
     public void shouldBehavePredictablyAfterInstantiationWithSynchronizedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -41,7 +85,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -74,7 +119,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -95,7 +159,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -130,12 +195,135 @@ public class CompletionTimeServiceTest
         assertThat( cts.completionTimeAsMilli(), is( 0L ) );
     }
 
+    @Test
+    public void shouldReleaseWaiterWhenCompletionTimeAdvancesWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldReleaseWaiterWhenCompletionTimeAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReleaseWaiterWhenCompletionTimeAdvancesWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldReleaseWaiterWhenCompletionTimeAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReleaseWaiterWhenCompletionTimeAdvancesWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldReleaseWaiterWhenCompletionTimeAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldReleaseWaiterWhenCompletionTimeAdvances( final CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        writer.submitInitiatedTime( 0L );
+        writer.submitCompletedTime( 0L );
+        writer.submitInitiatedTime( 1000L );
+        assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 0L ) );
+        final AtomicLong awaitedCompletionTimeAsMilli = new AtomicLong( -1 );
+        Thread waiter = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    awaitedCompletionTimeAsMilli.set(
+                            cts.awaitCompletionTimeAsMilli( 1000L, TimeUnit.MINUTES.toMillis( 1 ) ) );
+                }
+                catch ( CompletionTimeException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+
+        // When
+        waiter.start();
+
+        // Then
+        // completion time does not advance, wait time elapses
+        assertThat( cts.awaitCompletionTimeAsMilli( 1000L, 10 ), is( 0L ) );
+        assertThat( waiter.isAlive(), is( true ) );
+
+        // When
+        writer.submitCompletedTime( 1000L );
+        writer.submitInitiatedTime( 2000L );
+        waiter.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        // Then
+        assertThat( waiter.isAlive(), is( false ) );
+        assertThat( awaitedCompletionTimeAsMilli.get(), is( 1000L ) );
+    }
+
     @Test
     public void shouldReturnAllWritersWithSynchronizedImplementation() throws CompletionTimeException
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnAllWritersWithShardedImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -155,7 +343,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -196,7 +385,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -217,7 +425,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -249,7 +458,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -270,7 +498,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -303,7 +532,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -324,7 +572,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -358,7 +607,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -379,7 +647,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -510,7 +779,26 @@ public class CompletionTimeServiceTest
     {
         // Given
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService( completionTimeTrackerType );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithShardedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newShardedCompletionTimeService( completionTimeTrackerType );
 
         // Then
         try
@@ -531,7 +819,8 @@ public class CompletionTimeServiceTest
         TimeSource timeSource = new SystemTimeSource();
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
-        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService(
+                timeSource, errorReporter, completionTimeTrackerType );
 
         // Then
         try
@@ -1,17 +1,43 @@
 package com.ldbc.driver.runtime.coordination;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+@RunWith( Parameterized.class )
 public class CompletionTimeStateManagerTest
 {
+    @Parameterized.Parameters( name = "{0}" )
+    public static Collection<Object[]> completionTimeTrackerTypes()
+    {
+        List<Object[]> completionTimeTrackerTypes = new ArrayList<>();
+        for ( CompletionTimeTrackerType completionTimeTrackerType : CompletionTimeTrackerType.values() )
+        {
+            completionTimeTrackerTypes.add( new Object[]{completionTimeTrackerType} );
+        }
+        return completionTimeTrackerTypes;
+    }
+
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+
+    public CompletionTimeStateManagerTest( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
+    }
+
     @Test
     public void shouldReturnNullWhenNoEventsHaveBeenInitiatedOrCompleted() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When / Then
         // no events have been initiated or completed
@@ -26,7 +52,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnNullWhenNoOperationsHaveCompleted() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When / Then
 
@@ -44,7 +71,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnNullWhenEarliestInitiatedOperationHasNotCompleted() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When / Then
 
@@ -68,7 +96,8 @@ public class CompletionTimeStateManagerTest
     public void shouldAdvanceToNextUncompletedEventAsInitiatedEventsAreCompleted() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When / Then
         // IT [1,2,3]
@@ -93,7 +122,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
 
@@ -152,7 +182,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1,2,3]
@@ -204,7 +235,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1,2,3,4]
@@ -242,7 +274,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1,2,3,4]
@@ -280,7 +313,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1,2,3,4]
@@ -316,7 +350,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnLatestInitiatedEventTimeWhenAllEventsHaveCompleted() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
 
@@ -341,7 +376,8 @@ public class CompletionTimeStateManagerTest
     public void shouldThrowExceptionWhenEventCompletesThatHasNoMatchingInitiatedEntry() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
 
@@ -378,7 +414,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnLatestTimeBehindWhichThereAreNoUncompletedITEvents() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1]
@@ -475,7 +512,8 @@ public class CompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // IT [1]
@@ -549,7 +587,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTV1() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // initiated [1]
@@ -646,7 +685,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTV2() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         // initiated [1]
@@ -728,7 +768,8 @@ public class CompletionTimeStateManagerTest
     public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTV3() throws CompletionTimeException
     {
         // Given
-        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
 
         // When/Then
         assertThat( completionTimeStateManager.completionTimeAsMilli(), is( -1L ) );
@@ -0,0 +1,116 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+
+@Ignore
+public class CompletionTimeTrackerPerformanceTest
+{
+    private static final int WARMUP_REPETITIONS = 3;
+    private static final int REPETITIONS = 5;
+    private static final int OPERATION_COUNT = 10000000;
+
+    @Test
+    public void compareTrackersWithFewUncompletedOperations() throws CompletionTimeException
+    {
+        compareTrackers( 16 );
+    }
+
+    @Test
+    public void compareTrackersWithManyUncompletedOperations() throws CompletionTimeException
+    {
+        compareTrackers( 4096 );
+    }
+
+    private void compareTrackers( int uncompletedOperations ) throws CompletionTimeException
+    {
+        long[] initiatedTimes = initiatedTimes( OPERATION_COUNT );
+        int[] completionOrder = completionOrder( OPERATION_COUNT, uncompletedOperations );
+        for ( CompletionTimeTrackerType completionTimeTrackerType : CompletionTimeTrackerType.values() )
+        {
+            for ( int i = 0; i < WARMUP_REPETITIONS; i++ )
+            {
+                run( completionTimeTrackerType, initiatedTimes, completionOrder, uncompletedOperations );
+            }
+            long totalDurationAsNano = 0;
+            for ( int i = 0; i < REPETITIONS; i++ )
+            {
+                totalDurationAsNano +=
+                        run( completionTimeTrackerType, initiatedTimes, completionOrder, uncompletedOperations );
+            }
+            double durationAsMilli = totalDurationAsNano / 1000000.0 / REPETITIONS;
+            System.out.println( format( "%s (%s uncompleted): %s ms, %s operations/s",
+                    completionTimeTrackerType,
+                    uncompletedOperations,
+                    durationAsMilli,
+                    (long) (OPERATION_COUNT / (durationAsMilli / 1000)) ) );
+        }
+    }
+
+    // submits initiated times in order, and completed times in the given order, while keeping
+    // uncompletedOperations operations in flight, same as a worker pool would
+    private long run( CompletionTimeTrackerType completionTimeTrackerType,
+            long[] initiatedTimes,
+            int[] completionOrder,
+            int uncompletedOperations ) throws CompletionTimeException
+    {
+        CompletionTimeStateManager completionTimeStateManager =
+                new CompletionTimeStateManager( completionTimeTrackerType );
+        long startTimeAsNano = System.nanoTime();
+        int initiated = 0;
+        for ( int completed = 0; completed < completionOrder.length; completed++ )
+        {
+            while ( initiated < initiatedTimes.length && initiated < completed + uncompletedOperations )
+            {
+                completionTimeStateManager.submitInitiatedTime( initiatedTimes[initiated++] );
+            }
+            completionTimeStateManager.submitCompletedTime( initiatedTimes[completionOrder[completed]] );
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        if ( completionTimeStateManager.completionTimeAsMilli() < initiatedTimes[initiatedTimes.length / 2] )
+        {
+            throw new CompletionTimeException( "Completion time did not advance" );
+        }
+        return durationAsNano;
+    }
+
+    private long[] initiatedTimes( int count )
+    {
+        Random random = new Random( 42 );
+        long[] initiatedTimes = new long[count];
+        long timeAsMilli = 0;
+        for ( int i = 0; i < count; i++ )
+        {
+            timeAsMilli += random.nextInt( 3 );
+            initiatedTimes[i] = timeAsMilli;
+        }
+        return initiatedTimes;
+    }
+
+    // every operation completes at most uncompletedOperations operations after it was initiated
+    private int[] completionOrder( int count, int uncompletedOperations )
+    {
+        Random random = new Random( 42 );
+        int[] completionOrder = new int[count];
+        for ( int i = 0; i < count; i++ )
+        {
+            completionOrder[i] = i;
+        }
+        for ( int i = 0; i < count; i += uncompletedOperations )
+        {
+            int end = Math.min( count, i + uncompletedOperations );
+            for ( int j = end - 1; j > i; j-- )
+            {
+                int k = i + random.nextInt( j - i + 1 );
+                int temp = completionOrder[j];
+                completionOrder[j] = completionOrder[k];
+                completionOrder[k] = temp;
+            }
+        }
+        return completionOrder;
+    }
+}
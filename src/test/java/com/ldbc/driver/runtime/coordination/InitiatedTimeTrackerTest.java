@@ -3,6 +3,10 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTrackerImpl;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -22,6 +26,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_PrimitiveImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( new PrimitiveInitiatedTimeTracker() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -58,6 +68,13 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_PrimitiveImplementation() throws CompletionTimeException
+    {
+        // small initial capacity, to also exercise growing of ring buffer
+        shouldBehaveAsExpectedUnderScenario1( new PrimitiveInitiatedTimeTracker( 2 ) );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
@@ -235,4 +252,42 @@ public class InitiatedTimeTrackerTest
         }
         assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( 9999L ), is( 9999L ) );
     }
+
+    @Test
+    public void primitiveImplementationShouldBehaveSameAsTreeMultiSetImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.InitiatedTimeTracker expectedTracker =
+                InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.InitiatedTimeTracker tracker = new PrimitiveInitiatedTimeTracker( 2 );
+        Random random = new Random( 42 );
+        List<Long> uncompletedTimes = new ArrayList<>();
+        long timeAsMilli = 0;
+
+        // When/Then
+        for ( int i = 0; i < 100000; i++ )
+        {
+            if ( uncompletedTimes.isEmpty() || random.nextInt( 100 ) < 55 )
+            {
+                // duplicate times are also possible
+                timeAsMilli += random.nextInt( 3 );
+                uncompletedTimes.add( timeAsMilli );
+                assertThat(
+                        tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli ),
+                        equalTo( expectedTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli ) )
+                );
+            }
+            else
+            {
+                long completedTimeAsMilli = uncompletedTimes.remove( random.nextInt( uncompletedTimes.size() ) );
+                assertThat(
+                        tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli ),
+                        equalTo( expectedTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli ) )
+                );
+            }
+            assertThat( tracker.uncompletedInitiatedTimes(), equalTo( expectedTracker.uncompletedInitiatedTimes() ) );
+            assertThat( tracker.highestInitiatedTimeAsMilli(),
+                    equalTo( expectedTracker.highestInitiatedTimeAsMilli() ) );
+        }
+    }
 }
@@ -11,7 +11,11 @@ import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -19,8 +23,27 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+@RunWith( Parameterized.class )
 public class MultiWriterCompletionTimeStateManagerTest
 {
+    @Parameterized.Parameters( name = "{0}" )
+    public static Collection<Object[]> completionTimeTrackerTypes()
+    {
+        List<Object[]> completionTimeTrackerTypes = new ArrayList<>();
+        for ( CompletionTimeTrackerType completionTimeTrackerType : CompletionTimeTrackerType.values() )
+        {
+            completionTimeTrackerTypes.add( new Object[]{completionTimeTrackerType} );
+        }
+        return completionTimeTrackerTypes;
+    }
+
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+
+    public MultiWriterCompletionTimeStateManagerTest( CompletionTimeTrackerType completionTimeTrackerType )
+    {
+        this.completionTimeTrackerType = completionTimeTrackerType;
+    }
+
     /**
      * ****************************************************
      * ****************************************************
@@ -35,7 +58,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldReturnNullWhenNoEventsHaveBeenInitiatedOrCompletedWithOneWriter() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -51,7 +75,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldReturnNullWhenNoOperationsHaveCompletedWithOneWriter() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -71,7 +96,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -97,7 +123,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -122,7 +149,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -183,7 +211,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -238,7 +267,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -278,7 +308,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -319,7 +350,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -358,7 +390,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -388,7 +421,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -430,7 +464,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -527,7 +562,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -611,7 +647,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldReturnNullWhenNoWriters() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
 
         // When
         CompletionTimeReader reader = completionTimeStateManager;
@@ -625,7 +662,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldReturnNullWhenOneWriterAndNoInitiatedTimesAndNoCompletedTimes() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
 
         // When
         CompletionTimeReader reader = completionTimeStateManager;
@@ -642,7 +680,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
 
         // When
         CompletionTimeReader reader = completionTimeStateManager;
@@ -665,7 +704,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldReturnNullWhenOneWriterAndOneInitiatedTimeAndNoCompletedTimes() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -684,7 +724,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -704,7 +745,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -725,7 +767,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -747,7 +790,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -781,7 +825,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
 
@@ -801,7 +846,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -824,7 +870,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -856,7 +903,8 @@ public class MultiWriterCompletionTimeStateManagerTest
             throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -887,7 +935,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldPassComplexTwoWriterScenario1() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1052,7 +1101,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldPassComplexTwoWriterScenario2() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1133,7 +1183,8 @@ public class MultiWriterCompletionTimeStateManagerTest
     public void shouldPassComplexTwoWriterScenario3() throws CompletionTimeException
     {
         // Given
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1309,7 +1360,8 @@ public class MultiWriterCompletionTimeStateManagerTest
                 Tuple.tuple2( CompletionTimeWriterThread.WriteType.WRITE_IT, 100l )
         );
 
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1390,7 +1442,8 @@ public class MultiWriterCompletionTimeStateManagerTest
         List<Tuple2<CompletionTimeWriterThread.WriteType,Long>> writeStream3 = Lists.newArrayList(
         );
 
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
 
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1586,7 +1639,8 @@ public class MultiWriterCompletionTimeStateManagerTest
                 Tuple.tuple2( CompletionTimeWriterThread.WriteType.WRITE_IT, 2L )
         );
 
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
         CompletionTimeWriter writer2 = completionTimeStateManager.newCompletionTimeWriter();
@@ -1697,7 +1751,8 @@ public class MultiWriterCompletionTimeStateManagerTest
                         1 )
         );
 
-        MultiWriterCompletionTimeStateManager completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager( completionTimeTrackerType );
         CompletionTimeReader reader = completionTimeStateManager;
 
         CompletionTimeWriter writer1 = completionTimeStateManager.newCompletionTimeWriter();
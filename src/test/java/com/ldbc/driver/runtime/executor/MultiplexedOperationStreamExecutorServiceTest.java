@@ -0,0 +1,223 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MultiplexedOperationStreamExecutorServiceTest
+{
+    @Test
+    public void shouldExecuteEveryStreamInOrderOneOperationAtATime() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        int streamCount = 20;
+        int operationsPerStream = 50;
+        int threadCount = 3;
+        AtomicInteger maxConcurrentlyExecuting = new AtomicInteger( 0 );
+        AtomicInteger concurrentlyExecuting = new AtomicInteger( 0 );
+        List<WorkloadStreamDefinition> streamDefinitions = new ArrayList<>();
+        List<OperationExecutor> operationExecutors = new ArrayList<>();
+        List<RecordingOperationExecutor> recordingOperationExecutors = new ArrayList<>();
+        List<CompletionTimeWriter> completionTimeWriters = new ArrayList<>();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            List<Operation> operations = new ArrayList<>();
+            for ( int i = 0; i < operationsPerStream; i++ )
+            {
+                // streams interleave, stream s has operations at times s, s + streamCount, s + 2 * streamCount...
+                operations.add( operation( stream + i * streamCount ) );
+            }
+            streamDefinitions.add( streamDefinition( operations ) );
+            RecordingOperationExecutor recordingOperationExecutor =
+                    new RecordingOperationExecutor( concurrentlyExecuting, maxConcurrentlyExecuting );
+            recordingOperationExecutors.add( recordingOperationExecutor );
+            operationExecutors.add( recordingOperationExecutor );
+            completionTimeWriters.add( new DummyCompletionTimeWriter() );
+        }
+        MultiplexedOperationStreamExecutorService executorService = new MultiplexedOperationStreamExecutorService(
+                threadCount,
+                errorReporter,
+                streamDefinitions,
+                operationExecutors,
+                completionTimeWriters
+        );
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+        while ( !hasFinished.get() )
+        {
+            Spinner.powerNap( 10 );
+        }
+        executorService.shutdown( 1000 );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            RecordingOperationExecutor recordingOperationExecutor = recordingOperationExecutors.get( stream );
+            assertThat( recordingOperationExecutor.overlappingExecutions.get(), equalTo( 0 ) );
+            List<Long> timeStamps = recordingOperationExecutor.executedTimeStamps;
+            assertThat( timeStamps.size(), equalTo( operationsPerStream ) );
+            for ( int i = 0; i < operationsPerStream; i++ )
+            {
+                assertThat( timeStamps.get( i ), equalTo( (long) (stream + i * streamCount) ) );
+            }
+        }
+        assertThat( maxConcurrentlyExecuting.get() <= threadCount, is( true ) );
+    }
+
+    @Test
+    public void shouldFinishImmediatelyWhenStreamsAreEmpty() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        List<WorkloadStreamDefinition> streamDefinitions = new ArrayList<>();
+        List<OperationExecutor> operationExecutors = new ArrayList<>();
+        List<CompletionTimeWriter> completionTimeWriters = new ArrayList<>();
+        for ( int stream = 0; stream < 3; stream++ )
+        {
+            streamDefinitions.add( streamDefinition( new ArrayList<Operation>() ) );
+            operationExecutors.add( new RecordingOperationExecutor( new AtomicInteger(), new AtomicInteger() ) );
+            completionTimeWriters.add( new DummyCompletionTimeWriter() );
+        }
+        MultiplexedOperationStreamExecutorService executorService = new MultiplexedOperationStreamExecutorService(
+                2,
+                errorReporter,
+                streamDefinitions,
+                operationExecutors,
+                completionTimeWriters
+        );
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+
+        // Then
+        assertThat( hasFinished.get(), is( true ) );
+        executorService.shutdown( 1000 );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldReportErrorAndFinishWhenOperationFails() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        List<WorkloadStreamDefinition> streamDefinitions = new ArrayList<>();
+        List<OperationExecutor> operationExecutors = new ArrayList<>();
+        List<CompletionTimeWriter> completionTimeWriters = new ArrayList<>();
+        streamDefinitions.add( streamDefinition( Collections.singletonList( operation( 1 ) ) ) );
+        operationExecutors.add( new RecordingOperationExecutor( new AtomicInteger(), new AtomicInteger() )
+        {
+            @Override
+            public void execute( Operation operation ) throws OperationExecutorException
+            {
+                throw new OperationExecutorException( "Expected failure" );
+            }
+        } );
+        completionTimeWriters.add( new DummyCompletionTimeWriter() );
+        MultiplexedOperationStreamExecutorService executorService = new MultiplexedOperationStreamExecutorService(
+                2,
+                errorReporter,
+                streamDefinitions,
+                operationExecutors,
+                completionTimeWriters
+        );
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+        while ( !hasFinished.get() )
+        {
+            Spinner.powerNap( 10 );
+        }
+        executorService.shutdown( 1000 );
+
+        // Then
+        assertThat( errorReporter.errorEncountered(), is( true ) );
+    }
+
+    private static Operation operation( long timeStamp )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( timeStamp );
+        operation.setTimeStamp( timeStamp );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private static WorkloadStreamDefinition streamDefinition( List<Operation> operations )
+    {
+        return new WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                operations.iterator(),
+                null
+        );
+    }
+
+    private static class RecordingOperationExecutor implements OperationExecutor
+    {
+        private final AtomicInteger concurrentlyExecuting;
+        private final AtomicInteger maxConcurrentlyExecuting;
+        private final AtomicInteger executingForThisStream = new AtomicInteger( 0 );
+        private final AtomicInteger overlappingExecutions = new AtomicInteger( 0 );
+        private final List<Long> executedTimeStamps = Collections.synchronizedList( new ArrayList<Long>() );
+
+        private RecordingOperationExecutor( AtomicInteger concurrentlyExecuting,
+                AtomicInteger maxConcurrentlyExecuting )
+        {
+            this.concurrentlyExecuting = concurrentlyExecuting;
+            this.maxConcurrentlyExecuting = maxConcurrentlyExecuting;
+        }
+
+        @Override
+        public void execute( Operation operation ) throws OperationExecutorException
+        {
+            if ( executingForThisStream.incrementAndGet() > 1 )
+            {
+                overlappingExecutions.incrementAndGet();
+            }
+            int executing = concurrentlyExecuting.incrementAndGet();
+            while ( true )
+            {
+                int max = maxConcurrentlyExecuting.get();
+                if ( executing <= max || maxConcurrentlyExecuting.compareAndSet( max, executing ) )
+                {
+                    break;
+                }
+            }
+            executedTimeStamps.add( operation.timeStamp() );
+            Thread.yield();
+            concurrentlyExecuting.decrementAndGet();
+            executingForThisStream.decrementAndGet();
+        }
+
+        @Override
+        public void shutdown( long waitAsMilli ) throws OperationExecutorException
+        {
+        }
+
+        @Override
+        public long uncompletedOperationHandlerCount()
+        {
+            return 0;
+        }
+    }
+}
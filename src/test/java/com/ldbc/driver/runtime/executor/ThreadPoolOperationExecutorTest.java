@@ -1,7 +1,9 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
@@ -10,10 +12,12 @@ import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.metrics.ChildOperationChainRecorder;
 import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyAsyncDb;
 import com.ldbc.driver.workloads.dummy.DummyDb;
 import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
@@ -22,8 +26,12 @@ import org.junit.Test;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertThat;
 
 public class ThreadPoolOperationExecutorTest
@@ -240,4 +248,408 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    @Test
+    public void asynchronousOperationsShouldNotOccupyWorkerThreads() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        long operationDelayAsMilli = 100;
+        Map<String,String> params = new HashMap<>();
+        params.put( DummyAsyncDb.DELAY_AS_MILLI_ARG, Long.toString( operationDelayAsMilli ) );
+        Db db = new DummyAsyncDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 100;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        // Then
+        // all operations completing before shutdown times out means they were in flight at the same time,
+        // as with one thread blocking on each in turn they would take operationCount * operationDelayAsMilli
+        executor.shutdown( operationCount * operationDelayAsMilli / 2 );
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+        assertThat( durationAsMilli, lessThan( operationCount * operationDelayAsMilli / 2 ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
+    @Test
+    public void asynchronousOperationsShouldBeCompletedByWorkerThreads() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        // completion times are submitted by the thread that completes the operation, as others may depend on them
+        final Set<String> submittingThreadNames = Collections.newSetFromMap( new ConcurrentHashMap<String,Boolean>() );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter()
+        {
+            @Override
+            public void submitCompletedTime( long timeAsMilli )
+            {
+                submittingThreadNames.add( Thread.currentThread().getName() );
+            }
+        };
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        // child operations are generated once parent has completed, i.e., by the thread that completes it
+        final Set<String> completingThreadNames = Collections.newSetFromMap( new ConcurrentHashMap<String,Boolean>() );
+        ChildOperationGenerator childOperationGenerator = new ChildOperationGenerator()
+        {
+            @Override
+            public double initialState()
+            {
+                return 0;
+            }
+
+            @Override
+            public Operation nextOperation( double state, Operation operation, Object result,
+                    long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+            {
+                completingThreadNames.add( Thread.currentThread().getName() );
+                return null;
+            }
+
+            @Override
+            public double updateState( double previousState, int previousOperationType )
+            {
+                return previousState;
+            }
+        };
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        long operationDelayAsMilli = 10;
+        Map<String,String> params = new HashMap<>();
+        params.put( DummyAsyncDb.DELAY_AS_MILLI_ARG, Long.toString( operationDelayAsMilli ) );
+        Db db = new DummyAsyncDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 2;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                ChildOperationMode.INLINE,
+                new ChildOperationChainRecorder()
+        );
+
+        int operationCount = 100;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        executor.shutdown( 10000l );
+
+        // Then
+        // not by the thread of the database client that completed them
+        assertThat( completingThreadNames.isEmpty(), is( false ) );
+        for ( String completingThreadName : completingThreadNames )
+        {
+            assertThat( completingThreadName,
+                    completingThreadName.startsWith( ThreadPoolOperationExecutor.class.getSimpleName() ), is( true ) );
+        }
+        assertThat( submittingThreadNames.isEmpty(), is( false ) );
+        for ( String submittingThreadName : submittingThreadNames )
+        {
+            assertThat( submittingThreadName,
+                    submittingThreadName.startsWith( ThreadPoolOperationExecutor.class.getSimpleName() ), is( false ) );
+        }
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
+    @Test
+    public void asynchronousChildOperationChainsShouldExecuteEveryChildOperation() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        final int chainLength = 5;
+        ChildOperationGenerator childOperationGenerator = new ChildOperationGenerator()
+        {
+            @Override
+            public double initialState()
+            {
+                return 0;
+            }
+
+            @Override
+            public Operation nextOperation( double state, Operation operation, Object result,
+                    long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+            {
+                if ( state >= chainLength )
+                {
+                    return null;
+                }
+                Operation childOperation = new NothingOperation();
+                childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli );
+                childOperation.setTimeStamp( actualStartTimeAsMilli );
+                childOperation.setDependencyTimeStamp( 0l );
+                return childOperation;
+            }
+
+            @Override
+            public double updateState( double previousState, int previousOperationType )
+            {
+                return previousState + 1;
+            }
+        };
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 2;
+        // small enough for work queue to fill up, so some chains are continued inline
+        int boundedQueueSize = 4;
+        ChildOperationChainRecorder childOperationChainRecorder = new ChildOperationChainRecorder();
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                ChildOperationMode.ASYNCHRONOUS,
+                childOperationChainRecorder
+        );
+
+        int operationCount = 100;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        executor.shutdown( 10000l );
+
+        // Then
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( (long) operationCount * (1 + chainLength) ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().count(), is( (long) operationCount ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().min(), is( (long) chainLength ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().max(), is( (long) chainLength ) );
+        assertThat( childOperationChainRecorder.latencySnapshot().count(), is( (long) operationCount ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void asynchronousChildOperationChainsShouldOnlyBeContinuedInlineByWorkerThreads() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        final int chainLength = 5;
+        // child operations are generated by the threads that continue the chains
+        final Set<String> continuingThreadNames = Collections.newSetFromMap( new ConcurrentHashMap<String,Boolean>() );
+        ChildOperationGenerator childOperationGenerator = new ChildOperationGenerator()
+        {
+            @Override
+            public double initialState()
+            {
+                return 0;
+            }
+
+            @Override
+            public Operation nextOperation( double state, Operation operation, Object result,
+                    long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+            {
+                continuingThreadNames.add( Thread.currentThread().getName() );
+                if ( state >= chainLength )
+                {
+                    return null;
+                }
+                Operation childOperation = new NothingOperation();
+                childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli );
+                childOperation.setTimeStamp( actualStartTimeAsMilli );
+                childOperation.setDependencyTimeStamp( 0l );
+                return childOperation;
+            }
+
+            @Override
+            public double updateState( double previousState, int previousOperationType )
+            {
+                return previousState + 1;
+            }
+        };
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        Map<String,String> params = new HashMap<>();
+        params.put( DummyAsyncDb.DELAY_AS_MILLI_ARG, Long.toString( 1 ) );
+        Db db = new DummyAsyncDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 2;
+        // work queue is full most of the time, so chains can rarely be submitted without blocking
+        int boundedQueueSize = 1;
+        ChildOperationChainRecorder childOperationChainRecorder = new ChildOperationChainRecorder();
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                ChildOperationMode.ASYNCHRONOUS,
+                childOperationChainRecorder
+        );
+
+        int operationCount = 20;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        executor.shutdown( 10000l );
+
+        // Then
+        // not by the thread of the database client that completed the previous operation of the chain
+        assertThat( continuingThreadNames.isEmpty(), is( false ) );
+        for ( String continuingThreadName : continuingThreadNames )
+        {
+            assertThat( continuingThreadName,
+                    continuingThreadName.startsWith( ThreadPoolOperationExecutor.class.getSimpleName() ), is( true ) );
+        }
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( (long) operationCount * (1 + chainLength) ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().count(), is( (long) operationCount ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().min(), is( (long) chainLength ) );
+        assertThat( childOperationChainRecorder.lengthSnapshot().max(), is( (long) chainLength ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
 }
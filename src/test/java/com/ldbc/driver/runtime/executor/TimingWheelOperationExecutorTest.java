@@ -0,0 +1,146 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimingWheelOperationExecutorTest
+{
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int threadCount = 1;
+        OperationExecutor executor = newExecutor( timeSource, errorReporter, metricsService, threadCount );
+
+        int operationCount = 100;
+        long firstScheduledStartTime = timeSource.nowAsMilli() + 100;
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( firstScheduledStartTime + i );
+            operation.setTimeStamp( firstScheduledStartTime + i );
+            operation.setDependencyTimeStamp( 0l );
+
+            // When
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void workersShouldNotBeBlockedByOperationsThatAreNotYetDue() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int threadCount = 1;
+        OperationExecutor executor = newExecutor( timeSource, errorReporter, metricsService, threadCount );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        Operation lateOperation = new NothingOperation();
+        lateOperation.setScheduledStartTimeAsMilli( nowAsMilli + 1000 );
+        lateOperation.setTimeStamp( nowAsMilli + 1000 );
+        lateOperation.setDependencyTimeStamp( 0l );
+        Operation earlyOperation = new NothingOperation();
+        earlyOperation.setScheduledStartTimeAsMilli( nowAsMilli + 10 );
+        earlyOperation.setTimeStamp( nowAsMilli + 10 );
+        earlyOperation.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( lateOperation );
+        executor.execute( earlyOperation );
+
+        // Then
+        // only worker thread would be parked waiting for late operation, if it had been handed to worker
+        Spinner.powerNap( 500 );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 2l ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private OperationExecutor newExecutor( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService,
+            int threadCount ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        return new TimingWheelOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                ignoreScheduledStartTime
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class VirtualThreadOperationExecutorTest
+{
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int maxInFlight = 10;
+        OperationExecutor executor = newExecutor( timeSource, errorReporter, metricsService, maxInFlight );
+
+        int operationCount = 100;
+        long firstScheduledStartTime = timeSource.nowAsMilli() + 100;
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( firstScheduledStartTime + i );
+            operation.setTimeStamp( firstScheduledStartTime + i );
+            operation.setDependencyTimeStamp( 0l );
+
+            // When
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldBlockWhenMaximumNumberOfOperationsAreInFlight() throws Exception
+    {
+        // Given
+        final TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int maxInFlight = 2;
+        final OperationExecutor executor = newExecutor( timeSource, errorReporter, metricsService, maxInFlight );
+        final long scheduledStartTime = timeSource.nowAsMilli() + 1000;
+
+        Thread submittingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    for ( int i = 0; i < 3; i++ )
+                    {
+                        Operation operation = new NothingOperation();
+                        operation.setScheduledStartTimeAsMilli( scheduledStartTime );
+                        operation.setTimeStamp( scheduledStartTime );
+                        operation.setDependencyTimeStamp( 0l );
+                        executor.execute( operation );
+                    }
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+
+        // When
+        submittingThread.start();
+
+        // Then
+        // third operation can not be submitted until one of the first two completes
+        Spinner.powerNap( 500 );
+        assertThat( submittingThread.isAlive(), is( true ) );
+        assertThat( metricsService.count(), is( 0l ) );
+
+        submittingThread.join();
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void executorShouldRejectAsynchronousChildOperations() throws Exception
+    {
+        TimeSource timeSource = new SystemTimeSource();
+        newExecutor( timeSource, new ConcurrentErrorReporter(), new DummyCountingMetricsService(), 10,
+                ChildOperationMode.ASYNCHRONOUS );
+    }
+
+    private OperationExecutor newExecutor( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService,
+            int maxInFlight ) throws Exception
+    {
+        return newExecutor( timeSource, errorReporter, metricsService, maxInFlight, ChildOperationMode.INLINE );
+    }
+
+    private OperationExecutor newExecutor( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService,
+            int maxInFlight,
+            ChildOperationMode childOperationMode ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new VirtualThreadOperationExecutor(
+                maxInFlight,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator(),
+                childOperationMode,
+                loggingService
+        );
+    }
+}
@@ -83,6 +83,99 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectMeasurementsWithEveryWaitStrategyAndSmallRingBuffer()
+            throws WorkloadException, MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        for ( MetricsWaitStrategy waitStrategy : MetricsWaitStrategy.values() )
+        {
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            MetricsService metricsService = new DisruptorSbeMetricsService(
+                    timeSource,
+                    errorReporter,
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    new NullResultsLogWriter(),
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    2,
+                    waitStrategy,
+                    DisruptorSbeMetricsService.DEFAULT_RECORDING_MODE
+            );
+            try
+            {
+                shouldReturnCorrectMeasurements( metricsService.getWriter() );
+            }
+            finally
+            {
+                System.out.println( errorReporter.toString() );
+                metricsService.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurementsWhenRecordingOnWriterThreads()
+            throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DisruptorSbeMetricsService.DEFAULT_RING_BUFFER_SIZE,
+                DisruptorSbeMetricsService.DEFAULT_WAIT_STRATEGY,
+                MetricsRecordingMode.WRITER_THREADS
+        );
+        try
+        {
+            shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotAcceptRingBufferSizeThatIsNotPowerOfTwo() throws WorkloadException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        boolean exceptionThrown = false;
+        try
+        {
+            new DisruptorSbeMetricsService(
+                    timeSource,
+                    new ConcurrentErrorReporter(),
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    new NullResultsLogWriter(),
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    1000,
+                    DisruptorSbeMetricsService.DEFAULT_WAIT_STRATEGY,
+                    DisruptorSbeMetricsService.DEFAULT_RECORDING_MODE
+            );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
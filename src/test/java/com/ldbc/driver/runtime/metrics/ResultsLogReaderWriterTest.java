@@ -5,11 +5,18 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import static com.ldbc.driver.runtime.metrics.ResultsLogFormat.BINARY;
+import static com.ldbc.driver.runtime.metrics.ResultsLogFormat.BINARY_COMPRESSED;
+import static com.ldbc.driver.runtime.metrics.ResultsLogFormat.CSV;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -65,6 +72,28 @@ public class ResultsLogReaderWriterTest
         }
     }
 
+    @Test
+    public void shouldOnlyWriteCsvRowsOncePerFlushInterval() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS, Long.MAX_VALUE ) )
+        {
+            writer.write( "a", 1, 2, 3, 0, 4 );
+            writer.flush();
+            assertThat( resultsLog.length(), equalTo( 0L ) );
+        }
+        assertTrue( resultsLog.length() > 0 );
+
+        resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS, 0 ) )
+        {
+            writer.write( "a", 1, 2, 3, 0, 4 );
+            writer.flush();
+            assertTrue( resultsLog.length() > 0 );
+        }
+    }
+
     @Test
     public void shouldConvertUnitsCorrectly() throws Exception
     {
@@ -112,4 +141,127 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesWithBinaryFormats() throws Exception
+    {
+        for ( ResultsLogFormat format : new ResultsLogFormat[]{BINARY, BINARY_COMPRESSED} )
+        {
+            File resultsLog = temporaryFolder.newFile();
+
+            try ( ResultsLogWriter writer = format.newWriter( resultsLog, NANOSECONDS ) )
+            {
+                writer.write( "a", Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE );
+                writer.write( "b", 0, 0, 0, Integer.MIN_VALUE, 0 );
+                writer.write( "a", 1, 2, 3, 4, 5 );
+            }
+
+            try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
+            {
+                assertThat( reader, instanceOf( BinaryResultsLogReader.class ) );
+                assertThat( reader.unit(), equalTo( NANOSECONDS ) );
+
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "a" ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+                assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "b" ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 0L ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( 0L ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
+                assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( 0L ) );
+
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "a" ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( 3L ) );
+                assertThat( reader.getResultCode(), equalTo( 4 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+
+                assertFalse( reader.next() );
+            }
+        }
+    }
+
+    @Test
+    public void shouldDetectCsvFormatWhenReading() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+
+        try ( ResultsLogWriter writer = CSV.newWriter( resultsLog, MILLISECONDS ) )
+        {
+            writer.write( "a", 1, 2, 3_000_000, 4, 5 );
+        }
+
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
+        {
+            assertThat( reader, instanceOf( SimpleResultsLogReader.class ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 3_000_000L ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteAndReadManyBlocksWithBinaryFormats() throws Exception
+    {
+        int blockSize = 64 * 1024;
+        int count = 100_000;
+        String[] names = {"Operation1", "Operation2", "Operation3"};
+        for ( boolean compressed : new boolean[]{false, true} )
+        {
+            File resultsLog = temporaryFolder.newFile();
+            Random random = new Random( 42 );
+
+            try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, MICROSECONDS, compressed,
+                    blockSize, 0 ) )
+            {
+                for ( int i = 0; i < count; i++ )
+                {
+                    long scheduled = 1_400_000_000_000L + i;
+                    writer.write(
+                            names[i % names.length],
+                            scheduled,
+                            scheduled + random.nextInt( 10 ),
+                            MICROSECONDS.toNanos( random.nextInt( 100_000 ) ),
+                            i % 2,
+                            scheduled * 1000 );
+                    if ( i % 1000 == 0 )
+                    {
+                        writer.flush();
+                    }
+                }
+            }
+
+            random = new Random( 42 );
+            try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+            {
+                for ( int i = 0; i < count; i++ )
+                {
+                    long scheduled = 1_400_000_000_000L + i;
+                    assertTrue( reader.next() );
+                    assertThat( reader.getOperationName(), equalTo( names[i % names.length] ) );
+                    assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( scheduled ) );
+                    assertThat( reader.getActualStartTimeAsMilli(), equalTo( scheduled + random.nextInt( 10 ) ) );
+                    assertThat( reader.getRunDurationAsNano(),
+                            equalTo( MICROSECONDS.toNanos( random.nextInt( 100_000 ) ) ) );
+                    assertThat( reader.getResultCode(), equalTo( i % 2 ) );
+                    assertThat( reader.getOriginalStartTime(), equalTo( scheduled * 1000 ) );
+                }
+                assertFalse( reader.next() );
+            }
+            if ( compressed )
+            {
+                assertThat( resultsLog.length(), lessThan( (long) count * BinaryResultsLogWriter.RECORD_LENGTH ) );
+            }
+        }
+    }
 }
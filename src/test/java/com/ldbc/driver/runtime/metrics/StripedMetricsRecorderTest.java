@@ -0,0 +1,131 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StripedMetricsRecorderTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        StripedMetricsRecorder recorder = new StripedMetricsRecorder( newMetricsManager(), 4 );
+
+        assertThat( recorder.snapshot().startTimeAsMilli(), equalTo( -1l ) );
+        assertThat( recorder.snapshot().latestFinishTimeAsMilli(), equalTo( -1l ) );
+        assertThat( recorder.status().operationCount(), equalTo( 0l ) );
+
+        Operation operation1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation operation2 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation operation3 = DummyLdbcSnbInteractiveOperationInstances.read2();
+
+        recorder.measure( 2, TimeUnit.MILLISECONDS.toNanos( 1 ), operation1.type() );
+        recorder.measure( 8, TimeUnit.MILLISECONDS.toNanos( 3 ), operation2.type() );
+        recorder.measure( 11, TimeUnit.MILLISECONDS.toNanos( 5 ), operation3.type() );
+
+        WorkloadResultsSnapshot snapshot = recorder.snapshot();
+        assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
+        assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
+        assertThat( snapshot.totalOperationCount(), equalTo( 3l ) );
+        assertThat( recorder.status().operationCount(), equalTo( 3l ) );
+
+        // snapshots do not consume measurements
+        assertThat( recorder.snapshot(), equalTo( snapshot ) );
+    }
+
+    @Test
+    public void shouldReturnSameResultsAsMetricsManagerWhenRecordingFromManyThreads()
+            throws WorkloadException, MetricsCollectionException, InterruptedException
+    {
+        int threadCount = 8;
+        int measurementsPerThread = 100_000;
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping =
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping();
+        final List<Integer> operationTypes = new ArrayList<>( operationTypeToClassMapping.keySet() );
+        final StripedMetricsRecorder recorder = new StripedMetricsRecorder( newMetricsManager(), threadCount / 2 );
+        MetricsManager metricsManager = newMetricsManager();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            final long seed = t;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        Random random = new Random( seed );
+                        for ( int i = 0; i < measurementsPerThread; i++ )
+                        {
+                            recorder.measure(
+                                    random.nextInt( 1_000_000 ),
+                                    random.nextInt( 1_000_000_000 ),
+                                    operationTypes.get( random.nextInt( operationTypes.size() ) ) );
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        error.set( e );
+                    }
+                }
+            } );
+        }
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            Random random = new Random( t );
+            for ( int i = 0; i < measurementsPerThread; i++ )
+            {
+                metricsManager.measure(
+                        random.nextInt( 1_000_000 ),
+                        random.nextInt( 1_000_000_000 ),
+                        operationTypes.get( random.nextInt( operationTypes.size() ) ) );
+            }
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        assertThat( error.get(), is( (Throwable) null ) );
+        assertThat( recorder.status().operationCount(), equalTo( (long) threadCount * measurementsPerThread ) );
+        assertThat( recorder.snapshot(), equalTo( metricsManager.snapshot() ) );
+    }
+
+    private MetricsManager newMetricsManager() throws MetricsCollectionException
+    {
+        return new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+    }
+}
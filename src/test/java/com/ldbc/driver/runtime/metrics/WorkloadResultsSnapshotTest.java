@@ -59,6 +59,19 @@ public class WorkloadResultsSnapshotTest
         assertThat( snapshot1, equalTo( snapshot2 ) );
     }
 
+    @Test
+    public void shouldKeepRingBufferFullStallCountWhenSerializedAndMarshaled()
+            throws WorkloadException, MetricsCollectionException, IOException
+    {
+        WorkloadResultsSnapshot snapshot1 =
+                createSnapshot( 1, TimeUnit.NANOSECONDS, TimeUnit.MICROSECONDS, TimeUnit.MILLISECONDS,
+                        TimeUnit.SECONDS ).withRingBufferFullStallCount( 42 );
+        WorkloadResultsSnapshot snapshot2 = WorkloadResultsSnapshot.fromJson( snapshot1.toJson() );
+        assertThat( snapshot2.ringBufferFullStallCount(), equalTo( 42L ) );
+        assertThat( snapshot1, equalTo( snapshot2 ) );
+        assertThat( snapshot1, not( equalTo( snapshot1.withRingBufferFullStallCount( 0 ) ) ) );
+    }
+
     private WorkloadResultsSnapshot createSnapshot( int seed, TimeUnit timeUnit1, TimeUnit timeUnit2,
             TimeUnit timeUnit3, TimeUnit timeUnit4 )
     {
@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ScheduleLagRecorder;
 import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -59,6 +60,52 @@ public class SpinnerTests
         spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
     }
 
+    @Test
+    public void shouldPassWhenNoCheckAndStartTimeArrivesWithHybridWaitStrategyAndRecordScheduleLag()
+            throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 1l;
+        ScheduleLagRecorder scheduleLagRecorder = new ScheduleLagRecorder();
+        Spinner spinner = new Spinner(
+                timeSource,
+                spinnerSleepDuration,
+                ignoreScheduledStartTime,
+                SpinnerWaitStrategy.HYBRID,
+                scheduleLagRecorder
+        );
+
+        long scheduledStartTime = 10l;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+
+        SpinningThread spinningThread = new SpinningThread( spinner, operation );
+
+        // When
+        spinningThread.start();
+
+        // Then
+        // should not return before start time
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime + 2 );
+
+        // should return when start time reached
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( true ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+
+        // lag is measured from scheduled start time, and recorded once, into the stripe of the spinning thread
+        assertThat( scheduleLagRecorder.stripeSnapshots().size(), is( 1 ) );
+        assertThat( scheduleLagRecorder.combinedSnapshot().count(), is( 1l ) );
+        assertThat( scheduleLagRecorder.combinedSnapshot().max() >= TimeUnit.MILLISECONDS.toMicros( 2 ), is( true ) );
+    }
+
     @Test
     public void shouldPassOnlyWhenCheckPassesAndStartTimeArrives() throws InterruptedException
     {
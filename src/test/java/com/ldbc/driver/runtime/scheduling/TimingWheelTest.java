@@ -0,0 +1,110 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.util.Function1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimingWheelTest
+{
+    @Test
+    public void shouldNotAddItemsThatAreAlreadyDue()
+    {
+        // Given
+        TimingWheel<Long> timingWheel = new TimingWheel<>( 100, 1, 8 );
+
+        // When/Then
+        assertThat( timingWheel.add( 50, 50l ), is( false ) );
+        assertThat( timingWheel.add( 100, 100l ), is( false ) );
+        assertThat( timingWheel.add( 101, 101l ), is( true ) );
+        assertThat( timingWheel.size(), is( 1l ) );
+    }
+
+    @Test
+    public void shouldReleaseItemsOnlyOnceDueAcrossAllLevels()
+    {
+        // Given
+        // small wheel, so items cascade through multiple levels
+        long startTime = 1000;
+        TimingWheel<Long> timingWheel = new TimingWheel<>( startTime, 1, 4 );
+        Random random = new Random( 42 );
+        List<Long> dueTimes = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            long dueTime = startTime + 1 + random.nextInt( 5000 );
+            dueTimes.add( dueTime );
+            assertThat( timingWheel.add( dueTime, dueTime ), is( true ) );
+        }
+        RecordingSink sink = new RecordingSink();
+
+        // When/Then
+        for ( long now = startTime; now <= startTime + 5001; now++ )
+        {
+            sink.now = now;
+            timingWheel.advance( now, sink );
+        }
+        assertThat( sink.released.size(), equalTo( dueTimes.size() ) );
+        assertThat( timingWheel.size(), is( 0l ) );
+        long previousDueTime = 0;
+        for ( long dueTime : sink.released )
+        {
+            assertThat( dueTime >= previousDueTime, is( true ) );
+            previousDueTime = dueTime;
+        }
+        assertThat( sink.releasedEarly, is( false ) );
+        assertThat( sink.releasedLate, is( false ) );
+    }
+
+    @Test
+    public void shouldReleaseAllDueItemsWhenClockJumps()
+    {
+        // Given
+        TimingWheel<Long> timingWheel = new TimingWheel<>( 0, 1, 8 );
+        timingWheel.add( 5, 5l );
+        timingWheel.add( 500, 500l );
+        timingWheel.add( 50000, 50000l );
+        RecordingSink sink = new RecordingSink();
+
+        // When
+        sink.now = 1000;
+        timingWheel.advance( 1000, sink );
+
+        // Then
+        assertThat( sink.released.size(), is( 2 ) );
+        assertThat( timingWheel.size(), is( 1l ) );
+
+        // When
+        // wheel is empty, clock should skip straight to now
+        sink.now = 100000;
+        timingWheel.advance( 100000, sink );
+        timingWheel.advance( 200000, sink );
+
+        // Then
+        assertThat( sink.released.size(), is( 3 ) );
+        assertThat( timingWheel.currentTimeAsMilli(), is( 200000l ) );
+        assertThat( timingWheel.add( 200000, 200000l ), is( false ) );
+    }
+
+    private static class RecordingSink implements Function1<Long,Void,RuntimeException>
+    {
+        private final List<Long> released = new ArrayList<>();
+        private long now = 0;
+        private boolean releasedEarly = false;
+        private boolean releasedLate = false;
+
+        @Override
+        public Void apply( Long dueTime )
+        {
+            released.add( dueTime );
+            releasedEarly = releasedEarly || dueTime > now;
+            releasedLate = releasedLate || dueTime < now;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.ldbc.driver.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ConcurrentLongRingBufferTest
+{
+    private static final long EMPTY = -1;
+
+    @Test
+    public void shouldRoundCapacityUpToPowerOfTwo()
+    {
+        assertThat( new ConcurrentLongRingBuffer( 1 ).capacity(), equalTo( 1 ) );
+        assertThat( new ConcurrentLongRingBuffer( 100 ).capacity(), equalTo( 128 ) );
+        assertThat( new ConcurrentLongRingBuffer( 1024 ).capacity(), equalTo( 1024 ) );
+    }
+
+    @Test
+    public void shouldReturnValueIfEmptyWhenEmpty()
+    {
+        // Given
+        ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( 4 );
+
+        // When/Then
+        assertThat( buffer.poll( EMPTY ), equalTo( EMPTY ) );
+        buffer.add( 1 );
+        assertThat( buffer.poll( EMPTY ), equalTo( 1l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( EMPTY ) );
+        assertThat( buffer.size(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldPollInOrderOfAdding()
+    {
+        // Given
+        ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( 4 );
+
+        // When
+        buffer.add( 1 );
+        buffer.add( 2 );
+        buffer.add( 3 );
+
+        // Then
+        assertThat( buffer.size(), equalTo( 3 ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 1l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 2l ) );
+        buffer.add( 4 );
+        buffer.add( 5 );
+        assertThat( buffer.poll( EMPTY ), equalTo( 3l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 4l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 5l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( EMPTY ) );
+    }
+
+    @Test
+    public void shouldOverwriteOldestWhenFull()
+    {
+        // Given
+        ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( 4 );
+
+        // When
+        for ( long i = 1; i <= 10; i++ )
+        {
+            buffer.add( i );
+        }
+
+        // Then
+        assertThat( buffer.size(), equalTo( 4 ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 7l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 8l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 9l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( 10l ) );
+        assertThat( buffer.poll( EMPTY ), equalTo( EMPTY ) );
+    }
+
+    @Test
+    public void shouldOnlyReturnAddedValuesWhenProducersAndConsumersAreConcurrent() throws InterruptedException
+    {
+        // Given
+        final ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( 64 );
+        final int threadCount = 4;
+        final long valuesPerProducer = 200000;
+        final CountDownLatch start = new CountDownLatch( 1 );
+        final AtomicLong invalidValues = new AtomicLong( 0 );
+        final AtomicLong producersRunning = new AtomicLong( threadCount );
+        List<Thread> threads = new ArrayList<>();
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            // producer t adds values t + 1, t + 1 + threadCount, ...
+            final long first = t + 1;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    awaitQuietly( start );
+                    for ( long i = 0; i < valuesPerProducer; i++ )
+                    {
+                        buffer.add( first + i * threadCount );
+                    }
+                    producersRunning.decrementAndGet();
+                }
+            } );
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    awaitQuietly( start );
+                    while ( producersRunning.get() > 0 )
+                    {
+                        long value = buffer.poll( EMPTY );
+                        if ( EMPTY != value && (value < 1 || value > valuesPerProducer * threadCount) )
+                        {
+                            invalidValues.incrementAndGet();
+                        }
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        start.countDown();
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // Then
+        assertThat( invalidValues.get(), equalTo( 0l ) );
+        long value;
+        while ( EMPTY != (value = buffer.poll( EMPTY )) )
+        {
+            assertThat( value >= 1 && value <= valuesPerProducer * threadCount, is( true ) );
+        }
+    }
+
+    private static void awaitQuietly( CountDownLatch latch )
+    {
+        try
+        {
+            latch.await();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
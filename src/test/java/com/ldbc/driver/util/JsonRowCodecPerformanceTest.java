@@ -0,0 +1,158 @@
+package com.ldbc.driver.util;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.workloads.ldbc.snb.bi.BiWorkloadTest;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compares marshalling then serializing BI results with per-type codecs, against doing the same through
+ * List&lt;List&lt;Object&gt;&gt; and a single, synchronized ObjectMapper, as BI results used to be
+ */
+public class JsonRowCodecPerformanceTest
+{
+    private static final int[] THREAD_COUNTS = new int[]{1, 2, 4, 8};
+
+    @Ignore
+    @Test
+    public void compareCodecsWithSynchronizedObjectMapperDuringConcurrentAccess() throws Exception
+    {
+        int roundTripsPerThread = 200000;
+        int experimentCount = 5;
+
+        List<Tuple2<Operation,String>> operationsAndSerializedResults = new ArrayList<>();
+        for ( Tuple2<Operation,Object> operationAndResult : new BiWorkloadTest().operationsAndResults() )
+        {
+            operationsAndSerializedResults.add(
+                    Tuple.tuple2(
+                            operationAndResult._1(),
+                            operationAndResult._1().serializeResult( operationAndResult._2() )
+                    )
+            );
+        }
+
+        for ( int threadCount : THREAD_COUNTS )
+        {
+            long totalDurationSynchronizedObjectMapper = 0;
+            long totalDurationCodecs = 0;
+            for ( int i = 0; i < experimentCount; i++ )
+            {
+                totalDurationSynchronizedObjectMapper = totalDurationSynchronizedObjectMapper +
+                                                        roundTripPerformanceTest( threadCount, roundTripsPerThread,
+                                                                operationsAndSerializedResults, false );
+                totalDurationCodecs = totalDurationCodecs +
+                                      roundTripPerformanceTest( threadCount, roundTripsPerThread,
+                                              operationsAndSerializedResults, true );
+            }
+            long roundTrips = (long) threadCount * roundTripsPerThread * experimentCount;
+            System.out.println( format( "Threads %s -- Synchronized ObjectMapper = \t%s round trip/ms",
+                    threadCount, roundTrips / Math.max( 1, totalDurationSynchronizedObjectMapper ) ) );
+            System.out.println( format( "Threads %s -- Codecs = \t\t\t\t\t%s round trip/ms",
+                    threadCount, roundTrips / Math.max( 1, totalDurationCodecs ) ) );
+        }
+    }
+
+    private long roundTripPerformanceTest( int threadCount,
+            final int roundTripsPerThread,
+            final List<Tuple2<Operation,String>> operationsAndSerializedResults,
+            final boolean useCodecs ) throws InterruptedException
+    {
+        final AtomicReference<Throwable> error = new AtomicReference<>( null );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for ( int j = 0; j < roundTripsPerThread; j++ )
+                        {
+                            Tuple2<Operation,String> operationAndSerializedResult =
+                                    operationsAndSerializedResults.get( j % operationsAndSerializedResults.size() );
+                            if ( useCodecs )
+                            {
+                                Operation operation = operationAndSerializedResult._1();
+                                operation.serializeResult(
+                                        operation.marshalResult( operationAndSerializedResult._2() ) );
+                            }
+                            else
+                            {
+                                SynchronizedObjectMapper.toJson(
+                                        SynchronizedObjectMapper.marshalListOfLists(
+                                                operationAndSerializedResult._2() ) );
+                            }
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        error.compareAndSet( null, e );
+                    }
+                }
+            } );
+        }
+
+        long startTime = System.currentTimeMillis();
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        long duration = System.currentTimeMillis() - startTime;
+
+        assertThat( error.get(), is( nullValue() ) );
+        return duration;
+    }
+
+    private static class SynchronizedObjectMapper
+    {
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+        private static final TypeReference<List<List<Object>>> LIST_OF_LISTS_TYPE_REFERENCE =
+                new TypeReference<List<List<Object>>>()
+                {
+                };
+
+        private static synchronized List<List<Object>> marshalListOfLists( String serializedJson )
+                throws SerializingMarshallingException
+        {
+            try
+            {
+                return OBJECT_MAPPER.readValue( serializedJson, LIST_OF_LISTS_TYPE_REFERENCE );
+            }
+            catch ( IOException e )
+            {
+                throw new SerializingMarshallingException( "Error marshalling object", e );
+            }
+        }
+
+        private static synchronized String toJson( Object object ) throws SerializingMarshallingException
+        {
+            try
+            {
+                return OBJECT_MAPPER.writeValueAsString( object );
+            }
+            catch ( IOException e )
+            {
+                throw new SerializingMarshallingException( "Error serializing object", e );
+            }
+        }
+    }
+}
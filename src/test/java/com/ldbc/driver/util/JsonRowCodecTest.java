@@ -0,0 +1,179 @@
+package com.ldbc.driver.util;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.workloads.ldbc.snb.bi.LdbcSnbBiQuery13PopularMonthlyTagsResult;
+import com.ldbc.driver.workloads.ldbc.snb.bi.LdbcSnbBiQuery1PostingSummaryResult;
+import com.ldbc.driver.workloads.ldbc.snb.bi.LdbcSnbBiQuery25WeightedPathsResult;
+import com.ldbc.driver.workloads.ldbc.snb.bi.db.DummyLdbcSnbBiOperationInstances;
+import com.ldbc.driver.workloads.ldbc.snb.bi.db.DummyLdbcSnbBiOperationResultSets;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery14Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfileResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class JsonRowCodecTest
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final JsonRowCodec<Object> UNTYPED_CODEC = new JsonRowCodec<Object>()
+    {
+        @Override
+        protected void writeRow( Object row, JsonGenerator jsonGenerator ) throws IOException
+        {
+            writeUntyped( jsonGenerator, row );
+        }
+
+        @Override
+        protected Object readRow( JsonParser jsonParser ) throws IOException
+        {
+            return readUntyped( jsonParser );
+        }
+    };
+
+    @Test
+    public void shouldMarshalAndSerializeUntypedFieldsAsObjectMapperDoes()
+            throws SerializingMarshallingException, IOException
+    {
+        // Given
+        String serializedRows =
+                "[[1],[12345678901],[1.5],[\"\\u16a0\"],[true],[false],[null],[[1,\"a\",[2.0]]],[{\"k\":[1,2]}]]";
+
+        // When
+        List<Object> rows = UNTYPED_CODEC.marshalRows( serializedRows );
+
+        // Then
+        List<List<Object>> expectedRows =
+                OBJECT_MAPPER.readValue( serializedRows, new TypeReference<List<List<Object>>>()
+                {
+                } );
+        assertThat( rows.size(), equalTo( expectedRows.size() ) );
+        for ( int i = 0; i < rows.size(); i++ )
+        {
+            assertThat( rows.get( i ), equalTo( expectedRows.get( i ).get( 0 ) ) );
+        }
+        assertThat( UNTYPED_CODEC.serializeRows( rows ), equalTo( OBJECT_MAPPER.writeValueAsString( expectedRows ) ) );
+    }
+
+    @Test
+    public void shouldSerializeBiResultsAsObjectMapperSerializesTheirFields()
+            throws SerializingMarshallingException, IOException
+    {
+        // Given
+        List<LdbcSnbBiQuery1PostingSummaryResult> results1 = DummyLdbcSnbBiOperationResultSets.read1Results();
+        List<List<Object>> results1Fields = new ArrayList<>();
+        for ( LdbcSnbBiQuery1PostingSummaryResult result : results1 )
+        {
+            results1Fields.add( Lists.<Object>newArrayList(
+                    result.year(),
+                    result.isComment(),
+                    result.messageLengthCategory(),
+                    result.messageCount(),
+                    result.messageLengthMean(),
+                    result.messageLengthSum(),
+                    result.percentOfTotalMessageCount() ) );
+        }
+        List<LdbcSnbBiQuery13PopularMonthlyTagsResult> results13 = DummyLdbcSnbBiOperationResultSets.read13Results();
+        List<List<Object>> results13Fields = new ArrayList<>();
+        for ( LdbcSnbBiQuery13PopularMonthlyTagsResult result : results13 )
+        {
+            List<List<Object>> tagPopularitiesFields = new ArrayList<>();
+            for ( LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity tagPopularity : result.tagPopularities() )
+            {
+                tagPopularitiesFields.add(
+                        Lists.<Object>newArrayList( tagPopularity.tagName(), tagPopularity.popularity() ) );
+            }
+            results13Fields.add( Lists.<Object>newArrayList( result.year(), result.month(), tagPopularitiesFields ) );
+        }
+        List<LdbcSnbBiQuery25WeightedPathsResult> results25 = DummyLdbcSnbBiOperationResultSets.read25Results();
+        List<List<Object>> results25Fields = new ArrayList<>();
+        for ( LdbcSnbBiQuery25WeightedPathsResult result : results25 )
+        {
+            results25Fields.add( Lists.<Object>newArrayList( result.personIds() ) );
+        }
+
+        // When
+        String serialized1 = DummyLdbcSnbBiOperationInstances.read1().serializeResult( results1 );
+        String serialized13 = DummyLdbcSnbBiOperationInstances.read13().serializeResult( results13 );
+        String serialized25 = DummyLdbcSnbBiOperationInstances.read25().serializeResult( results25 );
+
+        // Then
+        assertThat( serialized1, equalTo( OBJECT_MAPPER.writeValueAsString( results1Fields ) ) );
+        assertThat( serialized13, equalTo( OBJECT_MAPPER.writeValueAsString( results13Fields ) ) );
+        assertThat( serialized25, equalTo( OBJECT_MAPPER.writeValueAsString( results25Fields ) ) );
+        assertThat( DummyLdbcSnbBiOperationInstances.read1().marshalResult( serialized1 ), equalTo( results1 ) );
+        assertThat( DummyLdbcSnbBiOperationInstances.read13().marshalResult( serialized13 ), equalTo( results13 ) );
+        assertThat( DummyLdbcSnbBiOperationInstances.read25().marshalResult( serialized25 ), equalTo( results25 ) );
+    }
+
+    @Test
+    public void shouldSerializeInteractiveResultsAsObjectMapperSerializesTheirFields()
+            throws SerializingMarshallingException, IOException
+    {
+        // Given
+        List<LdbcQuery1Result> results1 = DummyLdbcSnbInteractiveOperationResultSets.read1Results();
+        List<List<Object>> results1Fields = new ArrayList<>();
+        for ( LdbcQuery1Result result : results1 )
+        {
+            results1Fields.add( Lists.<Object>newArrayList(
+                    result.friendId(),
+                    result.friendLastName(),
+                    result.distanceFromPerson(),
+                    result.friendBirthday(),
+                    result.friendCreationDate(),
+                    result.friendGender(),
+                    result.friendBrowserUsed(),
+                    result.friendLocationIp(),
+                    result.friendEmails(),
+                    result.friendLanguages(),
+                    result.friendCityName(),
+                    result.friendUniversities(),
+                    result.friendCompanies() ) );
+        }
+        List<LdbcQuery14Result> results14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+        List<List<Object>> results14Fields = new ArrayList<>();
+        for ( LdbcQuery14Result result : results14 )
+        {
+            results14Fields.add( Lists.<Object>newArrayList( result.personsIdsInPath(), result.pathWeight() ) );
+        }
+        LdbcShortQuery1PersonProfileResult resultShort1 = DummyLdbcSnbInteractiveOperationResultSets.short1Results();
+        List<Object> resultShort1Fields = Lists.<Object>newArrayList(
+                resultShort1.firstName(),
+                resultShort1.lastName(),
+                resultShort1.birthday(),
+                resultShort1.locationIp(),
+                resultShort1.browserUsed(),
+                resultShort1.cityId(),
+                resultShort1.gender(),
+                resultShort1.creationDate() );
+
+        // When
+        String serialized1 = DummyLdbcSnbInteractiveOperationInstances.read1().serializeResult( results1 );
+        String serialized14 = DummyLdbcSnbInteractiveOperationInstances.read14().serializeResult( results14 );
+        String serializedShort1 = DummyLdbcSnbInteractiveOperationInstances.short1().serializeResult( resultShort1 );
+
+        // Then
+        assertThat( serialized1, equalTo( OBJECT_MAPPER.writeValueAsString( results1Fields ) ) );
+        assertThat( serialized14, equalTo( OBJECT_MAPPER.writeValueAsString( results14Fields ) ) );
+        assertThat( serializedShort1, equalTo( OBJECT_MAPPER.writeValueAsString( resultShort1Fields ) ) );
+        assertThat( DummyLdbcSnbInteractiveOperationInstances.read1().marshalResult( serialized1 ),
+                equalTo( results1 ) );
+        assertThat( DummyLdbcSnbInteractiveOperationInstances.read14().marshalResult( serialized14 ),
+                equalTo( results14 ) );
+        assertThat( DummyLdbcSnbInteractiveOperationInstances.short1().marshalResult( serializedShort1 ),
+                equalTo( resultShort1 ) );
+    }
+}
@@ -0,0 +1,170 @@
+package com.ldbc.driver.util;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LongKeyedMinHeapTest
+{
+    @Test
+    public void shouldReturnValuesInOrderOfKeysThenValues()
+    {
+        // Given
+        LongKeyedMinHeap heap = new LongKeyedMinHeap( 5 );
+        heap.add( 4, 10 );
+        heap.add( 3, 5 );
+        heap.add( 0, 10 );
+        heap.add( 2, 5 );
+        heap.add( 1, 7 );
+
+        // When
+        List<Integer> values = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        while ( false == heap.isEmpty() )
+        {
+            keys.add( heap.peekKey() );
+            values.add( heap.removeTop() );
+        }
+
+        // Then
+        assertThat( values, equalTo( (List<Integer>) Lists.newArrayList( 2, 3, 1, 0, 4 ) ) );
+        assertThat( keys, equalTo( (List<Long>) Lists.newArrayList( 5l, 5l, 7l, 10l, 10l ) ) );
+    }
+
+    @Test
+    public void shouldMergeSortedStreamsSameAsLinearScan()
+    {
+        // Given
+        Random random = new Random( 42 );
+        int streamCount = 37;
+        long[][] streams = new long[streamCount][];
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            streams[i] = new long[random.nextInt( 200 )];
+            long time = random.nextInt( 100 );
+            for ( int j = 0; j < streams[i].length; j++ )
+            {
+                time += random.nextInt( 10 );
+                streams[i][j] = time;
+            }
+        }
+
+        // When
+        List<long[]> expected = linearScanMerge( streams );
+        List<long[]> actual = new ArrayList<>();
+        int[] positions = new int[streamCount];
+        LongKeyedMinHeap heap = new LongKeyedMinHeap( streamCount );
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            if ( streams[i].length > 0 )
+            {
+                heap.add( i, streams[i][0] );
+            }
+        }
+        while ( false == heap.isEmpty() )
+        {
+            int stream = heap.peekValue();
+            actual.add( new long[]{stream, heap.peekKey()} );
+            positions[stream]++;
+            if ( positions[stream] < streams[stream].length )
+            {
+                heap.replaceTopKey( streams[stream][positions[stream]] );
+            }
+            else
+            {
+                heap.removeTop();
+            }
+        }
+
+        // Then
+        assertThat( actual.size(), is( expected.size() ) );
+        for ( int i = 0; i < expected.size(); i++ )
+        {
+            assertThat( actual.get( i ), equalTo( expected.get( i ) ) );
+        }
+    }
+
+    @Test
+    public void shouldSortRandomKeys()
+    {
+        // Given
+        Random random = new Random( 42 );
+        int count = 10000;
+        LongKeyedMinHeap heap = new LongKeyedMinHeap( count );
+        List<Long> keys = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            long key = random.nextLong();
+            keys.add( key );
+            heap.add( i, key );
+        }
+        Collections.sort( keys, new Comparator<Long>()
+        {
+            @Override
+            public int compare( Long o1, Long o2 )
+            {
+                return o1.compareTo( o2 );
+            }
+        } );
+
+        // When
+        List<Long> heapKeys = new ArrayList<>();
+        while ( false == heap.isEmpty() )
+        {
+            heapKeys.add( heap.peekKey() );
+            heap.removeTop();
+        }
+
+        // Then
+        assertThat( heapKeys, equalTo( keys ) );
+    }
+
+    @Test( expected = NoSuchElementException.class )
+    public void shouldFailToPeekWhenEmpty()
+    {
+        new LongKeyedMinHeap( 1 ).peekValue();
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void shouldFailToAddWhenFull()
+    {
+        LongKeyedMinHeap heap = new LongKeyedMinHeap( 1 );
+        heap.add( 0, 1 );
+        heap.add( 1, 1 );
+    }
+
+    // returns (stream, time) pairs, earliest time first, lowest stream first on equal times
+    private static List<long[]> linearScanMerge( long[][] streams )
+    {
+        List<long[]> merged = new ArrayList<>();
+        int[] positions = new int[streams.length];
+        while ( true )
+        {
+            int min = -1;
+            for ( int i = 0; i < streams.length; i++ )
+            {
+                if ( positions[i] < streams[i].length &&
+                     (-1 == min || streams[i][positions[i]] < streams[min][positions[min]]) )
+                {
+                    min = i;
+                }
+            }
+            if ( -1 == min )
+            {
+                return merged;
+            }
+            merged.add( new long[]{min, streams[min][positions[min]]} );
+            positions[min]++;
+        }
+    }
+}
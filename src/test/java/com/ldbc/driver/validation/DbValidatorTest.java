@@ -3,6 +3,7 @@ package com.ldbc.driver.validation;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
@@ -22,10 +23,12 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultInstances;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
+import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -99,6 +102,145 @@ public class DbValidatorTest
         assertThat( validationResult.isSuccessful(), is( false ) );
     }
 
+    @Test
+    public void shouldStreamIncorrectResultsWhenValidatingWithMultipleThreads()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<ValidationParam> validationParamsList =
+                Lists.newArrayList( gf.limit( gf.repeating( buildParams().iterator() ), 10000 ) );
+
+        LdbcQuery14 operation14 = DummyLdbcSnbInteractiveOperationInstances.read14();
+        List<LdbcQuery14Result> unexpectedResult14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+        unexpectedResult14.add( DummyLdbcSnbInteractiveOperationResultInstances.read14Result() );
+        int incorrectCount = 3;
+        for ( int i = 0; i < incorrectCount; i++ )
+        {
+            validationParamsList.add( ValidationParam.createTyped( operation14, unexpectedResult14 ) );
+        }
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        File actualResultsFile = temporaryFolder.newFile();
+        File expectedResultsFile = temporaryFolder.newFile();
+        DbValidator dbValidator = new DbValidator();
+
+        // When
+        DbValidationResult validationResult;
+        try ( DbValidationFailuresJsonWriter failuresWriter =
+                      new DbValidationFailuresJsonWriter( workload, actualResultsFile, expectedResultsFile ) )
+        {
+            validationResult = dbValidator.validate(
+                    validationParamsList.iterator(),
+                    db,
+                    DbValidator.UNKNOWN_VALIDATION_PARAMS_COUNT,
+                    workload,
+                    4,
+                    failuresWriter
+            );
+        }
+
+        // Then
+        System.out.println( validationResult.resultMessage() );
+        assertThat( validationResult.isSuccessful(), is( false ) );
+        ObjectMapper objectMapper = new ObjectMapper();
+        List actualResults = objectMapper.readValue( actualResultsFile, List.class );
+        List expectedResults = objectMapper.readValue( expectedResultsFile, List.class );
+        assertThat( actualResults.size(), is( incorrectCount ) );
+        assertThat( expectedResults.size(), is( incorrectCount ) );
+    }
+
+    @Test
+    public void shouldPropagateErrorsThatEscapeValidationWorkers()
+            throws WorkloadException, DbException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        final RuntimeException resultsEqualError = new IllegalStateException( "Unable to compare results" );
+        Workload workload = new LdbcSnbInteractiveWorkload()
+        {
+            @Override
+            public boolean resultsEqual( Operation operation, Object result1, Object result2 )
+            {
+                throw resultsEqualError;
+            }
+        };
+        workload.init( configuration );
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        DbValidator dbValidator = new DbValidator();
+
+        // When
+        WorkloadException thrown = null;
+        try
+        {
+            dbValidator.validate(
+                    buildParams().iterator(),
+                    db,
+                    DbValidator.UNKNOWN_VALIDATION_PARAMS_COUNT,
+                    workload,
+                    4,
+                    null
+            );
+        }
+        catch ( WorkloadException e )
+        {
+            thrown = e;
+        }
+
+        // Then
+        assertThat( null == thrown, is( false ) );
+        assertThat( thrown.getCause() == resultsEqualError, is( true ) );
+    }
+
     @Test
     public void shouldPassValidationWhenDbImplementationIsCorrect()
             throws WorkloadException, DbException, IOException, DriverConfigurationException
@@ -0,0 +1,151 @@
+package com.ldbc.driver.validation;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate1AddPerson;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate2AddPostLike;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate3AddCommentLike;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate4AddForum;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate5AddForumMembership;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate6AddPost;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate7AddComment;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate8AddFriendship;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ParallelValidationParamsGeneratorTest
+{
+    @Test
+    public void shouldGenerateSameValidationParamsInSameOrderAsSequentialGenerator()
+            throws IOException, DriverConfigurationException, WorkloadException, DbException
+    {
+        // Given
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" ),
+                workload.operationTypeToClassMapping()
+        );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<Operation> operations = Lists.newArrayList( gf.limit( gf.repeating( buildOperations().iterator() ), 5000 ) );
+        Set<Class<? extends Operation>> orderedOperationTypes = Sets.<Class<? extends Operation>>newHashSet(
+                LdbcUpdate1AddPerson.class,
+                LdbcUpdate2AddPostLike.class,
+                LdbcUpdate3AddCommentLike.class,
+                LdbcUpdate4AddForum.class,
+                LdbcUpdate5AddForumMembership.class,
+                LdbcUpdate6AddPost.class,
+                LdbcUpdate7AddComment.class,
+                LdbcUpdate8AddFriendship.class
+        );
+        int validationSetSize = 500;
+
+        // When
+        List<String[]> sequentialCsvRows = Lists.newArrayList( new ValidationParamsToCsvRows(
+                new ValidationParamsGenerator(
+                        db,
+                        workload.dbValidationParametersFilter( validationSetSize ),
+                        operations.iterator() ),
+                workload,
+                false ) );
+        ParallelValidationParamsGenerator parallelValidationParamsGenerator = new ParallelValidationParamsGenerator(
+                db,
+                workload.dbValidationParametersFilter( validationSetSize ),
+                operations.iterator(),
+                orderedOperationTypes,
+                4 );
+        List<String[]> parallelCsvRows;
+        try
+        {
+            parallelCsvRows = Lists.newArrayList(
+                    new ValidationParamsToCsvRows( parallelValidationParamsGenerator, workload, false ) );
+        }
+        finally
+        {
+            parallelValidationParamsGenerator.close();
+        }
+
+        // Then
+        assertThat( sequentialCsvRows.isEmpty(), is( false ) );
+        assertThat( parallelCsvRows.size(), equalTo( sequentialCsvRows.size() ) );
+        for ( int i = 0; i < sequentialCsvRows.size(); i++ )
+        {
+            assertThat( parallelCsvRows.get( i ), equalTo( sequentialCsvRows.get( i ) ) );
+        }
+        assertThat( parallelValidationParamsGenerator.entriesWrittenSoFar(), equalTo( sequentialCsvRows.size() ) );
+        db.close();
+        workload.close();
+    }
+
+    private List<Operation> buildOperations()
+    {
+        return Lists.<Operation>newArrayList(
+                DummyLdbcSnbInteractiveOperationInstances.read1(),
+                DummyLdbcSnbInteractiveOperationInstances.read2(),
+                DummyLdbcSnbInteractiveOperationInstances.write1(),
+                DummyLdbcSnbInteractiveOperationInstances.read3(),
+                DummyLdbcSnbInteractiveOperationInstances.read4(),
+                DummyLdbcSnbInteractiveOperationInstances.read5(),
+                DummyLdbcSnbInteractiveOperationInstances.write2(),
+                DummyLdbcSnbInteractiveOperationInstances.read6(),
+                DummyLdbcSnbInteractiveOperationInstances.read7(),
+                DummyLdbcSnbInteractiveOperationInstances.write3(),
+                DummyLdbcSnbInteractiveOperationInstances.read8(),
+                DummyLdbcSnbInteractiveOperationInstances.read9(),
+                DummyLdbcSnbInteractiveOperationInstances.write4(),
+                DummyLdbcSnbInteractiveOperationInstances.read10(),
+                DummyLdbcSnbInteractiveOperationInstances.write5(),
+                DummyLdbcSnbInteractiveOperationInstances.read11(),
+                DummyLdbcSnbInteractiveOperationInstances.write6(),
+                DummyLdbcSnbInteractiveOperationInstances.read12(),
+                DummyLdbcSnbInteractiveOperationInstances.write7(),
+                DummyLdbcSnbInteractiveOperationInstances.read13(),
+                DummyLdbcSnbInteractiveOperationInstances.write8(),
+                DummyLdbcSnbInteractiveOperationInstances.read14()
+        );
+    }
+}
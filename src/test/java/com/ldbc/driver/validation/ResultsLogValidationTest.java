@@ -1,7 +1,11 @@
 package com.ldbc.driver.validation;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.junit.Assert;
@@ -14,6 +18,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -191,7 +198,6 @@ public class ResultsLogValidationTest
         // Given
         long excessiveDelayThreshold = 5;
         ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
-                10000,
                 excessiveDelayThreshold
         );
 
@@ -260,6 +266,89 @@ public class ResultsLogValidationTest
         doSummaryAsserts( summaryAfterMarshal );
     }
 
+    @Test
+    public void shouldReturnExpectedSummaryWhenValidatedFromBinaryFile() throws Exception
+    {
+        // Given
+        long excessiveDelayThreshold = 5;
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( file, TimeUnit.MILLISECONDS, true ) )
+        {
+            for ( Tuple2<String,Long> delay : DELAYS )
+            {
+                writer.write( delay._1(), 0, delay._2(), 0, 0, 0 );
+            }
+        }
+
+        // When
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary summary = validator.compute( file, excessiveDelayThreshold );
+
+        // Then
+        doSummaryAsserts( summary );
+    }
+
+    @Test
+    public void shouldReturnSameSummaryWhenComputedInParallelChunksAsWhenComputedSequentially() throws Exception
+    {
+        // Given
+        long excessiveDelayThreshold = 100;
+        String[] operationTypes = {"A", "BB", "CCC", "DDDD"};
+        Random random = new Random( 42 );
+        ResultsLogValidationSummaryCalculator expectedCalculator =
+                new ResultsLogValidationSummaryCalculator( excessiveDelayThreshold );
+        File file = temporaryFolder.newFile();
+        // large enough to be split into many chunks
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( file, TimeUnit.MILLISECONDS ) )
+        {
+            for ( int i = 0; i < 500_000; i++ )
+            {
+                String operationType = operationTypes[random.nextInt( operationTypes.length )];
+                long scheduledStartTime = 1_400_000_000_000L + i;
+                long delay = (random.nextInt( 100 ) == 0) ? random.nextInt( 100_000 ) : random.nextInt( 200 );
+                writer.write( operationType, scheduledStartTime, scheduledStartTime + delay, 1_000_000, 0, i );
+                expectedCalculator.recordDelay( operationType, delay );
+            }
+        }
+
+        // When
+        ResultsLogValidationSummary summary = new ResultsLogValidator( 8 ).compute( file, excessiveDelayThreshold );
+
+        // Then
+        ResultsLogValidationSummary expectedSummary = expectedCalculator.snapshot();
+        assertThat( summary, equalTo( expectedSummary ) );
+        assertThat( summary.delayPercentilesAsMilliPerType().size(), equalTo( operationTypes.length ) );
+        assertThat( summary.delayPercentilesAsMilliPerType().get( "A" ).keySet(),
+                equalTo( (Set<String>) Sets.newHashSet( "50", "90", "95", "99", "99.9" ) ) );
+        assertThat( ResultsLogValidationSummary.fromJson( summary.toJson() ), equalTo( expectedSummary ) );
+    }
+
+    @Test
+    public void shouldFailToComputeSummaryWhenDelayIsNegative() throws Exception
+    {
+        // Given
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( file, TimeUnit.MILLISECONDS ) )
+        {
+            writer.write( "A", 10, 11, 0, 0, 0 );
+            writer.write( "A", 10, 9, 0, 0, 0 );
+        }
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            new ResultsLogValidator().compute( file, 5 );
+        }
+        catch ( ValidationException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertTrue( exceptionThrown );
+    }
+
     private void doSummaryAsserts( ResultsLogValidationSummary summary )
     {
         assertThat( summary.excessiveDelayThresholdAsMilli(), equalTo( 5l ) );
@@ -268,4 +268,121 @@ public class WorkloadStatisticsCalculatorTest
 
         System.out.println( stats.toString() );
     }
+
+    @Test
+    public void shouldReturnCorrectWorkloadStatisticsForWorkloadsWithOperationTypesSpreadOverMultipleStreams()
+            throws MetricsCollectionException
+    {
+        // Given
+        long operationCountPerStream = 1000;
+        long interleavePerStream = 100l;
+        long operation1AsynchronousStartTime = 0l;
+        long operation1BlockingStartTime = 50l;
+        long operation2BlockingStartTime = 25l;
+
+        Iterator<Operation> operation1AsynchronousStream = gf.limit(
+                new TimedNamedOperation1Factory(
+                        gf.incrementing( operation1AsynchronousStartTime, interleavePerStream ),
+                        gf.incrementing( 0l, 0l ),
+                        gf.constant( "name1" )
+                ),
+                operationCountPerStream );
+        Iterator<Operation> operation1BlockingStream = gf.limit(
+                new TimedNamedOperation1Factory(
+                        gf.incrementing( operation1BlockingStartTime, interleavePerStream ),
+                        gf.incrementing( 0l, 0l ),
+                        gf.constant( "name1" )
+                ),
+                operationCountPerStream );
+        Iterator<Operation> operation2BlockingStream = gf.limit(
+                new TimedNamedOperation2Factory(
+                        gf.incrementing( operation2BlockingStartTime, interleavePerStream ),
+                        gf.incrementing( 0l, 0l ),
+                        gf.constant( "name2" )
+                ),
+                operationCountPerStream );
+
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                Sets.<Class<? extends Operation>>newHashSet(),
+                Sets.<Class<? extends Operation>>newHashSet(),
+                Collections.<Operation>emptyIterator(),
+                operation1AsynchronousStream,
+                null
+        );
+        workloadStreams.addBlockingStream(
+                Sets.<Class<? extends Operation>>newHashSet(),
+                Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                operation1BlockingStream,
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        workloadStreams.addBlockingStream(
+                Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation2.class ),
+                Sets.<Class<? extends Operation>>newHashSet(),
+                Collections.<Operation>emptyIterator(),
+                operation2BlockingStream,
+                null
+        );
+
+        // When
+
+        WorkloadStatisticsCalculator calculator = new WorkloadStatisticsCalculator();
+        WorkloadStatistics stats = calculator.calculate( workloadStreams, TimeUnit.MINUTES.toMillis( 60 ) );
+
+        // Then
+
+        // expected values
+        // merged start times are 0(1), 25(2), 50(1), 100(1), 125(2), 150(1), ...
+        long expectedOperationCount = operationCountPerStream * 3;
+        long expectedLastStartTime = operation1BlockingStartTime + (operationCountPerStream - 1) * interleavePerStream;
+
+        assertThat( stats.totalCount(), is( expectedOperationCount ) );
+        assertThat( stats.operationTypeCount(), is( 2 ) );
+        assertThat( stats.firstStartTimeAsMilli(), equalTo( operation1AsynchronousStartTime ) );
+        assertThat( stats.lastStartTimeAsMilli(), equalTo( expectedLastStartTime ) );
+        assertThat( stats.firstStartTimesAsMilliByOperationType().get( TimedNamedOperation1.class ),
+                equalTo( operation1AsynchronousStartTime ) );
+        assertThat( stats.lastStartTimesAsMilliByOperationType().get( TimedNamedOperation1.class ),
+                equalTo( expectedLastStartTime ) );
+        assertThat( stats.firstStartTimesAsMilliByOperationType().get( TimedNamedOperation2.class ),
+                equalTo( operation2BlockingStartTime ) );
+        assertThat( stats.lastStartTimesAsMilliByOperationType().get( TimedNamedOperation2.class ),
+                equalTo( operation2BlockingStartTime + (operationCountPerStream - 1) * interleavePerStream ) );
+        assertThat( stats.lowestDependencyDurationAsMilliByOperationType().get( TimedNamedOperation1.class ),
+                equalTo( operation1AsynchronousStartTime ) );
+        assertThat( stats.lowestDependencyDurationAsMilliByOperationType().get( TimedNamedOperation2.class ),
+                equalTo( operation2BlockingStartTime ) );
+
+        assertThat(
+                stats.operationMix().getBucketValue(
+                        Bucket.DiscreteBucket.create( (Class) TimedNamedOperation1.class ) ),
+                equalTo( operationCountPerStream * 2 ) );
+        assertThat(
+                stats.operationMix().getBucketValue(
+                        Bucket.DiscreteBucket.create( (Class) TimedNamedOperation2.class ) ),
+                equalTo( operationCountPerStream ) );
+
+        assertThat( stats.dependencyOperationTypes(),
+                equalTo( (Set) Sets.<Class>newHashSet( TimedNamedOperation1.class ) ) );
+        assertThat( stats.dependentOperationTypes(),
+                equalTo( (Set) Sets.<Class>newHashSet( TimedNamedOperation2.class ) ) );
+
+        ContinuousMetricSnapshot operationInterleaves = stats.operationInterleaves().snapshot();
+        assertThat( operationInterleaves.min(), equalTo( 25l ) );
+        assertThat( operationInterleaves.max(), equalTo( 50l ) );
+        assertThat( operationInterleaves.count(), equalTo( expectedOperationCount - 1 ) );
+
+        ContinuousMetricSnapshot operation1Interleaves =
+                stats.operationInterleavesByOperationType().get( TimedNamedOperation1.class ).snapshot();
+        assertThat( operation1Interleaves.min(), is( 50l ) );
+        assertThat( operation1Interleaves.max(), is( 50l ) );
+        assertThat( operation1Interleaves.count(), is( operationCountPerStream * 2 - 1 ) );
+
+        ContinuousMetricSnapshot operation2Interleaves =
+                stats.operationInterleavesByOperationType().get( TimedNamedOperation2.class ).snapshot();
+        assertThat( operation2Interleaves.min(), is( interleavePerStream ) );
+        assertThat( operation2Interleaves.max(), is( interleavePerStream ) );
+        assertThat( operation2Interleaves.count(), is( operationCountPerStream - 1 ) );
+    }
 }
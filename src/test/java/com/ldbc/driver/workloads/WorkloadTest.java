@@ -7,8 +7,12 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationCodec;
 import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadScheduleReader;
+import com.ldbc.driver.WorkloadScheduleWriter;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.client.ClientMode;
 import com.ldbc.driver.client.ResultsDirectory;
 import com.ldbc.driver.client.ValidateDatabaseMode;
@@ -18,6 +22,7 @@ import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.temporal.SystemTimeSource;
@@ -26,6 +31,7 @@ import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.WorkloadValidationResult;
 import com.ldbc.driver.validation.WorkloadValidator;
@@ -35,6 +41,7 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -188,6 +195,36 @@ public abstract class WorkloadTest
         }
     }
 
+    @Test
+    public void shouldBeAbleToEncodeAndDecodeAllOperationsThatHaveCodecs() throws Exception
+    {
+        // Given
+        try ( Workload workload = workload() )
+        {
+            Map<Integer,OperationCodec> codecs = workload.operationCodecs();
+            ByteBuffer buffer = ByteBuffer.allocate( 1024 * 1024 );
+
+            // When
+            for ( Tuple2<Operation,Object> operationAndResult : operationsAndResults() )
+            {
+                Operation operation = operationAndResult._1();
+                OperationCodec codec = codecs.get( operation.type() );
+                if ( null == codec )
+                {
+                    continue;
+                }
+                buffer.clear();
+                codec.encode( operation, buffer );
+                buffer.flip();
+
+                // Then
+                assertThat( format( "original != decode(encode(original))\nOriginal: %s", operation ),
+                        (Operation) codec.decode( buffer ), equalTo( operation ) );
+                assertThat( buffer.remaining(), equalTo( 0 ) );
+            }
+        }
+    }
+
     @Test
     public void shouldBeAbleToSerializeAndMarshalAllOperationResults() throws Exception
     {
@@ -320,6 +357,104 @@ public abstract class WorkloadTest
         }
     }
 
+    @Test
+    public void shouldReplayCompiledWorkloadScheduleSameAsGeneratedWorkload() throws Exception
+    {
+        for ( DriverConfiguration configuration : withSkip( withWarmup( withTempResultDirs( configurations() ) ) ) )
+        {
+            // Given
+            configuration = configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG, Long.toString( 1000 ) );
+            LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+            File scheduleFile = temporaryFolder.newFile();
+            long offset = configuration.skipCount() + configuration.warmupCount();
+            long limit = configuration.operationCount();
+            long workloadStartTimeAsMilli = 1000;
+
+            GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+            Tuple3<WorkloadStreams,Workload,Long> generatedStreamsAndWorkloadAndMinimumTimeStamp =
+                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                            configuration,
+                            gf,
+                            false,
+                            offset,
+                            limit,
+                            loggingServiceFactory
+                    );
+            List<String> generatedOperations = scheduledOperations(
+                    gf,
+                    WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                            generatedStreamsAndWorkloadAndMinimumTimeStamp._1(),
+                            workloadStartTimeAsMilli,
+                            configuration.timeCompressionRatio(),
+                            gf
+                    )
+            );
+            generatedStreamsAndWorkloadAndMinimumTimeStamp._2().close();
+
+            // When
+            WorkloadScheduleWriter.compile( configuration, scheduleFile, 42L, loggingServiceFactory );
+
+            // Then
+            try ( Workload workload = new ClassNameWorkloadFactory( configuration.workloadClassName() )
+                    .createWorkload();
+                  WorkloadScheduleReader reader = new WorkloadScheduleReader( scheduleFile,
+                          WorkloadScheduleWriter.keyFor( configuration ) ) )
+            {
+                workload.init( configuration );
+                GeneratorFactory replayGf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+                Tuple2<WorkloadStreams,Long> replayedStreamsAndMinimumTimeStamp = reader.workloadStreams(
+                        false,
+                        offset,
+                        limit,
+                        workload,
+                        false,
+                        workloadStartTimeAsMilli
+                );
+                assertThat( replayedStreamsAndMinimumTimeStamp._2(),
+                        equalTo( generatedStreamsAndWorkloadAndMinimumTimeStamp._3() ) );
+                assertThat( generatedOperations.isEmpty(), is( false ) );
+                assertThat( scheduledOperations( replayGf, replayedStreamsAndMinimumTimeStamp._1() ),
+                        equalTo( generatedOperations ) );
+
+                WorkloadStreams generatedStreams = generatedStreamsAndWorkloadAndMinimumTimeStamp._1();
+                WorkloadStreams replayedStreams = replayedStreamsAndMinimumTimeStamp._1();
+                assertStreamDefinitionsEqual( replayedStreams.asynchronousStream(),
+                        generatedStreams.asynchronousStream() );
+                assertThat( null == replayedStreams.asynchronousStream().childOperationGenerator(),
+                        is( null == generatedStreams.asynchronousStream().childOperationGenerator() ) );
+                assertThat( replayedStreams.blockingStreamDefinitions().size(),
+                        equalTo( generatedStreams.blockingStreamDefinitions().size() ) );
+                for ( int i = 0; i < generatedStreams.blockingStreamDefinitions().size(); i++ )
+                {
+                    assertStreamDefinitionsEqual( replayedStreams.blockingStreamDefinitions().get( i ),
+                            generatedStreams.blockingStreamDefinitions().get( i ) );
+                }
+            }
+        }
+    }
+
+    private static void assertStreamDefinitionsEqual( WorkloadStreamDefinition actual,
+            WorkloadStreamDefinition expected )
+    {
+        assertThat( actual.dependentOperationTypes(), equalTo( expected.dependentOperationTypes() ) );
+        assertThat( actual.dependencyOperationTypes(), equalTo( expected.dependencyOperationTypes() ) );
+    }
+
+    private static List<String> scheduledOperations( GeneratorFactory gf, WorkloadStreams workloadStreams )
+    {
+        List<String> operations = new ArrayList<>();
+        Iterator<Operation> operationsIt =
+                WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators( gf, workloadStreams );
+        while ( operationsIt.hasNext() )
+        {
+            Operation operation = operationsIt.next();
+            operations.add( operation.toString() + "@" + operation.scheduledStartTimeAsMilli() + "/" +
+                            operation.timeStamp() + "/" + operation.dependencyTimeStamp() );
+        }
+        return operations;
+    }
+
     @Test
     public void shouldGenerateConfiguredQueryMix()
             throws Exception
@@ -550,6 +685,60 @@ public abstract class WorkloadTest
         }
     }
 
+    @Test
+    public void shouldRunCompiledWorkload() throws Exception
+    {
+        for ( DriverConfiguration configuration : withSkip( withWarmup( withTempResultDirs( configurations() ) ) ) )
+        {
+            configuration = configuration
+                    .applyArg( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG, Long.toString( 1000 ) )
+                    .applyArg( ConsoleAndFileDriverConfiguration.WORKLOAD_SCHEDULE_ARG,
+                            new File( temporaryFolder.newFolder(), "workload.schedule" ).getAbsolutePath() );
+            ResultsDirectory resultsDirectory = new ResultsDirectory( configuration );
+
+            Client client = new Client();
+            ClientMode compileMode = client.getClientModeFor( new LocalControlService(
+                    timeSource.nowAsMilli(),
+                    configuration.applyArg( ConsoleAndFileDriverConfiguration.COMPILE_WORKLOAD_ARG, "true" ),
+                    new Log4jLoggingServiceFactory( false ),
+                    timeSource
+            ) );
+            compileMode.init();
+            compileMode.startExecutionAndAwaitCompletion();
+
+            assertTrue( new File( configuration.workloadScheduleFilePath() ).exists() );
+            for ( File file : resultsDirectory.expectedFiles() )
+            {
+                assertFalse( format( "Did not expect file to exist %s", file.getAbsolutePath() ), file.exists() );
+            }
+
+            ClientMode executeMode = client.getClientModeFor( new LocalControlService(
+                    timeSource.nowAsMilli(),
+                    configuration,
+                    new Log4jLoggingServiceFactory( false ),
+                    timeSource
+            ) );
+            executeMode.init();
+            executeMode.startExecutionAndAwaitCompletion();
+
+            assertThat( resultsDirectory.expectedFiles(), equalTo( resultsDirectory.files() ) );
+            long resultsLogSize = resultsDirectory.getResultsLogFileLength( false );
+            assertThat(
+                    format( "Expected %s <= entries in results log <= %s\nFound %s\nResults Log: %s",
+                            operationCountLower( configuration.operationCount() ),
+                            operationCountUpper( configuration.operationCount() ),
+                            resultsLogSize,
+                            resultsDirectory.getResultsLogFile( false ).getAbsolutePath()
+                    ),
+                    resultsLogSize,
+                    allOf(
+                            greaterThanOrEqualTo( operationCountLower( configuration.operationCount() ) ),
+                            lessThanOrEqualTo( operationCountUpper( configuration.operationCount() ) )
+                    )
+            );
+        }
+    }
+
     @Test
     public void shouldCreateValidationParametersThenUseThemToPerformDatabaseValidationThenPass() throws Exception
     {
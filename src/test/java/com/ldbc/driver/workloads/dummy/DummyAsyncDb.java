@@ -0,0 +1,99 @@
+package com.ldbc.driver.workloads.dummy;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.control.LoggingService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completes every operation asynchronously, from a single scheduler thread, after a fixed delay
+ */
+public class DummyAsyncDb extends Db
+{
+    public static final String DELAY_AS_MILLI_ARG = "delay";
+    private static final long DELAY_AS_MILLI_DEFAULT = 0;
+
+    private static class SchedulerConnectionState extends DbConnectionState
+    {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final long delayAsMilli;
+
+        private SchedulerConnectionState( long delayAsMilli )
+        {
+            this.delayAsMilli = delayAsMilli;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private SchedulerConnectionState schedulerConnectionState = null;
+
+    @Override
+    protected void onInit( Map<String,String> params, LoggingService loggingService ) throws DbException
+    {
+        registerOperationHandler( NothingOperation.class, NothingOperationAsyncHandler.class );
+        long delayAsMilli = (params.containsKey( DELAY_AS_MILLI_ARG ))
+                            ? Long.parseLong( params.get( DELAY_AS_MILLI_ARG ) )
+                            : DELAY_AS_MILLI_DEFAULT;
+        schedulerConnectionState = new SchedulerConnectionState( delayAsMilli );
+    }
+
+    @Override
+    protected void onClose() throws IOException
+    {
+        schedulerConnectionState.close();
+    }
+
+    @Override
+    protected DbConnectionState getConnectionState() throws DbException
+    {
+        return schedulerConnectionState;
+    }
+
+    public static class NothingOperationAsyncHandler
+            extends AsyncOperationHandler<NothingOperation,SchedulerConnectionState>
+    {
+        @Override
+        public CompletionStage<?> executeOperationAsync( final NothingOperation operation,
+                SchedulerConnectionState connectionState,
+                final ResultReporter resultReporter ) throws DbException
+        {
+            final CompletableFuture<Void> completionStage = new CompletableFuture<>();
+            connectionState.scheduler.schedule(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                resultReporter.report( 0, new DummyResult(), operation );
+                                completionStage.complete( null );
+                            }
+                            catch ( DbException e )
+                            {
+                                completionStage.completeExceptionally( e );
+                            }
+                        }
+                    },
+                    connectionState.delayAsMilli,
+                    TimeUnit.MILLISECONDS
+            );
+            return completionStage;
+        }
+    }
+}
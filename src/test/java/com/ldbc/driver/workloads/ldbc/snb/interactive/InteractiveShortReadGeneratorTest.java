@@ -1,6 +1,5 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Operation;
@@ -54,10 +53,10 @@ public class InteractiveShortReadGeneratorTest
         double initialProbability = Double.MAX_VALUE;
         double probabilityDegradationFactor = 0.1;
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(personIdBuffer, 1l, 2l, 3l, 4l, 5l);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(messageIdBuffer, 1l, 2l, 3l, 4l, 5l);
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -274,10 +273,10 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.9;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(personIdBuffer, 1l, 2l, 3l, 4l, 5l);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(messageIdBuffer, 1l, 2l, 3l, 4l, 5l);
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -422,10 +421,10 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 2.5;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(personIdBuffer, 1l, 2l, 3l, 4l, 5l);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(messageIdBuffer, 1l, 2l, 3l, 4l, 5l);
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -554,10 +553,10 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.2;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(personIdBuffer, 1l, 2l, 3l, 4l, 5l);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(messageIdBuffer, 1l, 2l, 3l, 4l, 5l);
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -689,10 +688,10 @@ public class InteractiveShortReadGeneratorTest
 //                LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(personIdBuffer, 1l, 2l, 3l, 4l, 5l);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.concurrentCircularBuffer(100);
+        addAll(messageIdBuffer, 1l, 2l, 3l, 4l, 5l);
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -727,4 +726,10 @@ public class InteractiveShortReadGeneratorTest
         assertThat(operation, is(nullValue()));
         assertThat(state, is(initialProbability));
     }
+
+    private static void addAll(LdbcSnbShortReadGenerator.IdBuffer idBuffer, long... ids) {
+        for (long id : ids) {
+            idBuffer.add(id);
+        }
+    }
 }
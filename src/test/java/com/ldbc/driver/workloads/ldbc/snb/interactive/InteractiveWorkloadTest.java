@@ -6,6 +6,8 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.runtime.executor.ChildOperationMode;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -216,12 +218,15 @@ public class InteractiveWorkloadTest extends WorkloadTest
                         MapUtils.loadPropertiesToMap(
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
                 ),
-                // SHORT AND LONG READS, NO WRITES
+                // SHORT AND LONG READS, NO WRITES, SHORT READS EXECUTED AS TASKS OF THEIR OWN
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
                         LdbcSnbInteractiveWorkload.class.getName(),
                         1_000_000
                 ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 100_000 )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.CHILD_OPERATION_MODE_ARG,
+                        ChildOperationMode.ASYNCHRONOUS.name()
                 ).applyArgs(
                         LdbcSnbInteractiveWorkloadConfiguration.withoutWrites(
                                 LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
@@ -260,6 +265,9 @@ public class InteractiveWorkloadTest extends WorkloadTest
                 ).applyArg(
                         ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
                         "0.00001"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                        ResultsLogFormat.BINARY_COMPRESSED.name()
                 ).applyArg(
                         LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
                         TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
@@ -270,12 +278,13 @@ public class InteractiveWorkloadTest extends WorkloadTest
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" )
                         )
                 ),
-                // FULL WORKLOAD
+                // FULL WORKLOAD, ALL UPDATE STREAMS SHARING ONE THREAD
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
                         LdbcSnbInteractiveWorkload.class.getName(),
                         1_000_000
                 ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 0 )
+                ).applyArg( ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_ARG, Integer.toString( 1 )
                 ).applyArgs(
                         LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
                 ).applyArg(
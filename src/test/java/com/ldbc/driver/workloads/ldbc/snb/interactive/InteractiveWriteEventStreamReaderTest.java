@@ -7,6 +7,7 @@ import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.DecodeAheadGenerator;
 import org.junit.Test;
 
 import java.io.BufferedReader;
@@ -45,6 +46,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderCharSeekerDecodeAhead_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        DecodeAheadGenerator<Operation> writeEventStreamReader = new DecodeAheadGenerator<>("test",
+                WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter), charSeeker, 2, 2);
+        doShouldParseAllEventTypes(writeEventStreamReader);
+        writeEventStreamReader.close();
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;
@@ -0,0 +1,108 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.String.format;
+
+@Ignore
+public class ShortReadIdBufferPerformanceTest
+{
+    private static final int BUFFER_SIZE = 1024;
+    private static final int OPERATIONS_PER_THREAD = 5000000;
+    // ids added per poll, similar to replenishing from long read results then polling for one short read
+    private static final int ADDS_PER_POLL = 4;
+    private static final int REPETITIONS = 5;
+
+    private enum BufferType
+    {
+        SYNCHRONIZED_QUEUE,
+        CONCURRENT_RING
+    }
+
+    @Test
+    public void compareBuffersUnderContention() throws InterruptedException
+    {
+        int[] threadCounts = new int[]{1, 2, 4, 8, 16};
+        for ( int threadCount : threadCounts )
+        {
+            for ( BufferType bufferType : BufferType.values() )
+            {
+                // warmup
+                run( bufferType, threadCount );
+                long totalDurationAsNano = 0;
+                for ( int i = 0; i < REPETITIONS; i++ )
+                {
+                    totalDurationAsNano += run( bufferType, threadCount );
+                }
+                double durationAsMilli = totalDurationAsNano / 1000000.0 / REPETITIONS;
+                long operationCount = (long) OPERATIONS_PER_THREAD * threadCount;
+                System.out.println( format( "%s (%s threads): %s ms, %s operations/s",
+                        bufferType,
+                        threadCount,
+                        durationAsMilli,
+                        (long) (operationCount / (durationAsMilli / 1000)) ) );
+            }
+        }
+    }
+
+    private long run( BufferType bufferType, int threadCount ) throws InterruptedException
+    {
+        final LdbcSnbShortReadGenerator.IdBuffer buffer = (BufferType.SYNCHRONIZED_QUEUE == bufferType)
+                ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( BUFFER_SIZE )
+                : LdbcSnbShortReadGenerator.concurrentCircularBuffer( BUFFER_SIZE );
+        final CountDownLatch start = new CountDownLatch( 1 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            final long firstId = t * (long) OPERATIONS_PER_THREAD;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        throw new RuntimeException( e );
+                    }
+                    long polled = 0;
+                    for ( long i = 0; i < OPERATIONS_PER_THREAD; i++ )
+                    {
+                        if ( 0 == i % (ADDS_PER_POLL + 1) )
+                        {
+                            polled += buffer.poll();
+                        }
+                        else
+                        {
+                            buffer.add( firstId + i );
+                        }
+                    }
+                    if ( 42 == polled )
+                    {
+                        // prevents polls from being optimized away
+                        System.out.print( "" );
+                    }
+                }
+            } );
+        }
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        long startTimeAsNano = System.nanoTime();
+        start.countDown();
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        return System.nanoTime() - startTimeAsNano;
+    }
+}